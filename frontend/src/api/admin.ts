@@ -125,9 +125,34 @@ export const deleteUser = async (userId: number): Promise<ApiResponse<void>> =>
   return response.data;
 };
 
-// 결혼식장 목록 조회
-export const getWeddingHalls = async () => {
-  const response = await apiClient.get<ApiResponse<any>>('/admin/wedding-halls');
+// 커서 기반 페이지 응답
+export interface CursorPage<T> {
+  content: T[];
+  size: number;
+  hasNext: boolean;
+  nextCursor?: string | null;
+}
+
+export interface AdminWeddingHallQuery {
+  status?: string;
+  name?: string;
+  ownerId?: number;
+  ownerUsername?: string;
+  cursor?: string | null;
+  size?: number;
+}
+
+// 결혼식장 목록 조회 (키셋 페이지네이션)
+export const getWeddingHalls = async (query: AdminWeddingHallQuery = {}) => {
+  const params = new URLSearchParams();
+  if (query.status) params.append('status', query.status);
+  if (query.name) params.append('name', query.name);
+  if (query.ownerId) params.append('ownerId', query.ownerId.toString());
+  if (query.ownerUsername) params.append('ownerUsername', query.ownerUsername);
+  if (query.cursor) params.append('cursor', query.cursor);
+  if (query.size) params.append('size', query.size.toString());
+
+  const response = await apiClient.get<ApiResponse<CursorPage<any>>>(`/admin/wedding-halls?${params}`);
   return response.data;
 };
 
@@ -28,24 +28,48 @@ interface WeddingHall {
   updatedAt: string;
 }
 
+const PAGE_SIZE = 20;
+
 const AdminWeddingHallsPage: React.FC = () => {
   const [weddingHalls, setWeddingHalls] = useState<WeddingHall[]>([]);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
+  // 첫 조회가 끝나기 전에만 전체 화면 로딩 표시 (이후 재조회는 목록 위에만 표시하여 입력 포커스 유지)
+  const [initialized, setInitialized] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const [searchTerm, setSearchTerm] = useState('');
   const [selectedStatus, setSelectedStatus] = useState<string>('all');
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
 
+  // 검색어 입력 시 300ms 지연 후 서버에서 다시 조회
   useEffect(() => {
-    fetchWeddingHalls();
-  }, []);
+    const timer = setTimeout(() => {
+      fetchWeddingHalls(null);
+    }, 300);
+    return () => clearTimeout(timer);
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [searchTerm, selectedStatus]);
 
-  const fetchWeddingHalls = async () => {
+  const fetchWeddingHalls = async (cursor: string | null) => {
+    // 이전 실패 메시지는 다시 조회할 때 지움 (검색 조건을 바꾸면 재시도됨)
+    setError(null);
     try {
-      setLoading(true);
-      const response = await getWeddingHalls();
+      if (cursor) {
+        setLoadingMore(true);
+      } else {
+        setLoading(true);
+      }
+      const response = await getWeddingHalls({
+        status: selectedStatus === 'all' ? undefined : selectedStatus,
+        name: searchTerm.trim() || undefined,
+        cursor,
+        size: PAGE_SIZE,
+      });
       
       if (response.success && response.data) {
-        setWeddingHalls(response.data);
+        const page = response.data;
+        setWeddingHalls(prev => (cursor ? [...prev, ...page.content] : page.content));
+        setNextCursor(page.hasNext ? page.nextCursor ?? null : null);
       } else {
         setError(response.message || '결혼식장 데이터를 불러올 수 없습니다.');
       }
@@ -53,6 +77,8 @@ const AdminWeddingHallsPage: React.FC = () => {
       setError(err.response?.data?.message || '결혼식장 데이터를 불러오는 중 오류가 발생했습니다.');
     } finally {
       setLoading(false);
+      setLoadingMore(false);
+      setInitialized(true);
     }
   };
 
@@ -71,14 +97,10 @@ const AdminWeddingHallsPage: React.FC = () => {
     }
   };
 
-  const filteredWeddingHalls = weddingHalls.filter(hall => {
-    const matchesSearch = hall.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
-                         hall.address.toLowerCase().includes(searchTerm.toLowerCase());
-    const matchesStatus = selectedStatus === 'all' || hall.status === selectedStatus;
-    return matchesSearch && matchesStatus;
-  });
+  // 필터링은 서버에서 처리
+  const filteredWeddingHalls = weddingHalls;
 
-  if (loading) {
+  if (loading && !initialized) {
     return (
       <div className="flex items-center justify-center py-12">
         <div className="text-xl text-gray-600">로딩 중...</div>
@@ -86,14 +108,6 @@ const AdminWeddingHallsPage: React.FC = () => {
     );
   }
 
-  if (error) {
-    return (
-      <div className="flex items-center justify-center py-12">
-        <div className="text-xl text-red-600">{error}</div>
-      </div>
-    );
-  }
-
   return (
     <div className="max-w-7xl mx-auto py-6 px-4 sm:px-6 lg:px-8">
       {/* 페이지 헤더 */}
@@ -117,7 +131,7 @@ const AdminWeddingHallsPage: React.FC = () => {
             </div>
             <input
               type="text"
-              placeholder="결혼식장명 또는 주소로 검색..."
+              placeholder="결혼식장명으로 검색..."
               value={searchTerm}
               onChange={(e) => setSearchTerm(e.target.value)}
               className="block w-full pl-10 pr-3 py-2 border border-gray-300 rounded-md leading-5 bg-white placeholder-gray-500 focus:outline-none focus:placeholder-gray-400 focus:ring-1 focus:ring-blue-500 focus:border-blue-500 sm:text-sm"
@@ -137,8 +151,19 @@ const AdminWeddingHallsPage: React.FC = () => {
         </div>
       </div>
 
-      {/* 결혼식장 목록 */}
-      <div className="bg-white shadow overflow-hidden sm:rounded-md">
+      {error && (
+        <div className="mb-6 rounded-md bg-red-50 px-4 py-3 text-sm text-red-700">
+          {error}
+        </div>
+      )}
+
+      {/* 결혼식장 목록 (재조회 중에는 목록 위에만 로딩 표시) */}
+      <div className="relative bg-white shadow overflow-hidden sm:rounded-md">
+        {loading && (
+          <div className="absolute inset-0 z-10 flex items-start justify-center pt-8 bg-white bg-opacity-60">
+            <div className="text-sm text-gray-600">로딩 중...</div>
+          </div>
+        )}
         <ul className="divide-y divide-gray-200">
           {filteredWeddingHalls.map((hall) => (
             <li key={hall.id}>
@@ -182,7 +207,7 @@ const AdminWeddingHallsPage: React.FC = () => {
                     </div>
                     <div className="text-right">
                       <div className="text-sm text-gray-500">가격</div>
-                      <div className="text-lg font-medium text-gray-900">{hall.price.toLocaleString()}원</div>
+                      <div className="text-lg font-medium text-gray-900">{hall.price?.toLocaleString() ?? '-'}원</div>
                     </div>
                     <div className="flex items-center space-x-1">
                       <Link
@@ -212,7 +237,19 @@ const AdminWeddingHallsPage: React.FC = () => {
         </ul>
       </div>
 
-      {filteredWeddingHalls.length === 0 && (
+      {nextCursor && (
+        <div className="mt-6 text-center">
+          <button
+            onClick={() => fetchWeddingHalls(nextCursor)}
+            disabled={loadingMore}
+            className="btn-secondary"
+          >
+            {loadingMore ? '불러오는 중...' : '더 보기'}
+          </button>
+        </div>
+      )}
+
+      {!loading && !error && filteredWeddingHalls.length === 0 && (
         <div className="text-center py-12">
           <FiHeart className="mx-auto h-12 w-12 text-gray-400" />
           <h3 className="mt-2 text-sm font-medium text-gray-900">결혼식장이 없습니다</h3>
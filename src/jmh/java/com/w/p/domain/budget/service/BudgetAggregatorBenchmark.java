@@ -0,0 +1,89 @@
+package com.w.p.domain.budget.service;
+
+import com.w.p.entity.Budget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 예산 집계 벤치마크 (./gradlew jmh)
+ * 기존 방식(카테고리마다 BigDecimal 스트림 4회)과 BudgetAggregator(한 번 순회, long 누적)를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BudgetAggregatorBenchmark {
+
+    private static final String[] CATEGORIES = {"웨딩홀", "스드메", "예물", "예단", "신혼여행", "혼수", "청첩장", "기타"};
+
+    @Param({"50", "1000"})
+    private int itemCount;
+
+    private List<Budget> budgets;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        budgets = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            budgets.add(Budget.builder()
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .itemName("항목 " + i)
+                    .plannedAmount(BigDecimal.valueOf(random.nextInt(5_000_000) * 100L, 2))
+                    .actualAmount(random.nextBoolean() ? BigDecimal.valueOf(random.nextInt(5_000_000) * 100L, 2) : null)
+                    .status(Budget.BudgetStatus.values()[random.nextInt(Budget.BudgetStatus.values().length)])
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void streamReduce(Blackhole blackhole) {
+        budgets.stream()
+                .collect(Collectors.groupingBy(Budget::getCategory))
+                .values()
+                .forEach(categoryBudgets -> {
+                    BigDecimal planned = categoryBudgets.stream()
+                            .map(Budget::getPlannedAmount)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+                    BigDecimal actual = categoryBudgets.stream()
+                            .map(Budget::getActualAmount)
+                            .filter(amount -> amount != null)
+                            .reduce(BigDecimal.ZERO, BigDecimal::add);
+                    long completed = categoryBudgets.stream()
+                            .filter(b -> b.getStatus() == Budget.BudgetStatus.COMPLETED)
+                            .count();
+                    long overBudget = categoryBudgets.stream()
+                            .filter(Budget::isOverBudget)
+                            .count();
+                    blackhole.consume(planned.subtract(actual));
+                    blackhole.consume(completed + overBudget);
+                });
+    }
+
+    @Benchmark
+    public void singlePassLong(Blackhole blackhole) {
+        for (BudgetAggregator.CategoryTotals totals : BudgetAggregator.byCategory(budgets)) {
+            blackhole.consume(totals.getRemainingAmount());
+            blackhole.consume(totals.getCompletedCount() + totals.getOverBudgetCount());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.w.p.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 가져오기(import) 결과
+ * 행 단위 오류는 전체 작업을 중단하지 않고 수집합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResult {
+
+    /**
+     * 응답에 포함할 최대 오류 건수 (나머지는 건수만 집계)
+     */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private int totalRows;
+    private int successCount;
+    private int failureCount;
+    private int skippedCount;
+
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * 성공 행 기록
+     */
+    public void addSuccess(int count) {
+        this.totalRows += count;
+        this.successCount += count;
+    }
+
+    /**
+     * 건너뛴 행 기록 (중복 등 오류가 아닌 제외)
+     */
+    public void addSkipped() {
+        this.totalRows++;
+        this.skippedCount++;
+    }
+
+    /**
+     * 실패 행 기록
+     */
+    public void addError(int rowNumber, String message) {
+        this.totalRows++;
+        this.failureCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(rowNumber, message));
+        }
+    }
+
+    /**
+     * 행 단위 오류 정보
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int rowNumber;
+        private String message;
+    }
+}
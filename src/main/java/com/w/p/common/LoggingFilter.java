@@ -50,6 +50,7 @@ public class LoggingFilter extends OncePerRequestFilter {
             && !uri.startsWith("/css/")
             && !uri.startsWith("/js/")
             && !uri.startsWith("/images/")
+            && !uri.startsWith("/uploads/")
             && !uri.startsWith("/favicon.ico")
             && !uri.startsWith("/actuator/")
             && !uri.startsWith("/h2-console/");
@@ -0,0 +1,153 @@
+package com.w.p.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * 내용 주소 기반 파일 저장소
+ * 입력을 한 번만 읽으면서 임시 파일에 기록하고 SHA-256을 계산한 뒤, {앞 2자리}/{해시}{확장자} 경로로 옮깁니다.
+ * 같은 내용은 같은 경로가 되므로 이미 있는 파일이면 임시 파일만 지우고 기존 파일을 그대로 사용합니다.
+ * 기존 파일을 재사용할 때는 수정 시각을 갱신하여, 참조 정리 작업이 방금 다시 올라온 파일을 지우지 않도록 합니다.
+ * 임시 파일은 저장소 안(.tmp)에 두어 같은 파일 시스템에서 원자적으로 이동합니다.
+ */
+public class ContentAddressedStore {
+
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+
+    public ContentAddressedStore(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * 저장
+     * @param extension 점을 포함한 확장자 (소문자)
+     */
+    public StoredFile store(InputStream in, String extension) throws IOException {
+        Path tempDirectory = root.resolve(TEMP_DIRECTORY);
+        Files.createDirectories(tempDirectory);
+        Path temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String relativePath = hash.substring(0, 2) + "/" + hash + extension;
+            Path target = root.resolve(relativePath);
+            if (Files.exists(target)) {
+                touch(target);
+                return new StoredFile(hash, relativePath, size, false);
+            }
+            Files.createDirectories(target.getParent());
+            boolean created = moveIntoPlace(temp, target);
+            if (!created) {
+                touch(target);
+            }
+            return new StoredFile(hash, relativePath, size, created);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 상대 경로의 실제 파일 경로
+     */
+    public Path resolve(String relativePath) {
+        return root.resolve(relativePath);
+    }
+
+    /**
+     * 임시 파일을 대상 경로로 이동 (동시에 같은 내용이 저장되어 이미 있으면 false)
+     */
+    private static boolean moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, target);
+                return true;
+            } catch (FileAlreadyExistsException exists) {
+                return false;
+            }
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        }
+    }
+
+    private static void touch(Path file) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 저장 결과
+     */
+    public static final class StoredFile {
+        private final String hash;
+        private final String relativePath;
+        private final long size;
+        private final boolean created;
+
+        private StoredFile(String hash, String relativePath, long size, boolean created) {
+            this.hash = hash;
+            this.relativePath = relativePath;
+            this.size = size;
+            this.created = created;
+        }
+
+        /**
+         * SHA-256 (16진수 소문자)
+         */
+        public String getHash() {
+            return hash;
+        }
+
+        /**
+         * 저장소 기준 상대 경로
+         */
+        public String getRelativePath() {
+            return relativePath;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * 새로 기록했으면 true, 같은 내용이 이미 있었으면 false
+         */
+        public boolean isCreated() {
+            return created;
+        }
+    }
+}
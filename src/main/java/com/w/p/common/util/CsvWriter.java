@@ -0,0 +1,81 @@
+package com.w.p.common.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+/**
+ * CSV(RFC 4180) 스트리밍 작성기
+ * 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싸고, 줄 끝은 CRLF를 사용합니다.
+ * 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @ 등으로 시작하는 문자열 값 앞에 작은따옴표를 붙입니다.
+ */
+public class CsvWriter {
+
+    private static final String CRLF = "\r\n";
+
+    private final Writer out;
+
+    public CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Excel에서 UTF-8로 인식하도록 BOM 기록 (첫 줄 전에 한 번만 호출)
+     */
+    public void writeBom() throws IOException {
+        out.write('\uFEFF');
+    }
+
+    /**
+     * 한 줄 기록 (null은 빈 값, 숫자는 그대로)
+     */
+    public void row(Object... cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object cell = cells[i];
+            if (cell == null) {
+                continue;
+            }
+            if (cell instanceof BigDecimal) {
+                out.write(((BigDecimal) cell).toPlainString());
+            } else if (cell instanceof Number) {
+                out.write(cell.toString());
+            } else {
+                out.write(escape(cell.toString()));
+            }
+        }
+        out.write(CRLF);
+    }
+
+    /**
+     * 빈 줄 기록
+     */
+    public void emptyRow() throws IOException {
+        out.write(CRLF);
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * 문자열 값 이스케이프
+     */
+    public static String escape(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
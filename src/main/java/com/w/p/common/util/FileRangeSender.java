@@ -0,0 +1,128 @@
+package com.w.p.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 파일 다운로드 응답 (Range 요청 지원)
+ * 단일 구간 Range 요청은 206으로 해당 구간만 보내고, 여러 구간이나 ETag가 다른 If-Range 요청은 전체 파일을 보냅니다.
+ * 응답 본문은 공통 응답 래핑을 거치지 않도록 HttpServletResponse에 직접 기록합니다.
+ * 컨테이너가 sendfile을 지원하고(Tomcat NIO) 보낼 구간이 충분히 크면 본문 전송을 컨테이너에 넘겨 커널에서 바로 복사하고,
+ * 그 외에는 FileChannel.transferTo로 전송합니다.
+ */
+public final class FileRangeSender {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * sendfile 사용 최소 크기 (작은 파일은 일반 버퍼 전송이 더 빠름, Tomcat 기본값과 동일)
+     */
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private FileRangeSender() {
+    }
+
+    /**
+     * 파일 전송
+     * @param etag 따옴표를 포함한 ETag (If-None-Match, If-Range 비교용)
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response, Path file,
+                            String contentType, String etag) throws IOException {
+        send(request, response, file, Files.size(file), contentType, etag);
+    }
+
+    /**
+     * 파일 전송 (파일 크기를 이미 알고 있는 경우)
+     * @param length 파일 크기
+     * @param etag 따옴표를 포함한 ETag (If-None-Match, If-Range 비교용)
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response, Path file, long length,
+                            String contentType, String etag) throws IOException {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.equals(etag) || "*".equals(ifNoneMatch.trim()))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(contentType);
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            HttpRange range;
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                range = ranges.size() == 1 ? ranges.get(0) : null;
+                if (range != null) {
+                    start = range.getRangeStart(length);
+                    end = range.getRangeEnd(length);
+                }
+            } catch (IllegalArgumentException e) {
+                // 형식이 잘못되었거나 파일 길이를 벗어난 구간
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (range != null) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+        if (canSendfile(request, response, count)) {
+            // 응답 커밋 후 컨테이너가 파일 구간을 직접 전송 (end는 제외 위치)
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        response.flushBuffer();
+    }
+
+    /**
+     * sendfile 사용 가능 여부 (응답 본문을 버퍼링하는 래퍼가 있으면 본문이 래퍼를 거치지 않으므로 사용하지 않음)
+     */
+    private static boolean canSendfile(HttpServletRequest request, HttpServletResponse response, long count) {
+        return count >= SENDFILE_THRESHOLD
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+                && WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class) == null;
+    }
+}
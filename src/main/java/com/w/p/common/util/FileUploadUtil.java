@@ -1,26 +1,37 @@
 package com.w.p.common.util;
 
+import com.w.p.domain.upload.service.UploadFileService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 파일 업로드 유틸리티 클래스
+ * 업로드 파일은 내용의 SHA-256 경로(/uploads/{앞 2자리}/{해시}{확장자})에 저장하므로 같은 사진은 한 번만 저장됩니다.
+ * 저장 후 이미지 실행기에서 목록/카드/상세용 축소본을 같은 디렉토리에 만듭니다 ({@link ImageVariantGenerator}).
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileUploadUtil {
 
     @Value("${file.upload.path:/uploads}")
@@ -34,8 +45,25 @@ public class FileUploadUtil {
 
     private static final String[] ALLOWED_EXTENSIONS = {".jpg", ".jpeg", ".png", ".gif", ".webp"};
 
+    private final Executor uploadExecutor;
+    private final Executor imageExecutor;
+    private final UploadFileService uploadFileService;
+
+    /**
+     * 축소본을 생성 중인 원본 해시 (같은 사진이 동시에 올라와도 한 번만 생성)
+     */
+    private final Set<String> variantsInProgress = ConcurrentHashMap.newKeySet();
+
+    private ContentAddressedStore contentStore;
+
+    @PostConstruct
+    void initStore() {
+        contentStore = new ContentAddressedStore(Paths.get(uploadPath));
+    }
+
     /**
      * 이미지 파일 업로드
+     * 모든 파일을 먼저 검증한 뒤 업로드 실행기에서 동시에 저장하며, 결과 URL은 입력 순서를 유지합니다.
      * @param files 업로드할 이미지 파일들
      * @return 업로드된 이미지 URL 리스트
      */
@@ -46,33 +74,41 @@ public class FileUploadUtil {
             return uploadedUrls;
         }
 
-        // 업로드 디렉토리 생성
-        createUploadDirectory();
-
+        List<MultipartFile> targets = new ArrayList<>();
         for (MultipartFile file : files) {
             if (file.isEmpty()) {
                 continue;
             }
-
-            // 파일 검증
+            // 파일 검증 (하나라도 실패하면 아무것도 저장하지 않음)
             validateFile(file);
+            targets.add(file);
+        }
+        if (targets.size() == 1) {
+            uploadedUrls.add(store(targets.get(0)));
+            return uploadedUrls;
+        }
 
-            // 파일명 생성 (중복 방지)
-            String originalFilename = file.getOriginalFilename();
-            String fileExtension = getFileExtension(originalFilename);
-            String uniqueFilename = generateUniqueFilename(fileExtension);
-
-            // 파일 저장
-            Path filePath = Paths.get(uploadPath, uniqueFilename);
-            Files.copy(file.getInputStream(), filePath);
-
-            // URL 생성
-            String fileUrl = "/uploads/" + uniqueFilename;
-            uploadedUrls.add(fileUrl);
-
-            log.info("이미지 업로드 완료: {} -> {}", originalFilename, fileUrl);
+        List<CompletableFuture<String>> futures = new ArrayList<>(targets.size());
+        for (MultipartFile file : targets) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return store(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, uploadExecutor));
         }
 
+        try {
+            for (CompletableFuture<String> future : futures) {
+                uploadedUrls.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw e;
+        }
         return uploadedUrls;
     }
 
@@ -89,25 +125,61 @@ public class FileUploadUtil {
         // 파일 검증
         validateFile(file);
 
-        // 업로드 디렉토리 생성
-        createUploadDirectory();
+        return store(file);
+    }
 
-        // 파일명 생성
+    /**
+     * 내용 해시 경로로 저장 (같은 내용이 이미 있으면 기존 파일 URL 반환)
+     */
+    private String store(MultipartFile file) throws IOException {
         String originalFilename = file.getOriginalFilename();
-        String fileExtension = getFileExtension(originalFilename);
-        String uniqueFilename = generateUniqueFilename(fileExtension);
-
-        // 파일 저장
-        Path filePath = Paths.get(uploadPath, uniqueFilename);
-        Files.copy(file.getInputStream(), filePath);
-
-        // URL 생성
-        String fileUrl = "/uploads/" + uniqueFilename;
+        ContentAddressedStore.StoredFile stored;
+        try (InputStream in = file.getInputStream()) {
+            stored = contentStore.store(in, normalizeExtension(getFileExtension(originalFilename)));
+        }
 
-        log.info("이미지 업로드 완료: {} -> {}", originalFilename, fileUrl);
+        String fileUrl = "/uploads/" + stored.getRelativePath();
+        if (stored.isCreated()) {
+            log.info("이미지 업로드 완료: {} -> {}", originalFilename, fileUrl);
+        } else {
+            log.info("동일한 이미지가 이미 있어 재사용: {} -> {}", originalFilename, fileUrl);
+        }
+        scheduleVariants(stored);
         return fileUrl;
     }
 
+    /**
+     * 축소본(thumb/card/full) 생성 예약
+     * 이미 모두 있으면 건너뛰며, 실행기가 가득 차 거절되면 원본만 제공됩니다 (같은 사진을 다시 올리면 재시도).
+     */
+    private void scheduleVariants(ContentAddressedStore.StoredFile stored) {
+        Path source = contentStore.resolve(stored.getRelativePath());
+        Path directory = source.getParent();
+        String hash = stored.getHash();
+        if (ImageVariantGenerator.exists(directory, hash) || !variantsInProgress.add(hash)) {
+            return;
+        }
+        try {
+            imageExecutor.execute(() -> {
+                try {
+                    List<ImageVariantGenerator.Variant> generated = ImageVariantGenerator.generate(source, directory, hash);
+                    if (generated.isEmpty()) {
+                        log.info("축소본을 만들 수 없는 이미지 형식이므로 원본만 제공: {}", stored.getRelativePath());
+                    } else {
+                        log.debug("축소본 생성 완료: {} {}", stored.getRelativePath(), generated);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.warn("축소본 생성 실패: {}", stored.getRelativePath(), e);
+                } finally {
+                    variantsInProgress.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            variantsInProgress.remove(hash);
+            log.warn("축소본 생성 대기열이 가득 차 건너뜀: {}", stored.getRelativePath());
+        }
+    }
+
     /**
      * 파일 검증
      * @param file 검증할 파일
@@ -192,29 +264,19 @@ public class FileUploadUtil {
     }
 
     /**
-     * 고유한 파일명 생성
+     * 저장용 확장자 (소문자, .jpeg는 .jpg로 통일해 같은 내용이 한 파일로 모이도록 함)
      * @param extension 파일 확장자
-     * @return 고유한 파일명
-     */
-    private String generateUniqueFilename(String extension) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        return String.format("img_%s_%s%s", timestamp, uuid, extension);
-    }
-
-    /**
-     * 업로드 디렉토리 생성
+     * @return 정규화된 확장자
      */
-    private void createUploadDirectory() throws IOException {
-        Path uploadDir = Paths.get(uploadPath);
-        if (!Files.exists(uploadDir)) {
-            Files.createDirectories(uploadDir);
-            log.info("업로드 디렉토리 생성: {}", uploadPath);
-        }
+    private String normalizeExtension(String extension) {
+        String normalized = extension.toLowerCase(Locale.ROOT);
+        return ".jpeg".equals(normalized) ? ".jpg" : normalized;
     }
 
     /**
      * 파일 삭제
+     * 내용 해시 경로의 파일은 여러 매물이 같은 파일을 참조할 수 있으므로, 참조하는 행이 없을 때만 축소본과 함께 삭제합니다.
+     * (참조가 남았거나 방금 사용된 파일은 건너뛰며, 이후 참조가 사라지면 야간 정리 작업에서 삭제)
      * @param fileUrl 삭제할 파일 URL
      * @return 삭제 성공 여부
      */
@@ -225,6 +287,9 @@ public class FileUploadUtil {
 
         try {
             String filename = fileUrl.substring("/uploads/".length());
+            if (filename.contains("/") || filename.contains("\\")) {
+                return uploadFileService.deleteIfUnreferenced(filename);
+            }
             Path filePath = Paths.get(uploadPath, filename);
             
             if (Files.exists(filePath)) {
@@ -0,0 +1,163 @@
+package com.w.p.common.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 해시 타이밍 휠
+ * 마감 시각을 tick 단위 슬롯에 해시하여 등록/취소는 O(1), tick 진행은 해당 슬롯의 항목 수만큼만 처리합니다.
+ * 휠 한 바퀴보다 먼 항목은 남은 바퀴 수(rounds)로 구분하므로, 한 바퀴 이내의 항목만 적재하면 tick당 비용은 만료 항목 수에 비례합니다.
+ * <p>
+ * 등록/취소는 어느 스레드에서나 가능하고, {@link #advance(long)}는 단일 스레드에서만 호출해야 합니다.
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final List<Queue<Entry<T>>> buckets;
+    private final Queue<Entry<T>> pendingEntries = new ConcurrentLinkedQueue<>();
+
+    private long currentTick;
+    private volatile int size;
+
+    /**
+     * @param tickMillis 슬롯 하나의 시간 폭 (ms)
+     * @param ticksPerWheel 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param startMillis 기준 시각 (epoch ms)
+     */
+    public HashedTimingWheel(long tickMillis, int ticksPerWheel, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 0보다 커야 합니다.");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 30)) {
+            throw new IllegalArgumentException("ticksPerWheel 범위가 올바르지 않습니다: " + ticksPerWheel);
+        }
+        int wheelSize = 1;
+        while (wheelSize < ticksPerWheel) {
+            wheelSize <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * 항목 등록 (이미 지난 마감 시각이면 현재 tick이 끝날 때 만료)
+     * @return 취소용 핸들
+     */
+    public Entry<T> schedule(T item, long deadlineMillis) {
+        Entry<T> entry = new Entry<>(item, deadlineMillis);
+        pendingEntries.add(entry);
+        return entry;
+    }
+
+    /**
+     * 현재 시각까지 끝난 tick을 진행하고 만료된 항목을 반환
+     * 슬롯은 구간이 끝난 뒤에 처리하므로 항목은 마감 시각 이후 최대 1 tick 안에 만료됩니다. (일찍 만료되지 않음)
+     */
+    public List<T> advance(long nowMillis) {
+        transferPendingEntries();
+        List<T> expired = new ArrayList<>();
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis) - 1;
+        while (currentTick <= targetTick) {
+            expireBucket(buckets.get((int) (currentTick & mask)), expired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    /**
+     * 휠 한 바퀴의 시간 폭 (ms)
+     */
+    public long getWheelSpanMillis() {
+        return tickMillis * buckets.size();
+    }
+
+    /**
+     * 등록되어 아직 만료/취소되지 않은 항목 수 (근사값)
+     */
+    public int size() {
+        return size + pendingEntries.size();
+    }
+
+    private void transferPendingEntries() {
+        Entry<T> entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            if (entry.cancelled) {
+                continue;
+            }
+            long deadlineTick = Math.max(Math.floorDiv(entry.deadlineMillis - startMillis, tickMillis), currentTick);
+            entry.remainingRounds = (deadlineTick - currentTick) / buckets.size();
+            buckets.get((int) (deadlineTick & mask)).add(entry);
+            size++;
+        }
+    }
+
+    private void expireBucket(Queue<Entry<T>> bucket, List<T> expired) {
+        Iterator<Entry<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if (entry.cancelled) {
+                iterator.remove();
+                size--;
+            } else if (entry.remainingRounds <= 0) {
+                iterator.remove();
+                size--;
+                entry.expired = true;
+                expired.add(entry.item);
+            } else {
+                entry.remainingRounds--;
+            }
+        }
+    }
+
+    /**
+     * 등록 항목 핸들
+     */
+    public static final class Entry<T> {
+
+        private final T item;
+        private final long deadlineMillis;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+        private volatile boolean expired;
+
+        private Entry(T item, long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * 취소 (슬롯에서는 다음 방문 시 제거)
+         * @return 만료 전에 취소되었으면 true
+         */
+        public boolean cancel() {
+            if (expired) {
+                return false;
+            }
+            cancelled = true;
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.w.p.common.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * iCalendar(RFC 5545) 스트리밍 파서
+ * 줄 단위로 읽으면서 접힌 줄을 펼치고, 지정한 컴포넌트(예: VEVENT)가 끝날 때마다 콜백으로 전달합니다.
+ * 파일 전체를 메모리에 올리지 않으므로 일정 수와 무관하게 컴포넌트 하나 분량의 메모리만 사용합니다.
+ */
+public final class ICalendarReader {
+
+    /**
+     * 펼친 내용 줄 최대 길이 (비정상 입력 방지)
+     */
+    public static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private ICalendarReader() {
+    }
+
+    /**
+     * 컴포넌트 단위 처리 콜백
+     */
+    @FunctionalInterface
+    public interface ComponentHandler {
+        /**
+         * @param lineNumber 컴포넌트 BEGIN 줄 번호 (1부터)
+         * @param component 파싱된 컴포넌트 (하위 컴포넌트의 속성은 포함하지 않음)
+         */
+        void handle(int lineNumber, Component component);
+    }
+
+    /**
+     * 지정한 이름의 컴포넌트를 순서대로 읽기
+     * @param source 입력 (UTF-8 디코딩된 Reader)
+     * @param componentName 읽을 컴포넌트 이름 (예: VEVENT)
+     */
+    public static void read(Reader source, String componentName, ComponentHandler handler) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source);
+        String target = componentName.toUpperCase(Locale.ROOT);
+
+        StringBuilder logical = null;
+        int logicalLineNumber = 0;
+        int lineNumber = 0;
+        ParseState state = new ParseState(target, handler);
+
+        String physical;
+        while ((physical = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && physical.startsWith("\uFEFF")) {
+                physical = physical.substring(1);
+            }
+            // 공백/탭으로 시작하는 줄은 이전 줄의 연속
+            if (!physical.isEmpty() && (physical.charAt(0) == ' ' || physical.charAt(0) == '\t') && logical != null) {
+                if (logical.length() + physical.length() - 1 > MAX_LINE_LENGTH) {
+                    throw new IllegalArgumentException(String.format("%d번째 줄이 너무 깁니다.", logicalLineNumber));
+                }
+                logical.append(physical, 1, physical.length());
+                continue;
+            }
+            if (logical != null) {
+                state.accept(logicalLineNumber, logical.toString());
+            }
+            logical = physical.isEmpty() ? null : new StringBuilder(physical);
+            logicalLineNumber = lineNumber;
+        }
+        if (logical != null) {
+            state.accept(logicalLineNumber, logical.toString());
+        }
+    }
+
+    /**
+     * 내용 줄 파싱 (name *(";" param) ":" value)
+     */
+    public static Property parseLine(String line) {
+        int length = line.length();
+        int i = 0;
+        while (i < length && line.charAt(i) != ';' && line.charAt(i) != ':') {
+            i++;
+        }
+        if (i == length) {
+            throw new IllegalArgumentException("올바르지 않은 iCalendar 줄입니다: " + abbreviate(line));
+        }
+        String name = line.substring(0, i).trim().toUpperCase(Locale.ROOT);
+        Map<String, String> parameters = new LinkedHashMap<>();
+
+        while (i < length && line.charAt(i) == ';') {
+            int keyStart = ++i;
+            while (i < length && line.charAt(i) != '=' && line.charAt(i) != ':' && line.charAt(i) != ';') {
+                i++;
+            }
+            String key = line.substring(keyStart, i).trim().toUpperCase(Locale.ROOT);
+            StringBuilder value = new StringBuilder();
+            if (i < length && line.charAt(i) == '=') {
+                i++;
+                boolean quoted = false;
+                while (i < length) {
+                    char c = line.charAt(i);
+                    if (c == '"') {
+                        quoted = !quoted;
+                    } else if (!quoted && (c == ';' || c == ':')) {
+                        break;
+                    } else {
+                        value.append(c);
+                    }
+                    i++;
+                }
+            }
+            parameters.put(key, value.toString());
+        }
+        if (i >= length || line.charAt(i) != ':') {
+            throw new IllegalArgumentException("올바르지 않은 iCalendar 줄입니다: " + abbreviate(line));
+        }
+        return new Property(name, parameters, line.substring(i + 1));
+    }
+
+    /**
+     * TEXT 값 복원 (\\n, \\, \; \, 이스케이프 해제)
+     */
+    public static String unescapeText(String value) {
+        if (value == null || value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                unescaped.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    /**
+     * DATE / DATE-TIME 값을 지정한 시간대의 LocalDateTime으로 변환
+     * UTC(Z) 값과 TZID 값은 시간대를 변환하고, 시간대가 없는(floating) 값은 그대로 사용합니다.
+     */
+    public static LocalDateTime parseDateTime(Property property, ZoneId zoneId) {
+        String value = property.getValue().trim();
+        try {
+            if ("DATE".equalsIgnoreCase(property.getParameter("VALUE")) || value.length() == 8) {
+                return LocalDate.parse(value, DATE).atStartOfDay();
+            }
+            if (value.endsWith("Z") || value.endsWith("z")) {
+                return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME)
+                        .atOffset(ZoneOffset.UTC)
+                        .atZoneSameInstant(zoneId)
+                        .toLocalDateTime();
+            }
+            LocalDateTime local = LocalDateTime.parse(value, DATE_TIME);
+            ZoneId sourceZone = resolveZone(property.getParameter("TZID"));
+            return sourceZone == null ? local : local.atZone(sourceZone).withZoneSameInstant(zoneId).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(String.format("%s 값이 올바르지 않습니다: %s", property.getName(), value));
+        }
+    }
+
+    private static ZoneId resolveZone(String tzid) {
+        if (tzid == null || tzid.isBlank()) {
+            return null;
+        }
+        try {
+            return ZoneId.of(tzid.trim());
+        } catch (DateTimeException e) {
+            // Windows 시간대 이름 등 알 수 없는 TZID는 시간대 없는 값으로 취급
+            return null;
+        }
+    }
+
+    private static String abbreviate(String line) {
+        return line.length() > 50 ? line.substring(0, 50) + "..." : line;
+    }
+
+    /**
+     * 내용 줄 (속성)
+     */
+    public static class Property {
+        private final String name;
+        private final Map<String, String> parameters;
+        private final String value;
+
+        public Property(String name, Map<String, String> parameters, String value) {
+            this.name = name;
+            this.parameters = parameters;
+            this.value = value;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getParameter(String key) {
+            return parameters.get(key.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * 컴포넌트 (속성 목록)
+     */
+    public static class Component {
+        private final String name;
+        private final List<Property> properties = new ArrayList<>();
+        private String error;
+
+        public Component(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<Property> getProperties() {
+            return properties;
+        }
+
+        /**
+         * 파싱 오류 (없으면 null)
+         */
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * 이름이 같은 첫 번째 속성 (없으면 null)
+         */
+        public Property get(String propertyName) {
+            String key = propertyName.toUpperCase(Locale.ROOT);
+            for (Property property : properties) {
+                if (property.getName().equals(key)) {
+                    return property;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 첫 번째 속성의 TEXT 값 (이스케이프 해제, 없거나 비어 있으면 null)
+         */
+        public String getText(String propertyName) {
+            Property property = get(propertyName);
+            if (property == null) {
+                return null;
+            }
+            String text = unescapeText(property.getValue()).trim();
+            return text.isEmpty() ? null : text;
+        }
+    }
+
+    /**
+     * 컴포넌트 중첩 상태
+     */
+    private static class ParseState {
+        private final String target;
+        private final ComponentHandler handler;
+        private Component current;
+        private int currentLineNumber;
+        private int nestedDepth;
+
+        private ParseState(String target, ComponentHandler handler) {
+            this.target = target;
+            this.handler = handler;
+        }
+
+        private void accept(int lineNumber, String line) {
+            Property property;
+            try {
+                property = parseLine(line);
+            } catch (IllegalArgumentException e) {
+                // 컴포넌트 밖의 잘못된 줄은 무시하고, 안쪽이면 해당 컴포넌트만 오류 처리
+                if (current != null && current.error == null) {
+                    current.error = String.format("%d번째 줄: %s", lineNumber, e.getMessage());
+                }
+                return;
+            }
+            String name = property.getName();
+            if ("BEGIN".equals(name)) {
+                String component = property.getValue().trim().toUpperCase(Locale.ROOT);
+                if (current == null) {
+                    if (target.equals(component)) {
+                        current = new Component(component);
+                        currentLineNumber = lineNumber;
+                    }
+                } else {
+                    nestedDepth++; // VALARM 등 하위 컴포넌트
+                }
+            } else if ("END".equals(name)) {
+                if (current != null) {
+                    if (nestedDepth > 0) {
+                        nestedDepth--;
+                    } else {
+                        Component completed = current;
+                        current = null;
+                        handler.handle(currentLineNumber, completed);
+                    }
+                }
+            } else if (current != null && nestedDepth == 0) {
+                current.getProperties().add(property);
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.w.p.common.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * iCalendar(RFC 5545) 스트리밍 작성기
+ * 내용 줄을 Writer에 바로 기록하므로 일정 수와 무관하게 메모리 사용량이 일정합니다.
+ * 줄 끝은 CRLF, 75 옥텟을 넘는 줄은 UTF-8 문자 경계에서 접습니다(folding).
+ */
+public class ICalendarWriter {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final Writer out;
+    private final ZoneId zoneId;
+
+    /**
+     * @param out 출력 대상
+     * @param zoneId LocalDateTime 값을 해석할 시간대 (UTC로 변환하여 기록)
+     */
+    public ICalendarWriter(Writer out, ZoneId zoneId) {
+        this.out = out;
+        this.zoneId = zoneId;
+    }
+
+    /**
+     * VCALENDAR 시작
+     */
+    public void beginCalendar(String prodId, String calendarName) throws IOException {
+        begin("VCALENDAR");
+        property("VERSION", "2.0");
+        property("PRODID", prodId);
+        property("CALSCALE", "GREGORIAN");
+        property("METHOD", "PUBLISH");
+        if (calendarName != null) {
+            text("X-WR-CALNAME", calendarName);
+        }
+    }
+
+    /**
+     * VCALENDAR 종료
+     */
+    public void endCalendar() throws IOException {
+        end("VCALENDAR");
+        out.flush();
+    }
+
+    public void begin(String component) throws IOException {
+        writeLine("BEGIN:" + component);
+    }
+
+    public void end(String component) throws IOException {
+        writeLine("END:" + component);
+    }
+
+    /**
+     * 값을 그대로 기록 (이스케이프하지 않음)
+     */
+    public void property(String name, String value) throws IOException {
+        if (value != null) {
+            writeLine(name + ":" + value);
+        }
+    }
+
+    /**
+     * TEXT 값 기록 (역슬래시, 세미콜론, 쉼표, 줄바꿈 이스케이프)
+     */
+    public void text(String name, String value) throws IOException {
+        if (value != null) {
+            writeLine(name + ":" + escapeText(value));
+        }
+    }
+
+    /**
+     * DATE-TIME 값을 UTC로 기록
+     */
+    public void dateTime(String name, LocalDateTime value) throws IOException {
+        if (value != null) {
+            writeLine(name + ":" + formatUtc(value));
+        }
+    }
+
+    /**
+     * DATE 값 기록 (종일 일정)
+     */
+    public void date(String name, LocalDate value) throws IOException {
+        if (value != null) {
+            writeLine(name + ";VALUE=DATE:" + value.format(DATE));
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private String formatUtc(LocalDateTime value) {
+        return value.atZone(zoneId).withZoneSameInstant(ZoneOffset.UTC).format(UTC_DATE_TIME);
+    }
+
+    /**
+     * TEXT 값 이스케이프 (RFC 5545 3.3.11)
+     */
+    public static String escapeText(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    escaped.append("\\\\");
+                    break;
+                case ';':
+                    escaped.append("\\;");
+                    break;
+                case ',':
+                    escaped.append("\\,");
+                    break;
+                case '\n':
+                    escaped.append("\\n");
+                    break;
+                case '\r':
+                    // CRLF는 \n 하나로 처리
+                    if (i + 1 >= value.length() || value.charAt(i + 1) != '\n') {
+                        escaped.append("\\n");
+                    }
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * 75 옥텟 단위로 접어서 기록 (멀티바이트 문자는 나누지 않음)
+     */
+    private void writeLine(String line) throws IOException {
+        int octets = 0;
+        int start = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int width = utf8Length(codePoint);
+            if (octets + width > MAX_LINE_OCTETS) {
+                out.write(line, start, i - start);
+                out.write(CRLF);
+                out.write(' ');
+                start = i;
+                octets = 1; // 이어지는 줄의 선행 공백
+            }
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        out.write(line, start, line.length() - start);
+        out.write(CRLF);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        } else if (codePoint < 0x800) {
+            return 2;
+        } else if (codePoint < 0x10000) {
+            return 3;
+        }
+        return 4;
+    }
+}
@@ -0,0 +1,216 @@
+package com.w.p.common.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지 축소본 생성기
+ * 원본을 한 번만 디코딩해 큰 변형부터 차례로 줄여 가며(full → card → thumb) JPEG로 기록합니다.
+ * 원본이 충분히 크면 디코딩 단계에서 픽셀을 건너뛰어 읽으므로 큰 사진도 필요한 해상도만큼만 메모리를 사용합니다.
+ * 변형 파일은 원본과 같은 디렉토리에 {해시}_{변형}.jpg 이름으로 저장합니다.
+ */
+public final class ImageVariantGenerator {
+
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final Pattern CONTENT_ADDRESSED_URL = Pattern.compile("^(/uploads/[0-9a-f]{2}/)([0-9a-f]{64})\\.[a-z]+$");
+
+    /**
+     * 변형 종류 (큰 것부터 선언, 축소는 이 순서로 진행)
+     */
+    public enum Variant {
+        FULL("full", 1280),
+        CARD("card", 480),
+        THUMBNAIL("thumb", 200);
+
+        private final String suffix;
+        private final int maxWidth;
+
+        Variant(String suffix, int maxWidth) {
+            this.suffix = suffix;
+            this.maxWidth = maxWidth;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+
+        public int getMaxWidth() {
+            return maxWidth;
+        }
+
+        /**
+         * URL/파일명에 쓰는 이름으로 찾기 (없으면 null)
+         */
+        public static Variant fromSuffix(String suffix) {
+            for (Variant variant : values()) {
+                if (variant.suffix.equals(suffix)) {
+                    return variant;
+                }
+            }
+            return null;
+        }
+    }
+
+    private ImageVariantGenerator() {
+    }
+
+    /**
+     * 변형 파일명
+     */
+    public static String fileName(String hash, Variant variant) {
+        return hash + "_" + variant.getSuffix() + ".jpg";
+    }
+
+    /**
+     * 원본 URL의 변형 URL (내용 해시로 저장된 업로드가 아니면 null)
+     */
+    public static String variantUrl(String originalUrl, Variant variant) {
+        if (originalUrl == null) {
+            return null;
+        }
+        Matcher matcher = CONTENT_ADDRESSED_URL.matcher(originalUrl);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return matcher.group(1) + fileName(matcher.group(2), variant);
+    }
+
+    /**
+     * 모든 변형이 이미 있는지 확인
+     */
+    public static boolean exists(Path directory, String hash) {
+        for (Variant variant : Variant.values()) {
+            if (!Files.exists(directory.resolve(fileName(hash, variant)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 변형 생성
+     * @return 생성한 변형 목록 (읽을 수 없는 형식이면 빈 목록)
+     */
+    public static List<Variant> generate(Path source, Path directory, String hash) throws IOException {
+        BufferedImage image = read(source, Variant.FULL.getMaxWidth());
+        List<Variant> generated = new ArrayList<>();
+        if (image == null) {
+            return generated;
+        }
+
+        image = toRgb(image);
+        for (Variant variant : Variant.values()) {
+            image = scaleToWidth(image, variant.getMaxWidth());
+            writeJpeg(image, directory.resolve(fileName(hash, variant)));
+            generated.add(variant);
+        }
+        return generated;
+    }
+
+    /**
+     * 디코딩 (가로가 목표 폭의 2배 이상이면 정수 배율로 건너뛰어 읽음)
+     */
+    private static BufferedImage read(Path source, int targetWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = reader.getWidth(0) / targetWidth;
+                if (subsampling >= 2) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG는 투명도를 표현할 수 없으므로 흰 배경에 합성
+     */
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * 폭에 맞춰 비율 유지 축소 (이미 작으면 그대로, 확대하지 않음)
+     */
+    private static BufferedImage scaleToWidth(BufferedImage image, int maxWidth) {
+        if (image.getWidth() <= maxWidth) {
+            return image;
+        }
+        int height = Math.max(1, Math.round(image.getHeight() * (maxWidth / (float) image.getWidth())));
+        BufferedImage scaled = new BufferedImage(maxWidth, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, maxWidth, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * 임시 파일에 기록 후 이동 (읽는 쪽에서 쓰다 만 파일을 보지 않도록)
+     */
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".part");
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+}
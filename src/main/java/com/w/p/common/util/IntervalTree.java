@@ -0,0 +1,204 @@
+package com.w.p.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 정적 구간 트리 (반열린 구간 [start, end))
+ * 시작점 순으로 정렬한 배열을 균형 이진 트리로 보고 각 서브트리의 최대 끝점을 저장합니다.
+ * 구성은 O(n log n), 겹침 조회는 끝점 기준 가지치기로 겹치는 구간 수 k에 비례하여 O(log n + k) 수준으로 동작합니다.
+ * 구성 후에는 변경할 수 없으며 여러 스레드에서 동시에 조회해도 안전합니다.
+ */
+public final class IntervalTree<T> {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final List<T> items;
+
+    private IntervalTree(long[] starts, long[] ends, List<T> items) {
+        this.starts = starts;
+        this.ends = ends;
+        this.items = items;
+        this.maxEnds = new long[starts.length];
+        computeMaxEnds(0, starts.length - 1);
+    }
+
+    /**
+     * 구간 목록으로 트리 구성 (길이가 0 이하인 구간은 어떤 구간과도 겹치지 않으므로 제외)
+     */
+    public static <T> IntervalTree<T> build(List<Interval<T>> intervals) {
+        List<Interval<T>> sorted = new ArrayList<>(intervals.size());
+        for (Interval<T> interval : intervals) {
+            if (interval.getEnd() > interval.getStart()) {
+                sorted.add(interval);
+            }
+        }
+        sorted.sort(Comparator.comparingLong(Interval<T>::getStart).thenComparingLong(Interval::getEnd));
+
+        long[] starts = new long[sorted.size()];
+        long[] ends = new long[sorted.size()];
+        List<T> items = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Interval<T> interval = sorted.get(i);
+            starts[i] = interval.getStart();
+            ends[i] = interval.getEnd();
+            items.add(interval.getItem());
+        }
+        return new IntervalTree<>(starts, ends, items);
+    }
+
+    /**
+     * 저장된 구간 수
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * [start, end)와 겹치는 구간 조회 (시작점 순)
+     */
+    public List<Interval<T>> findOverlapping(long start, long end) {
+        List<Interval<T>> overlaps = new ArrayList<>();
+        if (end > start) {
+            collect(0, starts.length - 1, start, end, overlaps);
+        }
+        return overlaps;
+    }
+
+    /**
+     * 서로 겹치는 모든 구간 쌍 조회 (각 쌍은 시작점이 빠른 구간이 first)
+     * 구간마다 자신보다 뒤에 정렬된 구간만 조회하므로 같은 쌍을 두 번 반환하지 않습니다. (O(n log n + k))
+     */
+    public List<Overlap<T>> findAllOverlaps() {
+        List<Overlap<T>> overlaps = new ArrayList<>();
+        List<Interval<T>> buffer = new ArrayList<>();
+        for (int i = 0; i < starts.length; i++) {
+            buffer.clear();
+            collectAfter(0, starts.length - 1, i, buffer);
+            Interval<T> first = intervalAt(i);
+            for (Interval<T> second : buffer) {
+                overlaps.add(new Overlap<>(first, second));
+            }
+        }
+        return overlaps;
+    }
+
+    private long computeMaxEnds(int lo, int hi) {
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(computeMaxEnds(lo, mid - 1), computeMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, long start, long end, List<Interval<T>> overlaps) {
+        if (lo > hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // 서브트리의 모든 구간이 조회 시작 전에 끝나면 가지치기
+        if (maxEnds[mid] <= start) {
+            return;
+        }
+        collect(lo, mid - 1, start, end, overlaps);
+        if (starts[mid] >= end) {
+            // 오른쪽 서브트리는 시작점이 더 늦으므로 겹칠 수 없음
+            return;
+        }
+        if (ends[mid] > start) {
+            overlaps.add(intervalAt(mid));
+        }
+        collect(mid + 1, hi, start, end, overlaps);
+    }
+
+    /**
+     * index 구간과 겹치면서 정렬 순서가 index 이후인 구간 수집
+     */
+    private void collectAfter(int lo, int hi, int index, List<Interval<T>> overlaps) {
+        if (lo > hi || hi <= index) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnds[mid] <= starts[index]) {
+            return;
+        }
+        collectAfter(lo, mid - 1, index, overlaps);
+        if (starts[mid] >= ends[index]) {
+            return;
+        }
+        if (mid > index && ends[mid] > starts[index]) {
+            overlaps.add(intervalAt(mid));
+        }
+        collectAfter(mid + 1, hi, index, overlaps);
+    }
+
+    private Interval<T> intervalAt(int index) {
+        return new Interval<>(starts[index], ends[index], items.get(index));
+    }
+
+    /**
+     * 반열린 구간 [start, end)와 연결된 항목
+     */
+    public static final class Interval<T> {
+        private final long start;
+        private final long end;
+        private final T item;
+
+        public Interval(long start, long end, T item) {
+            this.start = start;
+            this.end = end;
+            this.item = item;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        public T getItem() {
+            return item;
+        }
+    }
+
+    /**
+     * 겹치는 구간 쌍
+     */
+    public static final class Overlap<T> {
+        private final Interval<T> first;
+        private final Interval<T> second;
+
+        public Overlap(Interval<T> first, Interval<T> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public Interval<T> getFirst() {
+            return first;
+        }
+
+        public Interval<T> getSecond() {
+            return second;
+        }
+
+        /**
+         * 겹치는 구간 시작
+         */
+        public long getOverlapStart() {
+            return Math.max(first.getStart(), second.getStart());
+        }
+
+        /**
+         * 겹치는 구간 끝
+         */
+        public long getOverlapEnd() {
+            return Math.min(first.getEnd(), second.getEnd());
+        }
+    }
+}
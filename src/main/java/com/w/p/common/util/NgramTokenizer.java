@@ -0,0 +1,79 @@
+package com.w.p.common.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * N-gram 토크나이저
+ * 한글은 띄어쓰기/조사와 무관하게 부분 문자열 검색이 필요하므로 단어 단위로 자른 뒤 n글자씩 잘라 색인합니다.
+ * 예) "그랜드 웨딩홀" (n=2) → [그랜, 랜드, 웨딩, 딩홀]
+ */
+public class NgramTokenizer {
+
+    public static final int BIGRAM = 2;
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 텍스트 정규화 (NFKC, 소문자)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 단어 분리 (문자/숫자가 아닌 문자를 구분자로 사용)
+     */
+    public static List<String> words(String text) {
+        String normalized = normalize(text);
+        List<String> words = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                current.append(ch);
+            } else if (current.length() > 0) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    /**
+     * 중복 제거된 n-gram 목록 (n보다 짧은 단어는 단어 자체를 토큰으로 사용)
+     */
+    public static Set<String> tokenize(String text, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            int length = word.codePointCount(0, word.length());
+            if (length <= n) {
+                grams.add(word);
+                continue;
+            }
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + n <= codePoints.length; i++) {
+                grams.add(new String(codePoints, i, n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 바이그램 토큰화
+     */
+    public static Set<String> bigrams(String text) {
+        return tokenize(text, BIGRAM);
+    }
+}
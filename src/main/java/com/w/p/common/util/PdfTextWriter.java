@@ -0,0 +1,261 @@
+package com.w.p.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+/**
+ * 텍스트 위주 PDF 스트리밍 작성기 (PDF 1.4)
+ * 페이지를 마칠 때마다 내용 스트림을 압축해 바로 기록하므로 페이지 수와 무관하게 한 페이지 분량의 메모리만 사용합니다.
+ * 한글은 뷰어에 내장된 Adobe-Korea1 글꼴(HYGoThic-Medium, UniKS-UCS2-H)을 참조하므로 글꼴을 포함하지 않습니다.
+ * 좌표 단위는 pt(1/72인치)이며 원점은 페이지 왼쪽 아래입니다.
+ */
+public class PdfTextWriter implements Closeable {
+
+    public static final float A4_WIDTH = 595f;
+    public static final float A4_HEIGHT = 842f;
+
+    private static final int CATALOG = 1;
+    private static final int PAGES = 2;
+    private static final int FONT = 3;
+    private static final int CID_FONT = 4;
+    private static final int FONT_DESCRIPTOR = 5;
+    private static final String FONT_NAME = "HYGoThic-Medium";
+
+    private final OutputStream out;
+    private final List<Long> offsets = new ArrayList<>();
+    private final List<Integer> pageObjects = new ArrayList<>();
+    private long position;
+    private int nextObject = FONT_DESCRIPTOR + 1;
+    private ByteArrayOutputStream content;
+    private boolean closed;
+
+    public PdfTextWriter(OutputStream out) throws IOException {
+        this.out = out;
+        // 1~5번 객체는 번호만 예약하고 문서 카탈로그/페이지 트리는 마지막에 기록
+        for (int i = 0; i < FONT_DESCRIPTOR; i++) {
+            offsets.add(0L);
+        }
+        write("%PDF-1.4\n%\u00E2\u00E3\u00CF\u00D3\n");
+        writeObject(FONT, "<< /Type /Font /Subtype /Type0 /BaseFont /" + FONT_NAME
+                + " /Encoding /UniKS-UCS2-H /DescendantFonts [" + CID_FONT + " 0 R] >>");
+        // CID 1~95(ASCII)는 반각, 나머지는 전각 폭
+        writeObject(CID_FONT, "<< /Type /Font /Subtype /CIDFontType0 /BaseFont /" + FONT_NAME
+                + " /CIDSystemInfo << /Registry (Adobe) /Ordering (Korea1) /Supplement 1 >>"
+                + " /FontDescriptor " + FONT_DESCRIPTOR + " 0 R /DW 1000 /W [1 95 500] >>");
+        writeObject(FONT_DESCRIPTOR, "<< /Type /FontDescriptor /FontName /" + FONT_NAME
+                + " /Flags 4 /FontBBox [-6 -145 1003 880] /ItalicAngle 0 /Ascent 880 /Descent -120"
+                + " /CapHeight 880 /StemV 93 >>");
+    }
+
+    /**
+     * 새 페이지 시작 (작성 중인 페이지가 있으면 먼저 마침)
+     */
+    public void beginPage() throws IOException {
+        if (content != null) {
+            endPage();
+        }
+        content = new ByteArrayOutputStream(4096);
+    }
+
+    /**
+     * 작성 중인 페이지 마침
+     */
+    public void endPage() throws IOException {
+        if (content == null) {
+            return;
+        }
+        byte[] compressed = deflate(content.toByteArray());
+        content = null;
+
+        int contentObject = nextObject++;
+        beginObject(contentObject);
+        write("<< /Length " + compressed.length + " /Filter /FlateDecode >>\nstream\n");
+        writeBytes(compressed);
+        write("\nendstream\nendobj\n");
+
+        int pageObject = nextObject++;
+        writeObject(pageObject, "<< /Type /Page /Parent " + PAGES + " 0 R /MediaBox [0 0 "
+                + number(A4_WIDTH) + " " + number(A4_HEIGHT) + "]"
+                + " /Resources << /Font << /F1 " + FONT + " 0 R >> >> /Contents " + contentObject + " 0 R >>");
+        pageObjects.add(pageObject);
+    }
+
+    /**
+     * 텍스트 출력 (x, y는 글자 기준선 왼쪽 위치)
+     */
+    public void text(float x, float y, float fontSize, String text) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        requirePage();
+        StringBuilder operator = new StringBuilder(32 + text.length() * 4);
+        operator.append("BT /F1 ").append(number(fontSize)).append(" Tf ")
+                .append(number(x)).append(' ').append(number(y)).append(" Td <");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            // UCS-2 인코딩이므로 보조 평면 문자와 제어 문자는 대체 문자로 출력
+            if (Character.isSurrogate(c) || c < 0x20) {
+                c = '?';
+            }
+            operator.append(String.format("%04X", (int) c));
+        }
+        operator.append("> Tj ET\n");
+        content.writeBytes(operator.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 오른쪽 정렬 텍스트 출력 (right는 텍스트 오른쪽 끝 위치)
+     */
+    public void textRight(float right, float y, float fontSize, String text) {
+        text(right - textWidth(text, fontSize), y, fontSize, text);
+    }
+
+    /**
+     * 선 그리기
+     */
+    public void line(float x1, float y1, float x2, float y2, float lineWidth) {
+        requirePage();
+        String operator = number(lineWidth) + " w " + number(x1) + " " + number(y1) + " m "
+                + number(x2) + " " + number(y2) + " l S\n";
+        content.writeBytes(operator.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 작성한 페이지 수
+     */
+    public int getPageCount() {
+        return pageObjects.size() + (content != null ? 1 : 0);
+    }
+
+    /**
+     * 텍스트 폭 (ASCII는 0.5em, 나머지는 1em)
+     */
+    public static float textWidth(String text, float fontSize) {
+        if (text == null) {
+            return 0f;
+        }
+        float units = 0f;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            units += c >= 0x20 && c < 0x7F ? 0.5f : 1f;
+        }
+        return units * fontSize;
+    }
+
+    /**
+     * 폭에 맞게 자른 텍스트 (잘리면 끝에 ..)
+     */
+    public static String fit(String text, float fontSize, float maxWidth) {
+        if (text == null || textWidth(text, fontSize) <= maxWidth) {
+            return text;
+        }
+        float limit = maxWidth - textWidth("..", fontSize);
+        float width = 0f;
+        int end = 0;
+        while (end < text.length()) {
+            float next = textWidth(text.substring(end, end + 1), fontSize);
+            if (width + next > limit) {
+                break;
+            }
+            width += next;
+            end++;
+        }
+        return text.substring(0, end) + "..";
+    }
+
+    /**
+     * 페이지 트리, 카탈로그, 상호 참조 테이블 기록 후 종료 (출력 스트림은 닫지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        endPage();
+        if (pageObjects.isEmpty()) {
+            // 빈 문서도 열 수 있도록 빈 페이지 하나 추가
+            beginPage();
+            endPage();
+        }
+
+        StringBuilder kids = new StringBuilder();
+        for (int pageObject : pageObjects) {
+            kids.append(pageObject).append(" 0 R ");
+        }
+        writeObject(PAGES, "<< /Type /Pages /Kids [" + kids.toString().trim() + "] /Count " + pageObjects.size() + " >>");
+        writeObject(CATALOG, "<< /Type /Catalog /Pages " + PAGES + " 0 R >>");
+
+        long xref = position;
+        StringBuilder table = new StringBuilder();
+        table.append("xref\n0 ").append(offsets.size() + 1).append('\n');
+        table.append("0000000000 65535 f \n");
+        for (long offset : offsets) {
+            table.append(String.format("%010d 00000 n \n", offset));
+        }
+        table.append("trailer\n<< /Size ").append(offsets.size() + 1).append(" /Root ").append(CATALOG).append(" 0 R >>\n");
+        table.append("startxref\n").append(xref).append("\n%%EOF\n");
+        write(table.toString());
+        out.flush();
+    }
+
+    private void requirePage() {
+        if (content == null) {
+            throw new IllegalStateException("beginPage()를 먼저 호출해야 합니다.");
+        }
+    }
+
+    private void writeObject(int number, String body) throws IOException {
+        beginObject(number);
+        write(body + "\nendobj\n");
+    }
+
+    private void beginObject(int number) throws IOException {
+        while (offsets.size() < number) {
+            offsets.add(0L);
+        }
+        offsets.set(number - 1, position);
+        write(number + " 0 obj\n");
+    }
+
+    private void write(String text) throws IOException {
+        // 헤더의 이진 주석 외에는 ASCII만 기록
+        writeBytes(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        out.write(bytes);
+        position += bytes.length;
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                compressed.write(buffer, 0, length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String number(float value) {
+        if (value == Math.rint(value)) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,541 @@
+package com.w.p.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 스프레드시트(CSV/XLSX) 스트리밍 리더
+ * 파일 전체를 메모리에 올리지 않고 한 행씩 읽어서 핸들러에 전달합니다.
+ */
+@Slf4j
+public class SpreadsheetReader {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_XLSX = "xlsx";
+
+    private static final String SHARED_STRINGS_ENTRY = "xl/sharedStrings.xml";
+    private static final String WORKBOOK_ENTRY = "xl/workbook.xml";
+    private static final String WORKBOOK_RELS_ENTRY = "xl/_rels/workbook.xml.rels";
+    private static final String WORKBOOK_DIRECTORY = "xl/";
+    private static final String DEFAULT_SHEET_ENTRY = "xl/worksheets/sheet1.xml";
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+    /**
+     * Excel 일련번호 상한 (9999-12-31 다음 날)
+     */
+    private static final long MAX_EXCEL_SERIAL = 2958466L;
+
+    private SpreadsheetReader() {
+    }
+
+    /**
+     * 행 단위 처리 콜백
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * @param rowNumber 1부터 시작하는 행 번호 (헤더 포함)
+         * @param cells 셀 값 목록 (빈 셀은 빈 문자열)
+         */
+        void handle(int rowNumber, List<String> cells);
+    }
+
+    /**
+     * 헤더 행 기반 열 매핑
+     * 헤더명(한글/영문 별칭)을 표준 키로 변환하여 열 인덱스를 찾습니다.
+     */
+    public static class HeaderIndex {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        /**
+         * @param headerCells 헤더 행 셀 목록
+         * @param aliases 정규화된 헤더명 → 표준 키 매핑
+         */
+        public HeaderIndex(List<String> headerCells, Map<String, String> aliases) {
+            for (int i = 0; i < headerCells.size(); i++) {
+                String key = aliases.get(normalize(headerCells.get(i)));
+                if (key != null) {
+                    columns.putIfAbsent(key, i);
+                }
+            }
+        }
+
+        public boolean has(String key) {
+            return columns.containsKey(key);
+        }
+
+        /**
+         * 표준 키에 해당하는 셀 값 (없거나 비어 있으면 null)
+         */
+        public String get(List<String> cells, String key) {
+            Integer index = columns.get(key);
+            if (index == null || index >= cells.size()) {
+                return null;
+            }
+            String value = cells.get(index);
+            return value == null || value.trim().isEmpty() ? null : value.trim();
+        }
+
+        /**
+         * 헤더명 정규화 (공백/밑줄 제거, 소문자)
+         */
+        public static String normalize(String header) {
+            if (header == null) {
+                return "";
+            }
+            return header.replace("\uFEFF", "").replaceAll("[\\s_\\-]", "").toLowerCase();
+        }
+    }
+
+    /**
+     * 파일명 또는 형식 문자열로 지원 형식 판별
+     * @param format 요청 형식 (csv, xlsx)
+     * @param filename 업로드 파일명
+     * @return 정규화된 형식
+     */
+    public static String resolveFormat(String format, String filename) {
+        String candidate = format;
+        if ((candidate == null || candidate.trim().isEmpty()) && filename != null && filename.lastIndexOf('.') != -1) {
+            candidate = filename.substring(filename.lastIndexOf('.') + 1);
+        }
+        if (candidate == null) {
+            throw new IllegalArgumentException("파일 형식을 확인할 수 없습니다.");
+        }
+        String normalized = candidate.trim().toLowerCase();
+        if (FORMAT_CSV.equals(normalized) || FORMAT_XLSX.equals(normalized)) {
+            return normalized;
+        }
+        throw new IllegalArgumentException(String.format("지원하지 않는 파일 형식입니다: %s", candidate));
+    }
+
+    /**
+     * 입력 스트림을 형식에 맞게 한 행씩 읽기
+     * @param inputStream 입력 스트림
+     * @param format csv 또는 xlsx
+     * @param handler 행 처리 콜백
+     */
+    public static void read(InputStream inputStream, String format, RowHandler handler) throws IOException {
+        if (FORMAT_XLSX.equals(resolveFormat(format, null))) {
+            readXlsx(inputStream, handler);
+        } else {
+            readCsv(new InputStreamReader(inputStream, StandardCharsets.UTF_8), handler);
+        }
+    }
+
+    /**
+     * CSV 스트리밍 파싱 (RFC 4180: 따옴표, 이스케이프된 따옴표, 셀 내부 줄바꿈 지원)
+     */
+    public static void readCsv(Reader source, RowHandler handler) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source);
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean inQuotes = false;
+        boolean firstChar = true;
+        boolean rowHasContent = false;
+        int rowNumber = 0;
+        int c;
+
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            // UTF-8 BOM 제거
+            if (firstChar) {
+                firstChar = false;
+                if (ch == '\uFEFF') {
+                    continue;
+                }
+            }
+
+            if (inQuotes) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        cell.append('"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    cell.append(ch);
+                }
+                continue;
+            }
+
+            switch (ch) {
+                case '"':
+                    inQuotes = true;
+                    rowHasContent = true;
+                    break;
+                case ',':
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                    rowHasContent = true;
+                    break;
+                case '\r':
+                    break;
+                case '\n':
+                    if (rowHasContent || cell.length() > 0) {
+                        cells.add(cell.toString());
+                        handler.handle(++rowNumber, cells);
+                    }
+                    cells = new ArrayList<>();
+                    cell.setLength(0);
+                    rowHasContent = false;
+                    break;
+                default:
+                    cell.append(ch);
+                    rowHasContent = true;
+            }
+        }
+
+        if (rowHasContent || cell.length() > 0) {
+            cells.add(cell.toString());
+            handler.handle(++rowNumber, cells);
+        }
+    }
+
+    /**
+     * XLSX 첫 번째 시트 스트리밍 파싱
+     * ZIP 엔트리 순서상 시트가 공유 문자열보다 먼저 나올 수 있으므로 임시 파일에 복사한 뒤 StAX로 읽습니다.
+     * 첫 번째 시트는 시트 탭 순서(workbook.xml)와 관계 파일(workbook.xml.rels)로 찾습니다.
+     */
+    public static void readXlsx(InputStream inputStream, RowHandler handler) throws IOException {
+        Path tempFile = Files.createTempFile("import_", ".xlsx");
+        try {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try (ZipFile zipFile = new ZipFile(tempFile.toFile())) {
+                List<String> sharedStrings = readSharedStrings(zipFile);
+                ZipEntry sheetEntry = zipFile.getEntry(resolveFirstSheetEntry(zipFile));
+                if (sheetEntry == null) {
+                    throw new IllegalArgumentException("XLSX 파일에서 시트를 찾을 수 없습니다.");
+                }
+                try (InputStream sheetStream = zipFile.getInputStream(sheetEntry)) {
+                    readSheet(sheetStream, sharedStrings, handler);
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("XLSX 파일 파싱에 실패했습니다.", e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * 첫 번째 시트의 ZIP 엔트리 경로 (통합 문서 정보가 없으면 sheet1.xml)
+     */
+    private static String resolveFirstSheetEntry(ZipFile zipFile) throws IOException, XMLStreamException {
+        String relationshipId = readFirstSheetRelationshipId(zipFile);
+        if (relationshipId == null) {
+            return DEFAULT_SHEET_ENTRY;
+        }
+        ZipEntry relsEntry = zipFile.getEntry(WORKBOOK_RELS_ENTRY);
+        if (relsEntry == null) {
+            return DEFAULT_SHEET_ENTRY;
+        }
+        try (InputStream in = zipFile.getInputStream(relsEntry)) {
+            XMLStreamReader xml = createXmlReader(in);
+            try {
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && "Relationship".equals(xml.getLocalName())
+                            && relationshipId.equals(xml.getAttributeValue(null, "Id"))) {
+                        String target = xml.getAttributeValue(null, "Target");
+                        return target != null ? resolvePartName(target) : DEFAULT_SHEET_ENTRY;
+                    }
+                }
+            } finally {
+                xml.close();
+            }
+        }
+        return DEFAULT_SHEET_ENTRY;
+    }
+
+    /**
+     * workbook.xml의 첫 번째 sheet 요소의 관계 ID (r:id)
+     */
+    private static String readFirstSheetRelationshipId(ZipFile zipFile) throws IOException, XMLStreamException {
+        ZipEntry entry = zipFile.getEntry(WORKBOOK_ENTRY);
+        if (entry == null) {
+            return null;
+        }
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            XMLStreamReader xml = createXmlReader(in);
+            try {
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && "sheet".equals(xml.getLocalName())) {
+                        // 관계 네임스페이스는 Transitional/Strict 형식마다 다르므로 접두사가 있는 id 속성으로 찾음
+                        for (int i = 0; i < xml.getAttributeCount(); i++) {
+                            String namespace = xml.getAttributeNamespace(i);
+                            if ("id".equals(xml.getAttributeLocalName(i)) && namespace != null && !namespace.isEmpty()) {
+                                return xml.getAttributeValue(i);
+                            }
+                        }
+                        return null;
+                    }
+                }
+            } finally {
+                xml.close();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 관계 대상 경로를 ZIP 엔트리 경로로 변환 (절대 경로는 패키지 루트, 상대 경로는 xl/ 기준)
+     */
+    static String resolvePartName(String target) {
+        String path = target.startsWith("/") ? target.substring(1) : WORKBOOK_DIRECTORY + target;
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if ("..".equals(segment)) {
+                if (!segments.isEmpty()) {
+                    segments.remove(segments.size() - 1);
+                }
+            } else if (!segment.isEmpty() && !".".equals(segment)) {
+                segments.add(segment);
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    private static List<String> readSharedStrings(ZipFile zipFile) throws IOException, XMLStreamException {
+        ZipEntry entry = zipFile.getEntry(SHARED_STRINGS_ENTRY);
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> strings = new ArrayList<>();
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            XMLStreamReader xml = createXmlReader(in);
+            StringBuilder current = null;
+            boolean inText = false;
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if ("si".equals(name)) {
+                        current = new StringBuilder();
+                    } else if ("t".equals(name) && current != null) {
+                        inText = true;
+                    } else if ("rPh".equals(name)) {
+                        // 후리가나(rPh) 영역은 값에서 제외
+                        skipElement(xml);
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS && inText) {
+                    current.append(xml.getText());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if ("t".equals(name)) {
+                        inText = false;
+                    } else if ("si".equals(name) && current != null) {
+                        strings.add(current.toString());
+                        current = null;
+                    }
+                }
+            }
+            xml.close();
+        }
+        return strings;
+    }
+
+    private static void readSheet(InputStream in, List<String> sharedStrings, RowHandler handler) throws XMLStreamException {
+        XMLStreamReader xml = createXmlReader(in);
+        List<String> cells = null;
+        int rowNumber = 0;
+        int columnIndex = 0;
+        String cellType = null;
+        StringBuilder value = new StringBuilder();
+        boolean inValue = false;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("row".equals(name)) {
+                    cells = new ArrayList<>();
+                    String r = xml.getAttributeValue(null, "r");
+                    rowNumber = r != null ? Integer.parseInt(r) : rowNumber + 1;
+                } else if ("c".equals(name) && cells != null) {
+                    String ref = xml.getAttributeValue(null, "r");
+                    columnIndex = ref != null ? columnIndexOf(ref) : cells.size();
+                    cellType = xml.getAttributeValue(null, "t");
+                    value.setLength(0);
+                } else if ("v".equals(name) || "t".equals(name)) {
+                    inValue = true;
+                }
+            } else if (event == XMLStreamConstants.CHARACTERS && inValue) {
+                value.append(xml.getText());
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = xml.getLocalName();
+                if ("v".equals(name) || "t".equals(name)) {
+                    inValue = false;
+                } else if ("c".equals(name) && cells != null) {
+                    while (cells.size() < columnIndex) {
+                        cells.add("");
+                    }
+                    cells.add(resolveCellValue(cellType, value.toString(), sharedStrings));
+                } else if ("row".equals(name) && cells != null) {
+                    if (!isBlankRow(cells)) {
+                        handler.handle(rowNumber, cells);
+                    }
+                    cells = null;
+                }
+            }
+        }
+        xml.close();
+    }
+
+    private static String resolveCellValue(String cellType, String raw, List<String> sharedStrings) {
+        if ("s".equals(cellType)) {
+            int index = Integer.parseInt(raw.trim());
+            return index < sharedStrings.size() ? sharedStrings.get(index) : "";
+        }
+        if ("b".equals(cellType)) {
+            return "1".equals(raw.trim()) ? "true" : "false";
+        }
+        return raw;
+    }
+
+    /**
+     * 금액/숫자 셀 변환 (천 단위 구분자, 통화 기호 허용)
+     * @throws NumberFormatException 숫자가 아닌 경우
+     */
+    public static BigDecimal parseDecimal(String value) {
+        if (value == null) {
+            return null;
+        }
+        String cleaned = value.replace(",", "").replace("원", "").replace("₩", "").trim();
+        return cleaned.isEmpty() ? null : new BigDecimal(cleaned);
+    }
+
+    /**
+     * 날짜 셀 변환 (yyyy-MM-dd, yyyy-MM-ddTHH:mm:ss[.SSS], yyyy/MM/dd, yyyy.MM.dd, yyyyMMdd 또는 Excel 일련번호)
+     * 8자리 숫자는 yyyyMMdd로, 그 밖의 숫자는 9999-12-31까지의 Excel 일련번호로 해석합니다.
+     * @throws IllegalArgumentException 날짜 형식이 아닌 경우
+     */
+    public static LocalDateTime parseDateTime(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            if (trimmed.matches("\\d{8}")) {
+                return LocalDate.parse(trimmed, DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay();
+            }
+            if (trimmed.matches("\\d+(\\.\\d+)?")) {
+                return fromExcelSerial(new BigDecimal(trimmed), value);
+            }
+            // 구분자 치환은 날짜 부분에만 적용 (시간 부분의 소수점 초 보존)
+            int timeStart = timeSeparatorIndex(trimmed);
+            String datePart = timeStart == -1 ? trimmed : trimmed.substring(0, timeStart);
+            LocalDate date = LocalDate.parse(datePart.replace('/', '-').replace('.', '-'));
+            if (timeStart == -1) {
+                return date.atStartOfDay();
+            }
+            return date.atTime(LocalTime.parse(trimmed.substring(timeStart + 1).trim()));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(String.format("날짜 형식이 올바르지 않습니다: %s", value));
+        }
+    }
+
+    /**
+     * Excel 일련번호 변환 (1900 날짜 체계, 1899-12-30 기준)
+     */
+    private static LocalDateTime fromExcelSerial(BigDecimal serial, String value) {
+        if (serial.signum() <= 0 || serial.compareTo(BigDecimal.valueOf(MAX_EXCEL_SERIAL)) >= 0) {
+            throw new IllegalArgumentException(String.format("날짜 형식이 올바르지 않습니다: %s", value));
+        }
+        long days = serial.longValue();
+        long seconds = serial.subtract(BigDecimal.valueOf(days))
+                .multiply(BigDecimal.valueOf(86400))
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValue();
+        return EXCEL_EPOCH.plusDays(days).atStartOfDay().plusSeconds(seconds);
+    }
+
+    /**
+     * 날짜와 시간을 구분하는 'T' 또는 공백 위치 (없으면 -1)
+     */
+    private static int timeSeparatorIndex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == 'T' || ch == ' ') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 셀 참조(A1, BC12)에서 0부터 시작하는 열 인덱스 계산
+     */
+    static int columnIndexOf(String cellRef) {
+        int index = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char ch = cellRef.charAt(i);
+            if (ch < 'A' || ch > 'Z') {
+                break;
+            }
+            index = index * 26 + (ch - 'A' + 1);
+        }
+        return index - 1;
+    }
+
+    private static boolean isBlankRow(List<String> cells) {
+        for (String cell : cells) {
+            if (cell != null && !cell.trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void skipElement(XMLStreamReader xml) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLStreamReader createXmlReader(InputStream in) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // XXE 방지
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory.createXMLStreamReader(in);
+    }
+}
@@ -0,0 +1,152 @@
+package com.w.p.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 처리 설정 클래스
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${async.alert.pool-size:2}")
+    private int alertPoolSize;
+
+    @Value("${async.alert.queue-capacity:1000}")
+    private int alertQueueCapacity;
+
+    @Value("${async.reminder.pool-size:4}")
+    private int reminderPoolSize;
+
+    @Value("${async.reminder.queue-capacity:10000}")
+    private int reminderQueueCapacity;
+
+    @Value("${async.report.pool-size:2}")
+    private int reportPoolSize;
+
+    @Value("${async.report.queue-capacity:100}")
+    private int reportQueueCapacity;
+
+    @Value("${async.dashboard.pool-size:8}")
+    private int dashboardPoolSize;
+
+    @Value("${async.dashboard.queue-capacity:200}")
+    private int dashboardQueueCapacity;
+
+    @Value("${async.upload.pool-size:4}")
+    private int uploadPoolSize;
+
+    @Value("${async.upload.queue-capacity:100}")
+    private int uploadQueueCapacity;
+
+    @Value("${async.image.pool-size:2}")
+    private int imagePoolSize;
+
+    @Value("${async.image.queue-capacity:500}")
+    private int imageQueueCapacity;
+
+    /**
+     * 알림 평가/발송용 실행기
+     */
+    @Bean(name = "alertExecutor")
+    public ThreadPoolTaskExecutor alertExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(alertPoolSize);
+        executor.setMaxPoolSize(alertPoolSize);
+        executor.setQueueCapacity(alertQueueCapacity);
+        executor.setThreadNamePrefix("alert-");
+        // 큐가 가득 차면 호출 스레드에서 실행 (알림 유실 방지)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일정 알림 발송용 실행기
+     */
+    @Bean(name = "reminderExecutor")
+    public ThreadPoolTaskExecutor reminderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reminderPoolSize);
+        executor.setMaxPoolSize(reminderPoolSize);
+        executor.setQueueCapacity(reminderQueueCapacity);
+        executor.setThreadNamePrefix("reminder-");
+        // 큐가 가득 차면 호출 스레드(스케줄러)에서 실행하여 tick 진행 속도를 발송 속도에 맞춤
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 리포트 파일 생성용 실행기
+     */
+    @Bean(name = "reportExecutor")
+    public ThreadPoolTaskExecutor reportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reportPoolSize);
+        executor.setMaxPoolSize(reportPoolSize);
+        executor.setQueueCapacity(reportQueueCapacity);
+        executor.setThreadNamePrefix("report-");
+        // 큐가 가득 차면 요청 스레드에서 생성하지 않고 거절 (리스너가 작업을 실패 처리하여 재요청 시 다시 등록)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대시보드 구역별 집계 조회용 실행기 (조회마다 구역 수만큼 짧은 작업을 병렬 실행)
+     */
+    @Bean(name = "dashboardExecutor")
+    public ThreadPoolTaskExecutor dashboardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dashboardPoolSize);
+        executor.setMaxPoolSize(dashboardPoolSize);
+        executor.setQueueCapacity(dashboardQueueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        // 큐가 가득 차면 거절하고 해당 구역만 제외해 응답 (요청 스레드가 마감 시간 없이 대기하지 않도록)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 업로드 저장(해시 계산/디스크 기록)용 실행기
+     */
+    @Bean(name = "uploadExecutor")
+    public ThreadPoolTaskExecutor uploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadPoolSize);
+        executor.setMaxPoolSize(uploadPoolSize);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        executor.setThreadNamePrefix("upload-");
+        // 큐가 가득 차면 요청 스레드에서 저장 (업로드 실패 대신 동시 처리만 줄어듦)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드 이미지 축소본 생성용 실행기 (디코딩한 원본을 메모리에 올리므로 스레드 수를 작게 제한)
+     */
+    @Bean(name = "imageExecutor")
+    public ThreadPoolTaskExecutor imageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imagePoolSize);
+        executor.setMaxPoolSize(imagePoolSize);
+        executor.setQueueCapacity(imageQueueCapacity);
+        executor.setThreadNamePrefix("image-");
+        // 큐가 가득 차면 거절 (업로드 요청은 기다리지 않고 원본만 제공)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.w.p.config;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정 클래스
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String WEDDING_HALL_RECOMMENDATIONS = "weddingHallRecommendations";
+    public static final String PLAN_TIMELINE = "planTimeline";
+    public static final String DASHBOARD = "dashboard";
+
+    @Bean
+    public CacheManager cacheManager() {
+        // 캐시 이름을 지정하면 정의된 캐시만 사용 (오타로 인한 캐시 동적 생성 방지)
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(WEDDING_HALL_RECOMMENDATIONS, PLAN_TIMELINE, DASHBOARD);
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,37 @@
+package com.w.p.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 데이터소스 설정 클래스
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * MySQL 서버 커서 조회 설정
+     * MySQL 드라이버는 useCursorFetch 없이는 fetchSize를 무시하고 결과 전체를 메모리에 읽으므로,
+     * fetchSize 힌트를 준 스트리밍 조회(리포트, 일정 내보내기, 추천 후보)가 실제로 나누어 읽도록 커서 조회를 켭니다.
+     * fetchSize를 지정하지 않은 일반 조회는 기존처럼 한 번에 읽으며, 설정에서 직접 지정한 값이 있으면 그대로 둡니다.
+     */
+    @Bean
+    public static BeanPostProcessor mysqlCursorFetchPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    HikariDataSource dataSource = (HikariDataSource) bean;
+                    String jdbcUrl = dataSource.getJdbcUrl();
+                    if (jdbcUrl != null && jdbcUrl.startsWith("jdbc:mysql:") && !jdbcUrl.contains("useCursorFetch")
+                            && !dataSource.getDataSourceProperties().containsKey("useCursorFetch")) {
+                        dataSource.addDataSourceProperty("useCursorFetch", "true");
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,16 +1,15 @@
 package com.w.p.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.w.p.common.LoggingInterceptor;
 
 /**
  * 웹 설정 클래스
+ * 업로드 파일(/uploads/**)은 ETag/캐시/Range 처리를 위해 UploadController에서 제공합니다.
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -18,9 +17,6 @@ public class WebConfig implements WebMvcConfigurer {
     @Autowired
     private LoggingInterceptor loggingInterceptor;
 
-    @Value("${file.upload.path:uploads}")
-    private String uploadPath;
-
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor)
@@ -33,13 +29,4 @@ public class WebConfig implements WebMvcConfigurer {
                     "/actuator/**"           // 액추에이터 제외
                 );
     }
-
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 업로드된 이미지 파일에 대한 정적 리소스 핸들러 추가
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadPath + "/");
-        
-        // log.info("정적 리소스 핸들러 등록: /uploads/** -> {}", uploadPath); // Original code had this line commented out
-    }
 }
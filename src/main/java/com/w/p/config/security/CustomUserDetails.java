@@ -17,6 +17,13 @@ public class CustomUserDetails implements UserDetails{
         this.user = user;
     }
 
+    /**
+     * 인증된 사용자 ID (토큰 인증 시 이미 조회한 값)
+     */
+    public Long getUserId() {
+        return user.getId();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(new SimpleGrantedAuthority(user.getRole().name()));
@@ -48,6 +48,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/test/**").permitAll()     // 테스트 API는 인증 불필요
                 .requestMatchers("/error").permitAll()             // 에러 페이지는 인증 불필요
                 .requestMatchers("/h2-console/**").permitAll()     // H2 콘솔은 인증 불필요
+                .requestMatchers("/api/v1/schedules/feed/**").permitAll() // 일정 구독 피드는 URL 토큰으로 검증
                 
                 // 관리자 인증 관련 (로그인 페이지 등)
                 .requestMatchers("/api/v1/admin/login").permitAll()
@@ -1,5 +1,6 @@
 package com.w.p.domain.admin.controller;
 
+import com.w.p.dto.admin.CursorPage;
 import com.w.p.dto.admin.WeddingHallDTO;
 import com.w.p.domain.admin.service.AdminWeddingHallService;
 import com.w.p.common.ApiResponse;
@@ -8,8 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * 관리자용 결혼식장 컨트롤러
  */
@@ -25,9 +24,16 @@ public class AdminWeddingHallController {
      * 결혼식장 목록 조회
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<WeddingHallDTO>>> getWeddingHalls() {
+    public ResponseEntity<ApiResponse<CursorPage<WeddingHallDTO>>> getWeddingHalls(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Long ownerId,
+            @RequestParam(required = false) String ownerUsername,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            ApiResponse<List<WeddingHallDTO>> response = adminWeddingHallService.getWeddingHalls();
+            ApiResponse<CursorPage<WeddingHallDTO>> response = adminWeddingHallService.getWeddingHalls(
+                    status, name, ownerId, ownerUsername, cursor, size);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("결혼식장 목록 조회 실패", e);
@@ -92,4 +98,18 @@ public class AdminWeddingHallController {
             return ResponseEntity.badRequest().body(ApiResponse.error("결혼식장 삭제에 실패했습니다."));
         }
     }
+
+    /**
+     * 검색 색인 재구축
+     */
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildSearchIndex() {
+        try {
+            ApiResponse<Integer> response = adminWeddingHallService.rebuildSearchIndex();
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("검색 색인 재구축 실패", e);
+            return ResponseEntity.badRequest().body(ApiResponse.error("검색 색인 재구축에 실패했습니다."));
+        }
+    }
 }
@@ -1,13 +1,19 @@
 package com.w.p.domain.admin.service;
 
+import com.w.p.dto.admin.CursorPage;
 import com.w.p.dto.admin.WeddingHallDTO;
 import com.w.p.entity.WeddingHall;
 import com.w.p.entity.User;
+import com.w.p.domain.wedding.event.WeddingHallChangedEvent;
+import com.w.p.domain.wedding.repository.WeddingHallAdminView;
 import com.w.p.domain.wedding.repository.WeddingHallRepository;
+import com.w.p.domain.wedding.service.WeddingHallSearchService;
 import com.w.p.domain.user.repository.UserRepository;
 import com.w.p.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,19 +32,53 @@ public class AdminWeddingHallService {
 
     private final WeddingHallRepository weddingHallRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WeddingHallSearchService weddingHallSearchService;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
-     * 결혼식장 목록 조회
+     * 결혼식장 목록 조회 (키셋 페이지네이션)
+     * (createdAt, id) 내림차순 커서로 조회하므로 OFFSET 없이 인덱스 범위 스캔만 수행합니다.
      */
     @Transactional(readOnly = true)
-    public ApiResponse<List<WeddingHallDTO>> getWeddingHalls() {
+    public ApiResponse<CursorPage<WeddingHallDTO>> getWeddingHalls(String status, String name, Long ownerId,
+                                                                  String ownerUsername, String cursor, int size) {
         try {
-            List<WeddingHall> weddingHalls = weddingHallRepository.findAll();
-            List<WeddingHallDTO> dtos = weddingHalls.stream()
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            CursorPage.Cursor position = CursorPage.decodeCursor(cursor);
+
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
+            List<WeddingHallAdminView> rows = weddingHallRepository.findAdminPage(
+                    blankToNull(status),
+                    escapeLike(blankToNull(name)),
+                    ownerId,
+                    blankToNull(ownerUsername),
+                    position != null ? position.getCreatedAt() : null,
+                    position != null ? position.getId() : null,
+                    PageRequest.of(0, pageSize + 1));
+
+            boolean hasNext = rows.size() > pageSize;
+            List<WeddingHallAdminView> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+            List<WeddingHallDTO> dtos = pageRows.stream()
                     .map(this::convertToDTO)
                     .collect(Collectors.toList());
 
-            return ApiResponse.success(dtos, "결혼식장 목록을 성공적으로 조회했습니다.");
+            String nextCursor = null;
+            if (hasNext) {
+                WeddingHallAdminView last = pageRows.get(pageRows.size() - 1);
+                nextCursor = CursorPage.encodeCursor(last.getCreatedAt(), last.getId());
+            }
+
+            CursorPage<WeddingHallDTO> page = CursorPage.<WeddingHallDTO>builder()
+                    .content(dtos)
+                    .size(dtos.size())
+                    .hasNext(hasNext)
+                    .nextCursor(nextCursor)
+                    .build();
+            return ApiResponse.success(page, "결혼식장 목록을 성공적으로 조회했습니다.");
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error(e.getMessage());
         } catch (Exception e) {
             log.error("결혼식장 목록 조회 중 오류 발생", e);
             return ApiResponse.error("결혼식장 목록 조회 중 오류가 발생했습니다.");
@@ -95,6 +135,8 @@ public class AdminWeddingHallService {
                     .build();
 
             WeddingHall savedWeddingHall = weddingHallRepository.save(weddingHall);
+            eventPublisher.publishEvent(new WeddingHallChangedEvent(savedWeddingHall.getId(), user != null ? user.getId() : null,
+                    WeddingHallChangedEvent.ChangeType.CREATED, null, savedWeddingHall.getPricePerTable()));
             WeddingHallDTO savedDto = convertToDTO(savedWeddingHall);
 
             return ApiResponse.success(savedDto, "결혼식장이 성공적으로 생성되었습니다.");
@@ -122,6 +164,8 @@ public class AdminWeddingHallService {
                 user = userRepository.findById(dto.getUserId()).orElse(null);
             }
 
+            BigDecimal oldPrice = weddingHall.getPricePerTable();
+
             // 데이터 업데이트
             weddingHall.setName(dto.getName());
             weddingHall.setAddress(dto.getAddress());
@@ -139,6 +183,8 @@ public class AdminWeddingHallService {
             weddingHall.setUser(user);
 
             WeddingHall updatedWeddingHall = weddingHallRepository.save(weddingHall);
+            eventPublisher.publishEvent(new WeddingHallChangedEvent(updatedWeddingHall.getId(), user != null ? user.getId() : null,
+                    WeddingHallChangedEvent.ChangeType.UPDATED, oldPrice, updatedWeddingHall.getPricePerTable()));
             WeddingHallDTO updatedDto = convertToDTO(updatedWeddingHall);
 
             return ApiResponse.success(updatedDto, "결혼식장이 성공적으로 수정되었습니다.");
@@ -161,6 +207,8 @@ public class AdminWeddingHallService {
             }
 
             weddingHallRepository.delete(weddingHall);
+            eventPublisher.publishEvent(new WeddingHallChangedEvent(id, weddingHall.getUser() != null ? weddingHall.getUser().getId() : null,
+                    WeddingHallChangedEvent.ChangeType.DELETED, weddingHall.getPricePerTable(), null));
             return ApiResponse.success(null, "결혼식장이 성공적으로 삭제되었습니다.");
         } catch (Exception e) {
             log.error("결혼식장 삭제 중 오류 발생", e);
@@ -168,6 +216,55 @@ public class AdminWeddingHallService {
         }
     }
 
+    /**
+     * 목록 프로젝션을 DTO로 변환
+     */
+    private WeddingHallDTO convertToDTO(WeddingHallAdminView view) {
+        return WeddingHallDTO.builder()
+                .id(view.getId())
+                .name(view.getName())
+                .address(view.getAddress())
+                .phone(view.getPhone())
+                .price(view.getPrice())
+                .capacity(view.getCapacity())
+                .hallType(view.getHallType())
+                .imageUrl(view.getImageUrl())
+                .rating(view.getRating())
+                .status(view.getStatus())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .userId(view.getUserId())
+                .userName(view.getUserName())
+                .build();
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * LIKE 접두어 검색용 와일드카드 이스케이프
+     */
+    private String escapeLike(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * 검색 색인 재구축
+     */
+    public ApiResponse<Integer> rebuildSearchIndex() {
+        try {
+            int indexed = weddingHallSearchService.rebuildIndex();
+            return ApiResponse.success(indexed, "검색 색인을 재구축했습니다.");
+        } catch (Exception e) {
+            log.error("검색 색인 재구축 중 오류 발생", e);
+            return ApiResponse.error("검색 색인 재구축 중 오류가 발생했습니다.");
+        }
+    }
+
     /**
      * 엔티티를 DTO로 변환
      */
@@ -187,7 +284,7 @@ public class AdminWeddingHallService {
                 .parkingInfo(weddingHall.getParkingInfo())
                 .facilities(weddingHall.getFacilities())
                 .memo(weddingHall.getMemo())
-                .status("active") // 기본값
+                .status(weddingHall.getStatus())
                 .createdAt(weddingHall.getCreatedAt())
                 .updatedAt(weddingHall.getUpdatedAt())
                 .userId(weddingHall.getUser() != null ? weddingHall.getUser().getId() : null)
@@ -1,13 +1,31 @@
 package com.w.p.domain.budget.controller;
 
 import com.w.p.common.ApiResponse;
+import com.w.p.common.ImportResult;
+import com.w.p.common.util.FileRangeSender;
+import com.w.p.common.util.SpreadsheetReader;
 import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.domain.budget.service.BudgetAlertService;
+import com.w.p.domain.budget.service.BudgetReportService;
 import com.w.p.domain.budget.service.BudgetService;
+import com.w.p.entity.BudgetReportJob;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,6 +35,8 @@ import java.util.List;
 public class BudgetController {
     
     private final BudgetService budgetService;
+    private final BudgetReportService budgetReportService;
+    private final BudgetAlertService budgetAlertService;
     
     /**
      * 예산 목록 조회
@@ -85,6 +105,81 @@ public class BudgetController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
     
+    /**
+     * 예산 변경 이력 조회 (최신순)
+     */
+    @GetMapping("/{budgetId}/history")
+    public ResponseEntity<ApiResponse<List<BudgetDTO.HistoryEntry>>> getBudgetHistory(
+            @PathVariable Long budgetId,
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "50") int limit) {
+        
+        List<BudgetDTO.HistoryEntry> history = budgetService.getBudgetHistory(userId, budgetId, Math.min(limit, 500));
+        return ResponseEntity.ok(ApiResponse.success(history));
+    }
+    
+    /**
+     * 특정 시점의 예산 항목 상태 조회
+     */
+    @GetMapping("/{budgetId}/as-of")
+    public ResponseEntity<ApiResponse<BudgetDTO.HistoryEntry>> getBudgetAsOf(
+            @PathVariable Long budgetId,
+            @RequestParam Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        
+        BudgetDTO.HistoryEntry state = budgetService.getBudgetAsOf(userId, budgetId, at);
+        return ResponseEntity.ok(ApiResponse.success(state));
+    }
+    
+    /**
+     * 예산 초과 알림 목록 조회
+     */
+    @GetMapping("/alerts")
+    public ResponseEntity<ApiResponse<List<BudgetDTO.AlertResponse>>> getBudgetAlerts(
+            @RequestParam Long userId) {
+        
+        List<BudgetDTO.AlertResponse> alerts = budgetAlertService.getAlerts(userId);
+        return ResponseEntity.ok(ApiResponse.success(alerts));
+    }
+    
+    /**
+     * 예산 항목 초과 알림 설정
+     */
+    @PostMapping("/{budgetId}/alerts")
+    public ResponseEntity<ApiResponse<BudgetDTO.AlertResponse>> setBudgetAlert(
+            @PathVariable Long budgetId,
+            @RequestParam Long userId,
+            @RequestBody BudgetDTO.AlertRequest alertRequest) {
+        
+        BudgetDTO.AlertResponse alert = budgetService.setBudgetAlert(userId, budgetId, alertRequest.getAlertThreshold());
+        return ResponseEntity.ok(ApiResponse.success(alert));
+    }
+    
+    /**
+     * 카테고리 초과 알림 설정
+     */
+    @PostMapping("/alerts/category")
+    public ResponseEntity<ApiResponse<BudgetDTO.AlertResponse>> setCategoryAlert(
+            @RequestParam Long userId,
+            @RequestBody BudgetDTO.AlertRequest alertRequest) {
+        
+        BudgetDTO.AlertResponse alert = budgetAlertService.setCategoryAlert(
+                userId, alertRequest.getCategory(), alertRequest.getAlertThreshold());
+        return ResponseEntity.ok(ApiResponse.success(alert));
+    }
+    
+    /**
+     * 예산 초과 알림 해제
+     */
+    @DeleteMapping("/alerts/{alertId}")
+    public ResponseEntity<ApiResponse<Void>> deleteBudgetAlert(
+            @PathVariable Long alertId,
+            @RequestParam Long userId) {
+        
+        budgetAlertService.deleteAlert(userId, alertId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+    
 
     
     /**
@@ -97,4 +192,65 @@ public class BudgetController {
         List<BudgetDTO.Response> budgets = budgetService.getBudgetSummaryByCategory(userId);
         return ResponseEntity.ok(ApiResponse.success(budgets));
     }
+    
+    /**
+     * 예산 대량 가져오기 (CSV/XLSX)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportResult>> importBudgets(
+            @RequestParam Long userId,
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        
+        String resolvedFormat = SpreadsheetReader.resolveFormat(format, file.getOriginalFilename());
+        try (InputStream inputStream = file.getInputStream()) {
+            ImportResult result = budgetService.importBudgets(userId, inputStream, resolvedFormat);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일을 읽을 수 없습니다.", e);
+        }
+    }
+    
+    /**
+     * 예산 리포트 생성 요청 (CSV/PDF, 데이터가 바뀌지 않았으면 완료된 리포트를 바로 반환)
+     */
+    @PostMapping("/reports")
+    public ResponseEntity<ApiResponse<BudgetDTO.ReportJob>> requestReport(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "PDF") String type) {
+        
+        BudgetDTO.ReportJob job = budgetService.generateBudgetReport(userId, type);
+        HttpStatus status = job.getStatus() == BudgetReportJob.JobStatus.COMPLETED ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(ApiResponse.success(job));
+    }
+    
+    /**
+     * 예산 리포트 작업 상태 조회
+     */
+    @GetMapping("/reports/{jobId}")
+    public ResponseEntity<ApiResponse<BudgetDTO.ReportJob>> getReportJob(
+            @PathVariable Long jobId,
+            @RequestParam Long userId) {
+        
+        return ResponseEntity.ok(ApiResponse.success(budgetReportService.getReportJob(userId, jobId)));
+    }
+    
+    /**
+     * 예산 리포트 다운로드 (Range 요청으로 이어받기 지원)
+     */
+    @GetMapping("/reports/{jobId}/download")
+    public void downloadReport(
+            @PathVariable Long jobId,
+            @RequestParam Long userId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        
+        BudgetDTO.ReportFile file = budgetReportService.getReportFile(userId, jobId);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(file.getFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        FileRangeSender.send(request, response, file.getPath(), file.getContentType(), file.getEtag());
+    }
 }
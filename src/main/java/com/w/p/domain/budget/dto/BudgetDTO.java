@@ -1,12 +1,17 @@
 package com.w.p.domain.budget.dto;
 
 import com.w.p.entity.Budget;
+import com.w.p.entity.BudgetAlert;
+import com.w.p.entity.BudgetEvent;
+import com.w.p.entity.BudgetReportJob;
+import com.w.p.entity.BudgetSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -153,4 +158,167 @@ public class BudgetDTO {
         private int overBudgetItemCount;
         private Map<String, CategorySummary> categoryBreakdown;
     }
+    
+    /**
+     * 예산 이력 항목 (해당 이벤트까지 반영한 상태)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
+    public static class HistoryEntry {
+        private Long budgetId;
+        private Integer version;
+        private BudgetEvent.EventType eventType;
+        private String reason;
+        private LocalDateTime occurredAt;
+        private String category;
+        private String itemName;
+        private BigDecimal plannedAmount;
+        private BigDecimal actualAmount;
+        private Budget.BudgetStatus status;
+        private boolean deleted;
+        
+        /**
+         * 현재 예산 항목 상태
+         */
+        public static HistoryEntry of(Budget budget) {
+            return HistoryEntry.builder()
+                    .budgetId(budget.getId())
+                    .category(budget.getCategory())
+                    .itemName(budget.getItemName())
+                    .plannedAmount(budget.getPlannedAmount())
+                    .actualAmount(budget.getActualAmount())
+                    .status(budget.getStatus())
+                    .build();
+        }
+        
+        /**
+         * 스냅샷 시점 상태
+         */
+        public static HistoryEntry from(BudgetSnapshot snapshot) {
+            return HistoryEntry.builder()
+                    .budgetId(snapshot.getBudgetId())
+                    .version(snapshot.getVersion())
+                    .occurredAt(snapshot.getOccurredAt())
+                    .category(snapshot.getCategory())
+                    .itemName(snapshot.getItemName())
+                    .plannedAmount(snapshot.getPlannedAmount())
+                    .actualAmount(snapshot.getActualAmount())
+                    .status(snapshot.getStatus())
+                    .deleted(snapshot.isDeleted())
+                    .build();
+        }
+        
+        /**
+         * 이벤트를 반영한 다음 상태 (이벤트에 값이 있는 필드만 변경)
+         */
+        public HistoryEntry apply(BudgetEvent event) {
+            return toBuilder()
+                    .budgetId(event.getBudgetId())
+                    .version(event.getVersion())
+                    .eventType(event.getEventType())
+                    .reason(event.getReason())
+                    .occurredAt(event.getOccurredAt())
+                    .category(event.getCategory() != null ? event.getCategory() : category)
+                    .itemName(event.getItemName() != null ? event.getItemName() : itemName)
+                    .plannedAmount(event.getPlannedAmount() != null ? event.getPlannedAmount() : plannedAmount)
+                    .actualAmount(event.getActualAmount() != null ? event.getActualAmount() : actualAmount)
+                    .status(event.getStatus() != null ? event.getStatus() : status)
+                    .deleted(event.getEventType() == BudgetEvent.EventType.DELETED)
+                    .build();
+        }
+    }
+    
+    /**
+     * 예산 초과 알림 설정 요청 (category는 카테고리 알림만)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AlertRequest {
+        private String category;
+        private BigDecimal alertThreshold;
+    }
+    
+    /**
+     * 예산 초과 알림 응답
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AlertResponse {
+        private Long id;
+        private BudgetAlert.Scope scope;
+        private Long budgetId;
+        private String category;
+        private BigDecimal alertThreshold;
+        private BigDecimal trackedAmount; // 카테고리 지출 합계
+        private Boolean triggered;
+        private BigDecimal lastTriggeredAmount;
+        private LocalDateTime lastTriggeredAt;
+        private LocalDateTime createdAt;
+        
+        public static AlertResponse from(BudgetAlert alert) {
+            return AlertResponse.builder()
+                    .id(alert.getId())
+                    .scope(alert.getScope())
+                    .budgetId(alert.getBudgetId())
+                    .category(alert.getCategory())
+                    .alertThreshold(alert.getAmountThreshold())
+                    .trackedAmount(alert.getTrackedAmount())
+                    .triggered(alert.getTriggered())
+                    .lastTriggeredAmount(alert.getLastTriggeredAmount())
+                    .lastTriggeredAt(alert.getLastTriggeredAt())
+                    .createdAt(alert.getCreatedAt())
+                    .build();
+        }
+    }
+    
+    /**
+     * 예산 리포트 작업 응답
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReportJob {
+        private Long jobId;
+        private BudgetReportJob.ReportType reportType;
+        private BudgetReportJob.JobStatus status;
+        private Long fileSize;
+        private String errorMessage;
+        private LocalDateTime requestedAt;
+        private LocalDateTime completedAt;
+        private String downloadUrl; // 완료된 경우만
+        
+        public static ReportJob from(BudgetReportJob job) {
+            return ReportJob.builder()
+                    .jobId(job.getId())
+                    .reportType(job.getReportType())
+                    .status(job.getStatus())
+                    .fileSize(job.getFileSize())
+                    .errorMessage(job.getErrorMessage())
+                    .requestedAt(job.getRequestedAt())
+                    .completedAt(job.getCompletedAt())
+                    .downloadUrl(job.getStatus() == BudgetReportJob.JobStatus.COMPLETED
+                            ? "/api/v1/budgets/reports/" + job.getId() + "/download?userId=" + job.getUserId()
+                            : null)
+                    .build();
+        }
+    }
+    
+    /**
+     * 예산 리포트 다운로드 파일
+     */
+    @Data
+    @AllArgsConstructor
+    public static class ReportFile {
+        private Path path;
+        private String contentType;
+        private String fileName;
+        private String etag;
+    }
 }
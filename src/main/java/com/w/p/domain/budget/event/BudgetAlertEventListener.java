@@ -0,0 +1,77 @@
+package com.w.p.domain.budget.event;
+
+import com.w.p.domain.budget.repository.BudgetRepository;
+import com.w.p.domain.budget.service.BudgetAlertService;
+import com.w.p.domain.notification.service.NotificationService;
+import com.w.p.entity.Budget;
+import com.w.p.entity.BudgetAlert;
+import com.w.p.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.DecimalFormat;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 예산 초과 알림 이벤트 리스너
+ * 지출 변경이 커밋된 후 별도 스레드에서 알림을 평가하고 발송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetAlertEventListener {
+
+    private final BudgetAlertService budgetAlertService;
+    private final BudgetRepository budgetRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * 예산 항목 삭제 시 같은 트랜잭션에서 알림 정리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onBudgetDeleted(BudgetChangedEvent event) {
+        if (event.getChangeType() == BudgetChangedEvent.ChangeType.DELETED && event.getBudgetId() != null) {
+            budgetAlertService.removeAlertsForBudget(event.getBudgetId());
+        }
+    }
+
+    /**
+     * 지출 변경 시 알림 평가 및 발송
+     */
+    @Async("alertExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSpendingChanged(BudgetSpendingChangedEvent event) {
+        try {
+            List<BudgetAlert> triggered = budgetAlertService.evaluateSpendingChange(event);
+            DecimalFormat amountFormat = new DecimalFormat("#,###");
+
+            for (BudgetAlert alert : triggered) {
+                String message;
+                if (alert.getScope() == BudgetAlert.Scope.ITEM) {
+                    String itemName = budgetRepository.findById(alert.getBudgetId())
+                            .map(Budget::getItemName)
+                            .orElse("예산 항목");
+                    message = String.format("%s 지출이 %s원으로 설정하신 %s원 이상이 되었습니다.",
+                            itemName, amountFormat.format(alert.getLastTriggeredAmount()),
+                            amountFormat.format(alert.getAmountThreshold()));
+                } else {
+                    message = String.format("%s 카테고리 지출 합계가 %s원으로 설정하신 %s원 이상이 되었습니다.",
+                            alert.getCategory(), amountFormat.format(alert.getLastTriggeredAmount()),
+                            amountFormat.format(alert.getAmountThreshold()));
+                }
+                // 알림 ID + 발송 시각 기준으로 재시도 시 중복 발송 방지
+                String dedupeKey = String.format("BUDGET_OVERSPEND:%d:%d", alert.getId(),
+                        alert.getLastTriggeredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                notificationService.notify(alert.getUserId(), Notification.NotificationType.BUDGET_OVERSPEND,
+                        "예산 초과 알림", message, dedupeKey);
+            }
+        } catch (Exception e) {
+            log.error("예산 초과 알림 처리 중 오류 발생. 사용자: {}", event.getUserId(), e);
+        }
+    }
+}
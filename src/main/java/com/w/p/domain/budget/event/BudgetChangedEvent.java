@@ -0,0 +1,25 @@
+package com.w.p.domain.budget.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예산 변경 이벤트 (예산 항목 변경 및 사용자 총예산 변경)
+ */
+@Getter
+@AllArgsConstructor
+public class BudgetChangedEvent {
+
+    private final Long userId;
+    private final Long budgetId; // 총예산 변경/대량 등록 시 null
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        IMPORTED,
+        TEMPLATE_APPLIED,
+        TOTAL_BUDGET_CHANGED
+    }
+}
@@ -0,0 +1,48 @@
+package com.w.p.domain.budget.event;
+
+import com.w.p.domain.budget.service.BudgetReportRenderer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 예산 리포트 생성 리스너
+ * 작업 저장이 커밋된 후 리포트 전용 실행기에서 파일을 생성합니다.
+ * 실행기 대기열이 가득 차 거절되면 작업을 실패 처리하여, 요청 응답에 예외가 전파되지 않고 재요청 시 다시 등록되도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetReportJobListener {
+
+    private final BudgetReportRenderer budgetReportRenderer;
+    private final Executor reportExecutor;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReportRequested(BudgetReportRequestedEvent event) {
+        try {
+            reportExecutor.execute(() -> render(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("예산 리포트 실행기 대기열이 가득 차 작업을 실패 처리합니다. 작업: {}, 사용자: {}",
+                    event.getJobId(), event.getUserId());
+            try {
+                budgetReportRenderer.failQueued(event.getJobId(), "리포트 생성 요청이 많아 처리하지 못했습니다. 잠시 후 다시 요청해 주세요.");
+            } catch (Exception failure) {
+                log.error("예산 리포트 작업 실패 처리 중 오류 발생. 작업: {}", event.getJobId(), failure);
+            }
+        }
+    }
+
+    private void render(BudgetReportRequestedEvent event) {
+        try {
+            budgetReportRenderer.render(event.getJobId());
+        } catch (Exception e) {
+            log.error("예산 리포트 생성 중 오류 발생. 작업: {}, 사용자: {}", event.getJobId(), event.getUserId(), e);
+        }
+    }
+}
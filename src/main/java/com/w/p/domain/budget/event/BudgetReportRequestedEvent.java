@@ -0,0 +1,15 @@
+package com.w.p.domain.budget.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예산 리포트 생성 요청 이벤트 (작업이 대기 상태로 저장된 후 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class BudgetReportRequestedEvent {
+
+    private final Long userId;
+    private final Long jobId;
+}
@@ -0,0 +1,33 @@
+package com.w.p.domain.budget.event;
+
+import com.w.p.entity.BudgetAlert;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 예산 지출 변경 이벤트
+ * 예산 항목 실제 금액과 (알림이 설정된) 카테고리 지출 합계의 변경 전후 값을 담습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BudgetSpendingChangedEvent {
+
+    private final Long userId;
+    private final List<SpendingChange> changes;
+
+    /**
+     * 대상별 지출 변경
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SpendingChange {
+        private final BudgetAlert.Scope scope;
+        private final Long budgetId;     // ITEM
+        private final String category;   // CATEGORY
+        private final BigDecimal oldAmount;
+        private final BigDecimal newAmount;
+    }
+}
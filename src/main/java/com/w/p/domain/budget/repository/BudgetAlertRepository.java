@@ -0,0 +1,92 @@
+package com.w.p.domain.budget.repository;
+
+import com.w.p.entity.BudgetAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 예산 초과 알림 Repository
+ */
+@Repository
+public interface BudgetAlertRepository extends JpaRepository<BudgetAlert, Long> {
+
+    /**
+     * 예산 항목 알림 조회
+     */
+    Optional<BudgetAlert> findByUserIdAndBudgetId(Long userId, Long budgetId);
+
+    /**
+     * 카테고리 알림 조회
+     */
+    Optional<BudgetAlert> findByUserIdAndCategory(Long userId, String category);
+
+    /**
+     * 사용자별 알림 목록 조회
+     */
+    List<BudgetAlert> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * 카테고리 지출 합계 증감 (알림이 없는 카테고리는 0건)
+     */
+    @Modifying
+    @Query("UPDATE BudgetAlert a SET a.trackedAmount = a.trackedAmount + :delta " +
+           "WHERE a.userId = :userId AND a.category = :category AND a.scope = 'CATEGORY'")
+    int addTrackedAmount(@Param("userId") Long userId, @Param("category") String category, @Param("delta") BigDecimal delta);
+
+    /**
+     * 카테고리 지출 합계 조회 (증감 직후 같은 트랜잭션에서 반영된 값)
+     */
+    @Query("SELECT a.trackedAmount FROM BudgetAlert a " +
+           "WHERE a.userId = :userId AND a.category = :category AND a.scope = 'CATEGORY'")
+    Optional<BigDecimal> findTrackedAmount(@Param("userId") Long userId, @Param("category") String category);
+
+    /**
+     * 예산 항목 알림 중 임계값이 (lowerAmount, upperAmount] 구간인 알림 ID
+     * 증가 시 (변경 전, 변경 후]는 새로 도달한 알림, 감소 시 (변경 후, 변경 전]은 다시 벗어난 알림입니다.
+     */
+    @Query("SELECT a.id FROM BudgetAlert a WHERE a.budgetId = :budgetId AND a.scope = 'ITEM' " +
+           "AND a.amountThreshold > :lowerAmount AND a.amountThreshold <= :upperAmount")
+    List<Long> findItemAlertIdsInRange(@Param("budgetId") Long budgetId,
+                                       @Param("lowerAmount") BigDecimal lowerAmount, @Param("upperAmount") BigDecimal upperAmount);
+
+    /**
+     * 카테고리 알림 중 임계값이 (lowerAmount, upperAmount] 구간인 알림 ID
+     */
+    @Query("SELECT a.id FROM BudgetAlert a WHERE a.userId = :userId AND a.category = :category AND a.scope = 'CATEGORY' " +
+           "AND a.amountThreshold > :lowerAmount AND a.amountThreshold <= :upperAmount")
+    List<Long> findCategoryAlertIdsInRange(@Param("userId") Long userId, @Param("category") String category,
+                                           @Param("lowerAmount") BigDecimal lowerAmount, @Param("upperAmount") BigDecimal upperAmount);
+
+    /**
+     * 미발송 상태이고 재발송 대기 시간이 지난 알림만 발송 처리 (동시 실행/재시도 시에도 한 번만 성공)
+     */
+    @Modifying
+    @Query("UPDATE BudgetAlert a SET a.triggered = true, a.lastTriggeredAmount = :amount, a.lastTriggeredAt = :now " +
+           "WHERE a.id = :id AND a.triggered = false AND a.amountThreshold <= :amount " +
+           "AND (a.lastTriggeredAt IS NULL OR a.lastTriggeredAt < :cooldownSince)")
+    int markTriggered(@Param("id") Long id, @Param("amount") BigDecimal amount,
+                      @Param("now") LocalDateTime now, @Param("cooldownSince") LocalDateTime cooldownSince);
+
+    /**
+     * 지출이 임계값 아래로 내려간 알림 재무장
+     */
+    @Modifying
+    @Query("UPDATE BudgetAlert a SET a.triggered = false WHERE a.id IN :ids AND a.amountThreshold > :amount")
+    int rearm(@Param("ids") Collection<Long> ids, @Param("amount") BigDecimal amount);
+
+    /**
+     * 예산 항목 삭제 시 알림 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM BudgetAlert a WHERE a.budgetId = :budgetId")
+    int deleteByBudgetId(@Param("budgetId") Long budgetId);
+}
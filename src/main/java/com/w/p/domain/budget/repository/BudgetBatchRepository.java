@@ -0,0 +1,91 @@
+package com.w.p.domain.budget.repository;
+
+import com.w.p.entity.Budget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예산 JDBC 배치 Repository
+ * IDENTITY 전략 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 대량 등록은 JDBC 배치로 직접 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BudgetBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO wp_budgets (user_id, category, item_name, planned_amount, actual_amount, status, priority, " +
+            "description, vendor, due_date, template_item_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 예산 항목 일괄 등록 (등록된 예산에 생성된 ID를 채움)
+     * @param budgets 저장되지 않은 예산 목록 (userId 포함)
+     * @return 등록 건수
+     */
+    public int batchInsert(List<Budget> budgets) {
+        if (budgets.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Budget budget = budgets.get(i);
+                        ps.setLong(1, budget.getUserId());
+                        ps.setString(2, budget.getCategory());
+                        ps.setString(3, budget.getItemName());
+                        ps.setBigDecimal(4, budget.getPlannedAmount());
+                        ps.setBigDecimal(5, budget.getActualAmount());
+                        ps.setString(6, budget.getStatus().name());
+                        ps.setString(7, budget.getPriority().name());
+                        ps.setString(8, budget.getDescription());
+                        ps.setString(9, budget.getVendor());
+                        ps.setTimestamp(10, budget.getDueDate() != null ? Timestamp.valueOf(budget.getDueDate()) : null);
+                        if (budget.getTemplateItemId() != null) {
+                            ps.setLong(11, budget.getTemplateItemId());
+                        } else {
+                            ps.setNull(11, Types.BIGINT);
+                        }
+                        ps.setTimestamp(12, now);
+                        ps.setTimestamp(13, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return budgets.size();
+                    }
+                }, keyHolder);
+        assignGeneratedIds(budgets, keyHolder);
+        return budgets.size();
+    }
+
+    /**
+     * 생성된 키를 등록 순서대로 엔티티 ID에 반영 (드라이버마다 키 열 이름이 달라 첫 번째 값을 사용)
+     */
+    private void assignGeneratedIds(List<Budget> budgets, KeyHolder keyHolder) {
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != budgets.size()) {
+            throw new IllegalStateException(String.format("생성된 키 수가 등록 건수와 다릅니다. 등록: %d, 키: %d", budgets.size(), keys.size()));
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            budgets.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
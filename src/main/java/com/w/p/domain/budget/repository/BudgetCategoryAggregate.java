@@ -0,0 +1,21 @@
+package com.w.p.domain.budget.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 카테고리별 예산 집계 프로젝션 (리포트용)
+ */
+public interface BudgetCategoryAggregate {
+
+    String getCategory();
+
+    long getItemCount();
+
+    BigDecimal getPlannedAmount();
+
+    BigDecimal getActualAmount();
+
+    long getCompletedCount();
+
+    long getOverBudgetCount();
+}
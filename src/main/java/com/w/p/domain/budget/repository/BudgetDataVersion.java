@@ -0,0 +1,15 @@
+package com.w.p.domain.budget.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 예산 데이터 버전 프로젝션 (리포트 캐시 키 계산용)
+ */
+public interface BudgetDataVersion {
+
+    long getBudgetCount();
+
+    LocalDateTime getLastModified();
+
+    Long getMaxId();
+}
@@ -0,0 +1,41 @@
+package com.w.p.domain.budget.repository;
+
+import com.w.p.entity.BudgetEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BudgetEventRepository extends JpaRepository<BudgetEvent, Long> {
+
+    // 예산 항목의 마지막 이벤트
+    Optional<BudgetEvent> findFirstByBudgetIdOrderByVersionDesc(Long budgetId);
+
+    // 특정 순번 이후 이벤트 (스냅샷 이후 구간)
+    List<BudgetEvent> findByBudgetIdAndVersionGreaterThanOrderByVersionAsc(Long budgetId, Integer version);
+
+    // 특정 순번 이후, 특정 시각까지의 이벤트 (시점 복원용)
+    List<BudgetEvent> findByBudgetIdAndVersionGreaterThanAndOccurredAtLessThanEqualOrderByVersionAsc(
+            Long budgetId, Integer version, LocalDateTime occurredAt);
+
+    /**
+     * 지정한 예산 항목의 첫 이벤트 일괄 기록 (이벤트가 없는 항목만, 전체 상태 포함)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO wp_budget_events (budget_id, user_id, version, event_type, category, item_name, " +
+                   "planned_amount, actual_amount, status, occurred_at) " +
+                   "SELECT b.id, b.user_id, 1, :eventType, b.category, b.item_name, b.planned_amount, b.actual_amount, b.status, :now " +
+                   "FROM wp_budgets b WHERE b.id IN (:budgetIds) " +
+                   "AND NOT EXISTS (SELECT 1 FROM wp_budget_events e WHERE e.budget_id = b.id)",
+           nativeQuery = true)
+    int insertInitialEvents(@Param("budgetIds") Collection<Long> budgetIds,
+                            @Param("eventType") String eventType,
+                            @Param("now") LocalDateTime now);
+}
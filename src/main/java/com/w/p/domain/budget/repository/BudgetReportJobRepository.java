@@ -0,0 +1,33 @@
+package com.w.p.domain.budget.repository;
+
+import com.w.p.entity.BudgetReportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BudgetReportJobRepository extends JpaRepository<BudgetReportJob, Long> {
+
+    // 같은 데이터 버전의 리포트 작업
+    Optional<BudgetReportJob> findByUserIdAndReportTypeAndDataVersion(Long userId, BudgetReportJob.ReportType reportType, String dataVersion);
+
+    // 이전 데이터 버전의 리포트 작업 (파일 정리용)
+    List<BudgetReportJob> findByUserIdAndReportTypeAndIdNot(Long userId, BudgetReportJob.ReportType reportType, Long id);
+
+    // 대기 중인 작업 선점 (여러 스레드/노드가 같은 작업을 중복 생성하지 않도록 조건부 갱신)
+    @Modifying
+    @Query("UPDATE BudgetReportJob j SET j.status = 'RUNNING', j.startedAt = :now WHERE j.id = :id AND j.status = 'QUEUED'")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 대기 중인 작업 실패 처리 (실행기가 작업을 받지 못한 경우, 이미 선점된 작업은 건드리지 않음)
+    @Modifying
+    @Query("UPDATE BudgetReportJob j SET j.status = 'FAILED', j.errorMessage = :message, j.completedAt = :now " +
+           "WHERE j.id = :id AND j.status = 'QUEUED'")
+    int failQueued(@Param("id") Long id, @Param("message") String message, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,28 @@
+package com.w.p.domain.budget.repository;
+
+import com.w.p.entity.Budget;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 예산 리포트 항목 행 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않고 스트리밍)
+ */
+public interface BudgetReportRow {
+
+    String getCategory();
+
+    String getItemName();
+
+    BigDecimal getPlannedAmount();
+
+    BigDecimal getActualAmount();
+
+    Budget.BudgetStatus getStatus();
+
+    Budget.Priority getPriority();
+
+    String getVendor();
+
+    LocalDateTime getDueDate();
+}
@@ -1,14 +1,18 @@
 package com.w.p.domain.budget.repository;
 
 import com.w.p.entity.Budget;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
@@ -51,7 +55,42 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     @Query("SELECT SUM(b.actualAmount) FROM Budget b WHERE b.userId = :userId")
     BigDecimal getTotalActualAmount(@Param("userId") Long userId);
     
+    // 상태별 예산 건수/금액/초과 건수 집계 (요약 카운터 재계산용)
+    @Query("SELECT b.status, COUNT(b), SUM(b.plannedAmount), SUM(b.actualAmount), " +
+           "SUM(CASE WHEN b.actualAmount > b.plannedAmount THEN 1 ELSE 0 END) " +
+           "FROM Budget b WHERE b.userId = :userId GROUP BY b.status")
+    List<Object[]> getBudgetSummaryByStatus(@Param("userId") Long userId);
+    
     // 카테고리별 예산 통계
     @Query("SELECT b.category, COUNT(b), SUM(b.plannedAmount), SUM(b.actualAmount) FROM Budget b WHERE b.userId = :userId GROUP BY b.category")
     List<Object[]> getBudgetStatsByCategory(@Param("userId") Long userId);
+    
+    // 템플릿으로 생성된 예산 조회
+    List<Budget> findByUserIdAndTemplateItemIdIn(Long userId, Collection<Long> templateItemIds);
+    
+    // 이미 생성된 템플릿 항목 ID 조회 (템플릿 재적용 중복 확인용)
+    @Query("SELECT b.templateItemId FROM Budget b WHERE b.userId = :userId AND b.templateItemId IN :templateItemIds")
+    List<Long> findExistingTemplateItemIds(@Param("userId") Long userId, @Param("templateItemIds") Collection<Long> templateItemIds);
+    
+    // 사용자 예산 데이터 버전 (건수, 최종 수정 시각, 최대 ID)
+    @Query("SELECT COUNT(b) AS budgetCount, MAX(b.updatedAt) AS lastModified, MAX(b.id) AS maxId FROM Budget b WHERE b.userId = :userId")
+    BudgetDataVersion findDataVersion(@Param("userId") Long userId);
+    
+    // 카테고리별 리포트 집계
+    @Query("SELECT b.category AS category, COUNT(b) AS itemCount, SUM(b.plannedAmount) AS plannedAmount, " +
+           "SUM(b.actualAmount) AS actualAmount, " +
+           "SUM(CASE WHEN b.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completedCount, " +
+           "SUM(CASE WHEN b.actualAmount > b.plannedAmount THEN 1 ELSE 0 END) AS overBudgetCount " +
+           "FROM Budget b WHERE b.userId = :userId GROUP BY b.category ORDER BY b.category")
+    List<BudgetCategoryAggregate> getReportAggregatesByCategory(@Param("userId") Long userId);
+    
+    // 리포트 항목 스트리밍 조회 (트랜잭션 안에서 사용 후 반드시 닫아야 함, MySQL은 DataSourceConfig의 커서 조회 설정으로 fetchSize 단위로 읽음)
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT b.category AS category, b.itemName AS itemName, b.plannedAmount AS plannedAmount, " +
+           "b.actualAmount AS actualAmount, b.status AS status, b.priority AS priority, b.vendor AS vendor, b.dueDate AS dueDate " +
+           "FROM Budget b WHERE b.userId = :userId ORDER BY b.category, b.id")
+    Stream<BudgetReportRow> streamReportRowsByUserId(@Param("userId") Long userId);
 }
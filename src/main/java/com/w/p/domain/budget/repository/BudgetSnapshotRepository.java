@@ -0,0 +1,18 @@
+package com.w.p.domain.budget.repository;
+
+import com.w.p.entity.BudgetSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface BudgetSnapshotRepository extends JpaRepository<BudgetSnapshot, Long> {
+
+    // 특정 순번 이하의 가장 최근 스냅샷
+    Optional<BudgetSnapshot> findFirstByBudgetIdAndVersionLessThanEqualOrderByVersionDesc(Long budgetId, Integer version);
+
+    // 특정 시각 이전의 가장 최근 스냅샷
+    Optional<BudgetSnapshot> findFirstByBudgetIdAndOccurredAtLessThanEqualOrderByVersionDesc(Long budgetId, LocalDateTime occurredAt);
+}
@@ -0,0 +1,135 @@
+package com.w.p.domain.budget.service;
+
+import com.w.p.entity.Budget;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 예산 집계 (한 번 순회)
+ * 금액은 DECIMAL(15, 2) 컬럼과 같은 소수 둘째 자리까지를 long(0.01원 단위)으로 누적하므로 덧셈마다 BigDecimal을 만들지 않습니다.
+ * BigDecimal 변환은 결과를 DTO로 옮길 때만 수행합니다.
+ */
+public final class BudgetAggregator {
+
+    /**
+     * 금액 소수 자릿수 (0.01원 단위)
+     */
+    public static final int SCALE = 2;
+
+    private BudgetAggregator() {
+    }
+
+    /**
+     * 카테고리별 집계 (카테고리는 처음 나온 순서 유지)
+     */
+    public static List<CategoryTotals> byCategory(List<Budget> budgets) {
+        Map<String, CategoryTotals> totals = new LinkedHashMap<>();
+        for (Budget budget : budgets) {
+            CategoryTotals category = totals.get(budget.getCategory());
+            if (category == null) {
+                category = new CategoryTotals(budget);
+                totals.put(budget.getCategory(), category);
+            }
+            category.add(budget);
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    /**
+     * 금액을 0.01원 단위 long으로 변환 (null은 0, 셋째 자리 이하는 반올림)
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 0.01원 단위 long을 금액으로 변환
+     */
+    public static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * 카테고리 집계 결과
+     */
+    public static final class CategoryTotals {
+        private final String category;
+        private final Budget representative;
+        private int itemCount;
+        private int completedCount;
+        private int overBudgetCount;
+        private long planned;
+        private long actual;
+
+        private CategoryTotals(Budget representative) {
+            this.category = representative.getCategory();
+            this.representative = representative;
+        }
+
+        private void add(Budget budget) {
+            long plannedAmount = toMinorUnits(budget.getPlannedAmount());
+            long actualAmount = toMinorUnits(budget.getActualAmount());
+            itemCount++;
+            planned = Math.addExact(planned, plannedAmount);
+            actual = Math.addExact(actual, actualAmount);
+            if (budget.getStatus() == Budget.BudgetStatus.COMPLETED) {
+                completedCount++;
+            }
+            // Budget.isOverBudget()과 같은 기준 (금액이 둘 다 있을 때만)
+            if (budget.getPlannedAmount() != null && budget.getActualAmount() != null && actualAmount > plannedAmount) {
+                overBudgetCount++;
+            }
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        /**
+         * 카테고리에서 처음 나온 예산 항목
+         */
+        public Budget getRepresentative() {
+            return representative;
+        }
+
+        public int getItemCount() {
+            return itemCount;
+        }
+
+        public int getCompletedCount() {
+            return completedCount;
+        }
+
+        public int getOverBudgetCount() {
+            return overBudgetCount;
+        }
+
+        public long getPlannedMinorUnits() {
+            return planned;
+        }
+
+        public long getActualMinorUnits() {
+            return actual;
+        }
+
+        public BigDecimal getPlannedAmount() {
+            return toAmount(planned);
+        }
+
+        public BigDecimal getActualAmount() {
+            return toAmount(actual);
+        }
+
+        public BigDecimal getRemainingAmount() {
+            return toAmount(planned - actual);
+        }
+    }
+}
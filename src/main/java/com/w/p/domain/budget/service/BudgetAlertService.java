@@ -0,0 +1,59 @@
+package com.w.p.domain.budget.service;
+
+import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.domain.budget.event.BudgetSpendingChangedEvent;
+import com.w.p.entity.Budget;
+import com.w.p.entity.BudgetAlert;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 예산 초과 알림 서비스 인터페이스
+ */
+public interface BudgetAlertService {
+
+    /**
+     * 예산 항목 알림 설정 (항목당 하나, 기존 알림은 임계값 갱신)
+     */
+    BudgetDTO.AlertResponse setItemAlert(Long userId, Long budgetId, BigDecimal alertThreshold);
+
+    /**
+     * 카테고리 알림 설정 (카테고리당 하나, 기존 알림은 임계값 갱신 및 지출 합계 재계산)
+     */
+    BudgetDTO.AlertResponse setCategoryAlert(Long userId, String category, BigDecimal alertThreshold);
+
+    /**
+     * 알림 해제
+     */
+    void deleteAlert(Long userId, Long alertId);
+
+    /**
+     * 사용자별 알림 목록 조회
+     */
+    List<BudgetDTO.AlertResponse> getAlerts(Long userId);
+
+    /**
+     * 예산 항목 지출 변경 반영 (호출한 트랜잭션에서 카테고리 합계를 증감하고, 커밋 후 평가할 이벤트 발행)
+     * 생성은 변경 전 값, 삭제는 변경 후 값을 null로 전달합니다.
+     */
+    void trackSpendingChange(Long userId, Long budgetId, String oldCategory, BigDecimal oldActual,
+                             String newCategory, BigDecimal newActual);
+
+    /**
+     * 대량 등록된 예산 항목의 지출 반영 (카테고리별로 모아 한 번씩 증감)
+     */
+    void trackBulkSpending(Long userId, Collection<Budget> budgets);
+
+    /**
+     * 지출 변경에 따른 알림 평가
+     * @return 이번 변경으로 새로 발송 대상이 된 알림 목록
+     */
+    List<BudgetAlert> evaluateSpendingChange(BudgetSpendingChangedEvent event);
+
+    /**
+     * 예산 항목 삭제 시 알림 정리
+     */
+    void removeAlertsForBudget(Long budgetId);
+}
@@ -0,0 +1,166 @@
+package com.w.p.domain.budget.service;
+
+import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.domain.budget.repository.BudgetEventRepository;
+import com.w.p.domain.budget.repository.BudgetSnapshotRepository;
+import com.w.p.entity.Budget;
+import com.w.p.entity.BudgetEvent;
+import com.w.p.entity.BudgetSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 예산 변경 이력 기록
+ * 예산 변경과 같은 트랜잭션에서 변경된 필드만 이벤트로 추가하고, 이벤트 N건마다 전체 상태 스냅샷을 남깁니다.
+ * 이력을 기록하기 전부터 있던 항목은 첫 변경 때 변경 전 상태를 기준(BASELINE) 이벤트로 먼저 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetHistoryRecorder {
+
+    private static final int BULK_ID_CHUNK_SIZE = 1000;
+
+    private final BudgetEventRepository budgetEventRepository;
+    private final BudgetSnapshotRepository budgetSnapshotRepository;
+
+    @Value("${budget.history.snapshot-interval:20}")
+    private int snapshotInterval;
+
+    /**
+     * 생성 기록 (전체 상태)
+     */
+    public void recordCreated(Budget budget) {
+        append(budget.getUserId(), null, BudgetDTO.HistoryEntry.of(budget), BudgetEvent.EventType.CREATED, null);
+    }
+
+    /**
+     * 변경 기록 (수정/상태 변경은 추적 필드가 바뀐 경우만, 승인/반려는 항상)
+     * @param before 변경 전 상태 ({@link BudgetDTO.HistoryEntry#of(Budget)}로 변경 전에 복사)
+     * @param after 변경 후 예산 항목
+     */
+    public void recordChange(BudgetDTO.HistoryEntry before, Budget after, BudgetEvent.EventType eventType, String reason) {
+        append(after.getUserId(), before, BudgetDTO.HistoryEntry.of(after), eventType, reason);
+    }
+
+    /**
+     * 삭제 기록 (예산 항목이 삭제되어도 이력은 유지)
+     */
+    public void recordDeleted(Long userId, BudgetDTO.HistoryEntry before) {
+        append(userId, before, before.toBuilder().deleted(true).build(), BudgetEvent.EventType.DELETED, null);
+    }
+
+    /**
+     * 대량 등록된 예산 항목의 첫 이벤트 기록 (배치 등록 후 읽어온 ID 기준으로 일괄 기록)
+     * 같은 시각에 다른 경로로 생성된 항목이 섞이지 않도록 이번 등록으로 생성된 ID만 대상으로 합니다.
+     * @param budgetIds 대량 등록으로 생성된 예산 ID
+     * @return 기록 건수
+     */
+    public int recordBulkCreated(Collection<Long> budgetIds, BudgetEvent.EventType eventType) {
+        if (budgetIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(budgetIds);
+        int recorded = 0;
+        // IN 목록이 과도하게 길어지지 않도록 나누어 기록
+        for (int from = 0; from < ids.size(); from += BULK_ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_ID_CHUNK_SIZE, ids.size()));
+            recorded += budgetEventRepository.insertInitialEvents(chunk, eventType.name(), now);
+        }
+        return recorded;
+    }
+
+    private void append(Long userId, BudgetDTO.HistoryEntry before, BudgetDTO.HistoryEntry after,
+                        BudgetEvent.EventType eventType, String reason) {
+        Long budgetId = after.getBudgetId();
+        LocalDateTime now = LocalDateTime.now();
+        int version = budgetEventRepository.findFirstByBudgetIdOrderByVersionDesc(budgetId)
+                .map(BudgetEvent::getVersion)
+                .orElse(0);
+
+        if (version == 0 && before != null) {
+            version = save(userId, BudgetEvent.builder()
+                    .eventType(BudgetEvent.EventType.BASELINE)
+                    .category(before.getCategory())
+                    .itemName(before.getItemName())
+                    .plannedAmount(before.getPlannedAmount())
+                    .actualAmount(before.getActualAmount())
+                    .status(before.getStatus()), budgetId, version + 1, now, before);
+        }
+
+        BudgetEvent.BudgetEventBuilder event = BudgetEvent.builder().eventType(eventType).reason(reason);
+        if (before == null || version == 0) {
+            event.category(after.getCategory())
+                    .itemName(after.getItemName())
+                    .plannedAmount(after.getPlannedAmount())
+                    .actualAmount(after.getActualAmount())
+                    .status(after.getStatus());
+        } else {
+            boolean changed = false;
+            if (!Objects.equals(before.getCategory(), after.getCategory())) {
+                event.category(after.getCategory());
+                changed = true;
+            }
+            if (!Objects.equals(before.getItemName(), after.getItemName())) {
+                event.itemName(after.getItemName());
+                changed = true;
+            }
+            if (!sameAmount(before.getPlannedAmount(), after.getPlannedAmount())) {
+                event.plannedAmount(after.getPlannedAmount());
+                changed = true;
+            }
+            if (!sameAmount(before.getActualAmount(), after.getActualAmount())) {
+                event.actualAmount(after.getActualAmount());
+                changed = true;
+            }
+            if (before.getStatus() != after.getStatus()) {
+                event.status(after.getStatus());
+                changed = true;
+            }
+            if (!changed && (eventType == BudgetEvent.EventType.UPDATED || eventType == BudgetEvent.EventType.STATUS_CHANGED)) {
+                // 설명/업체 등 추적하지 않는 필드만 바뀐 경우
+                return;
+            }
+        }
+        save(userId, event, budgetId, version + 1, now, after);
+    }
+
+    /**
+     * 이벤트 저장, 스냅샷 주기이면 이벤트 반영 후 상태도 저장
+     * @return 저장한 이벤트 순번
+     */
+    private int save(Long userId, BudgetEvent.BudgetEventBuilder event, Long budgetId, int version,
+                     LocalDateTime now, BudgetDTO.HistoryEntry state) {
+        budgetEventRepository.save(event.budgetId(budgetId).userId(userId).version(version).occurredAt(now).build());
+        if (snapshotInterval > 0 && version % snapshotInterval == 0) {
+            budgetSnapshotRepository.save(BudgetSnapshot.builder()
+                    .budgetId(budgetId)
+                    .userId(userId)
+                    .version(version)
+                    .category(state.getCategory())
+                    .itemName(state.getItemName())
+                    .plannedAmount(state.getPlannedAmount())
+                    .actualAmount(state.getActualAmount())
+                    .status(state.getStatus())
+                    .deleted(state.isDeleted())
+                    .occurredAt(now)
+                    .build());
+            log.debug("예산 스냅샷 저장. 예산: {}, 순번: {}", budgetId, version);
+        }
+        return version;
+    }
+
+    private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
@@ -0,0 +1,345 @@
+package com.w.p.domain.budget.service;
+
+import com.w.p.common.util.CsvWriter;
+import com.w.p.common.util.PdfTextWriter;
+import com.w.p.domain.budget.repository.BudgetCategoryAggregate;
+import com.w.p.domain.budget.repository.BudgetReportJobRepository;
+import com.w.p.domain.budget.repository.BudgetReportRow;
+import com.w.p.domain.budget.repository.BudgetRepository;
+import com.w.p.entity.Budget;
+import com.w.p.entity.BudgetReportJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.DecimalFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 예산 리포트 파일 생성
+ * 카테고리 요약은 DB 집계(GROUP BY)로, 항목 목록은 프로젝션 스트리밍으로 읽어 파일에 바로 기록하므로 예산 항목 수와 무관하게 메모리 사용량이 일정합니다.
+ * 임시 파일에 기록한 뒤 이동하므로 다운로드 중인 파일이 덮어써지거나 미완성 파일이 노출되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetReportRenderer {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final float MARGIN = 40f;
+    private static final float TOP = PdfTextWriter.A4_HEIGHT - 50f;
+    private static final float BOTTOM = 50f;
+    private static final float LINE_HEIGHT = 14f;
+    private static final float FONT_SIZE = 9f;
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetReportJobRepository budgetReportJobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${budget.report.path:reports}")
+    private String reportPath;
+
+    /**
+     * 대기 중인 작업의 리포트 파일 생성 (다른 스레드가 이미 선점했으면 건너뜀)
+     */
+    public void render(Long jobId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Integer claimed = transaction.execute(status -> budgetReportJobRepository.claim(jobId, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            log.debug("이미 처리 중이거나 완료된 리포트 작업입니다. 작업: {}", jobId);
+            return;
+        }
+        BudgetReportJob job = budgetReportJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("리포트 작업을 찾을 수 없습니다."));
+
+        String extension = job.getReportType() == BudgetReportJob.ReportType.PDF ? "pdf" : "csv";
+        String relativePath = job.getUserId() + "/" + job.getId() + "." + extension;
+        Path target = resolve(relativePath);
+        Path temp = null;
+        long startedAt = System.currentTimeMillis();
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), "report-", ".tmp");
+            Path output = temp;
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> write(job, output));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long fileSize = Files.size(target);
+
+            transaction.executeWithoutResult(status -> complete(jobId, relativePath, fileSize));
+            log.info("예산 리포트 생성 완료. 작업: {}, 사용자: {}, 유형: {}, 크기: {} bytes, 소요: {}ms",
+                    jobId, job.getUserId(), job.getReportType(), fileSize, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("예산 리포트 생성 실패. 작업: {}", jobId, e);
+            deleteQuietly(temp);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            transaction.executeWithoutResult(status -> budgetReportJobRepository.findById(jobId).ifPresent(failed -> {
+                failed.setStatus(BudgetReportJob.JobStatus.FAILED);
+                failed.setErrorMessage(message.length() > 500 ? message.substring(0, 500) : message);
+                failed.setCompletedAt(LocalDateTime.now());
+            }));
+        }
+    }
+
+    /**
+     * 생성을 시작하지 못한 대기 작업 실패 처리 (재요청 시 다시 등록됨)
+     * 커밋 후 리스너에서 호출되므로 새 트랜잭션에서 갱신합니다.
+     */
+    public void failQueued(Long jobId, String message) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> budgetReportJobRepository.failQueued(jobId, message, LocalDateTime.now()));
+    }
+
+    /**
+     * 저장 경로 기준 상대 경로를 실제 경로로 변환
+     */
+    public Path resolve(String relativePath) {
+        return Paths.get(reportPath).resolve(relativePath);
+    }
+
+    /**
+     * 완료 처리 후 같은 유형의 이전 버전 파일 정리
+     */
+    private void complete(Long jobId, String relativePath, long fileSize) {
+        BudgetReportJob job = budgetReportJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("리포트 작업을 찾을 수 없습니다."));
+        job.setStatus(BudgetReportJob.JobStatus.COMPLETED);
+        job.setFilePath(relativePath);
+        job.setFileSize(fileSize);
+        job.setErrorMessage(null);
+        job.setCompletedAt(LocalDateTime.now());
+
+        for (BudgetReportJob previous : budgetReportJobRepository.findByUserIdAndReportTypeAndIdNot(
+                job.getUserId(), job.getReportType(), jobId)) {
+            if (previous.getStatus() == BudgetReportJob.JobStatus.QUEUED
+                    || previous.getStatus() == BudgetReportJob.JobStatus.RUNNING) {
+                continue;
+            }
+            if (previous.getFilePath() != null) {
+                deleteQuietly(resolve(previous.getFilePath()));
+            }
+            budgetReportJobRepository.delete(previous);
+        }
+    }
+
+    private void write(BudgetReportJob job, Path output) {
+        List<BudgetCategoryAggregate> categories = budgetRepository.getReportAggregatesByCategory(job.getUserId());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output));
+             Stream<BudgetReportRow> rows = budgetRepository.streamReportRowsByUserId(job.getUserId())) {
+            if (job.getReportType() == BudgetReportJob.ReportType.PDF) {
+                writePdf(out, categories, rows.iterator());
+            } else {
+                writeCsv(out, categories, rows.iterator());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(OutputStream out, List<BudgetCategoryAggregate> categories,
+                          Iterator<BudgetReportRow> rows) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeBom();
+
+        csv.row("카테고리", "항목수", "계획금액", "실제금액", "잔액", "집행률(%)", "완료", "초과");
+        Totals totals = new Totals();
+        for (BudgetCategoryAggregate category : categories) {
+            BigDecimal planned = amount(category.getPlannedAmount());
+            BigDecimal actual = amount(category.getActualAmount());
+            totals.add(category, planned, actual);
+            csv.row(category.getCategory(), category.getItemCount(), planned, actual, planned.subtract(actual),
+                    rate(actual, planned), category.getCompletedCount(), category.getOverBudgetCount());
+        }
+        csv.row("합계", totals.itemCount, totals.planned, totals.actual, totals.planned.subtract(totals.actual),
+                rate(totals.actual, totals.planned), totals.completedCount, totals.overBudgetCount);
+        csv.emptyRow();
+
+        // 항목 목록은 가져오기 헤더와 같은 이름/값을 사용
+        csv.row("카테고리", "항목명", "계획금액", "실제금액", "상태", "우선순위", "업체", "마감일");
+        while (rows.hasNext()) {
+            BudgetReportRow row = rows.next();
+            csv.row(row.getCategory(), row.getItemName(), row.getPlannedAmount(), row.getActualAmount(),
+                    row.getStatus(), row.getPriority(), row.getVendor(),
+                    row.getDueDate() != null ? row.getDueDate().format(DATE) : null);
+        }
+        csv.flush();
+    }
+
+    private void writePdf(OutputStream out, List<BudgetCategoryAggregate> categories,
+                          Iterator<BudgetReportRow> rows) throws IOException {
+        DecimalFormat money = new DecimalFormat("#,##0");
+        try (PdfTextWriter pdf = new PdfTextWriter(out)) {
+            pdf.beginPage();
+            float y = TOP;
+            pdf.text(MARGIN, y, 16f, "예산 리포트");
+            pdf.textRight(PdfTextWriter.A4_WIDTH - MARGIN, y, FONT_SIZE, "생성: " + LocalDateTime.now().format(DATE_TIME));
+            y -= LINE_HEIGHT * 2;
+
+            pdf.text(MARGIN, y, 11f, "카테고리별 요약");
+            y -= LINE_HEIGHT * 1.5f;
+            y = categoryHeader(pdf, y);
+            Totals totals = new Totals();
+            for (BudgetCategoryAggregate category : categories) {
+                if (y < BOTTOM) {
+                    pdf.beginPage();
+                    y = categoryHeader(pdf, TOP);
+                }
+                BigDecimal planned = amount(category.getPlannedAmount());
+                BigDecimal actual = amount(category.getActualAmount());
+                totals.add(category, planned, actual);
+                categoryRow(pdf, y, money, category.getCategory(), category.getItemCount(), planned, actual);
+                y -= LINE_HEIGHT;
+            }
+            pdf.line(MARGIN, y + LINE_HEIGHT - 4f, PdfTextWriter.A4_WIDTH - MARGIN, y + LINE_HEIGHT - 4f, 0.5f);
+            categoryRow(pdf, y, money, "합계", totals.itemCount, totals.planned, totals.actual);
+            y -= LINE_HEIGHT * 2.5f;
+
+            if (y < BOTTOM + LINE_HEIGHT * 3) {
+                pdf.beginPage();
+                y = TOP;
+            }
+            pdf.text(MARGIN, y, 11f, "예산 항목");
+            y -= LINE_HEIGHT * 1.5f;
+            y = itemHeader(pdf, y);
+            while (rows.hasNext()) {
+                BudgetReportRow row = rows.next();
+                if (y < BOTTOM) {
+                    pdf.beginPage();
+                    y = itemHeader(pdf, TOP);
+                }
+                pdf.text(MARGIN, y, FONT_SIZE, PdfTextWriter.fit(row.getCategory(), FONT_SIZE, 68f));
+                pdf.text(112f, y, FONT_SIZE, PdfTextWriter.fit(row.getItemName(), FONT_SIZE, 145f));
+                pdf.textRight(340f, y, FONT_SIZE, money.format(amount(row.getPlannedAmount())));
+                pdf.textRight(420f, y, FONT_SIZE, row.getActualAmount() != null ? money.format(row.getActualAmount()) : "-");
+                pdf.text(430f, y, FONT_SIZE, statusLabel(row.getStatus()));
+                pdf.text(490f, y, FONT_SIZE, row.getDueDate() != null ? row.getDueDate().format(DATE) : "-");
+                y -= LINE_HEIGHT;
+            }
+        }
+    }
+
+    private float categoryHeader(PdfTextWriter pdf, float y) {
+        pdf.text(MARGIN, y, FONT_SIZE, "카테고리");
+        pdf.textRight(190f, y, FONT_SIZE, "항목 수");
+        pdf.textRight(290f, y, FONT_SIZE, "계획 금액");
+        pdf.textRight(380f, y, FONT_SIZE, "실제 금액");
+        pdf.textRight(470f, y, FONT_SIZE, "잔액");
+        pdf.textRight(PdfTextWriter.A4_WIDTH - MARGIN, y, FONT_SIZE, "집행률");
+        pdf.line(MARGIN, y - 4f, PdfTextWriter.A4_WIDTH - MARGIN, y - 4f, 0.5f);
+        return y - LINE_HEIGHT;
+    }
+
+    private void categoryRow(PdfTextWriter pdf, float y, DecimalFormat money, String category, long itemCount,
+                             BigDecimal planned, BigDecimal actual) {
+        pdf.text(MARGIN, y, FONT_SIZE, PdfTextWriter.fit(category, FONT_SIZE, 105f));
+        pdf.textRight(190f, y, FONT_SIZE, Long.toString(itemCount));
+        pdf.textRight(290f, y, FONT_SIZE, money.format(planned));
+        pdf.textRight(380f, y, FONT_SIZE, money.format(actual));
+        pdf.textRight(470f, y, FONT_SIZE, money.format(planned.subtract(actual)));
+        pdf.textRight(PdfTextWriter.A4_WIDTH - MARGIN, y, FONT_SIZE, rate(actual, planned).toPlainString() + "%");
+    }
+
+    private float itemHeader(PdfTextWriter pdf, float y) {
+        pdf.text(MARGIN, y, FONT_SIZE, "카테고리");
+        pdf.text(112f, y, FONT_SIZE, "항목명");
+        pdf.textRight(340f, y, FONT_SIZE, "계획 금액");
+        pdf.textRight(420f, y, FONT_SIZE, "실제 금액");
+        pdf.text(430f, y, FONT_SIZE, "상태");
+        pdf.text(490f, y, FONT_SIZE, "마감일");
+        pdf.line(MARGIN, y - 4f, PdfTextWriter.A4_WIDTH - MARGIN, y - 4f, 0.5f);
+        return y - LINE_HEIGHT;
+    }
+
+    private static String statusLabel(Budget.BudgetStatus status) {
+        if (status == null) {
+            return "-";
+        }
+        switch (status) {
+            case PLANNED:
+                return "계획";
+            case IN_PROGRESS:
+                return "진행 중";
+            case COMPLETED:
+                return "완료";
+            case OVERBUDGET:
+                return "예산 초과";
+            case CANCELLED:
+                return "취소";
+            case APPROVED:
+                return "승인";
+            case REJECTED:
+                return "반려";
+            default:
+                return status.name();
+        }
+    }
+
+    private static BigDecimal amount(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private static BigDecimal rate(BigDecimal actual, BigDecimal planned) {
+        if (planned.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return actual.multiply(HUNDRED).divide(planned, 1, RoundingMode.HALF_UP);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("리포트 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    /**
+     * 카테고리 집계 합계
+     */
+    private static class Totals {
+        private long itemCount;
+        private long completedCount;
+        private long overBudgetCount;
+        private BigDecimal planned = BigDecimal.ZERO;
+        private BigDecimal actual = BigDecimal.ZERO;
+
+        private void add(BudgetCategoryAggregate category, BigDecimal plannedAmount, BigDecimal actualAmount) {
+            itemCount += category.getItemCount();
+            completedCount += category.getCompletedCount();
+            overBudgetCount += category.getOverBudgetCount();
+            planned = planned.add(plannedAmount);
+            actual = actual.add(actualAmount);
+        }
+    }
+}
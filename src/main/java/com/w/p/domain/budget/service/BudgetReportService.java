@@ -0,0 +1,25 @@
+package com.w.p.domain.budget.service;
+
+import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.entity.BudgetReportJob;
+
+/**
+ * 예산 리포트 서비스 인터페이스
+ */
+public interface BudgetReportService {
+
+    /**
+     * 리포트 생성 요청 (데이터가 바뀌지 않았으면 완료된 리포트를 바로 반환)
+     */
+    BudgetDTO.ReportJob requestReport(Long userId, BudgetReportJob.ReportType reportType);
+
+    /**
+     * 리포트 작업 상태 조회
+     */
+    BudgetDTO.ReportJob getReportJob(Long userId, Long jobId);
+
+    /**
+     * 완료된 리포트 파일 조회
+     */
+    BudgetDTO.ReportFile getReportFile(Long userId, Long jobId);
+}
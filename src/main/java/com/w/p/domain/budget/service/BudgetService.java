@@ -1,8 +1,10 @@
 package com.w.p.domain.budget.service;
 
+import com.w.p.common.ImportResult;
 import com.w.p.domain.budget.dto.BudgetDTO;
 import com.w.p.entity.Budget;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -63,9 +65,9 @@ public interface BudgetService {
     BudgetDTO.Summary getBudgetSummary(Long userId);
     
     /**
-     * 예산 알림 설정
+     * 예산 항목 초과 알림 설정 (실제 금액이 임계값 이상이 되면 알림)
      */
-    BudgetDTO.Response setBudgetAlert(Long userId, Long budgetId, BigDecimal alertThreshold);
+    BudgetDTO.AlertResponse setBudgetAlert(Long userId, Long budgetId, BigDecimal alertThreshold);
     
     /**
      * 예산 템플릿 적용
@@ -83,6 +85,11 @@ public interface BudgetService {
      */
     List<BudgetDTO.Response> importBudgetFromExcel(Long userId, String excelData, String format);
     
+    /**
+     * 예산 대량 가져오기 (CSV/XLSX 스트리밍)
+     */
+    ImportResult importBudgets(Long userId, InputStream inputStream, String format);
+    
     /**
      * 예산 공유
      */
@@ -99,14 +106,20 @@ public interface BudgetService {
     BudgetDTO.Response rejectBudget(Long userId, Long budgetId, String reason);
     
     /**
-     * 예산 이력 조회
+     * 예산 이력 조회 (최신순)
+     * @param limit 최근 이벤트 수
+     */
+    List<BudgetDTO.HistoryEntry> getBudgetHistory(Long userId, Long budgetId, int limit);
+    
+    /**
+     * 특정 시점의 예산 항목 상태 조회
      */
-    List<BudgetDTO.Response> getBudgetHistory(Long userId, Long budgetId);
+    BudgetDTO.HistoryEntry getBudgetAsOf(Long userId, Long budgetId, LocalDateTime at);
     
     /**
-     * 예산 리포트 생성
+     * 예산 리포트 생성 요청 (CSV, PDF)
      */
-    String generateBudgetReport(Long userId, String reportType);
+    BudgetDTO.ReportJob generateBudgetReport(Long userId, String reportType);
     
     /**
      * 카테고리별 예산 요약
@@ -0,0 +1,243 @@
+package com.w.p.domain.budget.service.impl;
+
+import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.domain.budget.event.BudgetSpendingChangedEvent;
+import com.w.p.domain.budget.repository.BudgetAlertRepository;
+import com.w.p.domain.budget.repository.BudgetRepository;
+import com.w.p.domain.budget.service.BudgetAlertService;
+import com.w.p.entity.Budget;
+import com.w.p.entity.BudgetAlert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BudgetAlertServiceImpl implements BudgetAlertService {
+
+    private final BudgetAlertRepository budgetAlertRepository;
+    private final BudgetRepository budgetRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 같은 알림 재발송 최소 간격 (임계값 근처에서 지출이 오르내려도 반복 발송하지 않음)
+     */
+    @Value("${budget.alert.cooldown-minutes:60}")
+    private long cooldownMinutes;
+
+    @Override
+    @Transactional
+    public BudgetDTO.AlertResponse setItemAlert(Long userId, Long budgetId, BigDecimal alertThreshold) {
+        validateThreshold(alertThreshold);
+
+        Budget budget = budgetRepository.findById(budgetId)
+                .orElseThrow(() -> new RuntimeException("예산 항목을 찾을 수 없습니다."));
+
+        if (!budget.getUserId().equals(userId)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
+
+        BudgetAlert alert = budgetAlertRepository.findByUserIdAndBudgetId(userId, budgetId)
+                .orElseGet(() -> BudgetAlert.builder()
+                        .userId(userId)
+                        .scope(BudgetAlert.Scope.ITEM)
+                        .budgetId(budgetId)
+                        .build());
+
+        // 현재 지출이 이미 임계값 이상이라면 다음 초과부터 알림
+        alert.setAmountThreshold(alertThreshold);
+        alert.setTriggered(nullToZero(budget.getActualAmount()).compareTo(alertThreshold) >= 0);
+
+        BudgetAlert savedAlert = budgetAlertRepository.save(alert);
+
+        log.info("예산 항목 알림 설정: 예산: {}, 사용자: {}, 임계값: {}", budgetId, userId, alertThreshold);
+        return BudgetDTO.AlertResponse.from(savedAlert);
+    }
+
+    @Override
+    @Transactional
+    public BudgetDTO.AlertResponse setCategoryAlert(Long userId, String category, BigDecimal alertThreshold) {
+        validateThreshold(alertThreshold);
+        if (category == null || category.trim().isEmpty()) {
+            throw new RuntimeException("카테고리는 필수입니다.");
+        }
+
+        BudgetAlert alert = budgetAlertRepository.findByUserIdAndCategory(userId, category)
+                .orElseGet(() -> BudgetAlert.builder()
+                        .userId(userId)
+                        .scope(BudgetAlert.Scope.CATEGORY)
+                        .category(category)
+                        .build());
+
+        // 설정 시점에만 합산하고 이후에는 지출 변경분으로 유지
+        BigDecimal trackedAmount = nullToZero(budgetRepository.getTotalActualAmountByCategory(userId, category));
+        alert.setAmountThreshold(alertThreshold);
+        alert.setTrackedAmount(trackedAmount);
+        alert.setTriggered(trackedAmount.compareTo(alertThreshold) >= 0);
+
+        BudgetAlert savedAlert = budgetAlertRepository.save(alert);
+
+        log.info("예산 카테고리 알림 설정: 카테고리: {}, 사용자: {}, 임계값: {}", category, userId, alertThreshold);
+        return BudgetDTO.AlertResponse.from(savedAlert);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAlert(Long userId, Long alertId) {
+        BudgetAlert alert = budgetAlertRepository.findById(alertId)
+                .orElseThrow(() -> new RuntimeException("예산 알림을 찾을 수 없습니다."));
+
+        if (!alert.getUserId().equals(userId)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
+
+        budgetAlertRepository.delete(alert);
+        log.info("예산 알림 해제: 알림: {}, 사용자: {}", alertId, userId);
+    }
+
+    @Override
+    public List<BudgetDTO.AlertResponse> getAlerts(Long userId) {
+        return budgetAlertRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(BudgetDTO.AlertResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void trackSpendingChange(Long userId, Long budgetId, String oldCategory, BigDecimal oldActual,
+                                    String newCategory, BigDecimal newActual) {
+        boolean actualChanged = nullToZero(oldActual).compareTo(nullToZero(newActual)) != 0;
+        if (!actualChanged && Objects.equals(oldCategory, newCategory)) {
+            return;
+        }
+
+        List<BudgetSpendingChangedEvent.SpendingChange> changes = new ArrayList<>();
+        // 삭제된 항목은 알림도 함께 삭제되므로 항목 평가 대상이 아님
+        if (actualChanged && budgetId != null && newCategory != null) {
+            changes.add(new BudgetSpendingChangedEvent.SpendingChange(BudgetAlert.Scope.ITEM, budgetId, null,
+                    nullToZero(oldActual), nullToZero(newActual)));
+        }
+
+        Map<String, BigDecimal> deltas = new LinkedHashMap<>();
+        if (oldCategory != null && oldActual != null) {
+            deltas.merge(oldCategory, oldActual.negate(), BigDecimal::add);
+        }
+        if (newCategory != null && newActual != null) {
+            deltas.merge(newCategory, newActual, BigDecimal::add);
+        }
+        changes.addAll(applyCategoryDeltas(userId, deltas));
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new BudgetSpendingChangedEvent(userId, changes));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void trackBulkSpending(Long userId, Collection<Budget> budgets) {
+        Map<String, BigDecimal> deltas = new LinkedHashMap<>();
+        for (Budget budget : budgets) {
+            if (budget.getCategory() != null && budget.getActualAmount() != null) {
+                deltas.merge(budget.getCategory(), budget.getActualAmount(), BigDecimal::add);
+            }
+        }
+
+        List<BudgetSpendingChangedEvent.SpendingChange> changes = applyCategoryDeltas(userId, deltas);
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new BudgetSpendingChangedEvent(userId, changes));
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<BudgetAlert> evaluateSpendingChange(BudgetSpendingChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cooldownSince = now.minusMinutes(cooldownMinutes);
+        List<Long> triggeredIds = new ArrayList<>();
+
+        for (BudgetSpendingChangedEvent.SpendingChange change : event.getChanges()) {
+            int direction = change.getNewAmount().compareTo(change.getOldAmount());
+            if (direction < 0) {
+                List<Long> released = findAlertIdsInRange(event.getUserId(), change, change.getNewAmount(), change.getOldAmount());
+                if (!released.isEmpty()) {
+                    budgetAlertRepository.rearm(released, change.getNewAmount());
+                }
+                continue;
+            }
+            if (direction == 0) {
+                continue;
+            }
+
+            // 조건부 UPDATE가 성공한 알림만 발송 대상 (중복 이벤트/동시 평가 시에도 한 번만 발송)
+            for (Long alertId : findAlertIdsInRange(event.getUserId(), change, change.getOldAmount(), change.getNewAmount())) {
+                if (budgetAlertRepository.markTriggered(alertId, change.getNewAmount(), now, cooldownSince) == 1) {
+                    triggeredIds.add(alertId);
+                }
+            }
+        }
+
+        if (triggeredIds.isEmpty()) {
+            return List.of();
+        }
+        log.info("예산 초과 알림 평가: 사용자: {}, 변경: {}, 발송: {}", event.getUserId(), event.getChanges().size(), triggeredIds.size());
+        return budgetAlertRepository.findAllById(triggeredIds);
+    }
+
+    @Override
+    @Transactional
+    public void removeAlertsForBudget(Long budgetId) {
+        budgetAlertRepository.deleteByBudgetId(budgetId);
+    }
+
+    /**
+     * 대상(예산 항목 또는 사용자+카테고리)의 알림 중 임계값이 (lowerAmount, upperAmount] 구간인 알림 ID
+     * 노드마다 다른 메모리 상태에 의존하지 않도록 매번 (대상, 임계값) 인덱스로 DB에서 조회합니다.
+     */
+    private List<Long> findAlertIdsInRange(Long userId, BudgetSpendingChangedEvent.SpendingChange change,
+                                           BigDecimal lowerAmount, BigDecimal upperAmount) {
+        return change.getScope() == BudgetAlert.Scope.ITEM
+                ? budgetAlertRepository.findItemAlertIdsInRange(change.getBudgetId(), lowerAmount, upperAmount)
+                : budgetAlertRepository.findCategoryAlertIdsInRange(userId, change.getCategory(), lowerAmount, upperAmount);
+    }
+
+    /**
+     * 카테고리 지출 합계 증감 (알림이 설정된 카테고리만 갱신되고, 갱신된 합계로 변경 전후 값을 계산)
+     */
+    private List<BudgetSpendingChangedEvent.SpendingChange> applyCategoryDeltas(Long userId, Map<String, BigDecimal> deltas) {
+        List<BudgetSpendingChangedEvent.SpendingChange> changes = new ArrayList<>();
+        deltas.forEach((category, delta) -> {
+            if (delta.signum() == 0 || budgetAlertRepository.addTrackedAmount(userId, category, delta) == 0) {
+                return;
+            }
+            budgetAlertRepository.findTrackedAmount(userId, category).ifPresent(newTotal ->
+                    changes.add(new BudgetSpendingChangedEvent.SpendingChange(BudgetAlert.Scope.CATEGORY, null, category,
+                            newTotal.subtract(delta), newTotal)));
+        });
+        return changes;
+    }
+
+    private void validateThreshold(BigDecimal alertThreshold) {
+        if (alertThreshold == null || alertThreshold.signum() <= 0) {
+            throw new RuntimeException("알림 금액은 0보다 커야 합니다.");
+        }
+    }
+
+    private BigDecimal nullToZero(BigDecimal amount) {
+        return amount != null ? amount : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,159 @@
+package com.w.p.domain.budget.service.impl;
+
+import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.domain.budget.event.BudgetReportRequestedEvent;
+import com.w.p.domain.budget.repository.BudgetDataVersion;
+import com.w.p.domain.budget.repository.BudgetReportJobRepository;
+import com.w.p.domain.budget.repository.BudgetRepository;
+import com.w.p.domain.budget.service.BudgetReportRenderer;
+import com.w.p.domain.budget.service.BudgetReportService;
+import com.w.p.entity.BudgetReportJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 예산 리포트 서비스 구현체
+ * 리포트는 (사용자, 유형, 데이터 버전)으로 캐시되며, 데이터 버전은 예산 건수/최대 ID/최종 수정 시각으로 계산합니다.
+ * 새 작업은 대기 상태로 저장한 뒤 커밋 후 리포트 실행기에서 생성하고, 중단된 작업은 재요청 시 다시 등록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BudgetReportServiceImpl implements BudgetReportService {
+
+    private static final String REPORT_VERSION = "v1";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmm");
+
+    private final BudgetRepository budgetRepository;
+    private final BudgetReportJobRepository budgetReportJobRepository;
+    private final BudgetReportRenderer budgetReportRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${budget.report.stale-minutes:10}")
+    private long staleMinutes;
+
+    @Override
+    public BudgetDTO.ReportJob requestReport(Long userId, BudgetReportJob.ReportType reportType) {
+        String dataVersion = dataVersion(userId);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            return transaction.execute(status -> enqueue(userId, reportType, dataVersion));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 리포트를 동시에 요청한 경우 먼저 저장된 작업 반환
+            log.debug("예산 리포트 동시 요청. 사용자: {}, 유형: {}", userId, reportType);
+            return budgetReportJobRepository.findByUserIdAndReportTypeAndDataVersion(userId, reportType, dataVersion)
+                    .map(BudgetDTO.ReportJob::from)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    @Override
+    public BudgetDTO.ReportJob getReportJob(Long userId, Long jobId) {
+        return BudgetDTO.ReportJob.from(findJob(userId, jobId));
+    }
+
+    @Override
+    public BudgetDTO.ReportFile getReportFile(Long userId, Long jobId) {
+        BudgetReportJob job = findJob(userId, jobId);
+        if (job.getStatus() != BudgetReportJob.JobStatus.COMPLETED || job.getFilePath() == null) {
+            throw new RuntimeException("리포트가 아직 생성되지 않았습니다.");
+        }
+        Path path = budgetReportRenderer.resolve(job.getFilePath());
+        if (!Files.isRegularFile(path)) {
+            throw new RuntimeException("리포트 파일을 찾을 수 없습니다. 다시 요청해 주세요.");
+        }
+
+        boolean pdf = job.getReportType() == BudgetReportJob.ReportType.PDF;
+        String fileName = "budget-report-" + job.getCompletedAt().format(FILE_TIMESTAMP) + (pdf ? ".pdf" : ".csv");
+        // 작업마다 파일이 새로 생성되므로 작업 ID와 크기로 충분
+        String etag = "\"budget-report-" + job.getId() + "-" + job.getFileSize() + "\"";
+        return new BudgetDTO.ReportFile(path, pdf ? "application/pdf" : "text/csv; charset=UTF-8", fileName, etag);
+    }
+
+    /**
+     * 재사용할 수 있는 작업이 있으면 반환하고, 없으면 대기 상태로 저장 후 생성 이벤트 발행
+     */
+    private BudgetDTO.ReportJob enqueue(Long userId, BudgetReportJob.ReportType reportType, String dataVersion) {
+        LocalDateTime now = LocalDateTime.now();
+        BudgetReportJob job = budgetReportJobRepository
+                .findByUserIdAndReportTypeAndDataVersion(userId, reportType, dataVersion)
+                .orElse(null);
+        if (job != null && isReusable(job, now)) {
+            return BudgetDTO.ReportJob.from(job);
+        }
+
+        if (job == null) {
+            job = budgetReportJobRepository.saveAndFlush(BudgetReportJob.builder()
+                    .userId(userId)
+                    .reportType(reportType)
+                    .dataVersion(dataVersion)
+                    .status(BudgetReportJob.JobStatus.QUEUED)
+                    .requestedAt(now)
+                    .build());
+        } else {
+            // 실패했거나 중단된 작업, 파일이 사라진 작업은 다시 생성
+            job.setStatus(BudgetReportJob.JobStatus.QUEUED);
+            job.setFilePath(null);
+            job.setFileSize(null);
+            job.setErrorMessage(null);
+            job.setRequestedAt(now);
+            job.setStartedAt(null);
+            job.setCompletedAt(null);
+        }
+        eventPublisher.publishEvent(new BudgetReportRequestedEvent(userId, job.getId()));
+
+        log.info("예산 리포트 생성 요청. 작업: {}, 사용자: {}, 유형: {}", job.getId(), userId, reportType);
+        return BudgetDTO.ReportJob.from(job);
+    }
+
+    private boolean isReusable(BudgetReportJob job, LocalDateTime now) {
+        switch (job.getStatus()) {
+            case COMPLETED:
+                return job.getFilePath() != null && Files.isRegularFile(budgetReportRenderer.resolve(job.getFilePath()));
+            case QUEUED:
+                return job.getRequestedAt().isAfter(now.minusMinutes(staleMinutes));
+            case RUNNING:
+                return job.getStartedAt() != null && job.getStartedAt().isAfter(now.minusMinutes(staleMinutes));
+            default:
+                return false;
+        }
+    }
+
+    private BudgetReportJob findJob(Long userId, Long jobId) {
+        BudgetReportJob job = budgetReportJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("리포트 작업을 찾을 수 없습니다."));
+        if (!job.getUserId().equals(userId)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
+        return job;
+    }
+
+    /**
+     * 예산 데이터 버전 (항목 추가/수정/삭제 시 건수, 최대 ID, 최종 수정 시각 중 하나가 바뀜)
+     */
+    private String dataVersion(Long userId) {
+        BudgetDataVersion version = budgetRepository.findDataVersion(userId);
+        long lastModified = version.getLastModified() != null
+                ? version.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        long maxId = version.getMaxId() != null ? version.getMaxId() : 0L;
+        return REPORT_VERSION + "-" + version.getBudgetCount() + "-" + maxId + "-" + lastModified;
+    }
+}
@@ -1,17 +1,45 @@
 package com.w.p.domain.budget.service.impl;
 
+import com.w.p.common.ImportResult;
+import com.w.p.common.util.SpreadsheetReader;
 import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.domain.budget.event.BudgetChangedEvent;
+import com.w.p.domain.budget.service.BudgetAggregator;
+import com.w.p.domain.budget.service.BudgetAlertService;
+import com.w.p.domain.budget.service.BudgetHistoryRecorder;
+import com.w.p.domain.budget.service.BudgetReportService;
 import com.w.p.domain.budget.service.BudgetService;
+import com.w.p.domain.budget.repository.BudgetBatchRepository;
+import com.w.p.domain.budget.repository.BudgetEventRepository;
 import com.w.p.domain.budget.repository.BudgetRepository;
+import com.w.p.domain.budget.repository.BudgetSnapshotRepository;
+import com.w.p.domain.summary.dto.PlanSummary;
+import com.w.p.domain.summary.dto.PlanSummaryDelta;
+import com.w.p.domain.summary.service.PlanSummaryService;
+import com.w.p.domain.template.service.PlanTemplateService;
 import com.w.p.entity.Budget;
+import com.w.p.entity.BudgetEvent;
+import com.w.p.entity.BudgetReportJob;
+import com.w.p.entity.BudgetSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +52,33 @@ import java.util.stream.Collectors;
 public class BudgetServiceImpl implements BudgetService {
     
     private final BudgetRepository budgetRepository;
+    private final BudgetBatchRepository budgetBatchRepository;
+    private final PlanTemplateService planTemplateService;
+    private final PlanSummaryService planSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BudgetHistoryRecorder budgetHistoryRecorder;
+    private final BudgetEventRepository budgetEventRepository;
+    private final BudgetSnapshotRepository budgetSnapshotRepository;
+    private final BudgetReportService budgetReportService;
+    private final BudgetAlertService budgetAlertService;
+    
+    /**
+     * 가져오기 헤더 별칭 (정규화된 헤더명 → 필드)
+     */
+    private static final Map<String, String> IMPORT_HEADER_ALIASES = Map.ofEntries(
+            Map.entry("category", "category"), Map.entry("카테고리", "category"), Map.entry("분류", "category"),
+            Map.entry("itemname", "itemName"), Map.entry("항목명", "itemName"), Map.entry("항목", "itemName"),
+            Map.entry("plannedamount", "plannedAmount"), Map.entry("계획금액", "plannedAmount"), Map.entry("예산", "plannedAmount"),
+            Map.entry("actualamount", "actualAmount"), Map.entry("실제금액", "actualAmount"), Map.entry("지출", "actualAmount"),
+            Map.entry("status", "status"), Map.entry("상태", "status"),
+            Map.entry("priority", "priority"), Map.entry("우선순위", "priority"),
+            Map.entry("description", "description"), Map.entry("설명", "description"),
+            Map.entry("vendor", "vendor"), Map.entry("업체", "vendor"),
+            Map.entry("duedate", "dueDate"), Map.entry("마감일", "dueDate")
+    );
+    
+    @Value("${import.batch-size:500}")
+    private int importBatchSize;
     
     @Override
     public List<BudgetDTO.Response> getBudgetsByUserId(Long userId) {
@@ -58,6 +113,11 @@ public class BudgetServiceImpl implements BudgetService {
     public BudgetDTO.Response createBudget(Long userId, BudgetDTO.Request request) {
         Budget budget = request.toEntity(userId);
         Budget savedBudget = budgetRepository.save(budget);
+        planSummaryService.apply(userId, new PlanSummaryDelta().add(savedBudget));
+        budgetHistoryRecorder.recordCreated(savedBudget);
+        budgetAlertService.trackSpendingChange(userId, savedBudget.getId(), null, null,
+                savedBudget.getCategory(), savedBudget.getActualAmount());
+        eventPublisher.publishEvent(new BudgetChangedEvent(userId, savedBudget.getId(), BudgetChangedEvent.ChangeType.CREATED));
         
         log.info("예산 항목이 생성되었습니다. ID: {}, 사용자: {}", savedBudget.getId(), userId);
         return BudgetDTO.Response.from(savedBudget);
@@ -73,6 +133,11 @@ public class BudgetServiceImpl implements BudgetService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
+        PlanSummaryDelta delta = new PlanSummaryDelta().remove(budget);
+        BudgetDTO.HistoryEntry before = BudgetDTO.HistoryEntry.of(budget);
+        String beforeCategory = budget.getCategory();
+        BigDecimal beforeActual = budget.getActualAmount();
+        
         // 업데이트 적용
         if (updateRequest.getCategory() != null) budget.setCategory(updateRequest.getCategory());
         if (updateRequest.getItemName() != null) budget.setItemName(updateRequest.getItemName());
@@ -85,6 +150,11 @@ public class BudgetServiceImpl implements BudgetService {
         if (updateRequest.getDueDate() != null) budget.setDueDate(updateRequest.getDueDate());
         
         Budget savedBudget = budgetRepository.save(budget);
+        planSummaryService.apply(userId, delta.add(savedBudget));
+        budgetHistoryRecorder.recordChange(before, savedBudget, BudgetEvent.EventType.UPDATED, null);
+        budgetAlertService.trackSpendingChange(userId, budgetId, beforeCategory, beforeActual,
+                savedBudget.getCategory(), savedBudget.getActualAmount());
+        eventPublisher.publishEvent(new BudgetChangedEvent(userId, budgetId, BudgetChangedEvent.ChangeType.UPDATED));
         
         log.info("예산 항목이 수정되었습니다. ID: {}, 사용자: {}", budgetId, userId);
         return BudgetDTO.Response.from(savedBudget);
@@ -100,7 +170,12 @@ public class BudgetServiceImpl implements BudgetService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
+        BudgetDTO.HistoryEntry before = BudgetDTO.HistoryEntry.of(budget);
         budgetRepository.delete(budget);
+        planSummaryService.apply(userId, new PlanSummaryDelta().remove(budget));
+        budgetHistoryRecorder.recordDeleted(userId, before);
+        budgetAlertService.trackSpendingChange(userId, budgetId, budget.getCategory(), budget.getActualAmount(), null, null);
+        eventPublisher.publishEvent(new BudgetChangedEvent(userId, budgetId, BudgetChangedEvent.ChangeType.DELETED));
         log.info("예산 항목이 삭제되었습니다. ID: {}, 사용자: {}", budgetId, userId);
     }
     
@@ -114,8 +189,13 @@ public class BudgetServiceImpl implements BudgetService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
+        PlanSummaryDelta delta = new PlanSummaryDelta().remove(budget);
+        BudgetDTO.HistoryEntry before = BudgetDTO.HistoryEntry.of(budget);
         budget.setStatus(status);
         Budget savedBudget = budgetRepository.save(budget);
+        planSummaryService.apply(userId, delta.add(savedBudget));
+        budgetHistoryRecorder.recordChange(before, savedBudget, BudgetEvent.EventType.STATUS_CHANGED, null);
+        eventPublisher.publishEvent(new BudgetChangedEvent(userId, budgetId, BudgetChangedEvent.ChangeType.UPDATED));
         
         log.info("예산 상태가 변경되었습니다. ID: {}, 상태: {}, 사용자: {}", 
                 savedBudget.getId(), status, userId);
@@ -140,95 +220,47 @@ public class BudgetServiceImpl implements BudgetService {
     @Override
     public List<BudgetDTO.CategorySummary> getBudgetByCategory(Long userId) {
         List<Budget> budgets = budgetRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return budgets.stream()
-                .collect(Collectors.groupingBy(Budget::getCategory))
-                .values()
-                .stream()
-                .map(categoryBudgets -> {
-                    BigDecimal totalPlanned = categoryBudgets.stream()
-                            .map(Budget::getPlannedAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    
-                    BigDecimal totalActual = categoryBudgets.stream()
-                            .map(Budget::getActualAmount)
-                            .filter(amount -> amount != null)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    
-                    int completedCount = (int) categoryBudgets.stream()
-                            .filter(b -> b.getStatus() == Budget.BudgetStatus.COMPLETED)
-                            .count();
-                    int overBudgetCount = (int) categoryBudgets.stream()
-                            .filter(Budget::isOverBudget)
-                            .count();
-                    
-                    return BudgetDTO.CategorySummary.builder()
-                            .category(categoryBudgets.get(0).getCategory())
-                            .totalPlannedAmount(totalPlanned)
-                            .totalActualAmount(totalActual)
-                            .totalRemainingAmount(totalPlanned.subtract(totalActual))
-                            .itemCount(categoryBudgets.size())
-                            .completedCount(completedCount)
-                            .overBudgetCount(overBudgetCount)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<BudgetDTO.CategorySummary> summaries = new ArrayList<>();
+        for (BudgetAggregator.CategoryTotals totals : BudgetAggregator.byCategory(budgets)) {
+            summaries.add(BudgetDTO.CategorySummary.builder()
+                    .category(totals.getCategory())
+                    .totalPlannedAmount(totals.getPlannedAmount())
+                    .totalActualAmount(totals.getActualAmount())
+                    .totalRemainingAmount(totals.getRemainingAmount())
+                    .itemCount(totals.getItemCount())
+                    .completedCount(totals.getCompletedCount())
+                    .overBudgetCount(totals.getOverBudgetCount())
+                    .build());
+        }
+        return summaries;
     }
     
     @Override
     public BudgetDTO.Summary getBudgetSummary(Long userId) {
-        List<Budget> budgets = budgetRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        
-        BigDecimal totalPlannedAmount = budgets.stream()
-                .map(Budget::getPlannedAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalActualAmount = budgets.stream()
-                .map(Budget::getActualAmount)
-                .filter(amount -> amount != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalRemainingBudget = totalPlannedAmount.subtract(totalActualAmount);
-        
-        int totalCount = budgets.size();
-        int completedCount = (int) budgets.stream()
-                .filter(b -> b.getStatus() == Budget.BudgetStatus.COMPLETED)
-                .count();
-        int overBudgetCount = (int) budgets.stream()
-                .filter(Budget::isOverBudget)
-                .count();
+        PlanSummary summary = planSummaryService.getSummary(userId);
+        BigDecimal totalPlannedAmount = summary.amount(PlanSummaryDelta.BUDGET_PLANNED);
+        BigDecimal totalActualAmount = summary.amount(PlanSummaryDelta.BUDGET_ACTUAL);
         
         return BudgetDTO.Summary.builder()
                 .totalPlannedAmount(totalPlannedAmount)
                 .totalActualAmount(totalActualAmount)
-                .totalRemainingAmount(totalRemainingBudget)
-                .totalItemCount(totalCount)
-                .completedItemCount(completedCount)
-                .overBudgetItemCount(overBudgetCount)
+                .totalRemainingAmount(totalPlannedAmount.subtract(totalActualAmount))
+                .totalItemCount((int) summary.count(PlanSummaryDelta.BUDGET_TOTAL))
+                .completedItemCount((int) summary.count(PlanSummaryDelta.budgetStatus(Budget.BudgetStatus.COMPLETED)))
+                .overBudgetItemCount((int) summary.count(PlanSummaryDelta.BUDGET_OVER_BUDGET))
                 .build();
     }
     
     @Override
-    public BudgetDTO.Response setBudgetAlert(Long userId, Long budgetId, BigDecimal alertThreshold) {
-        Budget budget = budgetRepository.findById(budgetId)
-                .orElseThrow(() -> new RuntimeException("예산 항목을 찾을 수 없습니다."));
-        
-        if (!budget.getUserId().equals(userId)) {
-            throw new RuntimeException("접근 권한이 없습니다.");
-        }
-        
-        // 알림 임계값 설정 로직 (실제 구현에서는 별도 테이블이나 필드에 저장)
-        log.info("예산 알림 설정: ID: {}, 임계값: {}", budgetId, alertThreshold);
-        
-        return BudgetDTO.Response.from(budget);
+    @Transactional
+    public BudgetDTO.AlertResponse setBudgetAlert(Long userId, Long budgetId, BigDecimal alertThreshold) {
+        return budgetAlertService.setItemAlert(userId, budgetId, alertThreshold);
     }
     
     @Override
+    @Transactional
     public List<BudgetDTO.Response> applyBudgetTemplate(Long userId, String templateName) {
-        // 템플릿 적용 로직 (실제 구현에서는 템플릿 데이터베이스에서 조회)
-        log.info("예산 템플릿 적용: 사용자: {}, 템플릿: {}", userId, templateName);
-        
-        // 빈 리스트 반환 (실제 구현에서는 템플릿 기반 예산 생성)
-        return List.of();
+        return planTemplateService.applyBudgetTemplate(userId, templateName);
     }
     
     @Override
@@ -242,12 +274,145 @@ public class BudgetServiceImpl implements BudgetService {
     }
     
     @Override
+    @Transactional
     public List<BudgetDTO.Response> importBudgetFromExcel(Long userId, String excelData, String format) {
-        // Excel 가져오기 로직 (실제 구현에서는 Excel 파일을 파싱하여 예산 생성)
         log.info("예산 Excel 가져오기: 사용자: {}, 형식: {}", userId, format);
         
-        // 빈 리스트 반환 (실제 구현에서는 파싱된 예산 데이터 반환)
-        return List.of();
+        // CSV는 본문 텍스트, XLSX는 Base64 인코딩된 파일 내용으로 전달됨
+        String resolvedFormat = SpreadsheetReader.resolveFormat(format, null);
+        byte[] data = SpreadsheetReader.FORMAT_XLSX.equals(resolvedFormat)
+                ? Base64.getMimeDecoder().decode(excelData)
+                : excelData.getBytes(StandardCharsets.UTF_8);
+        
+        // 같은 시각에 다른 경로로 등록된 예산이 섞이지 않도록 이번 가져오기로 등록된 ID만 조회
+        List<Long> importedIds = new ArrayList<>();
+        ImportResult result = importBudgets(userId, new ByteArrayInputStream(data), resolvedFormat, importedIds);
+        if (result.getFailureCount() > 0) {
+            log.warn("예산 가져오기 중 {}건의 행이 실패했습니다. 사용자: {}", result.getFailureCount(), userId);
+        }
+        
+        return budgetRepository.findAllById(importedIds).stream()
+                .sorted(Comparator.comparing(Budget::getId).reversed())
+                .map(BudgetDTO.Response::from)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional
+    public ImportResult importBudgets(Long userId, InputStream inputStream, String format) {
+        return importBudgets(userId, inputStream, format, new ArrayList<>());
+    }
+    
+    /**
+     * 예산 대량 가져오기
+     * @param importedIds 등록된 예산 ID를 담을 목록 (이력 기록에도 사용)
+     */
+    private ImportResult importBudgets(Long userId, InputStream inputStream, String format, List<Long> importedIds) {
+        ImportResult result = new ImportResult();
+        List<Budget> batch = new ArrayList<>(importBatchSize);
+        SpreadsheetReader.HeaderIndex[] header = new SpreadsheetReader.HeaderIndex[1];
+        
+        try {
+            SpreadsheetReader.read(inputStream, format, (rowNumber, cells) -> {
+                if (header[0] == null) {
+                    header[0] = new SpreadsheetReader.HeaderIndex(cells, IMPORT_HEADER_ALIASES);
+                    if (!header[0].has("category") || !header[0].has("itemName") || !header[0].has("plannedAmount")) {
+                        throw new IllegalArgumentException("헤더에 카테고리(category), 항목명(itemName), 계획금액(plannedAmount) 열이 필요합니다.");
+                    }
+                    return;
+                }
+                try {
+                    batch.add(parseImportRow(userId, header[0], cells));
+                } catch (IllegalArgumentException e) {
+                    result.addError(rowNumber, e.getMessage());
+                    return;
+                }
+                if (batch.size() >= importBatchSize) {
+                    result.addSuccess(insertImportBatch(userId, batch, importedIds));
+                    batch.clear();
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        }
+        result.addSuccess(insertImportBatch(userId, batch, importedIds));
+        if (result.getSuccessCount() > 0) {
+            budgetHistoryRecorder.recordBulkCreated(importedIds, BudgetEvent.EventType.IMPORTED);
+            eventPublisher.publishEvent(new BudgetChangedEvent(userId, null, BudgetChangedEvent.ChangeType.IMPORTED));
+        }
+        
+        log.info("예산 가져오기 완료. 사용자: {}, 성공: {}, 실패: {}", userId, result.getSuccessCount(), result.getFailureCount());
+        return result;
+    }
+    
+    /**
+     * 가져오기 배치 등록 및 요약 카운터/카테고리 알림 합계 반영
+     */
+    private int insertImportBatch(Long userId, List<Budget> batch, List<Long> importedIds) {
+        int inserted = budgetBatchRepository.batchInsert(batch);
+        batch.forEach(budget -> importedIds.add(budget.getId()));
+        planSummaryService.apply(userId, new PlanSummaryDelta().addBudgets(batch));
+        budgetAlertService.trackBulkSpending(userId, batch);
+        return inserted;
+    }
+    
+    /**
+     * 가져오기 행 검증 및 변환
+     */
+    private Budget parseImportRow(Long userId, SpreadsheetReader.HeaderIndex header, List<String> cells) {
+        String category = header.get(cells, "category");
+        String itemName = header.get(cells, "itemName");
+        if (category == null) {
+            throw new IllegalArgumentException("카테고리는 필수입니다.");
+        }
+        if (itemName == null) {
+            throw new IllegalArgumentException("항목명은 필수입니다.");
+        }
+        if (category.length() > 100 || itemName.length() > 200) {
+            throw new IllegalArgumentException("카테고리 또는 항목명이 너무 깁니다.");
+        }
+        
+        BigDecimal plannedAmount = parseAmountCell(header.get(cells, "plannedAmount"), "계획금액");
+        if (plannedAmount == null) {
+            throw new IllegalArgumentException("계획금액은 필수입니다.");
+        }
+        BigDecimal actualAmount = parseAmountCell(header.get(cells, "actualAmount"), "실제금액");
+        
+        return Budget.builder()
+                .userId(userId)
+                .category(category)
+                .itemName(itemName)
+                .plannedAmount(plannedAmount)
+                .actualAmount(actualAmount)
+                .status(parseEnumCell(Budget.BudgetStatus.class, header.get(cells, "status"), Budget.BudgetStatus.PLANNED, "상태"))
+                .priority(parseEnumCell(Budget.Priority.class, header.get(cells, "priority"), Budget.Priority.MEDIUM, "우선순위"))
+                .description(header.get(cells, "description"))
+                .vendor(header.get(cells, "vendor"))
+                .dueDate(SpreadsheetReader.parseDateTime(header.get(cells, "dueDate")))
+                .build();
+    }
+    
+    private BigDecimal parseAmountCell(String value, String label) {
+        try {
+            BigDecimal amount = SpreadsheetReader.parseDecimal(value);
+            if (amount != null && amount.signum() < 0) {
+                throw new IllegalArgumentException(String.format("%s은(는) 0 이상이어야 합니다.", label));
+            }
+            return amount;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("%s 값이 숫자가 아닙니다: %s", label, value));
+        }
+    }
+    
+    private <E extends Enum<E>> E parseEnumCell(Class<E> type, String value, E defaultValue, String label) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("%s 값이 올바르지 않습니다: %s", label, value));
+        }
     }
     
     @Override
@@ -266,6 +431,7 @@ public class BudgetServiceImpl implements BudgetService {
     }
     
     @Override
+    @Transactional
     public BudgetDTO.Response approveBudget(Long userId, Long budgetId) {
         Budget budget = budgetRepository.findById(budgetId)
                 .orElseThrow(() -> new RuntimeException("예산 항목을 찾을 수 없습니다."));
@@ -274,14 +440,20 @@ public class BudgetServiceImpl implements BudgetService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
+        PlanSummaryDelta delta = new PlanSummaryDelta().remove(budget);
+        BudgetDTO.HistoryEntry before = BudgetDTO.HistoryEntry.of(budget);
         budget.setStatus(Budget.BudgetStatus.APPROVED);
         Budget savedBudget = budgetRepository.save(budget);
+        planSummaryService.apply(userId, delta.add(savedBudget));
+        budgetHistoryRecorder.recordChange(before, savedBudget, BudgetEvent.EventType.APPROVED, null);
+        eventPublisher.publishEvent(new BudgetChangedEvent(userId, budgetId, BudgetChangedEvent.ChangeType.UPDATED));
         
         log.info("예산 승인: ID: {}, 사용자: {}", budgetId, userId);
         return BudgetDTO.Response.from(savedBudget);
     }
     
     @Override
+    @Transactional
     public BudgetDTO.Response rejectBudget(Long userId, Long budgetId, String reason) {
         Budget budget = budgetRepository.findById(budgetId)
                 .orElseThrow(() -> new RuntimeException("예산 항목을 찾을 수 없습니다."));
@@ -290,30 +462,81 @@ public class BudgetServiceImpl implements BudgetService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
+        PlanSummaryDelta delta = new PlanSummaryDelta().remove(budget);
+        BudgetDTO.HistoryEntry before = BudgetDTO.HistoryEntry.of(budget);
         budget.setStatus(Budget.BudgetStatus.REJECTED);
         Budget savedBudget = budgetRepository.save(budget);
+        planSummaryService.apply(userId, delta.add(savedBudget));
+        budgetHistoryRecorder.recordChange(before, savedBudget, BudgetEvent.EventType.REJECTED, reason);
+        eventPublisher.publishEvent(new BudgetChangedEvent(userId, budgetId, BudgetChangedEvent.ChangeType.UPDATED));
         
         log.info("예산 반려: ID: {}, 사유: {}, 사용자: {}", budgetId, reason, userId);
         return BudgetDTO.Response.from(savedBudget);
     }
     
     @Override
-    public List<BudgetDTO.Response> getBudgetHistory(Long userId, Long budgetId) {
-        // 예산 이력 조회 로직 (실제 구현에서는 별도 테이블에서 조회)
-        log.info("예산 이력 조회: ID: {}, 사용자: {}", budgetId, userId);
+    public List<BudgetDTO.HistoryEntry> getBudgetHistory(Long userId, Long budgetId, int limit) {
+        BudgetEvent latest = budgetEventRepository.findFirstByBudgetIdOrderByVersionDesc(budgetId).orElse(null);
+        if (latest == null) {
+            // 이력 기록 이전부터 있던 항목은 변경된 적이 없으면 이력이 없음
+            getBudgetById(userId, budgetId);
+            return List.of();
+        }
+        if (!latest.getUserId().equals(userId)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
         
-        // 빈 리스트 반환 (실제 구현에서는 이력 데이터 반환)
-        return List.of();
+        // 요청 구간 직전의 스냅샷부터 이벤트를 순서대로 반영
+        int fromVersion = Math.max(0, latest.getVersion() - Math.max(1, limit));
+        BudgetDTO.HistoryEntry state = budgetSnapshotRepository
+                .findFirstByBudgetIdAndVersionLessThanEqualOrderByVersionDesc(budgetId, fromVersion)
+                .map(BudgetDTO.HistoryEntry::from)
+                .orElseGet(BudgetDTO.HistoryEntry::new);
+        int snapshotVersion = state.getVersion() != null ? state.getVersion() : 0;
+        
+        List<BudgetDTO.HistoryEntry> history = new ArrayList<>();
+        for (BudgetEvent event : budgetEventRepository.findByBudgetIdAndVersionGreaterThanOrderByVersionAsc(budgetId, snapshotVersion)) {
+            state = state.apply(event);
+            if (event.getVersion() > fromVersion) {
+                history.add(state);
+            }
+        }
+        Collections.reverse(history);
+        return history;
     }
     
     @Override
-    public String generateBudgetReport(Long userId, String reportType) {
-        List<Budget> budgets = budgetRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        
-        // 리포트 생성 로직 (실제 구현에서는 PDF, Excel 등으로 생성)
-        log.info("예산 리포트 생성: 사용자: {}, 리포트 타입: {}", userId, reportType);
-        
-        return "예산 리포트가 " + reportType + " 형식으로 생성되었습니다.";
+    public BudgetDTO.HistoryEntry getBudgetAsOf(Long userId, Long budgetId, LocalDateTime at) {
+        BudgetSnapshot snapshot = budgetSnapshotRepository
+                .findFirstByBudgetIdAndOccurredAtLessThanEqualOrderByVersionDesc(budgetId, at)
+                .orElse(null);
+        BudgetDTO.HistoryEntry state = snapshot != null ? BudgetDTO.HistoryEntry.from(snapshot) : null;
+        Long ownerId = snapshot != null ? snapshot.getUserId() : null;
+        
+        // 스냅샷 이후 해당 시각까지의 이벤트만 반영
+        for (BudgetEvent event : budgetEventRepository.findByBudgetIdAndVersionGreaterThanAndOccurredAtLessThanEqualOrderByVersionAsc(
+                budgetId, snapshot != null ? snapshot.getVersion() : 0, at)) {
+            state = (state != null ? state : new BudgetDTO.HistoryEntry()).apply(event);
+            ownerId = event.getUserId();
+        }
+        if (state == null) {
+            throw new RuntimeException("해당 시점의 예산 이력이 없습니다.");
+        }
+        if (!userId.equals(ownerId)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
+        return state;
+    }
+    
+    @Override
+    public BudgetDTO.ReportJob generateBudgetReport(Long userId, String reportType) {
+        BudgetReportJob.ReportType type;
+        try {
+            type = BudgetReportJob.ReportType.valueOf(reportType.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new RuntimeException("지원하지 않는 리포트 형식입니다: " + reportType);
+        }
+        return budgetReportService.requestReport(userId, type);
     }
     
 
@@ -326,32 +549,15 @@ public class BudgetServiceImpl implements BudgetService {
     @Override
     public List<BudgetDTO.Response> getBudgetSummaryByCategory(Long userId) {
         List<Budget> budgets = budgetRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        
-        // 카테고리별로 그룹화하여 요약 정보 생성
-        return budgets.stream()
-                .collect(Collectors.groupingBy(Budget::getCategory))
-                .values()
-                .stream()
-                .map(categoryBudgets -> {
-                    // 각 카테고리의 첫 번째 예산을 기준으로 Response 생성
-                    Budget representativeBudget = categoryBudgets.get(0);
-                    
-                    // 카테고리별 총계 계산
-                    BigDecimal totalPlanned = categoryBudgets.stream()
-                            .map(Budget::getPlannedAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    BigDecimal totalActual = categoryBudgets.stream()
-                            .map(Budget::getActualAmount)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add);
-                    
-                    // 대표 예산의 정보로 Response 생성하되, 총계 정보를 포함
-                    BudgetDTO.Response response = BudgetDTO.Response.from(representativeBudget);
-                    response.setPlannedAmount(totalPlanned);
-                    response.setActualAmount(totalActual);
-                    response.setRemainingBudget(totalPlanned.subtract(totalActual));
-                    
-                    return response;
-                })
-                .collect(Collectors.toList());
+        List<BudgetDTO.Response> responses = new ArrayList<>();
+        for (BudgetAggregator.CategoryTotals totals : BudgetAggregator.byCategory(budgets)) {
+            // 각 카테고리의 첫 번째 예산을 기준으로 Response 생성하되, 총계 정보를 포함
+            BudgetDTO.Response response = BudgetDTO.Response.from(totals.getRepresentative());
+            response.setPlannedAmount(totals.getPlannedAmount());
+            response.setActualAmount(totals.getActualAmount());
+            response.setRemainingBudget(totals.getRemainingAmount());
+            responses.add(response);
+        }
+        return responses;
     }
 }
@@ -0,0 +1,26 @@
+package com.w.p.domain.dashboard.controller;
+
+import com.w.p.common.ApiResponse;
+import com.w.p.domain.dashboard.dto.DashboardDTO;
+import com.w.p.domain.dashboard.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * 메인 대시보드 조회 (예산/일정/웨딩홀/부동산 요약을 한 번에)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<DashboardDTO.Response>> getDashboard(@RequestParam Long userId) {
+        return ResponseEntity.ok(ApiResponse.success(dashboardService.getDashboard(userId)));
+    }
+}
@@ -0,0 +1,126 @@
+package com.w.p.domain.dashboard.dto;
+
+import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.entity.RealEstate;
+import com.w.p.entity.Schedule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DashboardDTO {
+
+    /**
+     * 대시보드 응답 (마감 시간 안에 조회하지 못한 구역은 null이고 unavailableSections에 표시)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private BudgetDTO.Summary budget;
+        private ScheduleSection schedule;
+        private WeddingHallSection weddingHall;
+        private RealEstateSection realEstate;
+        private List<String> unavailableSections;
+        private LocalDateTime generatedAt;
+
+        public boolean isPartial() {
+            return unavailableSections != null && !unavailableSections.isEmpty();
+        }
+    }
+
+    /**
+     * 일정 구역 (건수와 다가오는 일정 일부)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ScheduleSection {
+        private int totalCount;
+        private int completedCount;
+        private int pendingCount;
+        private int overdueCount;
+        private List<UpcomingSchedule> upcoming;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UpcomingSchedule {
+        private Long id;
+        private String title;
+        private Schedule.ScheduleType type;
+        private Schedule.ScheduleStatus status;
+        private LocalDateTime dueDate;
+
+        public static UpcomingSchedule from(Schedule schedule) {
+            return UpcomingSchedule.builder()
+                    .id(schedule.getId())
+                    .title(schedule.getTitle())
+                    .type(schedule.getType())
+                    .status(schedule.getStatus())
+                    .dueDate(schedule.getDueDate())
+                    .build();
+        }
+    }
+
+    /**
+     * 웨딩홀 구역
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class WeddingHallSection {
+        private long totalCount;
+        private long bookmarkedCount;
+        private BigDecimal averagePrice;
+        private BigDecimal minPrice;
+    }
+
+    /**
+     * 부동산 구역 (건수와 최근 등록 매물 일부)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RealEstateSection {
+        private long totalCount;
+        private long bookmarkedCount;
+        private List<RecentRealEstate> recent;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RecentRealEstate {
+        private Long id;
+        private String title;
+        private RealEstate.PropertyType propertyType;
+        private RealEstate.TransactionType transactionType;
+        private Long price;
+        private Long monthlyRent;
+        private Boolean isBookmarked;
+
+        public static RecentRealEstate from(RealEstate realEstate) {
+            return RecentRealEstate.builder()
+                    .id(realEstate.getId())
+                    .title(realEstate.getTitle())
+                    .propertyType(realEstate.getPropertyType())
+                    .transactionType(realEstate.getTransactionType())
+                    .price(realEstate.getPrice())
+                    .monthlyRent(realEstate.getMonthlyRent())
+                    .isBookmarked(realEstate.getIsBookmarked())
+                    .build();
+        }
+    }
+}
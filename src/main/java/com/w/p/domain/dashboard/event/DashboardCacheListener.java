@@ -0,0 +1,44 @@
+package com.w.p.domain.dashboard.event;
+
+import com.w.p.domain.budget.event.BudgetChangedEvent;
+import com.w.p.domain.dashboard.service.DashboardService;
+import com.w.p.domain.realestate.event.RealEstateChangedEvent;
+import com.w.p.domain.schedule.event.ScheduleChangedEvent;
+import com.w.p.domain.wedding.event.WeddingHallChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 대시보드 캐시 무효화 리스너
+ * 커밋 이후에 무효화하여 커밋 전 데이터로 캐시가 다시 채워지지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheListener {
+
+    private final DashboardService dashboardService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBudgetChanged(BudgetChangedEvent event) {
+        dashboardService.evictUser(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        dashboardService.evictUser(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWeddingHallChanged(WeddingHallChangedEvent event) {
+        if (event.getOwnerId() != null) {
+            dashboardService.evictUser(event.getOwnerId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRealEstateChanged(RealEstateChangedEvent event) {
+        dashboardService.evictUser(event.getUserId());
+    }
+}
@@ -0,0 +1,19 @@
+package com.w.p.domain.dashboard.service;
+
+import com.w.p.domain.dashboard.dto.DashboardDTO;
+
+/**
+ * 메인 대시보드 서비스 인터페이스
+ */
+public interface DashboardService {
+
+    /**
+     * 예산/일정/웨딩홀/부동산 요약을 한 번에 조회
+     */
+    DashboardDTO.Response getDashboard(Long userId);
+
+    /**
+     * 사용자 대시보드 캐시 무효화
+     */
+    void evictUser(Long userId);
+}
@@ -0,0 +1,174 @@
+package com.w.p.domain.dashboard.service.impl;
+
+import com.w.p.config.CacheConfig;
+import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.domain.budget.service.BudgetService;
+import com.w.p.domain.dashboard.dto.DashboardDTO;
+import com.w.p.domain.dashboard.service.DashboardService;
+import com.w.p.domain.realestate.repository.RealEstateRepository;
+import com.w.p.domain.realestate.repository.RealEstateStatisticsView;
+import com.w.p.domain.schedule.dto.ScheduleDTO;
+import com.w.p.domain.schedule.repository.ScheduleRepository;
+import com.w.p.domain.schedule.service.ScheduleService;
+import com.w.p.domain.wedding.repository.WeddingHallRepository;
+import com.w.p.domain.wedding.repository.WeddingHallStatisticsView;
+import com.w.p.entity.Schedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 메인 대시보드 서비스 구현체
+ * 예산/일정/웨딩홀/부동산 구역은 서로 독립적인 집계 조회이므로 대시보드 실행기에서 동시에 실행하고, 하나의 마감 시간 안에 모읍니다.
+ * 마감 시간을 넘긴 구역은 비워서 응답하며, 모든 구역이 채워진 결과만 사용자별로 캐시합니다 (변경 이벤트 커밋 후 무효화).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final String SECTION_BUDGET = "budget";
+    private static final String SECTION_SCHEDULE = "schedule";
+    private static final String SECTION_WEDDING_HALL = "weddingHall";
+    private static final String SECTION_REAL_ESTATE = "realEstate";
+
+    private final BudgetService budgetService;
+    private final ScheduleService scheduleService;
+    private final ScheduleRepository scheduleRepository;
+    private final WeddingHallRepository weddingHallRepository;
+    private final RealEstateRepository realEstateRepository;
+    private final Executor dashboardExecutor;
+
+    @Value("${dashboard.timeout-ms:1500}")
+    private long timeoutMillis;
+
+    /**
+     * 구역 조회는 각 작업 스레드의 트랜잭션에서 실행되므로 요청 스레드는 대기하는 동안 커넥션을 잡지 않음
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD, key = "#userId", unless = "#result.partial")
+    public DashboardDTO.Response getDashboard(Long userId) {
+        CompletableFuture<?>[] futures = {
+                submit(() -> budgetService.getBudgetSummary(userId)),
+                submit(() -> loadScheduleSection(userId)),
+                submit(() -> loadWeddingHallSection(userId)),
+                submit(() -> loadRealEstateSection(userId))
+        };
+        String[] sections = {SECTION_BUDGET, SECTION_SCHEDULE, SECTION_WEDDING_HALL, SECTION_REAL_ESTATE};
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Object[] results = new Object[futures.length];
+        List<String> unavailable = new ArrayList<>();
+        for (int i = 0; i < futures.length; i++) {
+            results[i] = await(futures[i], deadline, sections[i], userId);
+            if (results[i] == null) {
+                unavailable.add(sections[i]);
+            }
+        }
+
+        return DashboardDTO.Response.builder()
+                .budget((BudgetDTO.Summary) results[0])
+                .schedule((DashboardDTO.ScheduleSection) results[1])
+                .weddingHall((DashboardDTO.WeddingHallSection) results[2])
+                .realEstate((DashboardDTO.RealEstateSection) results[3])
+                .unavailableSections(unavailable)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD, key = "#userId")
+    public void evictUser(Long userId) {
+        log.debug("대시보드 캐시 무효화. 사용자: {}", userId);
+    }
+
+    private DashboardDTO.ScheduleSection loadScheduleSection(Long userId) {
+        ScheduleDTO.ListResponse statistics = scheduleService.getScheduleStatistics(userId);
+        List<DashboardDTO.UpcomingSchedule> upcoming = scheduleRepository
+                .findTop5ByUserIdAndStatusInAndDueDateGreaterThanEqualOrderByDueDateAsc(userId,
+                        EnumSet.of(Schedule.ScheduleStatus.PENDING, Schedule.ScheduleStatus.IN_PROGRESS), LocalDateTime.now())
+                .stream()
+                .map(DashboardDTO.UpcomingSchedule::from)
+                .collect(Collectors.toList());
+
+        return DashboardDTO.ScheduleSection.builder()
+                .totalCount(statistics.getTotalCount())
+                .completedCount(statistics.getCompletedCount())
+                .pendingCount(statistics.getPendingCount())
+                .overdueCount(statistics.getOverdueCount())
+                .upcoming(upcoming)
+                .build();
+    }
+
+    private DashboardDTO.WeddingHallSection loadWeddingHallSection(Long userId) {
+        WeddingHallStatisticsView statistics = weddingHallRepository.getStatisticsByUserId(userId);
+        return DashboardDTO.WeddingHallSection.builder()
+                .totalCount(statistics.getTotalCount())
+                .bookmarkedCount(statistics.getBookmarkedCount())
+                .averagePrice(statistics.getAveragePrice() != null
+                        ? BigDecimal.valueOf(statistics.getAveragePrice()).setScale(2, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO)
+                .minPrice(statistics.getMinPrice())
+                .build();
+    }
+
+    private DashboardDTO.RealEstateSection loadRealEstateSection(Long userId) {
+        RealEstateStatisticsView statistics = realEstateRepository.getStatisticsByUserId(userId);
+        return DashboardDTO.RealEstateSection.builder()
+                .totalCount(statistics.getTotalCount())
+                .bookmarkedCount(statistics.getBookmarkedCount())
+                .recent(realEstateRepository.findTop5ByUserIdOrderByCreatedAtDesc(userId).stream()
+                        .map(DashboardDTO.RecentRealEstate::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, dashboardExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 공통 마감 시간까지 남은 시간만큼 대기 (실패/시간 초과 시 null)
+     */
+    private Object await(CompletableFuture<?> future, long deadline, String section, Long userId) {
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("대시보드 구역 조회 시간 초과. 구역: {}, 사용자: {}", section, userId);
+        } catch (ExecutionException e) {
+            log.error("대시보드 구역 조회 실패. 구역: {}, 사용자: {}", section, userId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        return null;
+    }
+}
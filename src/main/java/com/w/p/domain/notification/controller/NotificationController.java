@@ -0,0 +1,53 @@
+package com.w.p.domain.notification.controller;
+
+import com.w.p.common.ApiResponse;
+import com.w.p.domain.notification.dto.NotificationDTO;
+import com.w.p.domain.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/notifications")
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * 알림 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<NotificationDTO.Response>>> getNotifications(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        List<NotificationDTO.Response> notifications = notificationService.getNotifications(userId, page, size);
+        return ResponseEntity.ok(ApiResponse.success(notifications));
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Long>> getUnreadCount(@RequestParam Long userId) {
+        return ResponseEntity.ok(ApiResponse.success(notificationService.getUnreadCount(userId)));
+    }
+
+    /**
+     * 알림 읽음 처리
+     */
+    @PutMapping("/{notificationId}/read")
+    public ResponseEntity<ApiResponse<NotificationDTO.Response>> markAsRead(
+            @PathVariable Long notificationId,
+            @RequestParam Long userId) {
+
+        NotificationDTO.Response notification = notificationService.markAsRead(userId, notificationId);
+        return ResponseEntity.ok(ApiResponse.success(notification));
+    }
+}
@@ -0,0 +1,36 @@
+package com.w.p.domain.notification.dto;
+
+import com.w.p.entity.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class NotificationDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private Long id;
+        private Notification.NotificationType type;
+        private String title;
+        private String message;
+        private Boolean isRead;
+        private LocalDateTime createdAt;
+
+        public static Response from(Notification notification) {
+            return Response.builder()
+                    .id(notification.getId())
+                    .type(notification.getType())
+                    .title(notification.getTitle())
+                    .message(notification.getMessage())
+                    .isRead(notification.getIsRead())
+                    .createdAt(notification.getCreatedAt())
+                    .build();
+        }
+    }
+}
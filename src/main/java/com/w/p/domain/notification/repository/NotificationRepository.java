@@ -0,0 +1,20 @@
+package com.w.p.domain.notification.repository;
+
+import com.w.p.entity.Notification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 사용자별 알림 목록 조회
+    Page<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+    // 읽지 않은 알림 수
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    // 중복 발송 여부 확인
+    boolean existsByDedupeKey(String dedupeKey);
+}
@@ -0,0 +1,33 @@
+package com.w.p.domain.notification.service;
+
+import com.w.p.domain.notification.dto.NotificationDTO;
+import com.w.p.entity.Notification;
+
+import java.util.List;
+
+/**
+ * 알림 서비스 인터페이스
+ */
+public interface NotificationService {
+
+    /**
+     * 알림 발송 (dedupeKey 기준 멱등)
+     * @return 새로 발송되었으면 true, 이미 발송된 알림이면 false
+     */
+    boolean notify(Long userId, Notification.NotificationType type, String title, String message, String dedupeKey);
+
+    /**
+     * 사용자별 알림 목록 조회
+     */
+    List<NotificationDTO.Response> getNotifications(Long userId, int page, int size);
+
+    /**
+     * 읽지 않은 알림 수
+     */
+    long getUnreadCount(Long userId);
+
+    /**
+     * 알림 읽음 처리
+     */
+    NotificationDTO.Response markAsRead(Long userId, Long notificationId);
+}
@@ -0,0 +1,79 @@
+package com.w.p.domain.notification.service.impl;
+
+import com.w.p.domain.notification.dto.NotificationDTO;
+import com.w.p.domain.notification.repository.NotificationRepository;
+import com.w.p.domain.notification.service.NotificationService;
+import com.w.p.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NotificationServiceImpl implements NotificationService {
+
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 저장 실패가 호출자 트랜잭션을 롤백시키지 않도록 분리
+    public boolean notify(Long userId, Notification.NotificationType type, String title, String message, String dedupeKey) {
+        if (notificationRepository.existsByDedupeKey(dedupeKey)) {
+            log.debug("이미 발송된 알림입니다. key: {}", dedupeKey);
+            return false;
+        }
+
+        Notification notification = Notification.builder()
+                .userId(userId)
+                .type(type)
+                .title(title)
+                .message(message)
+                .dedupeKey(dedupeKey)
+                .build();
+
+        try {
+            // 동시 발송 경합은 유니크 제약으로 차단
+            notificationRepository.saveAndFlush(notification);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("동시에 발송된 중복 알림을 건너뜁니다. key: {}", dedupeKey);
+            return false;
+        }
+
+        log.info("알림이 발송되었습니다. 사용자: {}, 유형: {}", userId, type);
+        return true;
+    }
+
+    @Override
+    public List<NotificationDTO.Response> getNotifications(Long userId, int page, int size) {
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(page, size)).stream()
+                .map(NotificationDTO.Response::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+    }
+
+    @Override
+    @Transactional
+    public NotificationDTO.Response markAsRead(Long userId, Long notificationId) {
+        Notification notification = notificationRepository.findById(notificationId)
+                .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다."));
+
+        if (!notification.getUserId().equals(userId)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
+
+        notification.setIsRead(true);
+        return NotificationDTO.Response.from(notification);
+    }
+}
@@ -261,4 +261,25 @@ public class RealEstateController {
             return ResponseEntity.badRequest().body(ApiResponse.error("검색 실패", e.getMessage()));
         }
     }
+
+    /**
+     * 부동산 검색 (페이지 단위)
+     */
+    @PostMapping("/search/page")
+    public ResponseEntity<ApiResponse<RealEstateDTO.PageResponse>> searchRealEstatesPage(
+            @RequestBody RealEstateDTO.SearchRequest request,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+        try {
+            String username = authentication.getName();
+            log.info("부동산 페이지 검색 요청 - 사용자: {}, 키워드: {}, 페이지: {}", username, request.getKeyword(), page);
+            
+            RealEstateDTO.PageResponse estates = realEstateService.searchRealEstates(username, request, page, size);
+            return ResponseEntity.ok(ApiResponse.success(estates, "부동산 검색 성공"));
+        } catch (Exception e) {
+            log.error("부동산 페이지 검색 실패", e);
+            return ResponseEntity.badRequest().body(ApiResponse.error("검색 실패", e.getMessage()));
+        }
+    }
 }
@@ -2,12 +2,16 @@ package com.w.p.domain.realestate.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.w.p.common.util.ImageVariantGenerator;
 import com.w.p.entity.RealEstate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 부동산 DTO
@@ -36,6 +40,7 @@ public class RealEstateDTO {
     private Integer buildYear;
     private String description;
     private String imageUrl;
+    private String thumbnailUrl; // 목록용 축소본 URL (축소본이 없는 이미지는 null)
     private String[] images;
     private String facilities;
     private String transportation;
@@ -87,6 +92,23 @@ public class RealEstateDTO {
         private RealEstate.PropertyType propertyType;
         private RealEstate.TransactionType transactionType;
         private Boolean isBookmarked;
+        private String sortBy; // createdAt(기본), price, area, title
+        private String direction; // ASC, DESC(기본)
+    }
+
+    /**
+     * 검색 페이지 응답 DTO
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PageResponse {
+        private List<RealEstateDTO> realEstates;
+        private long totalCount;
+        private int page;
+        private int size;
+        private boolean hasNext;
     }
 
     /**
@@ -118,6 +140,7 @@ public class RealEstateDTO {
         dto.setBuildYear(entity.getBuildYear());
         dto.setDescription(entity.getDescription());
         dto.setImageUrl(entity.getImageUrl());
+        dto.setThumbnailUrl(ImageVariantGenerator.variantUrl(entity.getImageUrl(), ImageVariantGenerator.Variant.THUMBNAIL));
         
         // images JSON 문자열을 배열로 변환
         if (entity.getImages() != null && !entity.getImages().trim().isEmpty()) {
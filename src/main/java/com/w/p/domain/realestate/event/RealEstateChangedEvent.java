@@ -0,0 +1,22 @@
+package com.w.p.domain.realestate.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 부동산 매물 변경 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class RealEstateChangedEvent {
+
+    private final Long userId;
+    private final Long realEstateId;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -1,49 +1,41 @@
 package com.w.p.domain.realestate.repository;
 
 import com.w.p.entity.RealEstate;
-import com.w.p.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 부동산 정보 리포지토리
  */
 @Repository
-public interface RealEstateRepository extends JpaRepository<RealEstate, Long> {
+public interface RealEstateRepository extends JpaRepository<RealEstate, Long>, JpaSpecificationExecutor<RealEstate> {
 
     /**
-     * 사용자별 부동산 목록 조회
+     * 사용자별 부동산 목록 조회 (사용자명 조건을 조인으로 처리)
      */
-    List<RealEstate> findByUserOrderByCreatedAtDesc(User user);
+    List<RealEstate> findByUserUsernameOrderByCreatedAtDesc(String username);
 
     /**
-     * 제목으로 검색
+     * 소유자 조건을 포함한 단건 조회 (다른 사용자의 매물은 조회되지 않음)
      */
-    @Query("SELECT r FROM RealEstate r WHERE r.user = :user AND r.title LIKE %:keyword%")
-    List<RealEstate> findByUserAndTitleContaining(@Param("user") User user, @Param("keyword") String keyword);
+    Optional<RealEstate> findByIdAndUserUsername(Long id, String username);
 
     /**
-     * 주소로 검색
+     * 사용자별 최근 등록 매물 (상위 5건)
      */
-    @Query("SELECT r FROM RealEstate r WHERE r.user = :user AND r.address LIKE %:keyword%")
-    List<RealEstate> findByUserAndAddressContaining(@Param("user") User user, @Param("keyword") String keyword);
+    List<RealEstate> findTop5ByUserIdOrderByCreatedAtDesc(Long userId);
 
     /**
-     * 매물 타입별 검색
+     * 사용자 부동산 통계 (건수/북마크 수)
      */
-    List<RealEstate> findByUserAndPropertyTypeOrderByCreatedAtDesc(User user, RealEstate.PropertyType propertyType);
-
-    /**
-     * 거래 타입별 검색
-     */
-    List<RealEstate> findByUserAndTransactionTypeOrderByCreatedAtDesc(User user, RealEstate.TransactionType transactionType);
-
-    /**
-     * 북마크된 매물 조회
-     */
-    List<RealEstate> findByUserAndIsBookmarkedTrueOrderByCreatedAtDesc(User user);
+    @Query("SELECT COUNT(r) AS totalCount, " +
+           "COALESCE(SUM(CASE WHEN r.isBookmarked = true THEN 1 ELSE 0 END), 0) AS bookmarkedCount " +
+           "FROM RealEstate r WHERE r.user.id = :userId")
+    RealEstateStatisticsView getStatisticsByUserId(@Param("userId") Long userId);
 }
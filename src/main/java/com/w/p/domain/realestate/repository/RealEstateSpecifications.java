@@ -0,0 +1,73 @@
+package com.w.p.domain.realestate.repository;
+
+import com.w.p.domain.realestate.dto.RealEstateDTO;
+import com.w.p.entity.RealEstate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * 부동산 동적 조회 조건
+ * 모든 조건은 사용자 조건과 함께 조합되어 (user_id, created_at), (user_id, property_type, created_at),
+ * (user_id, transaction_type, created_at) 인덱스를 사용합니다.
+ */
+public final class RealEstateSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private RealEstateSpecifications() {
+    }
+
+    /**
+     * 사용자 조건 (필수)
+     */
+    public static Specification<RealEstate> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<RealEstate> hasPropertyType(RealEstate.PropertyType propertyType) {
+        return propertyType == null ? null : (root, query, cb) -> cb.equal(root.get("propertyType"), propertyType);
+    }
+
+    public static Specification<RealEstate> hasTransactionType(RealEstate.TransactionType transactionType) {
+        return transactionType == null ? null : (root, query, cb) -> cb.equal(root.get("transactionType"), transactionType);
+    }
+
+    /**
+     * 북마크 매물만 (false/null이면 조건 없음)
+     */
+    public static Specification<RealEstate> bookmarkedOnly(Boolean bookmarked) {
+        return !Boolean.TRUE.equals(bookmarked) ? null : (root, query, cb) -> cb.isTrue(root.get("isBookmarked"));
+    }
+
+    /**
+     * 제목/주소 키워드 검색 (대소문자 무시)
+     */
+    public static Specification<RealEstate> containsKeyword(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(keyword.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("address")), pattern, LIKE_ESCAPE));
+    }
+
+    /**
+     * 검색 요청 조건 조합 (모든 조건은 AND, 키워드는 제목 OR 주소)
+     */
+    public static Specification<RealEstate> matches(Long userId, RealEstateDTO.SearchRequest request) {
+        Specification<RealEstate> spec = ownedBy(userId);
+        if (request == null) {
+            return spec;
+        }
+        return spec.and(hasPropertyType(request.getPropertyType()))
+                .and(hasTransactionType(request.getTransactionType()))
+                .and(bookmarkedOnly(request.getIsBookmarked()))
+                .and(containsKeyword(request.getKeyword()));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
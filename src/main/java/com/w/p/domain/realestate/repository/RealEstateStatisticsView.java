@@ -0,0 +1,11 @@
+package com.w.p.domain.realestate.repository;
+
+/**
+ * 사용자 부동산 통계 프로젝션
+ */
+public interface RealEstateStatisticsView {
+
+    long getTotalCount();
+
+    long getBookmarkedCount();
+}
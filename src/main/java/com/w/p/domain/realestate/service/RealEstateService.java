@@ -40,7 +40,12 @@ public interface RealEstateService {
     RealEstateDTO toggleBookmark(String username, Long id);
 
     /**
-     * 부동산 검색
+     * 부동산 검색 (조건을 하나의 쿼리로 조합)
      */
     List<RealEstateDTO> searchRealEstates(String username, RealEstateDTO.SearchRequest request);
+
+    /**
+     * 부동산 검색 (페이지 단위)
+     */
+    RealEstateDTO.PageResponse searchRealEstates(String username, RealEstateDTO.SearchRequest request, int page, int size);
 }
@@ -2,13 +2,20 @@ package com.w.p.domain.realestate.service.impl;
 
 import com.w.p.common.util.FileUploadUtil;
 import com.w.p.domain.realestate.dto.RealEstateDTO;
+import com.w.p.domain.realestate.event.RealEstateChangedEvent;
 import com.w.p.domain.realestate.service.RealEstateService;
 import com.w.p.domain.realestate.repository.RealEstateRepository;
+import com.w.p.domain.realestate.repository.RealEstateSpecifications;
 import com.w.p.entity.RealEstate;
 import com.w.p.entity.User;
 import com.w.p.domain.user.repository.UserRepository;
+import com.w.p.domain.user.service.UserIdResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -27,16 +35,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class RealEstateServiceImpl implements RealEstateService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "price", "area", "title");
+
     private final RealEstateRepository realEstateRepository;
     private final UserRepository userRepository;
+    private final UserIdResolver userIdResolver;
     private final FileUploadUtil fileUploadUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<RealEstateDTO> getRealEstates(String username) {
         log.info("사용자별 부동산 목록 조회: {}", username);
         
-        User user = getUserByUsername(username);
-        List<RealEstate> realEstates = realEstateRepository.findByUserOrderByCreatedAtDesc(user);
+        List<RealEstate> realEstates = realEstateRepository.findByUserUsernameOrderByCreatedAtDesc(username);
         
         return realEstates.stream()
                 .map(RealEstateDTO::from)
@@ -47,8 +59,7 @@ public class RealEstateServiceImpl implements RealEstateService {
     public RealEstateDTO getRealEstate(String username, Long id) {
         log.info("부동산 상세 조회: username={}, id={}", username, id);
         
-        User user = getUserByUsername(username);
-        RealEstate realEstate = getRealEstateByIdAndUser(id, user);
+        RealEstate realEstate = getOwnedRealEstate(id, username);
         
         return RealEstateDTO.from(realEstate);
     }
@@ -58,8 +69,7 @@ public class RealEstateServiceImpl implements RealEstateService {
     public RealEstateDTO createRealEstate(String username, RealEstateDTO.CreateRequest request) {
         try {
             // 사용자 확인
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+            User user = userRepository.getReferenceById(userIdResolver.resolve(username));
 
             // 부동산 엔티티 생성
             RealEstate realEstate = new RealEstate();
@@ -124,6 +134,8 @@ public class RealEstateServiceImpl implements RealEstateService {
 
             // 부동산 저장
             RealEstate savedEstate = realEstateRepository.save(realEstate);
+            eventPublisher.publishEvent(new RealEstateChangedEvent(user.getId(), savedEstate.getId(),
+                    RealEstateChangedEvent.ChangeType.CREATED));
             log.info("🎉 부동산 등록 완료 - ID: {}, 제목: {}, 이미지: {}개", 
                 savedEstate.getId(), savedEstate.getTitle(), 
                 imageUrl != null ? 1 : 0);
@@ -140,8 +152,7 @@ public class RealEstateServiceImpl implements RealEstateService {
     public RealEstateDTO updateRealEstate(String username, Long id, RealEstateDTO.CreateRequest request) {
         log.info("부동산 수정: username={}, id={}", username, id);
         
-        User user = getUserByUsername(username);
-        RealEstate realEstate = getRealEstateByIdAndUser(id, user);
+        RealEstate realEstate = getOwnedRealEstate(id, username);
         
         realEstate.setTitle(request.getTitle());
         realEstate.setPropertyType(RealEstate.PropertyType.valueOf(request.getPropertyType()));
@@ -163,6 +174,7 @@ public class RealEstateServiceImpl implements RealEstateService {
         realEstate.setContactInfo(buildContactInfo(request));
         
         RealEstate updatedRealEstate = realEstateRepository.save(realEstate);
+        eventPublisher.publishEvent(new RealEstateChangedEvent(realEstate.getUser().getId(), id, RealEstateChangedEvent.ChangeType.UPDATED));
         log.info("부동산 수정 완료: id={}", updatedRealEstate.getId());
         
         return RealEstateDTO.from(updatedRealEstate);
@@ -173,10 +185,10 @@ public class RealEstateServiceImpl implements RealEstateService {
     public void deleteRealEstate(String username, Long id) {
         log.info("부동산 삭제: username={}, id={}", username, id);
         
-        User user = getUserByUsername(username);
-        RealEstate realEstate = getRealEstateByIdAndUser(id, user);
+        RealEstate realEstate = getOwnedRealEstate(id, username);
         
         realEstateRepository.delete(realEstate);
+        eventPublisher.publishEvent(new RealEstateChangedEvent(realEstate.getUser().getId(), id, RealEstateChangedEvent.ChangeType.DELETED));
         log.info("부동산 삭제 완료: id={}", id);
     }
 
@@ -185,13 +197,13 @@ public class RealEstateServiceImpl implements RealEstateService {
     public RealEstateDTO toggleBookmark(String username, Long id) {
         log.info("북마크 토글: username={}, id={}", username, id);
         
-        User user = getUserByUsername(username);
-        RealEstate realEstate = getRealEstateByIdAndUser(id, user);
+        RealEstate realEstate = getOwnedRealEstate(id, username);
         
         boolean currentBookmark = realEstate.getIsBookmarked() != null ? realEstate.getIsBookmarked() : false;
         realEstate.setIsBookmarked(!currentBookmark);
         
         RealEstate savedRealEstate = realEstateRepository.save(realEstate);
+        eventPublisher.publishEvent(new RealEstateChangedEvent(realEstate.getUser().getId(), id, RealEstateChangedEvent.ChangeType.UPDATED));
         log.info("북마크 토글 완료: id={}, bookmark={}", id, savedRealEstate.getIsBookmarked());
         
         return RealEstateDTO.from(savedRealEstate);
@@ -201,47 +213,52 @@ public class RealEstateServiceImpl implements RealEstateService {
     public List<RealEstateDTO> searchRealEstates(String username, RealEstateDTO.SearchRequest request) {
         log.info("부동산 검색: username={}, keyword={}", username, request.getKeyword());
         
-        User user = getUserByUsername(username);
-        List<RealEstate> realEstates;
-        
-        if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
-            // 키워드 검색 (제목 또는 주소)
-            List<RealEstate> titleResults = realEstateRepository.findByUserAndTitleContaining(user, request.getKeyword());
-            List<RealEstate> addressResults = realEstateRepository.findByUserAndAddressContaining(user, request.getKeyword());
-            
-            // 중복 제거 및 합치기
-            realEstates = titleResults.stream()
-                    .filter(estate -> !addressResults.contains(estate))
-                    .collect(Collectors.toList());
-            realEstates.addAll(addressResults);
-        } else if (request.getPropertyType() != null) {
-            // 매물 타입별 검색
-            realEstates = realEstateRepository.findByUserAndPropertyTypeOrderByCreatedAtDesc(user, request.getPropertyType());
-        } else if (request.getTransactionType() != null) {
-            // 거래 타입별 검색
-            realEstates = realEstateRepository.findByUserAndTransactionTypeOrderByCreatedAtDesc(user, request.getTransactionType());
-        } else if (request.getIsBookmarked() != null && request.getIsBookmarked()) {
-            // 북마크된 매물만 검색
-            realEstates = realEstateRepository.findByUserAndIsBookmarkedTrueOrderByCreatedAtDesc(user);
-        } else {
-            // 전체 조회
-            realEstates = realEstateRepository.findByUserOrderByCreatedAtDesc(user);
-        }
-        
-        return realEstates.stream()
+        Long userId = userIdResolver.resolve(username);
+        return realEstateRepository.findAll(RealEstateSpecifications.matches(userId, request), searchSort(request)).stream()
                 .map(RealEstateDTO::from)
                 .collect(Collectors.toList());
     }
 
-    // Private helper methods
-    private User getUserByUsername(String username) {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+    @Override
+    public RealEstateDTO.PageResponse searchRealEstates(String username, RealEstateDTO.SearchRequest request, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(page, 0);
+        
+        Long userId = userIdResolver.resolve(username);
+        Page<RealEstate> result = realEstateRepository.findAll(
+                RealEstateSpecifications.matches(userId, request),
+                PageRequest.of(pageNumber, pageSize, searchSort(request)));
+        
+        return RealEstateDTO.PageResponse.builder()
+                .realEstates(result.getContent().stream()
+                        .map(RealEstateDTO::from)
+                        .collect(Collectors.toList()))
+                .totalCount(result.getTotalElements())
+                .page(pageNumber)
+                .size(pageSize)
+                .hasNext(result.hasNext())
+                .build();
+    }
+
+    /**
+     * 검색 정렬 (허용된 필드만, id를 보조 정렬로 붙여 페이지 경계를 고정)
+     */
+    private Sort searchSort(RealEstateDTO.SearchRequest request) {
+        String sortBy = request != null && request.getSortBy() != null && SORTABLE_FIELDS.contains(request.getSortBy())
+                ? request.getSortBy()
+                : "createdAt";
+        Sort.Direction direction = request != null && "ASC".equalsIgnoreCase(request.getDirection())
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        return Sort.by(new Sort.Order(direction, sortBy), new Sort.Order(direction, "id"));
     }
 
-    private RealEstate getRealEstateByIdAndUser(Long id, User user) {
-        return realEstateRepository.findById(id)
-                .filter(estate -> estate.getUser().getId().equals(user.getId()))
+    // Private helper methods
+    /**
+     * 소유자 조건으로 한 번에 조회 (다른 사용자의 매물은 찾을 수 없음으로 처리)
+     */
+    private RealEstate getOwnedRealEstate(Long id, String username) {
+        return realEstateRepository.findByIdAndUserUsername(id, username)
                 .orElseThrow(() -> new RuntimeException("부동산 정보를 찾을 수 없습니다: " + id));
     }
 
@@ -1,14 +1,28 @@
 package com.w.p.domain.schedule.controller;
 
 import com.w.p.common.ApiResponse;
+import com.w.p.common.ImportResult;
 import com.w.p.domain.schedule.dto.ScheduleDTO;
 import com.w.p.entity.Schedule;
 import com.w.p.domain.schedule.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.w.p.domain.schedule.service.ScheduleCalendarService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -18,6 +32,9 @@ import java.util.List;
 public class ScheduleController {
     
     private final ScheduleService scheduleService;
+    private final ScheduleCalendarService scheduleCalendarService;
+    
+    private static final String CALENDAR_CONTENT_TYPE = "text/calendar; charset=UTF-8";
     
     /**
      * 일정 목록 조회
@@ -99,6 +116,44 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
     
+    /**
+     * 일정 알림 목록 조회
+     */
+    @GetMapping("/{scheduleId}/reminders")
+    public ResponseEntity<ApiResponse<List<ScheduleDTO.ReminderResponse>>> getScheduleReminders(
+            @PathVariable Long scheduleId,
+            @RequestParam Long userId) {
+        
+        List<ScheduleDTO.ReminderResponse> reminders = scheduleService.getScheduleReminders(userId, scheduleId);
+        return ResponseEntity.ok(ApiResponse.success(reminders));
+    }
+    
+    /**
+     * 일정 알림 설정
+     */
+    @PostMapping("/{scheduleId}/reminders")
+    public ResponseEntity<ApiResponse<ScheduleDTO.Response>> setScheduleReminder(
+            @PathVariable Long scheduleId,
+            @RequestParam Long userId,
+            @RequestBody ScheduleDTO.ReminderRequest request) {
+        
+        ScheduleDTO.Response schedule = scheduleService.setScheduleReminder(userId, scheduleId, request.getRemindAt());
+        return ResponseEntity.ok(ApiResponse.success(schedule));
+    }
+    
+    /**
+     * 일정 알림 취소
+     */
+    @DeleteMapping("/{scheduleId}/reminders/{reminderId}")
+    public ResponseEntity<ApiResponse<Void>> cancelScheduleReminder(
+            @PathVariable Long scheduleId,
+            @PathVariable Long reminderId,
+            @RequestParam Long userId) {
+        
+        scheduleService.cancelScheduleReminder(userId, scheduleId, reminderId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+    
     /**
      * 일정 검색
      */
@@ -111,6 +166,20 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.success(schedules));
     }
     
+    /**
+     * 일정 검색 (페이지 단위)
+     */
+    @PostMapping("/search/page")
+    public ResponseEntity<ApiResponse<ScheduleDTO.PageResponse>> searchSchedulesPage(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestBody(required = false) ScheduleDTO.SearchRequest searchRequest) {
+        
+        ScheduleDTO.PageResponse schedules = scheduleService.searchSchedules(userId, searchRequest, page, size);
+        return ResponseEntity.ok(ApiResponse.success(schedules));
+    }
+    
     /**
      * 일정 통계 조회
      */
@@ -122,6 +191,33 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.success(statistics));
     }
     
+    /**
+     * 캘린더 보기 (월/주 단위 날짜별 일정 수와 요약)
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<ScheduleDTO.CalendarView>> getCalendarView(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "month") String view,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "3") int maxItemsPerDay) {
+        
+        ScheduleDTO.CalendarView calendarView = scheduleService.getCalendarView(userId, view, date, maxItemsPerDay);
+        return ResponseEntity.ok(ApiResponse.success(calendarView));
+    }
+    
+    /**
+     * 일정 겹침 확인 (기간 안에서 시간이 겹치는 일정 쌍)
+     */
+    @GetMapping("/conflicts")
+    public ResponseEntity<ApiResponse<ScheduleDTO.ConflictReport>> checkScheduleConflicts(
+            @RequestParam Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        
+        ScheduleDTO.ConflictReport report = scheduleService.checkScheduleConflicts(userId, from, to);
+        return ResponseEntity.ok(ApiResponse.success(report));
+    }
+    
     /**
      * 임박한 일정 조회 (7일 이내)
      */
@@ -143,4 +239,71 @@ public class ScheduleController {
         List<ScheduleDTO.Response> schedules = scheduleService.getOverdueSchedules(userId);
         return ResponseEntity.ok(ApiResponse.success(schedules));
     }
+    
+    /**
+     * 전체 일정 iCalendar 내보내기 (스트리밍)
+     */
+    @GetMapping("/export.ics")
+    public void exportCalendar(
+            @RequestParam Long userId,
+            HttpServletResponse response) throws IOException {
+        
+        response.setContentType(CALENDAR_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"schedules.ics\"");
+        scheduleCalendarService.writeCalendar(userId, response.getWriter());
+    }
+    
+    /**
+     * iCalendar 파일 가져오기 (스트리밍)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportResult>> importCalendar(
+            @RequestParam Long userId,
+            @RequestPart("file") MultipartFile file) {
+        
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            ImportResult result = scheduleCalendarService.importCalendar(userId, reader);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일을 읽을 수 없습니다.", e);
+        }
+    }
+    
+    /**
+     * 일정 구독 피드 주소 조회
+     */
+    @GetMapping("/feed-url")
+    public ResponseEntity<ApiResponse<String>> getCalendarFeedUrl(
+            @RequestParam Long userId) {
+        
+        String token = scheduleCalendarService.createFeedToken(userId);
+        return ResponseEntity.ok(ApiResponse.success("/api/v1/schedules/feed/" + userId + "/" + token + ".ics"));
+    }
+    
+    /**
+     * 일정 구독 피드 (인증 대신 토큰 검증, 변경이 없으면 304)
+     */
+    @GetMapping("/feed/{userId}/{token}.ics")
+    public void getCalendarFeed(
+            @PathVariable Long userId,
+            @PathVariable String token,
+            ServletWebRequest webRequest,
+            HttpServletResponse response) throws IOException {
+        
+        if (!scheduleCalendarService.verifyFeedToken(userId, token)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        // 캘린더 앱은 수 분 간격으로 폴링하므로 피드를 렌더링하기 전에 ETag로 변경 여부 확인
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (webRequest.checkNotModified(scheduleCalendarService.getFeedETag(userId))) {
+            return;
+        }
+        
+        response.setContentType(CALENDAR_CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        scheduleCalendarService.writeCalendar(userId, response.getWriter());
+    }
 }
@@ -1,6 +1,7 @@
 package com.w.p.domain.schedule.dto;
 
 import com.w.p.entity.Schedule;
+import com.w.p.entity.ScheduleReminder;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,6 +22,7 @@ public class ScheduleDTO {
         private Schedule.ScheduleStatus status;
         private Schedule.Priority priority;
         private LocalDateTime dueDate;
+        private Integer durationMinutes;
         private String relatedVendor;
         private String contactInfo;
         private Long budgetId;
@@ -35,6 +37,7 @@ public class ScheduleDTO {
                     .status(status != null ? status : Schedule.ScheduleStatus.PENDING)
                     .priority(priority != null ? priority : Schedule.Priority.MEDIUM)
                     .dueDate(dueDate)
+                    .durationMinutes(durationMinutes)
                     .relatedVendor(relatedVendor)
                     .contactInfo(contactInfo)
                     .budgetId(budgetId)
@@ -55,6 +58,8 @@ public class ScheduleDTO {
         private Schedule.ScheduleStatus status;
         private Schedule.Priority priority;
         private LocalDateTime dueDate;
+        private Integer durationMinutes;
+        private LocalDateTime endDate;
         private LocalDateTime completedAt;
         private String relatedVendor;
         private String contactInfo;
@@ -64,6 +69,7 @@ public class ScheduleDTO {
         private LocalDateTime updatedAt;
         private boolean isOverdue;
         private long daysUntilDue;
+        private java.util.List<ConflictItem> conflicts;
         
         public static Response from(Schedule schedule) {
             return Response.builder()
@@ -74,6 +80,8 @@ public class ScheduleDTO {
                     .status(schedule.getStatus())
                     .priority(schedule.getPriority())
                     .dueDate(schedule.getDueDate())
+                    .durationMinutes(schedule.getDurationMinutes())
+                    .endDate(schedule.getEndDate())
                     .completedAt(schedule.getCompletedAt())
                     .relatedVendor(schedule.getRelatedVendor())
                     .contactInfo(schedule.getContactInfo())
@@ -98,6 +106,7 @@ public class ScheduleDTO {
         private Schedule.ScheduleStatus status;
         private Schedule.Priority priority;
         private LocalDateTime dueDate;
+        private Integer durationMinutes;
         private String relatedVendor;
         private String contactInfo;
         private Long budgetId;
@@ -127,5 +136,121 @@ public class ScheduleDTO {
         private int completedCount;
         private int pendingCount;
         private int overdueCount;
+        private java.util.Map<Schedule.ScheduleStatus, Long> statusCounts;
+        private java.util.Map<Schedule.ScheduleType, Long> typeCounts;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PageResponse {
+        private java.util.List<Response> schedules;
+        private long totalCount;
+        private int page;
+        private int size;
+        private boolean hasNext;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReminderRequest {
+        private LocalDateTime remindAt;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReminderResponse {
+        private Long id;
+        private Long scheduleId;
+        private LocalDateTime remindAt;
+        private ScheduleReminder.ReminderStatus status;
+        private LocalDateTime sentAt;
+        private LocalDateTime createdAt;
+        
+        public static ReminderResponse from(ScheduleReminder reminder) {
+            return ReminderResponse.builder()
+                    .id(reminder.getId())
+                    .scheduleId(reminder.getScheduleId())
+                    .remindAt(reminder.getRemindAt())
+                    .status(reminder.getStatus())
+                    .sentAt(reminder.getSentAt())
+                    .createdAt(reminder.getCreatedAt())
+                    .build();
+        }
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ConflictItem {
+        private Long scheduleId;
+        private String title;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+        private String relatedVendor;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Conflict {
+        private ConflictItem first;
+        private ConflictItem second;
+        private LocalDateTime overlapStart;
+        private LocalDateTime overlapEnd;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ConflictReport {
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private int checkedCount;
+        private java.util.List<Conflict> conflicts;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CalendarItem {
+        private Long id;
+        private String title;
+        private LocalDateTime dueDate;
+        private LocalDateTime endDate;
+        private Schedule.ScheduleType type;
+        private Schedule.ScheduleStatus status;
+        private Schedule.Priority priority;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CalendarDay {
+        private java.time.LocalDate date;
+        private int count;
+        private java.util.List<CalendarItem> items;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CalendarView {
+        private String view;
+        private java.time.LocalDate startDate;
+        private java.time.LocalDate endDate;
+        private int totalCount;
+        private java.util.List<CalendarDay> days;
     }
 }
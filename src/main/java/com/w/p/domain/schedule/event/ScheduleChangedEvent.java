@@ -0,0 +1,25 @@
+package com.w.p.domain.schedule.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정 변경 이벤트 (일정 항목 변경 및 결혼식 날짜 변경)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleChangedEvent {
+
+    private final Long userId;
+    private final Long scheduleId; // 대량 등록/결혼식 날짜 변경 시 null
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        STATUS_CHANGED,
+        IMPORTED,
+        TEMPLATE_APPLIED
+    }
+}
@@ -0,0 +1,23 @@
+package com.w.p.domain.schedule.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 알림 예약 변경 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleReminderChangedEvent {
+
+    private final Long reminderId;
+    private final LocalDateTime remindAt;
+    private final ChangeType changeType;
+
+    public enum ChangeType {
+        SCHEDULED,
+        CANCELLED
+    }
+}
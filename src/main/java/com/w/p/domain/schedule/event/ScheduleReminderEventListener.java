@@ -0,0 +1,27 @@
+package com.w.p.domain.schedule.event;
+
+import com.w.p.domain.schedule.service.ScheduleReminderScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 일정 알림 예약 반영 리스너
+ * 커밋 이후에 타이밍 휠에 반영하여 롤백된 예약이 발송되지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleReminderEventListener {
+
+    private final ScheduleReminderScheduler scheduleReminderScheduler;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReminderChanged(ScheduleReminderChangedEvent event) {
+        if (event.getChangeType() == ScheduleReminderChangedEvent.ChangeType.CANCELLED) {
+            scheduleReminderScheduler.cancel(event.getReminderId());
+        } else {
+            scheduleReminderScheduler.register(event.getReminderId(), event.getRemindAt());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.w.p.domain.schedule.repository;
+
+import com.w.p.entity.Schedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일정 JDBC 배치 Repository
+ * IDENTITY 전략 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 대량 등록은 JDBC 배치로 직접 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO wp_schedules (user_id, title, description, type, status, priority, due_date, duration_minutes, completed_at, " +
+            "related_vendor, contact_info, budget_id, days_before_wedding, external_uid, template_item_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일정 일괄 등록 (등록된 일정에 생성된 ID를 채움)
+     * @param schedules 저장되지 않은 일정 목록 (userId 포함)
+     * @return 등록 건수
+     */
+    public int batchInsert(List<Schedule> schedules) {
+        if (schedules.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Schedule schedule = schedules.get(i);
+                        ps.setLong(1, schedule.getUserId());
+                        ps.setString(2, schedule.getTitle());
+                        ps.setString(3, schedule.getDescription());
+                        ps.setString(4, schedule.getType().name());
+                        ps.setString(5, schedule.getStatus().name());
+                        ps.setString(6, schedule.getPriority().name());
+                        ps.setTimestamp(7, Timestamp.valueOf(schedule.getDueDate()));
+                        if (schedule.getDurationMinutes() != null) {
+                            ps.setInt(8, schedule.getDurationMinutes());
+                        } else {
+                            ps.setNull(8, Types.INTEGER);
+                        }
+                        ps.setTimestamp(9, schedule.getCompletedAt() != null ? Timestamp.valueOf(schedule.getCompletedAt()) : null);
+                        ps.setString(10, schedule.getRelatedVendor());
+                        ps.setString(11, schedule.getContactInfo());
+                        if (schedule.getBudgetId() != null) {
+                            ps.setLong(12, schedule.getBudgetId());
+                        } else {
+                            ps.setNull(12, Types.BIGINT);
+                        }
+                        if (schedule.getDaysBeforeWedding() != null) {
+                            ps.setInt(13, schedule.getDaysBeforeWedding());
+                        } else {
+                            ps.setNull(13, Types.INTEGER);
+                        }
+                        ps.setString(14, schedule.getExternalUid());
+                        if (schedule.getTemplateItemId() != null) {
+                            ps.setLong(15, schedule.getTemplateItemId());
+                        } else {
+                            ps.setNull(15, Types.BIGINT);
+                        }
+                        ps.setTimestamp(16, now);
+                        ps.setTimestamp(17, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return schedules.size();
+                    }
+                }, keyHolder);
+        assignGeneratedIds(schedules, keyHolder);
+        return schedules.size();
+    }
+
+    /**
+     * 생성된 키를 등록 순서대로 엔티티 ID에 반영 (드라이버마다 키 열 이름이 달라 첫 번째 값을 사용)
+     */
+    private void assignGeneratedIds(List<Schedule> schedules, KeyHolder keyHolder) {
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != schedules.size()) {
+            throw new IllegalStateException(String.format("생성된 키 수가 등록 건수와 다릅니다. 등록: %d, 키: %d", schedules.size(), keys.size()));
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            schedules.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.w.p.domain.schedule.repository;
+
+import com.w.p.entity.Schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 보기 일정 프로젝션 (날짜 칸에 표시할 컬럼만)
+ */
+public interface ScheduleCalendarView {
+
+    Long getId();
+
+    String getTitle();
+
+    LocalDateTime getDueDate();
+
+    Integer getDurationMinutes();
+
+    Schedule.ScheduleType getType();
+
+    Schedule.ScheduleStatus getStatus();
+
+    Schedule.Priority getPriority();
+}
@@ -0,0 +1,15 @@
+package com.w.p.domain.schedule.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 일정 피드 버전 프로젝션 (ETag 계산용)
+ */
+public interface ScheduleFeedVersion {
+
+    long getScheduleCount();
+
+    LocalDateTime getLastModified();
+
+    Long getMaxId();
+}
@@ -0,0 +1,19 @@
+package com.w.p.domain.schedule.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 시간 구간 프로젝션 (일정 겹침 확인에 필요한 컬럼만)
+ */
+public interface ScheduleIntervalView {
+
+    Long getId();
+
+    String getTitle();
+
+    LocalDateTime getDueDate();
+
+    Integer getDurationMinutes();
+
+    String getRelatedVendor();
+}
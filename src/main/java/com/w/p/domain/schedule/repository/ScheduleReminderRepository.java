@@ -0,0 +1,59 @@
+package com.w.p.domain.schedule.repository;
+
+import com.w.p.entity.ScheduleReminder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일정 알림 예약 Repository
+ */
+@Repository
+public interface ScheduleReminderRepository extends JpaRepository<ScheduleReminder, Long> {
+
+    /**
+     * 일정별 알림 목록 조회
+     */
+    List<ScheduleReminder> findByScheduleIdOrderByRemindAtAsc(Long scheduleId);
+
+    /**
+     * 일정/시각으로 알림 조회
+     */
+    Optional<ScheduleReminder> findByScheduleIdAndRemindAt(Long scheduleId, LocalDateTime remindAt);
+
+    /**
+     * 발송 대기 알림 키셋 조회 (remindAt, id 오름차순, until 이하)
+     * 커서가 없으면 처음부터 조회
+     */
+    @Query("SELECT r FROM ScheduleReminder r WHERE r.status = com.w.p.entity.ScheduleReminder.ReminderStatus.PENDING " +
+           "AND r.remindAt <= :until " +
+           "AND (:cursorRemindAt IS NULL OR r.remindAt > :cursorRemindAt " +
+           "     OR (r.remindAt = :cursorRemindAt AND r.id > :cursorId)) " +
+           "ORDER BY r.remindAt ASC, r.id ASC")
+    List<ScheduleReminder> findPendingUntil(@Param("until") LocalDateTime until,
+                                            @Param("cursorRemindAt") LocalDateTime cursorRemindAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+
+    /**
+     * 발송 대기 상태인 알림만 발송 처리 (동시 실행/재시도 시에도 한 번만 성공)
+     */
+    @Modifying
+    @Query("UPDATE ScheduleReminder r SET r.status = com.w.p.entity.ScheduleReminder.ReminderStatus.SENT, r.sentAt = :now " +
+           "WHERE r.id = :id AND r.status = com.w.p.entity.ScheduleReminder.ReminderStatus.PENDING")
+    int markSent(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 일정 삭제 시 알림 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM ScheduleReminder r WHERE r.scheduleId = :scheduleId")
+    int deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+}
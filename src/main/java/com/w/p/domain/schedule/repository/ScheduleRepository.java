@@ -1,16 +1,21 @@
 package com.w.p.domain.schedule.repository;
 
 import com.w.p.entity.Schedule;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+public interface ScheduleRepository extends JpaRepository<Schedule, Long>, JpaSpecificationExecutor<Schedule> {
     
     // 사용자별 일정 목록 조회
     List<Schedule> findByUserIdOrderByDueDateAsc(Long userId);
@@ -21,6 +26,10 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // 상태별 일정 조회
     List<Schedule> findByUserIdAndStatusOrderByDueDateAsc(Long userId, Schedule.ScheduleStatus status);
     
+    // 다가오는 일정 상위 5건 (user_id, status, due_date 인덱스 범위 조회)
+    List<Schedule> findTop5ByUserIdAndStatusInAndDueDateGreaterThanEqualOrderByDueDateAsc(
+            Long userId, Collection<Schedule.ScheduleStatus> statuses, LocalDateTime from);
+    
     // 우선순위별 일정 조회
     List<Schedule> findByUserIdAndPriorityOrderByDueDateAsc(Long userId, Schedule.Priority priority);
     
@@ -44,6 +53,10 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     @Query("SELECT s FROM Schedule s WHERE s.userId = :userId AND s.dueDate < :now AND s.status IN ('PENDING', 'IN_PROGRESS') ORDER BY s.dueDate ASC")
     List<Schedule> findOverdueSchedules(@Param("userId") Long userId, @Param("now") LocalDateTime now);
     
+    // 기한 초과 일정 수 (상태가 아직 OVERDUE로 바뀌지 않은 일정)
+    @Query("SELECT COUNT(s) FROM Schedule s WHERE s.userId = :userId AND s.status IN ('PENDING', 'IN_PROGRESS') AND s.dueDate < :now")
+    long countOverdueSchedules(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+    
     // D-Day 기준 일정 조회
     List<Schedule> findByUserIdAndDaysBeforeWeddingLessThanEqualOrderByDaysBeforeWeddingAsc(Long userId, Integer days);
     
@@ -60,4 +73,46 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // 일정 타입별 통계
     @Query("SELECT s.type, COUNT(s) FROM Schedule s WHERE s.userId = :userId GROUP BY s.type")
     List<Object[]> getScheduleStatsByType(@Param("userId") Long userId);
+    
+    // 사용자별 일정 스트리밍 조회 (내보내기용, 트랜잭션 안에서 사용 후 반드시 닫아야 함, MySQL은 DataSourceConfig의 커서 조회 설정으로 fetchSize 단위로 읽음)
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<Schedule> streamByUserIdOrderByDueDateAscIdAsc(Long userId);
+    
+    // 사용자 일정 피드 버전 (건수, 최종 수정 시각, 최대 ID)
+    @Query("SELECT COUNT(s) AS scheduleCount, MAX(s.updatedAt) AS lastModified, MAX(s.id) AS maxId FROM Schedule s WHERE s.userId = :userId")
+    ScheduleFeedVersion findFeedVersion(@Param("userId") Long userId);
+    
+    // 이미 가져온 외부 캘린더 UID 조회 (가져오기 중복 확인용)
+    @Query("SELECT s.externalUid FROM Schedule s WHERE s.userId = :userId AND s.externalUid IN :externalUids")
+    List<String> findExistingExternalUids(@Param("userId") Long userId, @Param("externalUids") Collection<String> externalUids);
+    
+    // 사용자 소유 일정 ID 조회 (내보낸 캘린더를 다시 가져올 때 중복 확인용)
+    @Query("SELECT s.id FROM Schedule s WHERE s.userId = :userId AND s.id IN :ids")
+    List<Long> findExistingIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+    
+    // 템플릿으로 생성된 일정 조회
+    List<Schedule> findByUserIdAndTemplateItemIdInOrderByDueDateAsc(Long userId, Collection<Long> templateItemIds);
+    
+    // 이미 생성된 템플릿 항목 ID 조회 (템플릿 재적용 중복 확인용)
+    @Query("SELECT s.templateItemId FROM Schedule s WHERE s.userId = :userId AND s.templateItemId IN :templateItemIds")
+    List<Long> findExistingTemplateItemIds(@Param("userId") Long userId, @Param("templateItemIds") Collection<Long> templateItemIds);
+    
+    // 겹침 확인 대상 일정 구간 조회 (완료/취소 제외, 마감일 범위)
+    @Query("SELECT s.id AS id, s.title AS title, s.dueDate AS dueDate, s.durationMinutes AS durationMinutes, s.relatedVendor AS relatedVendor " +
+           "FROM Schedule s WHERE s.userId = :userId AND s.dueDate >= :from AND s.dueDate < :to " +
+           "AND s.status NOT IN ('COMPLETED', 'CANCELLED') ORDER BY s.dueDate ASC, s.id ASC")
+    List<ScheduleIntervalView> findActiveIntervals(@Param("userId") Long userId,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
+    
+    // 캘린더 보기용 일정 조회 (마감일 범위, 필요한 컬럼만)
+    @Query("SELECT s.id AS id, s.title AS title, s.dueDate AS dueDate, s.durationMinutes AS durationMinutes, " +
+           "s.type AS type, s.status AS status, s.priority AS priority " +
+           "FROM Schedule s WHERE s.userId = :userId AND s.dueDate >= :from AND s.dueDate < :to ORDER BY s.dueDate ASC, s.id ASC")
+    List<ScheduleCalendarView> findCalendarSchedules(@Param("userId") Long userId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
 }
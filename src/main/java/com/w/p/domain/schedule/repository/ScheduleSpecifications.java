@@ -0,0 +1,103 @@
+package com.w.p.domain.schedule.repository;
+
+import com.w.p.domain.schedule.dto.ScheduleDTO;
+import com.w.p.entity.Schedule;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * 일정 동적 조회 조건
+ * 모든 조건은 userId 조건과 함께 조합되어 (user_id, due_date), (user_id, status, due_date) 인덱스를 사용합니다.
+ */
+public final class ScheduleSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ScheduleSpecifications() {
+    }
+
+    /**
+     * 사용자 조건 (필수)
+     */
+    public static Specification<Schedule> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    public static Specification<Schedule> hasType(Schedule.ScheduleType type) {
+        return type == null ? null : (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Schedule> hasTypeIn(Collection<Schedule.ScheduleType> types) {
+        return types == null || types.isEmpty() ? null : (root, query, cb) -> root.get("type").in(types);
+    }
+
+    public static Specification<Schedule> hasStatus(Schedule.ScheduleStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Schedule> hasStatusNot(Schedule.ScheduleStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.notEqual(root.get("status"), status);
+    }
+
+    public static Specification<Schedule> hasPriority(Schedule.Priority priority) {
+        return priority == null ? null : (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    /**
+     * 마감일 하한 (포함)
+     */
+    public static Specification<Schedule> dueFrom(LocalDateTime from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+    }
+
+    /**
+     * 마감일 상한 (포함)
+     */
+    public static Specification<Schedule> dueTo(LocalDateTime to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), to);
+    }
+
+    /**
+     * 마감일 상한 (미포함)
+     */
+    public static Specification<Schedule> dueBefore(LocalDateTime before) {
+        return before == null ? null : (root, query, cb) -> cb.lessThan(root.get("dueDate"), before);
+    }
+
+    /**
+     * 제목/설명/업체명 키워드 검색 (대소문자 무시)
+     */
+    public static Specification<Schedule> containsKeyword(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(keyword.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("description")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("relatedVendor")), pattern, LIKE_ESCAPE));
+    }
+
+    /**
+     * 검색 요청 조건 조합
+     */
+    public static Specification<Schedule> matches(Long userId, ScheduleDTO.SearchRequest request) {
+        Specification<Schedule> spec = ownedBy(userId);
+        if (request == null) {
+            return spec;
+        }
+        return spec.and(hasType(request.getType()))
+                .and(hasStatus(request.getStatus()))
+                .and(hasPriority(request.getPriority()))
+                .and(dueFrom(request.getStartDate()))
+                .and(dueTo(request.getEndDate()))
+                .and(containsKeyword(request.getKeyword()));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,176 @@
+package com.w.p.domain.schedule.repository;
+
+import com.w.p.entity.Schedule;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 일정 기한 점검 JDBC Repository
+ * 사용자 ID를 파티션 수로 나눈 나머지로 작업을 나누고, 파티션마다 임대(lease)를 얻은 노드만 처리합니다.
+ * 대상 조회는 (status, due_date, user_id) 인덱스 범위 조회로 수행합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleSweepRepository {
+
+    private static final String ACTIVE_STATUSES = "('PENDING', 'IN_PROGRESS')";
+
+    private static final RowMapper<Candidate> CANDIDATE_MAPPER = (rs, rowNum) -> new Candidate(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            rs.getString("title"),
+            rs.getTimestamp("due_date").toLocalDateTime(),
+            Schedule.ScheduleStatus.valueOf(rs.getString("status")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션 행 생성 (없는 번호만)
+     */
+    public void ensurePartitions(int partitionCount) {
+        List<Integer> partitions = new ArrayList<>();
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(i);
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO wp_schedule_sweep_partitions (partition_no, updated_at) VALUES (?, ?)",
+                partitions, partitions.size(), (ps, partition) -> {
+                    ps.setInt(1, partition);
+                    ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+                });
+    }
+
+    /**
+     * 파티션 임대 획득/연장 (임대가 만료되었거나 이미 자신이 보유한 경우에만 성공)
+     */
+    public boolean tryAcquire(int partition, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update(
+                "UPDATE wp_schedule_sweep_partitions SET owner = ?, lease_until = ?, updated_at = ? " +
+                "WHERE partition_no = ? AND (owner = ? OR owner IS NULL OR lease_until < ?)",
+                owner, Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now),
+                partition, owner, Timestamp.valueOf(now)) == 1;
+    }
+
+    /**
+     * 파티션 임대 반납
+     */
+    public void release(int partition, String owner) {
+        jdbcTemplate.update(
+                "UPDATE wp_schedule_sweep_partitions SET owner = NULL, lease_until = NULL WHERE partition_no = ? AND owner = ?",
+                partition, owner);
+    }
+
+    /**
+     * 마감 임박 알림을 보낸 마감 시각 상한 (없으면 null)
+     */
+    public LocalDateTime findDueSoonUntil(int partition) {
+        Timestamp until = jdbcTemplate.queryForObject(
+                "SELECT due_soon_until FROM wp_schedule_sweep_partitions WHERE partition_no = ?",
+                Timestamp.class, partition);
+        return until != null ? until.toLocalDateTime() : null;
+    }
+
+    /**
+     * 마감 임박 알림 상한 갱신 (임대 보유 노드만)
+     */
+    public void updateDueSoonUntil(int partition, String owner, LocalDateTime until) {
+        jdbcTemplate.update(
+                "UPDATE wp_schedule_sweep_partitions SET due_soon_until = ?, updated_at = ? WHERE partition_no = ? AND owner = ?",
+                Timestamp.valueOf(until), Timestamp.valueOf(LocalDateTime.now()), partition, owner);
+    }
+
+    /**
+     * 기한이 지난 미완료 일정 조회
+     * 처리된 일정은 상태가 바뀌어 조건에서 빠지므로 커서 없이 앞에서부터 반복 조회합니다.
+     */
+    public List<Candidate> findOverdue(int partitionCount, int partition, LocalDateTime now, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, user_id, title, due_date, status FROM wp_schedules " +
+                "WHERE status IN " + ACTIVE_STATUSES + " AND due_date < ? AND MOD(user_id, ?) = ? " +
+                "ORDER BY due_date, id LIMIT ?",
+                CANDIDATE_MAPPER, Timestamp.valueOf(now), partitionCount, partition, limit);
+    }
+
+    /**
+     * 마감 시각이 (from, to] 구간인 미완료 일정 키셋 조회
+     */
+    public List<Candidate> findDueBetween(int partitionCount, int partition, LocalDateTime from, LocalDateTime to,
+                                          LocalDateTime cursorDueDate, Long cursorId, int limit) {
+        String keyset = cursorDueDate != null ? "AND (due_date > ? OR (due_date = ? AND id > ?)) " : "";
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(from));
+        params.add(Timestamp.valueOf(to));
+        params.add(partitionCount);
+        params.add(partition);
+        if (cursorDueDate != null) {
+            params.add(Timestamp.valueOf(cursorDueDate));
+            params.add(Timestamp.valueOf(cursorDueDate));
+            params.add(cursorId);
+        }
+        params.add(limit);
+        return jdbcTemplate.query(
+                "SELECT id, user_id, title, due_date, status FROM wp_schedules " +
+                "WHERE status IN " + ACTIVE_STATUSES + " AND due_date > ? AND due_date <= ? AND MOD(user_id, ?) = ? " +
+                keyset + "ORDER BY due_date, id LIMIT ?",
+                CANDIDATE_MAPPER, params.toArray());
+    }
+
+    /**
+     * 아직 기한 초과 전환 대상인 일정만 잠금 조회 (조회 이후 상태/기한이 바뀐 일정은 제외)
+     * 잠근 행은 같은 트랜잭션에서 반드시 전환되므로, 배치 UPDATE 건수에 의존하지 않고 전환된 일정을 확정합니다.
+     */
+    public List<Candidate> lockOverdue(List<Long> scheduleIds, LocalDateTime now) {
+        if (scheduleIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> params = new ArrayList<>(scheduleIds);
+        params.add(Timestamp.valueOf(now));
+        return jdbcTemplate.query(
+                "SELECT id, user_id, title, due_date, status FROM wp_schedules " +
+                "WHERE id IN (" + placeholders(scheduleIds.size()) + ") AND status IN " + ACTIVE_STATUSES + " AND due_date < ? " +
+                "ORDER BY id FOR UPDATE",
+                CANDIDATE_MAPPER, params.toArray());
+    }
+
+    /**
+     * 잠금 조회한 일정을 기한 초과 상태로 일괄 전환
+     */
+    public int markOverdue(List<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return 0;
+        }
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(scheduleIds);
+        return jdbcTemplate.update(
+                "UPDATE wp_schedules SET status = 'OVERDUE', updated_at = ? WHERE id IN (" + placeholders(scheduleIds.size()) + ")",
+                params.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * 기한 점검 대상 일정
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Candidate {
+        private final Long id;
+        private final Long userId;
+        private final String title;
+        private final LocalDateTime dueDate;
+        private final Schedule.ScheduleStatus status;
+    }
+}
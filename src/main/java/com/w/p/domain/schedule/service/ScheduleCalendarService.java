@@ -0,0 +1,50 @@
+package com.w.p.domain.schedule.service;
+
+import com.w.p.common.ImportResult;
+import com.w.p.entity.Schedule;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * 일정 iCalendar 내보내기/가져오기/구독 피드 서비스 인터페이스
+ */
+public interface ScheduleCalendarService {
+
+    /**
+     * 사용자 전체 일정을 iCalendar로 스트리밍 출력
+     */
+    void writeCalendar(Long userId, Writer writer) throws IOException;
+
+    /**
+     * 단일 일정을 iCalendar로 출력
+     */
+    void writeSchedule(Schedule schedule, Writer writer) throws IOException;
+
+    /**
+     * iCalendar 일정 가져오기 (VEVENT 스트리밍 파싱, UID 중복 제외, JDBC 배치 등록)
+     */
+    ImportResult importCalendar(Long userId, Reader reader);
+
+    /**
+     * iCalendar 일정 가져오기 (등록된 일정 ID를 importedIds에 담음)
+     */
+    ImportResult importCalendar(Long userId, Reader reader, List<Long> importedIds);
+
+    /**
+     * 구독 피드 토큰 발급 (사용자 ID에 대한 HMAC)
+     */
+    String createFeedToken(Long userId);
+
+    /**
+     * 구독 피드 토큰 검증
+     */
+    boolean verifyFeedToken(Long userId, String token);
+
+    /**
+     * 피드 ETag (일정 건수/최종 수정 시각 기반, 피드를 렌더링하지 않고 계산)
+     */
+    String getFeedETag(Long userId);
+}
@@ -0,0 +1,116 @@
+package com.w.p.domain.schedule.service;
+
+import com.w.p.common.util.IntervalTree;
+import com.w.p.domain.schedule.dto.ScheduleDTO;
+import com.w.p.domain.schedule.repository.ScheduleIntervalView;
+import com.w.p.domain.schedule.repository.ScheduleRepository;
+import com.w.p.entity.Schedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 일정 겹침 확인
+ * 완료/취소되지 않은 일정의 [마감 일시, 마감 일시 + 소요 시간) 구간으로 구간 트리를 만들어 겹치는 일정을 찾습니다.
+ * 소요 시간이 없는 일정(마감 시점만 있는 할 일)은 길이가 0인 구간이므로 겹침 대상이 아닙니다.
+ * 조회 범위 앞쪽으로 최대 소요 시간만큼만 더 읽으면 범위에 걸친 일정을 모두 포함하므로, 일정 수가 많아도 (user_id, due_date) 인덱스 범위 조회 한 번으로 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleConflictDetector {
+
+    private final ScheduleRepository scheduleRepository;
+
+    /**
+     * 일정 하나와 겹치는 다른 일정 조회
+     * @param schedule 확인할 일정 (저장 전이면 ID 없음)
+     * @return 겹치는 일정 목록 (시작 순, 없으면 빈 목록)
+     */
+    public List<ScheduleDTO.ConflictItem> findConflicts(Schedule schedule) {
+        if (schedule.getStatus() == Schedule.ScheduleStatus.COMPLETED
+                || schedule.getStatus() == Schedule.ScheduleStatus.CANCELLED) {
+            return List.of();
+        }
+        LocalDateTime start = schedule.getDueDate();
+        LocalDateTime end = schedule.getEndDate();
+        if (!end.isAfter(start)) {
+            return List.of();
+        }
+
+        IntervalTree<ScheduleIntervalView> tree = buildTree(schedule.getUserId(), start, end);
+        List<ScheduleDTO.ConflictItem> conflicts = new ArrayList<>();
+        for (IntervalTree.Interval<ScheduleIntervalView> interval : tree.findOverlapping(toEpochSecond(start), toEpochSecond(end))) {
+            if (!Objects.equals(interval.getItem().getId(), schedule.getId())) {
+                conflicts.add(toConflictItem(interval));
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * 기간 안의 겹치는 일정 쌍 전체 조회
+     * @param userId 사용자 ID
+     * @param from 조회 시작 일시
+     * @param to 조회 종료 일시 (미포함)
+     */
+    public ScheduleDTO.ConflictReport checkConflicts(Long userId, LocalDateTime from, LocalDateTime to) {
+        IntervalTree<ScheduleIntervalView> tree = buildTree(userId, from, to);
+        List<ScheduleDTO.Conflict> conflicts = new ArrayList<>();
+        for (IntervalTree.Overlap<ScheduleIntervalView> overlap : tree.findAllOverlaps()) {
+            conflicts.add(ScheduleDTO.Conflict.builder()
+                    .first(toConflictItem(overlap.getFirst()))
+                    .second(toConflictItem(overlap.getSecond()))
+                    .overlapStart(toDateTime(overlap.getOverlapStart()))
+                    .overlapEnd(toDateTime(overlap.getOverlapEnd()))
+                    .build());
+        }
+        return ScheduleDTO.ConflictReport.builder()
+                .from(from)
+                .to(to)
+                .checkedCount(tree.size())
+                .conflicts(conflicts)
+                .build();
+    }
+
+    /**
+     * [from, to)에 걸친 일정으로 구간 트리 구성
+     */
+    private IntervalTree<ScheduleIntervalView> buildTree(Long userId, LocalDateTime from, LocalDateTime to) {
+        long fromSecond = toEpochSecond(from);
+        List<IntervalTree.Interval<ScheduleIntervalView>> intervals = new ArrayList<>();
+        for (ScheduleIntervalView view : scheduleRepository.findActiveIntervals(
+                userId, from.minusMinutes(Schedule.MAX_DURATION_MINUTES), to)) {
+            long start = toEpochSecond(view.getDueDate());
+            long end = start + 60L * Schedule.durationOf(view.getDurationMinutes());
+            if (end > fromSecond) {
+                intervals.add(new IntervalTree.Interval<>(start, end, view));
+            }
+        }
+        return IntervalTree.build(intervals);
+    }
+
+    private ScheduleDTO.ConflictItem toConflictItem(IntervalTree.Interval<ScheduleIntervalView> interval) {
+        ScheduleIntervalView view = interval.getItem();
+        return ScheduleDTO.ConflictItem.builder()
+                .scheduleId(view.getId())
+                .title(view.getTitle())
+                .startDate(view.getDueDate())
+                .endDate(toDateTime(interval.getEnd()))
+                .relatedVendor(view.getRelatedVendor())
+                .build();
+    }
+
+    // 벽시계 시각 그대로 비교하므로 시간대 변환 없이 UTC 기준 초로 환산
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,214 @@
+package com.w.p.domain.schedule.service;
+
+import com.w.p.domain.notification.service.NotificationService;
+import com.w.p.domain.schedule.event.ScheduleChangedEvent;
+import com.w.p.domain.schedule.repository.ScheduleSweepRepository;
+import com.w.p.domain.summary.dto.PlanSummaryDelta;
+import com.w.p.domain.summary.service.PlanSummaryService;
+import com.w.p.entity.Notification;
+import com.w.p.entity.Schedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 일정 기한 점검 작업
+ * 사용자 ID 기준 파티션마다 임대를 얻은 노드만 처리하므로 여러 노드가 동시에 실행되어도 같은 일정을 중복 처리하지 않습니다.
+ * 기한이 지난 미완료 일정은 기한 초과 상태로 일괄 전환하고, 마감이 임박한 일정은 한 번씩 알림을 보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleDeadlineSweeper {
+
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final ScheduleSweepRepository scheduleSweepRepository;
+    private final PlanSummaryService planSummaryService;
+    private final NotificationService notificationService;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final String nodeId = resolveNodeId();
+
+    @Value("${schedule.sweeper.partition-count:16}")
+    private int partitionCount;
+
+    @Value("${schedule.sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${schedule.sweeper.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${schedule.sweeper.due-soon-hours:24}")
+    private long dueSoonHours;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleSweepRepository.ensurePartitions(partitionCount);
+    }
+
+    /**
+     * 임대 가능한 파티션을 차례로 처리
+     */
+    @Scheduled(fixedDelayString = "${schedule.sweeper.interval-ms:60000}",
+               initialDelayString = "${schedule.sweeper.interval-ms:60000}")
+    public void sweep() {
+        int processedPartitions = 0;
+        for (int partition = 0; partition < partitionCount; partition++) {
+            LocalDateTime now = LocalDateTime.now();
+            if (!scheduleSweepRepository.tryAcquire(partition, nodeId, now, now.plusSeconds(leaseSeconds))) {
+                continue;
+            }
+            try {
+                sweepOverdue(partition, now);
+                sweepDueSoon(partition, now);
+                // 처리가 끝나면 반납하여 다음 주기에는 먼저 도착한 노드가 가져가도록 함
+                scheduleSweepRepository.release(partition, nodeId);
+                processedPartitions++;
+            } catch (Exception e) {
+                // 임대를 유지한 채 두면 만료 후 다른 노드가 이어서 처리
+                log.error("일정 기한 점검 실패. 파티션: {}", partition, e);
+            }
+        }
+        log.debug("일정 기한 점검 완료. 노드: {}, 처리 파티션: {}/{}", nodeId, processedPartitions, partitionCount);
+    }
+
+    /**
+     * 기한이 지난 일정을 배치 단위로 기한 초과 전환 후 알림
+     */
+    private void sweepOverdue(int partition, LocalDateTime now) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int total = 0;
+        while (true) {
+            List<ScheduleSweepRepository.Candidate> candidates =
+                    scheduleSweepRepository.findOverdue(partitionCount, partition, now, batchSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            List<ScheduleSweepRepository.Candidate> transitioned = transaction.execute(status -> markOverdue(candidates, now));
+            for (ScheduleSweepRepository.Candidate candidate : transitioned) {
+                notifySchedule(candidate, Notification.NotificationType.SCHEDULE_OVERDUE, "일정 기한 초과",
+                        "'%s' 일정이 %s 마감 기한을 넘겼습니다.", "schedule-overdue:");
+            }
+            total += transitioned.size();
+            // 전환된 일정이 없으면 조회 결과가 바뀌지 않으므로 다음 주기에 다시 시도
+            if (candidates.size() < batchSize || transitioned.isEmpty()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("기한 초과 일정 {}건 전환. 파티션: {}", total, partition);
+        }
+    }
+
+    /**
+     * 기한 초과 전환 (잠금 조회로 확정한 일정만 전환하고 알림/요약 반영)
+     * rewriteBatchedStatements 등으로 배치 건수가 SUCCESS_NO_INFO로 오면 실제 전환 여부를 알 수 없으므로 건수에 의존하지 않습니다.
+     */
+    private List<ScheduleSweepRepository.Candidate> markOverdue(List<ScheduleSweepRepository.Candidate> candidates,
+                                                                LocalDateTime now) {
+        List<Long> candidateIds = new ArrayList<>();
+        candidates.forEach(candidate -> candidateIds.add(candidate.getId()));
+        List<ScheduleSweepRepository.Candidate> transitioned = scheduleSweepRepository.lockOverdue(candidateIds, now);
+        if (transitioned.isEmpty()) {
+            return transitioned;
+        }
+
+        List<Long> transitionedIds = new ArrayList<>();
+        Map<Long, PlanSummaryDelta> deltas = new LinkedHashMap<>();
+        for (ScheduleSweepRepository.Candidate candidate : transitioned) {
+            transitionedIds.add(candidate.getId());
+            deltas.computeIfAbsent(candidate.getUserId(), userId -> new PlanSummaryDelta())
+                    .count(PlanSummaryDelta.scheduleStatus(candidate.getStatus()), -1)
+                    .count(PlanSummaryDelta.scheduleStatus(Schedule.ScheduleStatus.OVERDUE), 1);
+        }
+        scheduleSweepRepository.markOverdue(transitionedIds);
+        deltas.forEach((userId, delta) -> {
+            planSummaryService.apply(userId, delta);
+            eventPublisher.publishEvent(new ScheduleChangedEvent(userId, null, ScheduleChangedEvent.ChangeType.STATUS_CHANGED));
+        });
+        return transitioned;
+    }
+
+    /**
+     * 지난 점검 이후 새로 임박 구간에 들어온 일정 알림
+     */
+    private void sweepDueSoon(int partition, LocalDateTime now) {
+        LocalDateTime until = now.plusHours(dueSoonHours);
+        LocalDateTime from = scheduleSweepRepository.findDueSoonUntil(partition);
+        if (from == null || from.isBefore(now)) {
+            from = now;
+        }
+        if (!until.isAfter(from)) {
+            return;
+        }
+
+        LocalDateTime cursorDueDate = null;
+        Long cursorId = null;
+        int notified = 0;
+        while (true) {
+            List<ScheduleSweepRepository.Candidate> candidates = scheduleSweepRepository.findDueBetween(
+                    partitionCount, partition, from, until, cursorDueDate, cursorId, batchSize);
+            for (ScheduleSweepRepository.Candidate candidate : candidates) {
+                if (notifySchedule(candidate, Notification.NotificationType.SCHEDULE_DUE_SOON, "일정 마감 임박",
+                        "'%s' 일정이 %s 마감입니다.", "schedule-due-soon:")) {
+                    notified++;
+                }
+            }
+            if (candidates.size() < batchSize) {
+                break;
+            }
+            ScheduleSweepRepository.Candidate last = candidates.get(candidates.size() - 1);
+            cursorDueDate = last.getDueDate();
+            cursorId = last.getId();
+        }
+        scheduleSweepRepository.updateDueSoonUntil(partition, nodeId, until);
+        if (notified > 0) {
+            log.info("마감 임박 알림 {}건 발송. 파티션: {}", notified, partition);
+        }
+    }
+
+    /**
+     * 일정 알림 발송 (일정 ID와 마감 시각 기준 멱등, 마감일을 바꾸면 다시 알림)
+     */
+    private boolean notifySchedule(ScheduleSweepRepository.Candidate candidate, Notification.NotificationType type,
+                                   String title, String messageFormat, String dedupePrefix) {
+        try {
+            String message = String.format(messageFormat, candidate.getTitle(), candidate.getDueDate().format(DUE_DATE_FORMAT));
+            return notificationService.notify(candidate.getUserId(), type, title, message,
+                    dedupePrefix + candidate.getId() + ":" + candidate.getDueDate());
+        } catch (Exception e) {
+            log.error("일정 알림 발송 실패. 일정: {}", candidate.getId(), e);
+            return false;
+        }
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        // 같은 호스트에서 여러 인스턴스가 실행되어도 구분되도록 임의 값 추가
+        String nodeId = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+        return nodeId.length() > 100 ? nodeId.substring(nodeId.length() - 100) : nodeId;
+    }
+}
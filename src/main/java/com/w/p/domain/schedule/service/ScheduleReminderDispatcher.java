@@ -0,0 +1,56 @@
+package com.w.p.domain.schedule.service;
+
+import com.w.p.domain.notification.service.NotificationService;
+import com.w.p.domain.schedule.repository.ScheduleReminderRepository;
+import com.w.p.domain.schedule.repository.ScheduleRepository;
+import com.w.p.entity.Notification;
+import com.w.p.entity.Schedule;
+import com.w.p.entity.ScheduleReminder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 일정 알림 발송 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleReminderDispatcher {
+
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final ScheduleReminderRepository scheduleReminderRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * 알림 발송 (발송 대기 상태에서 발송 완료로 전환에 성공한 경우에만 발송)
+     * @return 발송했으면 true
+     */
+    @Transactional
+    public boolean dispatch(Long reminderId) {
+        if (scheduleReminderRepository.markSent(reminderId, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        ScheduleReminder reminder = scheduleReminderRepository.findById(reminderId).orElse(null);
+        if (reminder == null) {
+            return false;
+        }
+        Schedule schedule = scheduleRepository.findById(reminder.getScheduleId()).orElse(null);
+        if (schedule == null || schedule.getStatus() == Schedule.ScheduleStatus.COMPLETED
+                || schedule.getStatus() == Schedule.ScheduleStatus.CANCELLED) {
+            log.debug("발송 대상이 아닌 일정 알림 건너뜀. 알림: {}", reminderId);
+            return false;
+        }
+
+        String message = String.format("'%s' 일정이 %s 마감입니다.",
+                schedule.getTitle(), schedule.getDueDate().format(DUE_DATE_FORMAT));
+        return notificationService.notify(reminder.getUserId(), Notification.NotificationType.SCHEDULE_REMINDER,
+                "일정 알림", message, "schedule-reminder:" + reminderId);
+    }
+}
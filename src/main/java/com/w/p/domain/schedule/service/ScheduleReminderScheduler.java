@@ -0,0 +1,199 @@
+package com.w.p.domain.schedule.service;
+
+import com.w.p.common.util.HashedTimingWheel;
+import com.w.p.domain.schedule.repository.ScheduleReminderRepository;
+import com.w.p.entity.ScheduleReminder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 일정 알림 스케줄러
+ * 가까운 시간 창(window) 안에 발송될 알림만 DB에서 적재해 타이밍 휠에 올리고, tick마다 만료된 알림을 실행기로 발송합니다.
+ * DB는 전체 사용자에 대해 load-interval마다 한 번 키셋 조회하며, tick 비용은 만료된 알림 수에만 비례합니다.
+ * 재시작 시에는 미발송 알림(지난 알림 포함)을 다시 적재하고, 여러 인스턴스가 실행되어도 발송은 조건부 UPDATE로 한 번만 성공합니다.
+ * 발송이 실패하면(트랜잭션 롤백으로 미발송 상태 유지) 지수 백오프로 휠에 다시 등록해 재시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleReminderScheduler {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int TICKS_PER_WHEEL = 1024;
+    private static final int MAX_BACKOFF_SHIFT = 6;
+
+    private final ScheduleReminderRepository scheduleReminderRepository;
+    private final ScheduleReminderDispatcher scheduleReminderDispatcher;
+    private final Executor reminderExecutor;
+
+    private final Map<Long, HashedTimingWheel.Entry<Long>> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+    private final Object loadLock = new Object();
+    private volatile HashedTimingWheel<Long> wheel;
+    private volatile LocalDateTime loadedUntil;
+
+    @Value("${schedule.reminder.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${schedule.reminder.window-minutes:10}")
+    private long windowMinutes;
+
+    @Value("${schedule.reminder.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    /**
+     * 애플리케이션 시작 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 휠을 비우고 DB에서 다시 적재
+     */
+    public void reload() {
+        synchronized (loadLock) {
+            // 이전 휠에서 이미 꺼낸 알림이 새 휠에서 다시 만료되어도 조건부 UPDATE로 한 번만 발송됨
+            wheel = new HashedTimingWheel<>(tickMillis, TICKS_PER_WHEEL, toEpochMillis(LocalDateTime.now()));
+            entries.clear();
+            failedAttempts.clear();
+            loadedUntil = null;
+            loadWindow();
+        }
+        log.info("일정 알림 스케줄러 적재 완료. 대기 알림 수: {}", entries.size());
+    }
+
+    /**
+     * 다음 시간 창까지 발송될 알림 적재
+     * 이전에 적재한 구간 이후만 조회하며, 처음 적재할 때는 지난 미발송 알림도 포함합니다.
+     */
+    @Scheduled(fixedDelayString = "${schedule.reminder.load-interval-ms:60000}",
+               initialDelayString = "${schedule.reminder.load-interval-ms:60000}")
+    public void loadWindow() {
+        synchronized (loadLock) {
+            if (wheel != null) {
+                loadPending();
+            }
+        }
+    }
+
+    private void loadPending() {
+        LocalDateTime from = loadedUntil;
+        LocalDateTime until = LocalDateTime.now().plusMinutes(windowMinutes);
+        // 조회 전에 갱신하여, 조회와 동시에 커밋된 예약은 이벤트 리스너 쪽에서 등록되도록 함 (중복 등록은 무시)
+        loadedUntil = until;
+
+        LocalDateTime cursorRemindAt = from;
+        Long cursorId = from != null ? Long.MAX_VALUE : null;
+        int loaded = 0;
+        while (true) {
+            List<ScheduleReminder> batch = scheduleReminderRepository.findPendingUntil(
+                    until, cursorRemindAt, cursorId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (ScheduleReminder reminder : batch) {
+                if (schedule(reminder.getId(), reminder.getRemindAt())) {
+                    loaded++;
+                }
+            }
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            ScheduleReminder last = batch.get(batch.size() - 1);
+            cursorRemindAt = last.getRemindAt();
+            cursorId = last.getId();
+        }
+        if (loaded > 0) {
+            log.debug("일정 알림 {}건 적재 (~{})", loaded, until);
+        }
+    }
+
+    /**
+     * tick 진행 및 만료 알림 발송 (휠 진행은 단일 스레드에서만)
+     */
+    @Scheduled(fixedRateString = "${schedule.reminder.tick-ms:1000}")
+    public synchronized void tick() {
+        HashedTimingWheel<Long> current = wheel;
+        if (current == null) {
+            return;
+        }
+        for (Long reminderId : current.advance(toEpochMillis(LocalDateTime.now()))) {
+            entries.remove(reminderId);
+            reminderExecutor.execute(() -> {
+                try {
+                    scheduleReminderDispatcher.dispatch(reminderId);
+                    failedAttempts.remove(reminderId);
+                } catch (Exception e) {
+                    retryLater(reminderId, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * 실패한 발송을 백오프 후 다시 등록 (기본 30초부터 두 배씩, 최대 32분 간격으로 계속 재시도)
+     */
+    private void retryLater(Long reminderId, Exception e) {
+        int attempt = failedAttempts.merge(reminderId, 1, Integer::sum);
+        long delaySeconds = retryBaseSeconds << Math.min(attempt - 1, MAX_BACKOFF_SHIFT);
+        log.error("일정 알림 발송 실패. 알림: {}, 시도: {}, {}초 후 재시도", reminderId, attempt, delaySeconds, e);
+        schedule(reminderId, LocalDateTime.now().plusSeconds(delaySeconds));
+    }
+
+    /**
+     * 새 예약 등록 (적재된 시간 창 안이면 바로 휠에 등록, 이후면 다음 적재 때 등록)
+     */
+    public void register(Long reminderId, LocalDateTime remindAt) {
+        LocalDateTime until = loadedUntil;
+        if (until != null && !remindAt.isAfter(until)) {
+            schedule(reminderId, remindAt);
+        }
+    }
+
+    /**
+     * 예약 취소
+     */
+    public void cancel(Long reminderId) {
+        failedAttempts.remove(reminderId);
+        HashedTimingWheel.Entry<Long> entry = entries.remove(reminderId);
+        if (entry != null) {
+            entry.cancel();
+        }
+    }
+
+    /**
+     * 휠에 대기 중인 알림 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean schedule(Long reminderId, LocalDateTime remindAt) {
+        HashedTimingWheel<Long> current = wheel;
+        if (current == null || entries.containsKey(reminderId)) {
+            return false;
+        }
+        HashedTimingWheel.Entry<Long> entry = current.schedule(reminderId, toEpochMillis(remindAt));
+        if (entries.putIfAbsent(reminderId, entry) != null) {
+            entry.cancel();
+            return false;
+        }
+        return true;
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -3,6 +3,7 @@ package com.w.p.domain.schedule.service;
 import com.w.p.domain.schedule.dto.ScheduleDTO;
 import com.w.p.entity.Schedule;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -76,6 +77,11 @@ public interface ScheduleService {
      */
     List<ScheduleDTO.Response> searchSchedules(Long userId, ScheduleDTO.SearchRequest searchRequest);
     
+    /**
+     * 일정 검색 (페이지 단위, 마감일 순)
+     */
+    ScheduleDTO.PageResponse searchSchedules(Long userId, ScheduleDTO.SearchRequest searchRequest, int page, int size);
+    
     /**
      * 웨딩 관련 일정 조회
      */
@@ -96,11 +102,31 @@ public interface ScheduleService {
      */
     ScheduleDTO.ListResponse getScheduleStatistics(Long userId);
     
+    /**
+     * 캘린더 보기 (월/주 단위 날짜별 일정 수와 요약)
+     */
+    ScheduleDTO.CalendarView getCalendarView(Long userId, String view, LocalDate date, int maxItemsPerDay);
+    
+    /**
+     * 일정 겹침 확인
+     */
+    ScheduleDTO.ConflictReport checkScheduleConflicts(Long userId, LocalDateTime from, LocalDateTime to);
+    
     /**
      * 일정 알림 설정
      */
     ScheduleDTO.Response setScheduleReminder(Long userId, Long scheduleId, LocalDateTime reminderTime);
     
+    /**
+     * 일정 알림 목록 조회
+     */
+    List<ScheduleDTO.ReminderResponse> getScheduleReminders(Long userId, Long scheduleId);
+    
+    /**
+     * 일정 알림 취소
+     */
+    void cancelScheduleReminder(Long userId, Long scheduleId, Long reminderId);
+    
     /**
      * 일정 공유
      */
@@ -0,0 +1,401 @@
+package com.w.p.domain.schedule.service.impl;
+
+import com.w.p.common.ImportResult;
+import com.w.p.common.util.ICalendarReader;
+import com.w.p.common.util.ICalendarWriter;
+import com.w.p.domain.schedule.dto.ScheduleDTO;
+import com.w.p.domain.schedule.event.ScheduleChangedEvent;
+import com.w.p.domain.schedule.repository.ScheduleBatchRepository;
+import com.w.p.domain.schedule.repository.ScheduleFeedVersion;
+import com.w.p.domain.schedule.repository.ScheduleRepository;
+import com.w.p.domain.schedule.service.ScheduleCalendarService;
+import com.w.p.domain.summary.dto.PlanSummaryDelta;
+import com.w.p.domain.summary.service.PlanSummaryService;
+import com.w.p.entity.Schedule;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 일정 iCalendar 서비스 구현체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleCalendarServiceImpl implements ScheduleCalendarService {
+
+    private static final String PROD_ID = "-//Wedding Planner//Schedule//KO";
+    private static final String CALENDAR_NAME = "결혼 준비 일정";
+    private static final String UID_DOMAIN = "wedding-planner";
+    private static final String FEED_VERSION = "v1";
+    private static final String OWN_UID_PREFIX = "schedule-";
+    private static final String OWN_UID_SUFFIX = "@" + UID_DOMAIN;
+    private static final int MAX_UID_LENGTH = 255;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleBatchRepository scheduleBatchRepository;
+    private final PlanSummaryService planSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    @Value("${schedule.feed.secret:${jwt.secret}}")
+    private String feedSecret;
+
+    @Value("${schedule.calendar.zone:Asia/Seoul}")
+    private String zone;
+
+    @Value("${import.batch-size:500}")
+    private int importBatchSize;
+
+    @Override
+    public void writeCalendar(Long userId, Writer writer) throws IOException {
+        ICalendarWriter calendar = new ICalendarWriter(writer, ZoneId.of(zone));
+        LocalDateTime now = LocalDateTime.now();
+        calendar.beginCalendar(PROD_ID, CALENDAR_NAME);
+        try (Stream<Schedule> schedules = scheduleRepository.streamByUserIdOrderByDueDateAscIdAsc(userId)) {
+            Iterator<Schedule> iterator = schedules.iterator();
+            while (iterator.hasNext()) {
+                Schedule schedule = iterator.next();
+                writeEvent(calendar, schedule, now);
+                // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 분리
+                entityManager.detach(schedule);
+            }
+        }
+        calendar.endCalendar();
+    }
+
+    @Override
+    public void writeSchedule(Schedule schedule, Writer writer) throws IOException {
+        ICalendarWriter calendar = new ICalendarWriter(writer, ZoneId.of(zone));
+        calendar.beginCalendar(PROD_ID, null);
+        writeEvent(calendar, schedule, LocalDateTime.now());
+        calendar.endCalendar();
+    }
+
+    @Override
+    @Transactional
+    public ImportResult importCalendar(Long userId, Reader reader) {
+        return importCalendar(userId, reader, null);
+    }
+
+    @Override
+    @Transactional
+    public ImportResult importCalendar(Long userId, Reader reader, List<Long> importedIds) {
+        ImportResult result = new ImportResult();
+        ZoneId zoneId = ZoneId.of(zone);
+        List<Schedule> batch = new ArrayList<>(importBatchSize);
+        // 파일 안의 중복 UID (반복 일정의 RECURRENCE-ID 재정의 포함)는 첫 번째 VEVENT만 사용
+        Set<String> seenUids = new HashSet<>();
+
+        try {
+            ICalendarReader.read(reader, "VEVENT", (lineNumber, event) -> {
+                Schedule schedule;
+                try {
+                    schedule = toSchedule(userId, event, zoneId);
+                } catch (IllegalArgumentException e) {
+                    result.addError(lineNumber, e.getMessage());
+                    return;
+                }
+                if (schedule.getExternalUid() != null && !seenUids.add(schedule.getExternalUid())) {
+                    result.addSkipped();
+                    return;
+                }
+                batch.add(schedule);
+                if (batch.size() >= importBatchSize) {
+                    flushImportBatch(userId, batch, result, importedIds);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("캘린더 파일을 읽을 수 없습니다.", e);
+        }
+        flushImportBatch(userId, batch, result, importedIds);
+        if (result.getSuccessCount() > 0) {
+            eventPublisher.publishEvent(new ScheduleChangedEvent(userId, null, ScheduleChangedEvent.ChangeType.IMPORTED));
+        }
+
+        log.info("일정 가져오기 완료. 사용자: {}, 성공: {}, 중복: {}, 실패: {}",
+                userId, result.getSuccessCount(), result.getSkippedCount(), result.getFailureCount());
+        return result;
+    }
+
+    /**
+     * 배치 단위로 이미 등록된 UID를 한 번에 조회해 제외한 뒤 JDBC 배치로 등록
+     */
+    private void flushImportBatch(Long userId, List<Schedule> batch, ImportResult result, List<Long> importedIds) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<String> externalUids = new HashSet<>();
+        Set<Long> ownIds = new HashSet<>();
+        for (Schedule schedule : batch) {
+            String uid = schedule.getExternalUid();
+            if (uid != null) {
+                externalUids.add(uid);
+                Long ownId = parseOwnScheduleId(uid);
+                if (ownId != null) {
+                    ownIds.add(ownId);
+                }
+            }
+        }
+        Set<String> existingUids = externalUids.isEmpty()
+                ? Set.of()
+                : new HashSet<>(scheduleRepository.findExistingExternalUids(userId, externalUids));
+        Set<Long> existingIds = ownIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(scheduleRepository.findExistingIds(userId, ownIds));
+
+        List<Schedule> inserts = new ArrayList<>(batch.size());
+        for (Schedule schedule : batch) {
+            String uid = schedule.getExternalUid();
+            Long ownId = uid != null ? parseOwnScheduleId(uid) : null;
+            if (uid != null && (existingUids.contains(uid) || (ownId != null && existingIds.contains(ownId)))) {
+                result.addSkipped();
+            } else {
+                inserts.add(schedule);
+            }
+        }
+        result.addSuccess(scheduleBatchRepository.batchInsert(inserts));
+        if (importedIds != null) {
+            inserts.forEach(schedule -> importedIds.add(schedule.getId()));
+        }
+        planSummaryService.apply(userId, new PlanSummaryDelta().addSchedules(inserts));
+        batch.clear();
+    }
+
+    /**
+     * VEVENT를 일정 엔티티로 변환
+     */
+    private Schedule toSchedule(Long userId, ICalendarReader.Component event, ZoneId zoneId) {
+        if (event.getError() != null) {
+            throw new IllegalArgumentException(event.getError());
+        }
+        String title = event.getText("SUMMARY");
+        if (title == null) {
+            throw new IllegalArgumentException("제목(SUMMARY)은 필수입니다.");
+        }
+        ICalendarReader.Property start = event.get("DTSTART") != null ? event.get("DTSTART") : event.get("DUE");
+        if (start == null) {
+            throw new IllegalArgumentException("시작 일시(DTSTART)는 필수입니다.");
+        }
+        LocalDateTime dueDate = ICalendarReader.parseDateTime(start, zoneId);
+        String uid = event.getText("UID");
+        if (uid != null && uid.length() > MAX_UID_LENGTH) {
+            throw new IllegalArgumentException("UID는 " + MAX_UID_LENGTH + "자를 초과할 수 없습니다.");
+        }
+
+        ScheduleDTO.Request request = ScheduleDTO.Request.builder()
+                .title(truncate(title, 200))
+                .description(truncate(event.getText("DESCRIPTION"), 1000))
+                .type(parseType(event.getText("CATEGORIES")))
+                .status(parseStatus(event.getText("STATUS")))
+                .priority(parsePriority(event.getText("PRIORITY")))
+                .dueDate(dueDate)
+                .durationMinutes(parseDuration(event.get("DTEND"), dueDate, zoneId))
+                .relatedVendor(truncate(event.getText("LOCATION"), 200))
+                .build();
+        Schedule schedule = request.toEntity(userId);
+        schedule.setExternalUid(uid);
+        return schedule;
+    }
+
+    /**
+     * DTEND로 소요 시간 계산 (없거나 시작보다 이르면 null로 시점 일정 처리, 최대값 초과 시 최대값)
+     */
+    private Integer parseDuration(ICalendarReader.Property end, LocalDateTime dueDate, ZoneId zoneId) {
+        if (end == null) {
+            return null;
+        }
+        long minutes = Duration.between(dueDate, ICalendarReader.parseDateTime(end, zoneId)).toMinutes();
+        if (minutes < 0) {
+            return null;
+        }
+        return (int) Math.min(minutes, Schedule.MAX_DURATION_MINUTES);
+    }
+
+    /**
+     * 이 서비스가 내보낸 UID(schedule-{id}@wedding-planner)의 일정 ID (아니면 null)
+     */
+    private Long parseOwnScheduleId(String uid) {
+        if (!uid.startsWith(OWN_UID_PREFIX) || !uid.endsWith(OWN_UID_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(uid.substring(OWN_UID_PREFIX.length(), uid.length() - OWN_UID_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * CATEGORIES 중 일정 타입 이름과 일치하는 첫 번째 값 (없으면 기타)
+     */
+    private Schedule.ScheduleType parseType(String categories) {
+        if (categories != null) {
+            for (String category : categories.split(",")) {
+                try {
+                    return Schedule.ScheduleType.valueOf(category.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    // 일정 타입이 아닌 분류는 무시
+                }
+            }
+        }
+        return Schedule.ScheduleType.OTHER;
+    }
+
+    private Schedule.ScheduleStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        switch (status.toUpperCase(Locale.ROOT)) {
+            case "CANCELLED":
+                return Schedule.ScheduleStatus.CANCELLED;
+            case "COMPLETED":
+                return Schedule.ScheduleStatus.COMPLETED;
+            case "IN-PROCESS":
+                return Schedule.ScheduleStatus.IN_PROGRESS;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * iCalendar 우선순위 변환 (1~4 높음, 5 보통, 6~9 낮음, 0 또는 없음은 기본값)
+     */
+    private Schedule.Priority parsePriority(String priority) {
+        if (priority == null) {
+            return null;
+        }
+        int value;
+        try {
+            value = Integer.parseInt(priority.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (value >= 1 && value <= 4) {
+            return Schedule.Priority.HIGH;
+        } else if (value >= 6 && value <= 9) {
+            return Schedule.Priority.LOW;
+        } else if (value == 5) {
+            return Schedule.Priority.MEDIUM;
+        }
+        return null;
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    @Override
+    public String createFeedToken(Long userId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sign(userId));
+    }
+
+    @Override
+    public boolean verifyFeedToken(Long userId, String token) {
+        if (token == null) {
+            return false;
+        }
+        try {
+            byte[] provided = Base64.getUrlDecoder().decode(token);
+            return MessageDigest.isEqual(sign(userId), provided);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String getFeedETag(Long userId) {
+        ScheduleFeedVersion version = scheduleRepository.findFeedVersion(userId);
+        long lastModified = version.getLastModified() != null
+                ? version.getLastModified().atZone(ZoneId.of(zone)).toInstant().toEpochMilli()
+                : 0L;
+        long maxId = version.getMaxId() != null ? version.getMaxId() : 0L;
+        return "\"" + FEED_VERSION + "-" + version.getScheduleCount() + "-" + maxId + "-" + lastModified + "\"";
+    }
+
+    private void writeEvent(ICalendarWriter calendar, Schedule schedule, LocalDateTime now) throws IOException {
+        calendar.begin("VEVENT");
+        // 가져온 일정은 원래 UID를 유지해 원본 캘린더와 같은 일정으로 인식되도록 함
+        calendar.property("UID", schedule.getExternalUid() != null
+                ? schedule.getExternalUid()
+                : OWN_UID_PREFIX + schedule.getId() + OWN_UID_SUFFIX);
+        calendar.dateTime("DTSTAMP", now);
+        calendar.dateTime("DTSTART", schedule.getDueDate());
+        calendar.dateTime("DTEND", schedule.getEndDate());
+        calendar.text("SUMMARY", schedule.getTitle());
+        calendar.text("DESCRIPTION", describe(schedule));
+        calendar.text("LOCATION", schedule.getRelatedVendor());
+        calendar.text("CATEGORIES", schedule.getType() != null ? schedule.getType().name() : null);
+        calendar.property("PRIORITY", toICalendarPriority(schedule.getPriority()));
+        calendar.property("STATUS", schedule.getStatus() == Schedule.ScheduleStatus.CANCELLED ? "CANCELLED" : "CONFIRMED");
+        calendar.dateTime("CREATED", schedule.getCreatedAt());
+        calendar.dateTime("LAST-MODIFIED", schedule.getUpdatedAt());
+        calendar.end("VEVENT");
+    }
+
+    private String describe(Schedule schedule) {
+        StringBuilder description = new StringBuilder();
+        if (schedule.getDescription() != null) {
+            description.append(schedule.getDescription());
+        }
+        if (schedule.getContactInfo() != null) {
+            if (description.length() > 0) {
+                description.append('\n');
+            }
+            description.append("연락처: ").append(schedule.getContactInfo());
+        }
+        return description.length() > 0 ? description.toString() : null;
+    }
+
+    /**
+     * iCalendar 우선순위 (1 높음 ~ 9 낮음)
+     */
+    private String toICalendarPriority(Schedule.Priority priority) {
+        if (priority == null) {
+            return null;
+        }
+        switch (priority) {
+            case HIGH:
+                return "1";
+            case LOW:
+                return "9";
+            default:
+                return "5";
+        }
+    }
+
+    private byte[] sign(Long userId) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(feedSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(("schedule-feed:" + userId).getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("피드 토큰을 생성할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,16 +1,48 @@
 package com.w.p.domain.schedule.service.impl;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.w.p.common.ImportResult;
 import com.w.p.domain.schedule.dto.ScheduleDTO;
+import com.w.p.domain.schedule.event.ScheduleChangedEvent;
+import com.w.p.domain.schedule.event.ScheduleReminderChangedEvent;
+import com.w.p.domain.schedule.repository.ScheduleCalendarView;
+import com.w.p.domain.schedule.repository.ScheduleReminderRepository;
 import com.w.p.domain.schedule.repository.ScheduleRepository;
+import com.w.p.domain.schedule.repository.ScheduleSpecifications;
+import com.w.p.domain.schedule.service.ScheduleCalendarService;
+import com.w.p.domain.schedule.service.ScheduleConflictDetector;
 import com.w.p.domain.schedule.service.ScheduleService;
+import com.w.p.domain.summary.dto.PlanSummary;
+import com.w.p.domain.summary.dto.PlanSummaryDelta;
+import com.w.p.domain.summary.service.PlanSummaryService;
+import com.w.p.domain.template.service.PlanTemplateService;
 import com.w.p.entity.Schedule;
+import com.w.p.entity.ScheduleReminder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +56,28 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class ScheduleServiceImpl implements ScheduleService {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CONFLICT_CHECK_YEARS = 3;
+    private static final int MAX_CALENDAR_ITEMS_PER_DAY = 20;
+    private static final String CALENDAR_VIEW_MONTH = "month";
+    private static final String CALENDAR_VIEW_WEEK = "week";
+    private static final Sort DUE_DATE_ORDER = Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id"));
+    private static final Set<Schedule.ScheduleType> WEDDING_TYPES = EnumSet.of(
+            Schedule.ScheduleType.VENUE_BOOKING, Schedule.ScheduleType.DRESS_FITTING, Schedule.ScheduleType.MAKEUP_TRIAL);
+    private static final Set<Schedule.ScheduleType> BUDGET_TYPES = EnumSet.of(
+            Schedule.ScheduleType.CATERING, Schedule.ScheduleType.FLOWER_ORDER, Schedule.ScheduleType.GIFT_PREPARATION);
+    private static final Set<Schedule.ScheduleType> VENDOR_TYPES = EnumSet.of(
+            Schedule.ScheduleType.PHOTOGRAPHY, Schedule.ScheduleType.MUSIC_SETUP, Schedule.ScheduleType.OTHER);
+    
+    private static final Set<String> ICALENDAR_FORMATS = Set.of("ics", "ical", "icalendar");
+    
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleCalendarService scheduleCalendarService;
+    private final ScheduleReminderRepository scheduleReminderRepository;
+    private final ScheduleConflictDetector scheduleConflictDetector;
+    private final PlanTemplateService planTemplateService;
+    private final PlanSummaryService planSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 사용자별 전체 일정 목록 조회
@@ -80,11 +133,14 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Override
     @Transactional
     public ScheduleDTO.Response createSchedule(Long userId, ScheduleDTO.Request request) {
+        validateDuration(request.getDurationMinutes());
         Schedule schedule = request.toEntity(userId);
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        planSummaryService.apply(userId, new PlanSummaryDelta().add(savedSchedule));
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId, savedSchedule.getId(), ScheduleChangedEvent.ChangeType.CREATED));
         
         log.info("일정이 생성되었습니다. ID: {}, 사용자: {}", savedSchedule.getId(), userId);
-        return ScheduleDTO.Response.from(savedSchedule);
+        return withConflicts(savedSchedule);
     }
     
     /**
@@ -104,6 +160,8 @@ public class ScheduleServiceImpl implements ScheduleService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
+        PlanSummaryDelta delta = new PlanSummaryDelta().remove(schedule);
+        
         // 업데이트 적용
         if (updateRequest.getTitle() != null) schedule.setTitle(updateRequest.getTitle());
         if (updateRequest.getDescription() != null) schedule.setDescription(updateRequest.getDescription());
@@ -116,16 +174,30 @@ public class ScheduleServiceImpl implements ScheduleService {
             }
         }
         if (updateRequest.getPriority() != null) schedule.setPriority(updateRequest.getPriority());
-        if (updateRequest.getDueDate() != null) schedule.setDueDate(updateRequest.getDueDate());
+        if (updateRequest.getDueDate() != null) {
+            schedule.setDueDate(updateRequest.getDueDate());
+            // 기한 초과 일정의 마감일을 미래로 미루면 다시 대기 상태로 (이후 점검 작업이 다시 판단)
+            if (updateRequest.getStatus() == null
+                    && schedule.getStatus() == Schedule.ScheduleStatus.OVERDUE
+                    && updateRequest.getDueDate().isAfter(LocalDateTime.now())) {
+                schedule.setStatus(Schedule.ScheduleStatus.PENDING);
+            }
+        }
+        if (updateRequest.getDurationMinutes() != null) {
+            validateDuration(updateRequest.getDurationMinutes());
+            schedule.setDurationMinutes(updateRequest.getDurationMinutes());
+        }
         if (updateRequest.getRelatedVendor() != null) schedule.setRelatedVendor(updateRequest.getRelatedVendor());
         if (updateRequest.getContactInfo() != null) schedule.setContactInfo(updateRequest.getContactInfo());
         if (updateRequest.getBudgetId() != null) schedule.setBudgetId(updateRequest.getBudgetId());
         if (updateRequest.getDaysBeforeWedding() != null) schedule.setDaysBeforeWedding(updateRequest.getDaysBeforeWedding());
         
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        planSummaryService.apply(userId, delta.add(savedSchedule));
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId, scheduleId, ScheduleChangedEvent.ChangeType.UPDATED));
         
         log.info("일정이 수정되었습니다. ID: {}, 사용자: {}", savedSchedule.getId(), userId);
-        return ScheduleDTO.Response.from(savedSchedule);
+        return withConflicts(savedSchedule);
     }
     
     /**
@@ -143,7 +215,14 @@ public class ScheduleServiceImpl implements ScheduleService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
+        List<ScheduleReminder> reminders = scheduleReminderRepository.findByScheduleIdOrderByRemindAtAsc(scheduleId);
+        scheduleReminderRepository.deleteByScheduleId(scheduleId);
+        reminders.forEach(reminder -> eventPublisher.publishEvent(new ScheduleReminderChangedEvent(
+                reminder.getId(), reminder.getRemindAt(), ScheduleReminderChangedEvent.ChangeType.CANCELLED)));
+        
         scheduleRepository.delete(schedule);
+        planSummaryService.apply(userId, new PlanSummaryDelta().remove(schedule));
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId, scheduleId, ScheduleChangedEvent.ChangeType.DELETED));
         log.info("일정이 삭제되었습니다. ID: {}, 사용자: {}", scheduleId, userId);
     }
     
@@ -164,6 +243,7 @@ public class ScheduleServiceImpl implements ScheduleService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
+        PlanSummaryDelta delta = new PlanSummaryDelta().remove(schedule);
         schedule.setStatus(status);
         
         // 완료 상태로 변경 시 완료 시간 설정
@@ -172,6 +252,8 @@ public class ScheduleServiceImpl implements ScheduleService {
         }
         
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        planSummaryService.apply(userId, delta.add(savedSchedule));
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId, scheduleId, ScheduleChangedEvent.ChangeType.STATUS_CHANGED));
         
         log.info("일정 상태가 변경되었습니다. ID: {}, 상태: {}, 사용자: {}", 
                 savedSchedule.getId(), status, userId);
@@ -186,11 +268,13 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> getSchedulesByPriority(Long userId, String priority) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        return schedules.stream()
-                .filter(schedule -> priority.equals(schedule.getPriority()))
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        Schedule.Priority schedulePriority;
+        try {
+            schedulePriority = Schedule.Priority.valueOf(priority.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("올바르지 않은 우선순위입니다: " + priority);
+        }
+        return toResponses(scheduleRepository.findByUserIdAndPriorityOrderByDueDateAsc(userId, schedulePriority));
     }
     
     /**
@@ -202,13 +286,9 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> getSchedulesByDueDateRange(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        return schedules.stream()
-                .filter(schedule -> schedule.getDueDate() != null && 
-                        !schedule.getDueDate().isBefore(startDate) && 
-                        !schedule.getDueDate().isAfter(endDate))
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        return findSchedules(ScheduleSpecifications.ownedBy(userId)
+                .and(ScheduleSpecifications.dueFrom(startDate))
+                .and(ScheduleSpecifications.dueTo(endDate)));
     }
     
     /**
@@ -218,11 +298,7 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> getCompletedSchedules(Long userId) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        return schedules.stream()
-                .filter(schedule -> schedule.getStatus() == Schedule.ScheduleStatus.COMPLETED)
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        return toResponses(scheduleRepository.findByUserIdAndStatusOrderByDueDateAsc(userId, Schedule.ScheduleStatus.COMPLETED));
     }
     
     /**
@@ -232,11 +308,7 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> getPendingSchedules(Long userId) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        return schedules.stream()
-                .filter(schedule -> schedule.getStatus() == Schedule.ScheduleStatus.PENDING)
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        return toResponses(scheduleRepository.findByUserIdAndStatusOrderByDueDateAsc(userId, Schedule.ScheduleStatus.PENDING));
     }
     
     /**
@@ -247,17 +319,8 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> searchSchedules(Long userId, String keyword) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        return schedules.stream()
-                .filter(schedule -> {
-                    if (keyword == null || keyword.isEmpty()) return true;
-                    String lowerKeyword = keyword.toLowerCase();
-                    return schedule.getTitle().toLowerCase().contains(lowerKeyword) ||
-                           (schedule.getDescription() != null && schedule.getDescription().toLowerCase().contains(lowerKeyword)) ||
-                           (schedule.getRelatedVendor() != null && schedule.getRelatedVendor().toLowerCase().contains(lowerKeyword));
-                })
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        return findSchedules(ScheduleSpecifications.ownedBy(userId)
+                .and(ScheduleSpecifications.containsKeyword(keyword)));
     }
     
     /**
@@ -268,41 +331,33 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> searchSchedules(Long userId, ScheduleDTO.SearchRequest searchRequest) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        return schedules.stream()
-                .filter(schedule -> {
-                    // 타입 필터
-                    if (searchRequest.getType() != null && schedule.getType() != searchRequest.getType()) {
-                        return false;
-                    }
-                    // 상태 필터
-                    if (searchRequest.getStatus() != null && schedule.getStatus() != searchRequest.getStatus()) {
-                        return false;
-                    }
-                    // 우선순위 필터
-                    if (searchRequest.getPriority() != null && schedule.getPriority() != searchRequest.getPriority()) {
-                        return false;
-                    }
-                    // 날짜 범위 필터
-                    if (searchRequest.getStartDate() != null && schedule.getDueDate() != null && 
-                        schedule.getDueDate().isBefore(searchRequest.getStartDate())) {
-                        return false;
-                    }
-                    if (searchRequest.getEndDate() != null && schedule.getDueDate() != null && 
-                        schedule.getDueDate().isAfter(searchRequest.getEndDate())) {
-                        return false;
-                    }
-                    // 키워드 필터
-                    if (searchRequest.getKeyword() != null && !searchRequest.getKeyword().trim().isEmpty()) {
-                        String lowerKeyword = searchRequest.getKeyword().toLowerCase();
-                        return schedule.getTitle().toLowerCase().contains(lowerKeyword) ||
-                               (schedule.getDescription() != null && schedule.getDescription().toLowerCase().contains(lowerKeyword)) ||
-                               (schedule.getRelatedVendor() != null && schedule.getRelatedVendor().toLowerCase().contains(lowerKeyword));
-                    }
-                    return true;
-                })
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        return findSchedules(ScheduleSpecifications.matches(userId, searchRequest));
+    }
+    
+    /**
+     * 일정 검색 (페이지 단위)
+     * @param userId 사용자 ID
+     * @param searchRequest 검색 조건 (null이면 전체)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 100)
+     * @return 마감일 순 일정 페이지
+     */
+    @Override
+    public ScheduleDTO.PageResponse searchSchedules(Long userId, ScheduleDTO.SearchRequest searchRequest, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(page, 0);
+        
+        Page<Schedule> result = scheduleRepository.findAll(
+                ScheduleSpecifications.matches(userId, searchRequest),
+                PageRequest.of(pageNumber, pageSize, DUE_DATE_ORDER));
+        
+        return ScheduleDTO.PageResponse.builder()
+                .schedules(toResponses(result.getContent()))
+                .totalCount(result.getTotalElements())
+                .page(pageNumber)
+                .size(pageSize)
+                .hasNext(result.hasNext())
+                .build();
     }
     
     /**
@@ -312,13 +367,8 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> getWeddingSchedules(Long userId) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        return schedules.stream()
-                .filter(schedule -> schedule.getType() == Schedule.ScheduleType.VENUE_BOOKING ||
-                                  schedule.getType() == Schedule.ScheduleType.DRESS_FITTING ||
-                                  schedule.getType() == Schedule.ScheduleType.MAKEUP_TRIAL)
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        return findSchedules(ScheduleSpecifications.ownedBy(userId)
+                .and(ScheduleSpecifications.hasTypeIn(WEDDING_TYPES)));
     }
     
     /**
@@ -328,13 +378,8 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> getBudgetSchedules(Long userId) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        return schedules.stream()
-                .filter(schedule -> schedule.getType() == Schedule.ScheduleType.CATERING ||
-                                  schedule.getType() == Schedule.ScheduleType.FLOWER_ORDER ||
-                                  schedule.getType() == Schedule.ScheduleType.GIFT_PREPARATION)
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        return findSchedules(ScheduleSpecifications.ownedBy(userId)
+                .and(ScheduleSpecifications.hasTypeIn(BUDGET_TYPES)));
     }
     
     /**
@@ -344,68 +389,189 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> getVendorSchedules(Long userId) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        return schedules.stream()
-                .filter(schedule -> schedule.getType() == Schedule.ScheduleType.PHOTOGRAPHY ||
-                                  schedule.getType() == Schedule.ScheduleType.MUSIC_SETUP ||
-                                  schedule.getType() == Schedule.ScheduleType.OTHER)
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        return findSchedules(ScheduleSpecifications.ownedBy(userId)
+                .and(ScheduleSpecifications.hasTypeIn(VENDOR_TYPES)));
     }
     
     /**
      * 일정 통계 정보 조회
      * @param userId 사용자 ID
-     * @return 일정 통계 정보 (총 개수, 완료 개수, 대기 개수, 기한 초과 개수)
+     * @return 일정 통계 정보 (총 개수, 완료 개수, 대기 개수, 기한 초과 개수, 상태/타입별 개수)
+     *         일정 목록은 포함하지 않으며, 목록은 일정 목록 조회를 사용합니다.
      */
     @Override
     public ScheduleDTO.ListResponse getScheduleStatistics(Long userId) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
+        PlanSummary summary = planSummaryService.getSummary(userId);
         
-        int totalCount = schedules.size();
-        int completedCount = (int) schedules.stream()
-                .filter(s -> s.getStatus() == Schedule.ScheduleStatus.COMPLETED)
-                .count();
-        int pendingCount = (int) schedules.stream()
-                .filter(s -> s.getStatus() == Schedule.ScheduleStatus.PENDING)
-                .count();
-        int overdueCount = (int) schedules.stream()
-                .filter(Schedule::isOverdue)
-                .count();
+        Map<Schedule.ScheduleStatus, Long> statusCounts = new EnumMap<>(Schedule.ScheduleStatus.class);
+        for (Schedule.ScheduleStatus status : Schedule.ScheduleStatus.values()) {
+            statusCounts.put(status, summary.count(PlanSummaryDelta.scheduleStatus(status)));
+        }
+        Map<Schedule.ScheduleType, Long> typeCounts = new EnumMap<>(Schedule.ScheduleType.class);
+        for (Schedule.ScheduleType type : Schedule.ScheduleType.values()) {
+            typeCounts.put(type, summary.count(PlanSummaryDelta.scheduleType(type)));
+        }
+        // 기한 초과는 시간에 따라 바뀌므로 카운터 대신 (user_id, status, due_date) 인덱스 범위 조회로 계산
+        long overdueCount = statusCounts.get(Schedule.ScheduleStatus.OVERDUE)
+                + scheduleRepository.countOverdueSchedules(userId, LocalDateTime.now());
         
         return ScheduleDTO.ListResponse.builder()
-                .schedules(schedules.stream()
-                        .map(ScheduleDTO.Response::from)
-                        .collect(Collectors.toList()))
-                .totalCount(totalCount)
-                .completedCount(completedCount)
-                .pendingCount(pendingCount)
-                .overdueCount(overdueCount)
+                .totalCount((int) summary.count(PlanSummaryDelta.SCHEDULE_TOTAL))
+                .completedCount(statusCounts.get(Schedule.ScheduleStatus.COMPLETED).intValue())
+                .pendingCount(statusCounts.get(Schedule.ScheduleStatus.PENDING).intValue())
+                .overdueCount((int) overdueCount)
+                .statusCounts(statusCounts)
+                .typeCounts(typeCounts)
                 .build();
     }
     
     /**
-     * 일정 알림 설정
+     * 캘린더 보기
+     * 기간 안의 일정을 마감일 범위 조회 한 번으로 읽어 날짜별로 나누고, 날짜마다 전체 건수와 앞쪽 일부 일정만 반환합니다.
+     * @param userId 사용자 ID
+     * @param view month 또는 week
+     * @param date 기준 날짜 (없으면 오늘, 주 보기는 월요일 시작)
+     * @param maxItemsPerDay 날짜별 최대 일정 수
+     * @return 날짜별 일정 수와 요약 (일정이 없는 날짜 포함)
+     */
+    @Override
+    public ScheduleDTO.CalendarView getCalendarView(Long userId, String view, LocalDate date, int maxItemsPerDay) {
+        LocalDate baseDate = date != null ? date : LocalDate.now();
+        String normalizedView = view != null ? view.trim().toLowerCase(Locale.ROOT) : CALENDAR_VIEW_MONTH;
+        LocalDate startDate;
+        LocalDate endDate;
+        if (CALENDAR_VIEW_MONTH.equals(normalizedView)) {
+            startDate = baseDate.withDayOfMonth(1);
+            endDate = startDate.plusMonths(1);
+        } else if (CALENDAR_VIEW_WEEK.equals(normalizedView)) {
+            startDate = baseDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            endDate = startDate.plusWeeks(1);
+        } else {
+            throw new RuntimeException("지원하지 않는 캘린더 보기입니다: " + view);
+        }
+        int itemLimit = Math.max(0, Math.min(maxItemsPerDay, MAX_CALENDAR_ITEMS_PER_DAY));
+        
+        Map<LocalDate, ScheduleDTO.CalendarDay> days = new LinkedHashMap<>();
+        for (LocalDate day = startDate; day.isBefore(endDate); day = day.plusDays(1)) {
+            days.put(day, ScheduleDTO.CalendarDay.builder().date(day).count(0).items(new ArrayList<>()).build());
+        }
+        
+        List<ScheduleCalendarView> schedules = scheduleRepository.findCalendarSchedules(
+                userId, startDate.atStartOfDay(), endDate.atStartOfDay());
+        for (ScheduleCalendarView schedule : schedules) {
+            ScheduleDTO.CalendarDay day = days.get(schedule.getDueDate().toLocalDate());
+            day.setCount(day.getCount() + 1);
+            if (day.getItems().size() < itemLimit) {
+                day.getItems().add(ScheduleDTO.CalendarItem.builder()
+                        .id(schedule.getId())
+                        .title(schedule.getTitle())
+                        .dueDate(schedule.getDueDate())
+                        .endDate(schedule.getDueDate().plusMinutes(Schedule.durationOf(schedule.getDurationMinutes())))
+                        .type(schedule.getType())
+                        .status(schedule.getStatus())
+                        .priority(schedule.getPriority())
+                        .build());
+            }
+        }
+        
+        return ScheduleDTO.CalendarView.builder()
+                .view(normalizedView)
+                .startDate(startDate)
+                .endDate(endDate.minusDays(1))
+                .totalCount(schedules.size())
+                .days(new ArrayList<>(days.values()))
+                .build();
+    }
+    
+    /**
+     * 일정 겹침 확인
+     * @param userId 사용자 ID
+     * @param from 조회 시작 일시 (없으면 오늘 0시)
+     * @param to 조회 종료 일시 (없으면 시작 일시로부터 최대 조회 기간)
+     * @return 겹치는 일정 쌍 목록
+     */
+    @Override
+    public ScheduleDTO.ConflictReport checkScheduleConflicts(Long userId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from != null ? from : LocalDate.now().atStartOfDay();
+        LocalDateTime maxEnd = start.plusYears(MAX_CONFLICT_CHECK_YEARS);
+        LocalDateTime end = to != null && to.isBefore(maxEnd) ? to : maxEnd;
+        if (!end.isAfter(start)) {
+            throw new RuntimeException("조회 종료 일시는 시작 일시 이후여야 합니다.");
+        }
+        
+        ScheduleDTO.ConflictReport report = scheduleConflictDetector.checkConflicts(userId, start, end);
+        log.info("일정 겹침 확인 완료. 사용자: {}, 확인 일정: {}, 겹침: {}", userId, report.getCheckedCount(), report.getConflicts().size());
+        return report;
+    }
+    
+    /**
+     * 일정 알림 설정 (같은 시각의 알림이 이미 있으면 재사용)
      * @param userId 사용자 ID
      * @param scheduleId 일정 ID
      * @param reminderTime 알림 시간
      * @return 알림이 설정된 일정 정보
      */
     @Override
+    @Transactional
     public ScheduleDTO.Response setScheduleReminder(Long userId, Long scheduleId, LocalDateTime reminderTime) {
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다."));
+        Schedule schedule = findOwnedSchedule(userId, scheduleId);
         
-        if (!schedule.getUserId().equals(userId)) {
-            throw new RuntimeException("접근 권한이 없습니다.");
+        if (reminderTime == null || !reminderTime.isAfter(LocalDateTime.now())) {
+            throw new RuntimeException("알림 시간은 현재 이후여야 합니다.");
         }
         
-        // 알림 시간 설정 로직 (실제 구현에서는 별도 테이블이나 필드에 저장)
-        log.info("일정 알림 설정: ID: {}, 알림시간: {}", scheduleId, reminderTime);
+        ScheduleReminder reminder = scheduleReminderRepository.findByScheduleIdAndRemindAt(scheduleId, reminderTime)
+                .orElseGet(() -> ScheduleReminder.builder()
+                        .scheduleId(scheduleId)
+                        .userId(userId)
+                        .remindAt(reminderTime)
+                        .build());
+        reminder.setStatus(ScheduleReminder.ReminderStatus.PENDING);
+        reminder.setSentAt(null);
+        ScheduleReminder savedReminder = scheduleReminderRepository.save(reminder);
+        eventPublisher.publishEvent(new ScheduleReminderChangedEvent(savedReminder.getId(), reminderTime,
+                ScheduleReminderChangedEvent.ChangeType.SCHEDULED));
         
+        log.info("일정 알림 설정: ID: {}, 알림시간: {}", scheduleId, reminderTime);
         return ScheduleDTO.Response.from(schedule);
     }
     
+    /**
+     * 일정 알림 목록 조회
+     * @param userId 사용자 ID
+     * @param scheduleId 일정 ID
+     * @return 알림 시각 순 알림 목록
+     */
+    @Override
+    public List<ScheduleDTO.ReminderResponse> getScheduleReminders(Long userId, Long scheduleId) {
+        findOwnedSchedule(userId, scheduleId);
+        return scheduleReminderRepository.findByScheduleIdOrderByRemindAtAsc(scheduleId).stream()
+                .map(ScheduleDTO.ReminderResponse::from)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 일정 알림 취소
+     * @param userId 사용자 ID
+     * @param scheduleId 일정 ID
+     * @param reminderId 알림 ID
+     */
+    @Override
+    @Transactional
+    public void cancelScheduleReminder(Long userId, Long scheduleId, Long reminderId) {
+        findOwnedSchedule(userId, scheduleId);
+        ScheduleReminder reminder = scheduleReminderRepository.findById(reminderId)
+                .filter(r -> r.getScheduleId().equals(scheduleId))
+                .orElseThrow(() -> new RuntimeException("일정 알림을 찾을 수 없습니다."));
+        
+        if (reminder.getStatus() == ScheduleReminder.ReminderStatus.PENDING) {
+            reminder.setStatus(ScheduleReminder.ReminderStatus.CANCELLED);
+            eventPublisher.publishEvent(new ScheduleReminderChangedEvent(reminderId, reminder.getRemindAt(),
+                    ScheduleReminderChangedEvent.ChangeType.CANCELLED));
+        }
+        log.info("일정 알림 취소: 일정: {}, 알림: {}", scheduleId, reminderId);
+    }
+    
     /**
      * 일정 공유
      * @param userId 사용자 ID
@@ -431,54 +597,69 @@ public class ScheduleServiceImpl implements ScheduleService {
     /**
      * 일정 템플릿 적용
      * @param userId 사용자 ID
-     * @param templateName 템플릿 이름
-     * @return 템플릿 기반 생성된 일정 목록
+     * @param templateName 템플릿 코드 또는 이름
+     * @return 템플릿 기반 일정 목록 (재적용 시 이미 생성된 일정은 다시 만들지 않음)
      */
     @Override
+    @Transactional
     public List<ScheduleDTO.Response> applyScheduleTemplate(Long userId, String templateName) {
-        // 템플릿 적용 로직 (실제 구현에서는 템플릿 데이터베이스에서 조회)
-        log.info("일정 템플릿 적용: 사용자: {}, 템플릿: {}", userId, templateName);
-        
-        // 빈 리스트 반환 (실제 구현에서는 템플릿 기반 일정 생성)
-        return List.of();
+        return planTemplateService.applyScheduleTemplate(userId, templateName);
     }
     
     /**
      * 일정 캘린더 내보내기
      * @param userId 사용자 ID
      * @param scheduleId 일정 ID
-     * @param format 내보낼 형식 (iCal, Google Calendar 등)
-     * @return 내보내기 결과 메시지
+     * @param format 내보낼 형식 (ics, ical)
+     * @return iCalendar(RFC 5545) 문자열
      */
     @Override
     public String exportScheduleToCalendar(Long userId, Long scheduleId, String format) {
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다."));
+        Schedule schedule = findOwnedSchedule(userId, scheduleId);
         
-        if (!schedule.getUserId().equals(userId)) {
-            throw new RuntimeException("접근 권한이 없습니다.");
+        if (format != null && !format.isBlank() && !ICALENDAR_FORMATS.contains(format.trim().toLowerCase())) {
+            throw new RuntimeException("지원하지 않는 형식입니다: " + format);
         }
         
-        // 캘린더 내보내기 로직 (실제 구현에서는 iCal, Google Calendar 등 형식으로 변환)
-        log.info("일정 내보내기: ID: {}, 형식: {}", scheduleId, format);
+        StringWriter writer = new StringWriter();
+        try {
+            scheduleCalendarService.writeSchedule(schedule, writer);
+        } catch (IOException e) {
+            throw new RuntimeException("일정을 내보낼 수 없습니다.", e);
+        }
         
-        return "일정이 " + format + " 형식으로 내보내졌습니다.";
+        log.info("일정 내보내기: ID: {}, 형식: {}", scheduleId, format);
+        return writer.toString();
     }
     
     /**
      * 외부 캘린더에서 일정 가져오기
      * @param userId 사용자 ID
-     * @param calendarData 캘린더 데이터
-     * @param format 가져올 형식
-     * @return 가져온 일정 목록
+     * @param calendarData 캘린더 데이터 (iCalendar 문자열)
+     * @param format 가져올 형식 (ics, ical)
+     * @return 이번 가져오기로 생성된 일정 목록
      */
     @Override
+    @Transactional
     public List<ScheduleDTO.Response> importScheduleFromCalendar(Long userId, String calendarData, String format) {
-        // 캘린더 가져오기 로직 (실제 구현에서는 외부 캘린더 데이터를 파싱하여 일정 생성)
+        if (format != null && !format.isBlank() && !ICALENDAR_FORMATS.contains(format.trim().toLowerCase())) {
+            throw new RuntimeException("지원하지 않는 형식입니다: " + format);
+        }
+        if (calendarData == null || calendarData.isBlank()) {
+            throw new RuntimeException("캘린더 데이터가 비어 있습니다.");
+        }
         log.info("일정 가져오기: 사용자: {}, 형식: {}", userId, format);
         
-        // 빈 리스트 반환 (실제 구현에서는 파싱된 일정 데이터 반환)
-        return List.of();
+        // 같은 시각에 다른 경로로 등록된 일정이 섞이지 않도록 이번 가져오기로 등록된 ID만 조회
+        List<Long> importedIds = new ArrayList<>();
+        ImportResult result = scheduleCalendarService.importCalendar(userId, new StringReader(calendarData), importedIds);
+        if (result.getFailureCount() > 0) {
+            log.warn("일정 가져오기 중 {}건의 일정이 실패했습니다. 사용자: {}", result.getFailureCount(), userId);
+        }
+        
+        List<Schedule> imported = new ArrayList<>(scheduleRepository.findAllById(importedIds));
+        imported.sort(Comparator.comparing(Schedule::getDueDate).thenComparing(Schedule::getId));
+        return toResponses(imported);
     }
     
     /**
@@ -488,17 +669,11 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> getUpcomingSchedules(Long userId) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime sevenDaysLater = now.plusDays(7);
-        
-        return schedules.stream()
-                .filter(schedule -> schedule.getDueDate() != null && 
-                        !schedule.getDueDate().isBefore(now) && 
-                        !schedule.getDueDate().isAfter(sevenDaysLater) &&
-                        schedule.getStatus() != Schedule.ScheduleStatus.COMPLETED)
-                .map(ScheduleDTO.Response::from)
-                .collect(Collectors.toList());
+        return findSchedules(ScheduleSpecifications.ownedBy(userId)
+                .and(ScheduleSpecifications.dueFrom(now))
+                .and(ScheduleSpecifications.dueTo(now.plusDays(7)))
+                .and(ScheduleSpecifications.hasStatusNot(Schedule.ScheduleStatus.COMPLETED)));
     }
     
     /**
@@ -508,13 +683,54 @@ public class ScheduleServiceImpl implements ScheduleService {
      */
     @Override
     public List<ScheduleDTO.Response> getOverdueSchedules(Long userId) {
-        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
-        LocalDateTime now = LocalDateTime.now();
+        return findSchedules(ScheduleSpecifications.ownedBy(userId)
+                .and(ScheduleSpecifications.dueBefore(LocalDateTime.now()))
+                .and(ScheduleSpecifications.hasStatusNot(Schedule.ScheduleStatus.COMPLETED)));
+    }
+    
+    /**
+     * 사용자 소유 일정 조회
+     */
+    private Schedule findOwnedSchedule(Long userId, Long scheduleId) {
+        Schedule schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다."));
         
+        if (!schedule.getUserId().equals(userId)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
+        return schedule;
+    }
+    
+    /**
+     * 소요 시간 검증 (0분 이상, 최대값 이하)
+     */
+    private void validateDuration(Integer durationMinutes) {
+        if (durationMinutes != null && (durationMinutes < 0 || durationMinutes > Schedule.MAX_DURATION_MINUTES)) {
+            throw new RuntimeException("소요 시간은 0분 이상 " + Schedule.MAX_DURATION_MINUTES + "분 이하여야 합니다.");
+        }
+    }
+    
+    /**
+     * 겹치는 일정을 포함한 응답 (저장 직후 호출, 겹쳐도 저장은 유지하고 알려주기만 함)
+     */
+    private ScheduleDTO.Response withConflicts(Schedule schedule) {
+        ScheduleDTO.Response response = ScheduleDTO.Response.from(schedule);
+        response.setConflicts(scheduleConflictDetector.findConflicts(schedule));
+        if (!response.getConflicts().isEmpty()) {
+            log.info("겹치는 일정이 있습니다. ID: {}, 겹침: {}건", schedule.getId(), response.getConflicts().size());
+        }
+        return response;
+    }
+    
+    /**
+     * 조건에 맞는 일정을 마감일 순으로 조회
+     */
+    private List<ScheduleDTO.Response> findSchedules(Specification<Schedule> specification) {
+        return toResponses(scheduleRepository.findAll(specification, DUE_DATE_ORDER));
+    }
+    
+    private List<ScheduleDTO.Response> toResponses(List<Schedule> schedules) {
         return schedules.stream()
-                .filter(schedule -> schedule.getDueDate() != null && 
-                        schedule.getDueDate().isBefore(now) &&
-                        schedule.getStatus() != Schedule.ScheduleStatus.COMPLETED)
                 .map(ScheduleDTO.Response::from)
                 .collect(Collectors.toList());
     }
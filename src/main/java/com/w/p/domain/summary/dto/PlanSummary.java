@@ -0,0 +1,40 @@
+package com.w.p.domain.summary.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 사용자 요약 카운터 조회 결과
+ */
+public class PlanSummary {
+
+    private final Map<String, Long> counts;
+    private final Map<String, BigDecimal> amounts;
+
+    public PlanSummary(Map<String, Long> counts, Map<String, BigDecimal> amounts) {
+        this.counts = counts;
+        this.amounts = amounts;
+    }
+
+    /**
+     * 건수 (없으면 0)
+     */
+    public long count(String key) {
+        return counts.getOrDefault(key, 0L);
+    }
+
+    /**
+     * 금액 합계 (없으면 0)
+     */
+    public BigDecimal amount(String key) {
+        return amounts.getOrDefault(key, BigDecimal.ZERO);
+    }
+
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    public Map<String, BigDecimal> getAmounts() {
+        return amounts;
+    }
+}
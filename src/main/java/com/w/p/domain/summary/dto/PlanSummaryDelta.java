@@ -0,0 +1,140 @@
+package com.w.p.domain.summary.dto;
+
+import com.w.p.entity.Budget;
+import com.w.p.entity.Schedule;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 요약 카운터 증감분
+ * 변경 전 엔티티는 {@link #remove}, 변경 후 엔티티는 {@link #add}로 누적하면 순수 변경분만 남습니다.
+ */
+public class PlanSummaryDelta {
+
+    public static final String SCHEDULE_TOTAL = "schedule.total";
+    public static final String BUDGET_TOTAL = "budget.total";
+    public static final String BUDGET_OVER_BUDGET = "budget.over_budget";
+    public static final String BUDGET_PLANNED = "budget.planned";
+    public static final String BUDGET_ACTUAL = "budget.actual";
+
+    private final Map<String, Long> counts = new HashMap<>();
+    private final Map<String, BigDecimal> amounts = new HashMap<>();
+
+    public static String scheduleStatus(Schedule.ScheduleStatus status) {
+        return "schedule.status." + status.name();
+    }
+
+    public static String scheduleType(Schedule.ScheduleType type) {
+        return "schedule.type." + type.name();
+    }
+
+    public static String budgetStatus(Budget.BudgetStatus status) {
+        return "budget.status." + status.name();
+    }
+
+    public PlanSummaryDelta add(Schedule schedule) {
+        return schedule(schedule, 1);
+    }
+
+    public PlanSummaryDelta remove(Schedule schedule) {
+        return schedule(schedule, -1);
+    }
+
+    public PlanSummaryDelta add(Budget budget) {
+        return budget(budget, 1);
+    }
+
+    public PlanSummaryDelta remove(Budget budget) {
+        return budget(budget, -1);
+    }
+
+    public PlanSummaryDelta addSchedules(Collection<Schedule> schedules) {
+        schedules.forEach(this::add);
+        return this;
+    }
+
+    public PlanSummaryDelta addBudgets(Collection<Budget> budgets) {
+        budgets.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * 건수 증감 (직접 누적)
+     */
+    public PlanSummaryDelta count(String key, long delta) {
+        counts.merge(key, delta, Long::sum);
+        return this;
+    }
+
+    /**
+     * 금액 증감 (직접 누적)
+     */
+    public PlanSummaryDelta amount(String key, BigDecimal delta) {
+        if (delta != null) {
+            amounts.merge(key, delta, BigDecimal::add);
+        }
+        return this;
+    }
+
+    /**
+     * 0이 아닌 건수 증감
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> nonZero = new HashMap<>();
+        counts.forEach((key, value) -> {
+            if (value != 0) {
+                nonZero.put(key, value);
+            }
+        });
+        return nonZero;
+    }
+
+    /**
+     * 0이 아닌 금액 증감
+     */
+    public Map<String, BigDecimal> getAmounts() {
+        Map<String, BigDecimal> nonZero = new HashMap<>();
+        amounts.forEach((key, value) -> {
+            if (value.signum() != 0) {
+                nonZero.put(key, value);
+            }
+        });
+        return nonZero;
+    }
+
+    public boolean isEmpty() {
+        return getCounts().isEmpty() && getAmounts().isEmpty();
+    }
+
+    private PlanSummaryDelta schedule(Schedule schedule, int sign) {
+        count(SCHEDULE_TOTAL, sign);
+        if (schedule.getStatus() != null) {
+            count(scheduleStatus(schedule.getStatus()), sign);
+        }
+        if (schedule.getType() != null) {
+            count(scheduleType(schedule.getType()), sign);
+        }
+        return this;
+    }
+
+    private PlanSummaryDelta budget(Budget budget, int sign) {
+        BigDecimal multiplier = BigDecimal.valueOf(sign);
+        count(BUDGET_TOTAL, sign);
+        if (budget.getStatus() != null) {
+            count(budgetStatus(budget.getStatus()), sign);
+        }
+        if (budget.isOverBudget()) {
+            count(BUDGET_OVER_BUDGET, sign);
+        }
+        if (budget.getPlannedAmount() != null) {
+            amount(BUDGET_PLANNED, budget.getPlannedAmount().multiply(multiplier));
+        }
+        if (budget.getActualAmount() != null) {
+            amount(BUDGET_ACTUAL, budget.getActualAmount().multiply(multiplier));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,138 @@
+package com.w.p.domain.summary.repository;
+
+import com.w.p.domain.summary.dto.PlanSummary;
+import com.w.p.domain.summary.dto.PlanSummaryDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 요약 카운터 JDBC Repository
+ * 증감은 INSERT ... ON DUPLICATE KEY UPDATE로 원자적으로 누적하므로 동시 변경에도 값이 유실되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlanSummaryCounterRepository {
+
+    /**
+     * 초기화 표시 키 (재계산으로 전체 값이 채워진 사용자만 증감을 반영)
+     */
+    public static final String INITIALIZED_KEY = "summary.initialized";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO wp_user_plan_counters (user_id, counter_key, count_value, amount_value, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE count_value = count_value + VALUES(count_value), " +
+            "amount_value = amount_value + VALUES(amount_value), updated_at = VALUES(updated_at)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO wp_user_plan_counters (user_id, counter_key, count_value, amount_value, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 카운터 전체 조회 (기본 키 범위 조회 한 번)
+     * @return 초기화되지 않은 사용자면 null
+     */
+    public PlanSummary findByUserId(Long userId) {
+        return find("SELECT counter_key, count_value, amount_value FROM wp_user_plan_counters WHERE user_id = ?", userId);
+    }
+
+    /**
+     * 사용자 카운터 전체 조회 및 잠금 (재계산용)
+     * 키 범위 잠금으로 동시 증감(새 키 추가 포함)은 잠금을 해제할 때까지 대기합니다.
+     * @return 초기화되지 않은 사용자면 null
+     */
+    public PlanSummary findByUserIdForUpdate(Long userId) {
+        return find("SELECT counter_key, count_value, amount_value FROM wp_user_plan_counters WHERE user_id = ? FOR UPDATE", userId);
+    }
+
+    private PlanSummary find(String sql, Long userId) {
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, BigDecimal> amounts = new HashMap<>();
+        jdbcTemplate.query(
+                sql,
+                rs -> {
+                    counts.put(rs.getString(1), rs.getLong(2));
+                    amounts.put(rs.getString(1), rs.getBigDecimal(3));
+                },
+                userId);
+        if (!counts.containsKey(INITIALIZED_KEY)) {
+            return null;
+        }
+        counts.remove(INITIALIZED_KEY);
+        amounts.remove(INITIALIZED_KEY);
+        return new PlanSummary(counts, amounts);
+    }
+
+    /**
+     * 초기화 여부
+     */
+    public boolean isInitialized(Long userId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM wp_user_plan_counters WHERE user_id = ? AND counter_key = ?",
+                Integer.class, userId, INITIALIZED_KEY);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 증감 누적
+     */
+    public void applyDelta(Long userId, PlanSummaryDelta delta) {
+        Map<String, Long> counts = delta.getCounts();
+        Map<String, BigDecimal> amounts = delta.getAmounts();
+        Set<String> keys = new LinkedHashSet<>(counts.keySet());
+        keys.addAll(amounts.keySet());
+        if (keys.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> keyList = new ArrayList<>(keys);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, keyList, keyList.size(), (ps, key) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, key);
+            ps.setLong(3, counts.getOrDefault(key, 0L));
+            ps.setBigDecimal(4, amounts.getOrDefault(key, BigDecimal.ZERO));
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    /**
+     * 사용자 카운터를 주어진 값으로 교체하고 초기화 표시
+     */
+    public void replace(Long userId, PlanSummary summary) {
+        jdbcTemplate.update("DELETE FROM wp_user_plan_counters WHERE user_id = ?", userId);
+        Set<String> keys = new LinkedHashSet<>(summary.getCounts().keySet());
+        keys.addAll(summary.getAmounts().keySet());
+        keys.add(INITIALIZED_KEY);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> keyList = new ArrayList<>(keys);
+        jdbcTemplate.batchUpdate(INSERT_SQL, keyList, keyList.size(), (ps, key) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, key);
+            ps.setLong(3, INITIALIZED_KEY.equals(key) ? 1L : summary.count(key));
+            ps.setBigDecimal(4, INITIALIZED_KEY.equals(key) ? BigDecimal.ZERO : summary.amount(key));
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    /**
+     * 초기화된 사용자 ID 키셋 조회 (재계산 작업용)
+     */
+    public List<Long> findInitializedUserIds(Long afterUserId, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT user_id FROM wp_user_plan_counters WHERE counter_key = ? AND user_id > ? ORDER BY user_id LIMIT ?",
+                Long.class, INITIALIZED_KEY, afterUserId, limit);
+    }
+}
@@ -0,0 +1,54 @@
+package com.w.p.domain.summary.service;
+
+import com.w.p.domain.summary.repository.PlanSummaryCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 요약 카운터 야간 재계산 작업
+ * 초기화된 사용자를 키셋으로 나눠 읽고, 사용자마다 별도 트랜잭션에서 원본과 비교해 어긋난 카운터를 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanSummaryReconciler {
+
+    private static final int USER_BATCH_SIZE = 500;
+
+    private final PlanSummaryCounterRepository planSummaryCounterRepository;
+    private final PlanSummaryService planSummaryService;
+
+    @Scheduled(cron = "${plan-summary.reconcile-cron:0 30 3 * * *}")
+    public void reconcileAll() {
+        long startedAt = System.currentTimeMillis();
+        int checked = 0;
+        int repaired = 0;
+        Long cursor = 0L;
+        while (true) {
+            List<Long> userIds = planSummaryCounterRepository.findInitializedUserIds(cursor, USER_BATCH_SIZE);
+            for (Long userId : userIds) {
+                try {
+                    if (planSummaryService.reconcile(userId)) {
+                        repaired++;
+                    }
+                } catch (Exception e) {
+                    log.error("요약 카운터 재계산 실패. 사용자: {}", userId, e);
+                }
+                checked++;
+            }
+            if (userIds.size() < USER_BATCH_SIZE) {
+                break;
+            }
+            cursor = userIds.get(userIds.size() - 1);
+        }
+        if (repaired > 0) {
+            log.warn("요약 카운터 보정 완료. 확인: {}, 보정: {}, 소요: {}ms", checked, repaired, System.currentTimeMillis() - startedAt);
+        } else {
+            log.info("요약 카운터 재계산 완료. 확인: {}, 소요: {}ms", checked, System.currentTimeMillis() - startedAt);
+        }
+    }
+}
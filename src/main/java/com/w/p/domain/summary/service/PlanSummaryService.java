@@ -0,0 +1,26 @@
+package com.w.p.domain.summary.service;
+
+import com.w.p.domain.summary.dto.PlanSummary;
+import com.w.p.domain.summary.dto.PlanSummaryDelta;
+
+/**
+ * 사용자 일정/예산 요약 카운터 서비스 인터페이스
+ */
+public interface PlanSummaryService {
+
+    /**
+     * 요약 카운터 조회 (처음 조회하는 사용자는 전체 재계산 후 저장)
+     */
+    PlanSummary getSummary(Long userId);
+
+    /**
+     * 증감 반영 (호출한 트랜잭션 안에서 함께 커밋)
+     */
+    void apply(Long userId, PlanSummaryDelta delta);
+
+    /**
+     * 원본 테이블에서 다시 계산해 어긋난 값 보정
+     * @return 보정이 필요했으면 true
+     */
+    boolean reconcile(Long userId);
+}
@@ -0,0 +1,134 @@
+package com.w.p.domain.summary.service.impl;
+
+import com.w.p.domain.budget.repository.BudgetRepository;
+import com.w.p.domain.schedule.repository.ScheduleRepository;
+import com.w.p.domain.summary.dto.PlanSummary;
+import com.w.p.domain.summary.dto.PlanSummaryDelta;
+import com.w.p.domain.summary.repository.PlanSummaryCounterRepository;
+import com.w.p.domain.summary.service.PlanSummaryService;
+import com.w.p.entity.Budget;
+import com.w.p.entity.Schedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 일정/예산 요약 카운터 서비스 구현체
+ * 일정/예산 변경과 같은 트랜잭션에서 증감만 반영하고, 대시보드는 사용자 카운터만 읽습니다.
+ * 초기화되지 않은 사용자는 증감을 건너뛰고 첫 조회 때 전체를 재계산하며, 어긋난 값은 야간 재계산 작업이 보정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanSummaryServiceImpl implements PlanSummaryService {
+
+    private final PlanSummaryCounterRepository planSummaryCounterRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final BudgetRepository budgetRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public PlanSummary getSummary(Long userId) {
+        PlanSummary summary = planSummaryCounterRepository.findByUserId(userId);
+        if (summary != null) {
+            return summary;
+        }
+        // 조회 트랜잭션은 읽기 전용이므로 초기화는 별도 트랜잭션에서 수행
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            return transaction.execute(status -> {
+                PlanSummary recomputed = recompute(userId);
+                planSummaryCounterRepository.replace(userId, recomputed);
+                return recomputed;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 다른 요청이 먼저 초기화한 경우
+            log.debug("요약 카운터 동시 초기화. 사용자: {}", userId);
+            return recompute(userId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void apply(Long userId, PlanSummaryDelta delta) {
+        if (delta.isEmpty() || !planSummaryCounterRepository.isInitialized(userId)) {
+            return;
+        }
+        planSummaryCounterRepository.applyDelta(userId, delta);
+    }
+
+    @Override
+    @Transactional
+    public boolean reconcile(Long userId) {
+        // 카운터를 먼저 잠가 재계산 중 반영된 증감이 교체로 유실되지 않도록 함
+        // (잠금 읽기는 읽기 스냅샷을 만들지 않으므로 이후 집계는 잠금 시점까지 커밋된 변경을 모두 포함)
+        PlanSummary current = planSummaryCounterRepository.findByUserIdForUpdate(userId);
+        PlanSummary recomputed = recompute(userId);
+        if (current != null && sameValues(current, recomputed)) {
+            return false;
+        }
+        planSummaryCounterRepository.replace(userId, recomputed);
+        return true;
+    }
+
+    /**
+     * 원본 테이블 집계로 카운터 계산
+     */
+    private PlanSummary recompute(Long userId) {
+        PlanSummaryDelta delta = new PlanSummaryDelta();
+        for (Object[] row : scheduleRepository.getScheduleStatsByStatus(userId)) {
+            long count = ((Number) row[1]).longValue();
+            delta.count(PlanSummaryDelta.SCHEDULE_TOTAL, count);
+            delta.count(PlanSummaryDelta.scheduleStatus((Schedule.ScheduleStatus) row[0]), count);
+        }
+        for (Object[] row : scheduleRepository.getScheduleStatsByType(userId)) {
+            delta.count(PlanSummaryDelta.scheduleType((Schedule.ScheduleType) row[0]), ((Number) row[1]).longValue());
+        }
+        for (Object[] row : budgetRepository.getBudgetSummaryByStatus(userId)) {
+            long count = ((Number) row[1]).longValue();
+            delta.count(PlanSummaryDelta.BUDGET_TOTAL, count);
+            delta.count(PlanSummaryDelta.budgetStatus((Budget.BudgetStatus) row[0]), count);
+            delta.amount(PlanSummaryDelta.BUDGET_PLANNED, (BigDecimal) row[2]);
+            delta.amount(PlanSummaryDelta.BUDGET_ACTUAL, (BigDecimal) row[3]);
+            delta.count(PlanSummaryDelta.BUDGET_OVER_BUDGET, row[4] != null ? ((Number) row[4]).longValue() : 0L);
+        }
+        return new PlanSummary(delta.getCounts(), delta.getAmounts());
+    }
+
+    private boolean sameValues(PlanSummary current, PlanSummary recomputed) {
+        return nonZeroCounts(current).equals(nonZeroCounts(recomputed))
+                && nonZeroAmounts(current).equals(nonZeroAmounts(recomputed));
+    }
+
+    private Map<String, Long> nonZeroCounts(PlanSummary summary) {
+        Map<String, Long> counts = new HashMap<>();
+        summary.getCounts().forEach((key, value) -> {
+            if (value != 0) {
+                counts.put(key, value);
+            }
+        });
+        return counts;
+    }
+
+    private Map<String, BigDecimal> nonZeroAmounts(PlanSummary summary) {
+        Map<String, BigDecimal> amounts = new HashMap<>();
+        summary.getAmounts().forEach((key, value) -> {
+            if (value != null && value.signum() != 0) {
+                // 소수 자릿수가 달라도 같은 값으로 비교
+                amounts.put(key, value.stripTrailingZeros());
+            }
+        });
+        return amounts;
+    }
+}
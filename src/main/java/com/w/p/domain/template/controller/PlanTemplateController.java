@@ -0,0 +1,51 @@
+package com.w.p.domain.template.controller;
+
+import com.w.p.common.ApiResponse;
+import com.w.p.domain.template.dto.PlanTemplateDTO;
+import com.w.p.domain.template.service.PlanTemplateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/plan-templates")
+@RequiredArgsConstructor
+@Slf4j
+public class PlanTemplateController {
+
+    private final PlanTemplateService planTemplateService;
+
+    /**
+     * 템플릿 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<PlanTemplateDTO.Response>>> getTemplates() {
+        return ResponseEntity.ok(ApiResponse.success(planTemplateService.getTemplates()));
+    }
+
+    /**
+     * 템플릿 상세 조회
+     */
+    @GetMapping("/{templateCode}")
+    public ResponseEntity<ApiResponse<PlanTemplateDTO.Response>> getTemplate(@PathVariable String templateCode) {
+        return ResponseEntity.ok(ApiResponse.success(planTemplateService.getTemplate(templateCode)));
+    }
+
+    /**
+     * 템플릿 적용 (일정/예산 일괄 생성, 재적용 시 중복 생성하지 않음)
+     */
+    @PostMapping("/{templateCode}/apply")
+    public ResponseEntity<ApiResponse<PlanTemplateDTO.ApplyResult>> applyTemplate(
+            @PathVariable String templateCode,
+            @RequestParam Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate weddingDate) {
+
+        PlanTemplateDTO.ApplyResult result = planTemplateService.applyTemplate(userId, templateCode, weddingDate);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+}
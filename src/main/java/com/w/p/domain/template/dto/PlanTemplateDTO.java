@@ -0,0 +1,85 @@
+package com.w.p.domain.template.dto;
+
+import com.w.p.entity.PlanTemplate;
+import com.w.p.entity.PlanTemplateItem;
+import com.w.p.entity.Schedule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class PlanTemplateDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private Long id;
+        private String code;
+        private String name;
+        private String description;
+        private List<ItemResponse> items;
+
+        public static Response from(PlanTemplate template, List<ItemResponse> items) {
+            return Response.builder()
+                    .id(template.getId())
+                    .code(template.getCode())
+                    .name(template.getName())
+                    .description(template.getDescription())
+                    .items(items)
+                    .build();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResponse {
+        private Long id;
+        private PlanTemplateItem.ItemType itemType;
+        private String title;
+        private String description;
+        private String category;
+        private Schedule.ScheduleType scheduleType;
+        private PlanTemplateItem.Priority priority;
+        private Integer daysBeforeWedding;
+        private BigDecimal budgetShare;
+        private BigDecimal defaultAmount;
+
+        public static ItemResponse from(PlanTemplateItem item) {
+            return ItemResponse.builder()
+                    .id(item.getId())
+                    .itemType(item.getItemType())
+                    .title(item.getTitle())
+                    .description(item.getDescription())
+                    .category(item.getCategory())
+                    .scheduleType(item.getScheduleType())
+                    .priority(item.getPriority())
+                    .daysBeforeWedding(item.getDaysBeforeWedding())
+                    .budgetShare(item.getBudgetShare())
+                    .defaultAmount(item.getDefaultAmount())
+                    .build();
+        }
+    }
+
+    /**
+     * 템플릿 적용 결과
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ApplyResult {
+        private String templateCode;
+        private LocalDate weddingDate;
+        private int createdScheduleCount;
+        private int createdBudgetCount;
+        private int skippedCount; // 이미 적용되어 건너뛴 항목 수
+    }
+}
@@ -0,0 +1,17 @@
+package com.w.p.domain.template.repository;
+
+import com.w.p.entity.PlanTemplateItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PlanTemplateItemRepository extends JpaRepository<PlanTemplateItem, Long> {
+
+    // 템플릿 항목 전체 조회
+    List<PlanTemplateItem> findByTemplateIdOrderBySortOrderAscIdAsc(Long templateId);
+
+    // 템플릿 항목 유형별 조회
+    List<PlanTemplateItem> findByTemplateIdAndItemTypeOrderBySortOrderAscIdAsc(Long templateId, PlanTemplateItem.ItemType itemType);
+}
@@ -0,0 +1,21 @@
+package com.w.p.domain.template.repository;
+
+import com.w.p.entity.PlanTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlanTemplateRepository extends JpaRepository<PlanTemplate, Long> {
+
+    // 사용 중인 템플릿 목록 조회
+    List<PlanTemplate> findByActiveTrueOrderByIdAsc();
+
+    // 코드로 사용 중인 템플릿 조회
+    Optional<PlanTemplate> findByCodeAndActiveTrue(String code);
+
+    // 이름으로 사용 중인 템플릿 조회
+    Optional<PlanTemplate> findFirstByNameAndActiveTrue(String name);
+}
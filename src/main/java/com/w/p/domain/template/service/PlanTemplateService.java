@@ -0,0 +1,42 @@
+package com.w.p.domain.template.service;
+
+import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.domain.schedule.dto.ScheduleDTO;
+import com.w.p.domain.template.dto.PlanTemplateDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 결혼 준비 계획 템플릿 서비스 인터페이스
+ */
+public interface PlanTemplateService {
+
+    /**
+     * 템플릿 목록 조회
+     */
+    List<PlanTemplateDTO.Response> getTemplates();
+
+    /**
+     * 템플릿 상세 조회 (항목 포함)
+     */
+    PlanTemplateDTO.Response getTemplate(String templateCode);
+
+    /**
+     * 템플릿 일정/예산 일괄 적용 (온보딩)
+     * @param weddingDate 결혼식 날짜 (null이면 사용자에 저장된 날짜 사용)
+     */
+    PlanTemplateDTO.ApplyResult applyTemplate(Long userId, String templateCode, LocalDate weddingDate);
+
+    /**
+     * 템플릿 일정 적용
+     * @return 템플릿으로 생성된 일정 전체 (이전에 생성된 일정 포함)
+     */
+    List<ScheduleDTO.Response> applyScheduleTemplate(Long userId, String templateName);
+
+    /**
+     * 템플릿 예산 적용
+     * @return 템플릿으로 생성된 예산 전체 (이전에 생성된 예산 포함)
+     */
+    List<BudgetDTO.Response> applyBudgetTemplate(Long userId, String templateName);
+}
@@ -0,0 +1,272 @@
+package com.w.p.domain.template.service.impl;
+
+import com.w.p.domain.budget.dto.BudgetDTO;
+import com.w.p.domain.budget.event.BudgetChangedEvent;
+import com.w.p.domain.budget.repository.BudgetBatchRepository;
+import com.w.p.domain.budget.repository.BudgetRepository;
+import com.w.p.domain.budget.service.BudgetHistoryRecorder;
+import com.w.p.domain.schedule.dto.ScheduleDTO;
+import com.w.p.domain.schedule.event.ScheduleChangedEvent;
+import com.w.p.domain.schedule.repository.ScheduleBatchRepository;
+import com.w.p.domain.schedule.repository.ScheduleRepository;
+import com.w.p.domain.summary.dto.PlanSummaryDelta;
+import com.w.p.domain.summary.service.PlanSummaryService;
+import com.w.p.domain.template.dto.PlanTemplateDTO;
+import com.w.p.domain.template.repository.PlanTemplateItemRepository;
+import com.w.p.domain.template.repository.PlanTemplateRepository;
+import com.w.p.domain.template.service.PlanTemplateService;
+import com.w.p.domain.user.repository.UserRepository;
+import com.w.p.entity.Budget;
+import com.w.p.entity.BudgetEvent;
+import com.w.p.entity.PlanTemplate;
+import com.w.p.entity.PlanTemplateItem;
+import com.w.p.entity.Schedule;
+import com.w.p.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 결혼 준비 계획 템플릿 서비스 구현체
+ * 템플릿 항목을 한 번에 조회해 일정/예산을 JDBC 배치로 생성합니다.
+ * 생성된 항목에는 템플릿 항목 ID가 기록되어 재적용 시 이미 있는 항목은 건너뜁니다. (사용자별 유니크 제약으로 보장)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanTemplateServiceImpl implements PlanTemplateService {
+
+    private static final LocalTime DEFAULT_DUE_TIME = LocalTime.of(10, 0);
+    private static final BigDecimal PERCENT = BigDecimal.valueOf(100);
+
+    private final PlanTemplateRepository planTemplateRepository;
+    private final PlanTemplateItemRepository planTemplateItemRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleBatchRepository scheduleBatchRepository;
+    private final BudgetRepository budgetRepository;
+    private final BudgetBatchRepository budgetBatchRepository;
+    private final UserRepository userRepository;
+    private final PlanSummaryService planSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BudgetHistoryRecorder budgetHistoryRecorder;
+
+    @Override
+    public List<PlanTemplateDTO.Response> getTemplates() {
+        return planTemplateRepository.findByActiveTrueOrderByIdAsc().stream()
+                .map(template -> PlanTemplateDTO.Response.from(template, null))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public PlanTemplateDTO.Response getTemplate(String templateCode) {
+        PlanTemplate template = findTemplate(templateCode);
+        List<PlanTemplateDTO.ItemResponse> items = planTemplateItemRepository.findByTemplateIdOrderBySortOrderAscIdAsc(template.getId()).stream()
+                .map(PlanTemplateDTO.ItemResponse::from)
+                .collect(Collectors.toList());
+        return PlanTemplateDTO.Response.from(template, items);
+    }
+
+    @Override
+    @Transactional
+    public PlanTemplateDTO.ApplyResult applyTemplate(Long userId, String templateCode, LocalDate weddingDate) {
+        User user = findUser(userId);
+        if (weddingDate != null) {
+            // 이미 생성된 항목의 마감일은 변경하지 않고, 새로 생성되는 항목부터 적용
+            user.setWeddingDate(weddingDate);
+            eventPublisher.publishEvent(new ScheduleChangedEvent(userId, null, ScheduleChangedEvent.ChangeType.TEMPLATE_APPLIED));
+        }
+        PlanTemplate template = findTemplate(templateCode);
+
+        List<PlanTemplateItem> scheduleItems = new ArrayList<>();
+        List<PlanTemplateItem> budgetItems = new ArrayList<>();
+        for (PlanTemplateItem item : planTemplateItemRepository.findByTemplateIdOrderBySortOrderAscIdAsc(template.getId())) {
+            if (item.getItemType() == PlanTemplateItem.ItemType.SCHEDULE) {
+                scheduleItems.add(item);
+            } else {
+                budgetItems.add(item);
+            }
+        }
+
+        int createdSchedules = materializeSchedules(user, scheduleItems);
+        int createdBudgets = materializeBudgets(user, budgetItems);
+        int skipped = scheduleItems.size() + budgetItems.size() - createdSchedules - createdBudgets;
+
+        log.info("템플릿 적용: 사용자: {}, 템플릿: {}, 일정: {}, 예산: {}, 건너뜀: {}",
+                userId, template.getCode(), createdSchedules, createdBudgets, skipped);
+        return PlanTemplateDTO.ApplyResult.builder()
+                .templateCode(template.getCode())
+                .weddingDate(user.getWeddingDate())
+                .createdScheduleCount(createdSchedules)
+                .createdBudgetCount(createdBudgets)
+                .skippedCount(skipped)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public List<ScheduleDTO.Response> applyScheduleTemplate(Long userId, String templateName) {
+        User user = findUser(userId);
+        PlanTemplate template = findTemplate(templateName);
+        List<PlanTemplateItem> items = planTemplateItemRepository.findByTemplateIdAndItemTypeOrderBySortOrderAscIdAsc(
+                template.getId(), PlanTemplateItem.ItemType.SCHEDULE);
+
+        int created = materializeSchedules(user, items);
+        log.info("일정 템플릿 적용: 사용자: {}, 템플릿: {}, 생성: {}", userId, template.getCode(), created);
+
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        return scheduleRepository.findByUserIdAndTemplateItemIdInOrderByDueDateAsc(userId, itemIds(items)).stream()
+                .map(ScheduleDTO.Response::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public List<BudgetDTO.Response> applyBudgetTemplate(Long userId, String templateName) {
+        User user = findUser(userId);
+        PlanTemplate template = findTemplate(templateName);
+        List<PlanTemplateItem> items = planTemplateItemRepository.findByTemplateIdAndItemTypeOrderBySortOrderAscIdAsc(
+                template.getId(), PlanTemplateItem.ItemType.BUDGET);
+
+        int created = materializeBudgets(user, items);
+        log.info("예산 템플릿 적용: 사용자: {}, 템플릿: {}, 생성: {}", userId, template.getCode(), created);
+
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        return budgetRepository.findByUserIdAndTemplateItemIdIn(userId, itemIds(items)).stream()
+                .map(BudgetDTO.Response::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 아직 생성되지 않은 일정 항목을 결혼식 날짜 기준 마감일로 일괄 생성
+     */
+    private int materializeSchedules(User user, List<PlanTemplateItem> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        if (user.getWeddingDate() == null) {
+            throw new RuntimeException("결혼식 날짜를 먼저 설정해주세요.");
+        }
+        Set<Long> existing = new HashSet<>(scheduleRepository.findExistingTemplateItemIds(user.getId(), itemIds(items)));
+
+        List<Schedule> schedules = new ArrayList<>();
+        for (PlanTemplateItem item : items) {
+            if (existing.contains(item.getId())) {
+                continue;
+            }
+            int daysBefore = item.getDaysBeforeWedding() != null ? item.getDaysBeforeWedding() : 0;
+            Schedule schedule = ScheduleDTO.Request.builder()
+                    .title(item.getTitle())
+                    .description(item.getDescription())
+                    .type(item.getScheduleType())
+                    .priority(Schedule.Priority.valueOf(item.getPriority().name()))
+                    .dueDate(user.getWeddingDate().minusDays(daysBefore).atTime(DEFAULT_DUE_TIME))
+                    .daysBeforeWedding(daysBefore)
+                    .build()
+                    .toEntity(user.getId());
+            schedule.setTemplateItemId(item.getId());
+            schedules.add(schedule);
+        }
+        int created = scheduleBatchRepository.batchInsert(schedules);
+        planSummaryService.apply(user.getId(), new PlanSummaryDelta().addSchedules(schedules));
+        if (created > 0) {
+            eventPublisher.publishEvent(new ScheduleChangedEvent(user.getId(), null, ScheduleChangedEvent.ChangeType.TEMPLATE_APPLIED));
+        }
+        return created;
+    }
+
+    /**
+     * 아직 생성되지 않은 예산 항목을 총예산 비율(없으면 기본 금액)로 일괄 생성
+     */
+    private int materializeBudgets(User user, List<PlanTemplateItem> items) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        Set<Long> existing = new HashSet<>(budgetRepository.findExistingTemplateItemIds(user.getId(), itemIds(items)));
+
+        List<Budget> budgets = new ArrayList<>();
+        for (PlanTemplateItem item : items) {
+            if (existing.contains(item.getId())) {
+                continue;
+            }
+            Budget budget = BudgetDTO.Request.builder()
+                    .category(item.getCategory() != null ? item.getCategory() : "기타")
+                    .itemName(item.getTitle())
+                    .plannedAmount(plannedAmount(user, item))
+                    .priority(Budget.Priority.valueOf(item.getPriority().name()))
+                    .description(item.getDescription())
+                    .dueDate(dueDate(user, item))
+                    .build()
+                    .toEntity(user.getId());
+            budget.setTemplateItemId(item.getId());
+            budgets.add(budget);
+        }
+        int created = budgetBatchRepository.batchInsert(budgets);
+        planSummaryService.apply(user.getId(), new PlanSummaryDelta().addBudgets(budgets));
+        if (created > 0) {
+            budgetHistoryRecorder.recordBulkCreated(budgetIds(budgets), BudgetEvent.EventType.IMPORTED);
+            eventPublisher.publishEvent(new BudgetChangedEvent(user.getId(), null, BudgetChangedEvent.ChangeType.TEMPLATE_APPLIED));
+        }
+        return created;
+    }
+
+    private BigDecimal plannedAmount(User user, PlanTemplateItem item) {
+        if (item.getBudgetShare() != null && user.getTotalBudget() != null && user.getTotalBudget() > 0) {
+            return BigDecimal.valueOf(user.getTotalBudget())
+                    .multiply(item.getBudgetShare())
+                    .divide(PERCENT, 0, RoundingMode.HALF_UP);
+        }
+        return item.getDefaultAmount();
+    }
+
+    private LocalDateTime dueDate(User user, PlanTemplateItem item) {
+        if (item.getDaysBeforeWedding() == null || user.getWeddingDate() == null) {
+            return null;
+        }
+        return user.getWeddingDate().minusDays(item.getDaysBeforeWedding()).atTime(DEFAULT_DUE_TIME);
+    }
+
+    private List<Long> budgetIds(List<Budget> budgets) {
+        return budgets.stream().map(Budget::getId).collect(Collectors.toList());
+    }
+
+    private List<Long> itemIds(List<PlanTemplateItem> items) {
+        return items.stream().map(PlanTemplateItem::getId).collect(Collectors.toList());
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+    }
+
+    /**
+     * 코드(대소문자 무시) 또는 이름으로 템플릿 조회
+     */
+    private PlanTemplate findTemplate(String templateName) {
+        if (templateName == null || templateName.isBlank()) {
+            throw new RuntimeException("템플릿 이름을 입력해주세요.");
+        }
+        String name = templateName.trim();
+        return planTemplateRepository.findByCodeAndActiveTrue(name.toUpperCase(Locale.ROOT))
+                .or(() -> planTemplateRepository.findFirstByNameAndActiveTrue(name))
+                .orElseThrow(() -> new RuntimeException("템플릿을 찾을 수 없습니다: " + templateName));
+    }
+}
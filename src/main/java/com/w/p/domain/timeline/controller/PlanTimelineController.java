@@ -0,0 +1,26 @@
+package com.w.p.domain.timeline.controller;
+
+import com.w.p.common.ApiResponse;
+import com.w.p.domain.timeline.dto.PlanTimelineDTO;
+import com.w.p.domain.timeline.service.PlanTimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/timeline")
+@RequiredArgsConstructor
+@Slf4j
+public class PlanTimelineController {
+
+    private final PlanTimelineService planTimelineService;
+
+    /**
+     * D-day 타임라인 조회 (일정과 연결된 예산을 D-day 구간별로)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<PlanTimelineDTO.Response>> getTimeline(@RequestParam Long userId) {
+        return ResponseEntity.ok(ApiResponse.success(planTimelineService.getTimeline(userId)));
+    }
+}
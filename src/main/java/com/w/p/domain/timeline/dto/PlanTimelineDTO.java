@@ -0,0 +1,96 @@
+package com.w.p.domain.timeline.dto;
+
+import com.w.p.entity.Budget;
+import com.w.p.entity.Schedule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class PlanTimelineDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private LocalDate weddingDate;
+        private int scheduleCount;
+        private int budgetCount;
+        private List<Bucket> buckets;
+    }
+
+    /**
+     * D-day 구간 (결혼식 날짜 기준 minDaysBefore일 전 이상 ~ maxDaysBefore일 전 미만)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bucket {
+        private String label;
+        private Integer minDaysBefore;
+        private Integer maxDaysBefore;
+        private List<ScheduleEntry> schedules;
+        private List<BudgetEntry> budgets; // 일정과 연결되지 않은 예산 항목
+        private BigDecimal plannedAmount;
+        private BigDecimal actualAmount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ScheduleEntry {
+        private Long id;
+        private String title;
+        private Schedule.ScheduleType type;
+        private Schedule.ScheduleStatus status;
+        private LocalDateTime dueDate;
+        private Integer daysBeforeWedding;
+        private BudgetEntry budget;
+
+        public static ScheduleEntry from(Schedule schedule, Integer daysBeforeWedding, BudgetEntry budget) {
+            return ScheduleEntry.builder()
+                    .id(schedule.getId())
+                    .title(schedule.getTitle())
+                    .type(schedule.getType())
+                    .status(schedule.getStatus())
+                    .dueDate(schedule.getDueDate())
+                    .daysBeforeWedding(daysBeforeWedding)
+                    .budget(budget)
+                    .build();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BudgetEntry {
+        private Long id;
+        private String category;
+        private String itemName;
+        private BigDecimal plannedAmount;
+        private BigDecimal actualAmount;
+        private Budget.BudgetStatus status;
+        private LocalDateTime dueDate;
+
+        public static BudgetEntry from(Budget budget) {
+            return BudgetEntry.builder()
+                    .id(budget.getId())
+                    .category(budget.getCategory())
+                    .itemName(budget.getItemName())
+                    .plannedAmount(budget.getPlannedAmount())
+                    .actualAmount(budget.getActualAmount())
+                    .status(budget.getStatus())
+                    .dueDate(budget.getDueDate())
+                    .build();
+        }
+    }
+}
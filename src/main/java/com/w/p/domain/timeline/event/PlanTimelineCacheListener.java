@@ -0,0 +1,30 @@
+package com.w.p.domain.timeline.event;
+
+import com.w.p.domain.budget.event.BudgetChangedEvent;
+import com.w.p.domain.schedule.event.ScheduleChangedEvent;
+import com.w.p.domain.timeline.service.PlanTimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 타임라인 캐시 무효화 리스너
+ * 커밋 이후에 무효화하여 커밋 전 데이터로 캐시가 다시 채워지지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanTimelineCacheListener {
+
+    private final PlanTimelineService planTimelineService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        planTimelineService.evictUser(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBudgetChanged(BudgetChangedEvent event) {
+        planTimelineService.evictUser(event.getUserId());
+    }
+}
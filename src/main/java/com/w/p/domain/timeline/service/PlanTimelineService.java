@@ -0,0 +1,19 @@
+package com.w.p.domain.timeline.service;
+
+import com.w.p.domain.timeline.dto.PlanTimelineDTO;
+
+/**
+ * D-day 타임라인 서비스 인터페이스
+ */
+public interface PlanTimelineService {
+
+    /**
+     * 일정과 연결된 예산을 D-day 구간별로 묶은 타임라인 조회
+     */
+    PlanTimelineDTO.Response getTimeline(Long userId);
+
+    /**
+     * 사용자 타임라인 캐시 무효화
+     */
+    void evictUser(Long userId);
+}
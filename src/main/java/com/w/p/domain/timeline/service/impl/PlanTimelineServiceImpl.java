@@ -0,0 +1,195 @@
+package com.w.p.domain.timeline.service.impl;
+
+import com.w.p.config.CacheConfig;
+import com.w.p.domain.budget.repository.BudgetRepository;
+import com.w.p.domain.schedule.repository.ScheduleRepository;
+import com.w.p.domain.timeline.dto.PlanTimelineDTO;
+import com.w.p.domain.timeline.service.PlanTimelineService;
+import com.w.p.domain.user.repository.UserRepository;
+import com.w.p.entity.Budget;
+import com.w.p.entity.Schedule;
+import com.w.p.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * D-day 타임라인 서비스 구현체
+ * 사용자의 일정과 예산을 각각 한 번씩만 조회해 메모리에서 연결하고, 결혼식 날짜 기준 구간으로 묶습니다.
+ * 결과는 사용자별로 캐시하며 일정/예산 변경 이벤트가 커밋된 뒤 무효화됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanTimelineServiceImpl implements PlanTimelineService {
+
+    /**
+     * 구간 하한 (결혼식 며칠 전부터, 내림차순)
+     */
+    private static final int[] BUCKET_MIN_DAYS = {365, 180, 120, 90, 60, 30, 14, 7, 1, 0};
+    private static final String AFTER_WEDDING_LABEL = "D+";
+    private static final String UNDATED_LABEL = "미정";
+
+    private final ScheduleRepository scheduleRepository;
+    private final BudgetRepository budgetRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PLAN_TIMELINE, key = "#userId")
+    public PlanTimelineDTO.Response getTimeline(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        LocalDate weddingDate = user.getWeddingDate();
+
+        List<Schedule> schedules = scheduleRepository.findByUserIdOrderByDueDateAsc(userId);
+        Map<Long, Budget> budgetsById = new LinkedHashMap<>();
+        for (Budget budget : budgetRepository.findByUserIdOrderByCreatedAtDesc(userId)) {
+            budgetsById.put(budget.getId(), budget);
+        }
+
+        // 구간 순서대로 결과를 채우기 위해 구간 인덱스별로 수집 (마지막 두 칸은 결혼식 이후/미정)
+        List<BucketBuilder> buckets = new ArrayList<>();
+        for (int i = 0; i < BUCKET_MIN_DAYS.length; i++) {
+            int min = BUCKET_MIN_DAYS[i];
+            Integer max = i == 0 ? null : BUCKET_MIN_DAYS[i - 1];
+            buckets.add(new BucketBuilder(label(min, max), min, max));
+        }
+        BucketBuilder afterWedding = new BucketBuilder(AFTER_WEDDING_LABEL, null, 0);
+        BucketBuilder undated = new BucketBuilder(UNDATED_LABEL, null, null);
+
+        Set<Long> linkedBudgetIds = new HashSet<>();
+        for (Schedule schedule : schedules) {
+            Integer daysBefore = weddingDate != null
+                    ? Integer.valueOf((int) ChronoUnit.DAYS.between(schedule.getDueDate().toLocalDate(), weddingDate))
+                    : schedule.getDaysBeforeWedding();
+            Budget budget = schedule.getBudgetId() != null ? budgetsById.get(schedule.getBudgetId()) : null;
+            PlanTimelineDTO.BudgetEntry budgetEntry = null;
+            BucketBuilder bucket = bucketOf(daysBefore, buckets, afterWedding, undated);
+            if (budget != null) {
+                linkedBudgetIds.add(budget.getId());
+                budgetEntry = PlanTimelineDTO.BudgetEntry.from(budget);
+                bucket.addAmounts(budget);
+            }
+            bucket.schedules.add(PlanTimelineDTO.ScheduleEntry.from(schedule, daysBefore, budgetEntry));
+        }
+
+        for (Budget budget : budgetsById.values()) {
+            if (linkedBudgetIds.contains(budget.getId())) {
+                continue;
+            }
+            Integer daysBefore = weddingDate != null && budget.getDueDate() != null
+                    ? Integer.valueOf((int) ChronoUnit.DAYS.between(budget.getDueDate().toLocalDate(), weddingDate))
+                    : null;
+            BucketBuilder bucket = bucketOf(daysBefore, buckets, afterWedding, undated);
+            bucket.budgets.add(PlanTimelineDTO.BudgetEntry.from(budget));
+            bucket.addAmounts(budget);
+        }
+
+        buckets.add(afterWedding);
+        buckets.add(undated);
+        List<PlanTimelineDTO.Bucket> result = new ArrayList<>();
+        for (BucketBuilder bucket : buckets) {
+            if (!bucket.isEmpty()) {
+                result.add(bucket.build());
+            }
+        }
+
+        log.debug("타임라인 계산 완료. 사용자: {}, 일정: {}, 예산: {}", userId, schedules.size(), budgetsById.size());
+        return PlanTimelineDTO.Response.builder()
+                .weddingDate(weddingDate)
+                .scheduleCount(schedules.size())
+                .budgetCount(budgetsById.size())
+                .buckets(result)
+                .build();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.PLAN_TIMELINE, key = "#userId")
+    public void evictUser(Long userId) {
+        log.debug("타임라인 캐시 무효화. 사용자: {}", userId);
+    }
+
+    private BucketBuilder bucketOf(Integer daysBefore, List<BucketBuilder> buckets, BucketBuilder afterWedding, BucketBuilder undated) {
+        if (daysBefore == null) {
+            return undated;
+        }
+        for (int i = 0; i < BUCKET_MIN_DAYS.length; i++) {
+            if (daysBefore >= BUCKET_MIN_DAYS[i]) {
+                return buckets.get(i);
+            }
+        }
+        return afterWedding;
+    }
+
+    private static String label(int min, Integer max) {
+        if (min == 0) {
+            return "D-DAY";
+        }
+        return max == null ? "D-" + min + " 이전" : "D-" + min;
+    }
+
+    /**
+     * 구간별 수집용
+     */
+    private static class BucketBuilder {
+        private final String label;
+        private final Integer minDaysBefore;
+        private final Integer maxDaysBefore;
+        private final List<PlanTimelineDTO.ScheduleEntry> schedules = new ArrayList<>();
+        private final List<PlanTimelineDTO.BudgetEntry> budgets = new ArrayList<>();
+        private final Set<Long> countedBudgetIds = new HashSet<>();
+        private BigDecimal plannedAmount = BigDecimal.ZERO;
+        private BigDecimal actualAmount = BigDecimal.ZERO;
+
+        private BucketBuilder(String label, Integer minDaysBefore, Integer maxDaysBefore) {
+            this.label = label;
+            this.minDaysBefore = minDaysBefore;
+            this.maxDaysBefore = maxDaysBefore;
+        }
+
+        /**
+         * 예산 금액 합산 (여러 일정이 같은 예산에 연결되어도 구간당 한 번만)
+         */
+        private void addAmounts(Budget budget) {
+            if (!countedBudgetIds.add(budget.getId())) {
+                return;
+            }
+            if (budget.getPlannedAmount() != null) {
+                plannedAmount = plannedAmount.add(budget.getPlannedAmount());
+            }
+            if (budget.getActualAmount() != null) {
+                actualAmount = actualAmount.add(budget.getActualAmount());
+            }
+        }
+
+        private boolean isEmpty() {
+            return schedules.isEmpty() && budgets.isEmpty();
+        }
+
+        private PlanTimelineDTO.Bucket build() {
+            return PlanTimelineDTO.Bucket.builder()
+                    .label(label)
+                    .minDaysBefore(minDaysBefore)
+                    .maxDaysBefore(maxDaysBefore)
+                    .schedules(schedules)
+                    .budgets(budgets)
+                    .plannedAmount(plannedAmount)
+                    .actualAmount(actualAmount)
+                    .build();
+        }
+    }
+}
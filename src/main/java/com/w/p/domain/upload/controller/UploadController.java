@@ -0,0 +1,46 @@
+package com.w.p.domain.upload.controller;
+
+import com.w.p.common.util.FileRangeSender;
+import com.w.p.domain.upload.dto.UploadFileDTO;
+import com.w.p.domain.upload.service.UploadFileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/uploads")
+@RequiredArgsConstructor
+@Slf4j
+public class UploadController {
+
+    private static final String PREFIX = "/uploads/";
+    // 내용 해시 경로는 URL이 같으면 내용도 같으므로 재검증 없이 1년 캐시 (인증이 필요한 응답이라 공유 캐시에는 저장하지 않음)
+    private static final String CACHE_IMMUTABLE = "private, max-age=31536000, immutable";
+    private static final String CACHE_REVALIDATE = "private, max-age=60, must-revalidate";
+
+    private final UploadFileService uploadFileService;
+
+    /**
+     * 업로드 파일 제공 (ETag/Range 지원)
+     */
+    @GetMapping("/**")
+    public void getFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        UploadFileDTO.Metadata file = uri.startsWith(PREFIX)
+                ? uploadFileService.getFile(UriUtils.decode(uri.substring(PREFIX.length()), StandardCharsets.UTF_8)).orElse(null)
+                : null;
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.isImmutable() ? CACHE_IMMUTABLE : CACHE_REVALIDATE);
+        FileRangeSender.send(request, response, file.getPath(), file.getLength(), file.getContentType(), file.getEtag());
+    }
+}
@@ -0,0 +1,22 @@
+package com.w.p.domain.upload.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.file.Path;
+
+public class UploadFileDTO {
+
+    /**
+     * 업로드 파일 전송 정보
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Metadata {
+        private Path path;
+        private long length;
+        private String contentType;
+        private String etag;
+        private boolean immutable; // 내용 해시 경로라 같은 URL의 내용이 바뀌지 않음
+    }
+}
@@ -0,0 +1,29 @@
+package com.w.p.domain.upload.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 업로드 파일 참조 확인 JDBC Repository
+ * 내용 해시 경로의 파일은 여러 매물/웨딩홀이 같은 URL을 공유할 수 있으므로, 삭제 전에 남은 참조가 있는지 확인합니다.
+ * 추가 이미지(images)는 JSON 배열 문자열이라 LIKE로 찾으며, 삭제 시에만 실행하므로 전체 조회 비용을 감수합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UploadReferenceRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * URL을 사용하는 부동산/웨딩홀/웨딩 서비스 행이 있는지 확인
+     */
+    public boolean isReferenced(String url) {
+        Boolean referenced = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM wp_real_estates WHERE image_url = ? OR images LIKE ?) " +
+                "OR EXISTS (SELECT 1 FROM wp_wedding_halls WHERE image_url = ?) " +
+                "OR EXISTS (SELECT 1 FROM wp_wedding_services WHERE image_url = ?)",
+                Boolean.class, url, "%\"" + url + "\"%", url, url);
+        return Boolean.TRUE.equals(referenced);
+    }
+}
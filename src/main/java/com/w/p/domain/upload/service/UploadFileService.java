@@ -0,0 +1,28 @@
+package com.w.p.domain.upload.service;
+
+import com.w.p.domain.upload.dto.UploadFileDTO;
+
+import java.util.Optional;
+
+/**
+ * 업로드 파일 제공 서비스 인터페이스
+ */
+public interface UploadFileService {
+
+    /**
+     * /uploads/ 이하 상대 경로의 전송 정보 조회 (없거나 허용되지 않는 경로면 empty)
+     */
+    Optional<UploadFileDTO.Metadata> getFile(String relativePath);
+
+    /**
+     * 내용 해시 경로의 원본을 참조하는 행이 없으면 축소본과 함께 삭제
+     * @return 삭제했으면 true (참조가 남았거나 유예 기간 안이면 false, 야간 정리에서 다시 확인)
+     */
+    boolean deleteIfUnreferenced(String relativePath);
+
+    /**
+     * 참조가 없는 업로드 파일과 오래된 임시 파일 정리
+     * @return 삭제한 원본 수
+     */
+    int sweepOrphans();
+}
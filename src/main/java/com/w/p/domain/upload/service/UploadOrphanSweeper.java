@@ -0,0 +1,26 @@
+package com.w.p.domain.upload.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 파일 야간 정리 작업
+ * 매물/웨딩홀에서 빠진 사진은 다른 행이 같은 파일을 참조할 수 있어 즉시 지우지 못하므로, 참조가 없는 원본과 축소본을 주기적으로 삭제합니다.
+ * 여러 인스턴스에서 동시에 실행되어도 삭제는 멱등이므로 별도 임대 없이 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadOrphanSweeper {
+
+    private final UploadFileService uploadFileService;
+
+    @Scheduled(cron = "${file.upload.orphan-sweep-cron:0 0 4 * * *}")
+    public void sweep() {
+        long startedAt = System.currentTimeMillis();
+        int deleted = uploadFileService.sweepOrphans();
+        log.info("업로드 파일 정리 완료. 삭제: {}건, 소요: {}ms", deleted, System.currentTimeMillis() - startedAt);
+    }
+}
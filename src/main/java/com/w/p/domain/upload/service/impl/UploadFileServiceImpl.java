@@ -0,0 +1,214 @@
+package com.w.p.domain.upload.service.impl;
+
+import com.w.p.common.util.ImageVariantGenerator;
+import com.w.p.domain.upload.dto.UploadFileDTO;
+import com.w.p.domain.upload.repository.UploadReferenceRepository;
+import com.w.p.domain.upload.service.UploadFileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 제공 서비스 구현체
+ * 내용 해시 경로의 파일은 내용이 바뀌거나 삭제되지 않으므로 처음 조회한 크기/ETag를 메모리에 보관해 이후 요청은 파일 시스템을 조회하지 않습니다.
+ * 이전 방식(업로드 디렉토리 바로 아래 파일명)의 파일은 삭제될 수 있어 요청마다 확인합니다.
+ * 내용 해시 경로의 원본은 참조하는 행이 없고 유예 기간이 지난 경우에만 축소본과 함께 삭제합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadFileServiceImpl implements UploadFileService {
+
+    private static final int MAX_CACHED_FILES = 10000;
+    // 하위 디렉토리는 해시 앞 2자리만 허용 (.tmp 등 내부 디렉토리와 상위 경로 접근 차단)
+    private static final Pattern ALLOWED_PATH = Pattern.compile("^(?:[0-9a-f]{2}/)?[A-Za-z0-9_-]+\\.[A-Za-z0-9]+$");
+    private static final Pattern SHARD_DIRECTORY = Pattern.compile("^[0-9a-f]{2}$");
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final Pattern CONTENT_ADDRESSED_PATH = Pattern.compile("^([0-9a-f]{2})/(([0-9a-f]{64})(?:_([a-z]+))?)\\.[a-z]+$");
+
+    private final UploadReferenceRepository uploadReferenceRepository;
+
+    private final Map<String, UploadFileDTO.Metadata> immutableFiles = new ConcurrentHashMap<>();
+
+    @Value("${file.upload.path:/uploads}")
+    private String uploadPath;
+
+    @Value("${file.upload.orphan-grace-hours:24}")
+    private long orphanGraceHours;
+
+    @Override
+    public Optional<UploadFileDTO.Metadata> getFile(String relativePath) {
+        if (relativePath == null || !ALLOWED_PATH.matcher(relativePath).matches()) {
+            return Optional.empty();
+        }
+        UploadFileDTO.Metadata cached = immutableFiles.get(relativePath);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Path root = Paths.get(uploadPath);
+        Path file = root.resolve(relativePath);
+        Matcher matcher = CONTENT_ADDRESSED_PATH.matcher(relativePath);
+        if (!matcher.matches() || !matcher.group(3).startsWith(matcher.group(1))) {
+            return readAttributes(file).map(attributes -> new UploadFileDTO.Metadata(file, attributes.size(),
+                    contentType(file), "\"" + attributes.size() + "-" + attributes.lastModifiedTime().toMillis() + "\"", false));
+        }
+
+        String hash = matcher.group(3);
+        String variant = matcher.group(4);
+        if (variant != null && ImageVariantGenerator.Variant.fromSuffix(variant) == null) {
+            return Optional.empty();
+        }
+        Optional<BasicFileAttributes> attributes = readAttributes(file);
+        if (attributes.isEmpty()) {
+            // 축소본이 아직 없으면(생성 중이거나 변환할 수 없는 형식) 원본을 짧게만 캐시하도록 제공
+            return variant != null ? findOriginal(file.getParent(), hash) : Optional.empty();
+        }
+
+        UploadFileDTO.Metadata metadata = new UploadFileDTO.Metadata(file, attributes.get().size(),
+                contentType(file), "\"" + matcher.group(2) + "\"", true);
+        if (immutableFiles.size() < MAX_CACHED_FILES) {
+            immutableFiles.put(relativePath, metadata);
+        }
+        return Optional.of(metadata);
+    }
+
+    @Override
+    public boolean deleteIfUnreferenced(String relativePath) {
+        Matcher matcher = CONTENT_ADDRESSED_PATH.matcher(relativePath);
+        if (!matcher.matches() || matcher.group(4) != null) {
+            return false;
+        }
+        return deleteIfOrphan(Paths.get(uploadPath).resolve(relativePath), relativePath, matcher.group(3));
+    }
+
+    @Override
+    public int sweepOrphans() {
+        Path root = Paths.get(uploadPath);
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        int deleted = 0;
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(root,
+                entry -> Files.isDirectory(entry) && SHARD_DIRECTORY.matcher(entry.getFileName().toString()).matches())) {
+            for (Path shard : shards) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(shard)) {
+                    for (Path file : files) {
+                        String relativePath = shard.getFileName() + "/" + file.getFileName();
+                        Matcher matcher = CONTENT_ADDRESSED_PATH.matcher(relativePath);
+                        // 축소본은 원본과 함께 삭제되므로 원본만 확인
+                        if (matcher.matches() && matcher.group(4) == null
+                                && deleteIfOrphan(file, relativePath, matcher.group(3))) {
+                            deleted++;
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("업로드 파일 정리 중 디렉토리 조회 실패: {}", root, e);
+        }
+        deleteStaleTempFiles(root.resolve(TEMP_DIRECTORY));
+        return deleted;
+    }
+
+    /**
+     * 참조가 없는 원본과 축소본 삭제
+     * 방금 올라왔거나 중복 업로드로 재사용된 파일(수정 시각 갱신)은 아직 행에 저장되기 전일 수 있으므로 유예 기간이 지난 뒤에 삭제합니다.
+     */
+    private boolean deleteIfOrphan(Path original, String relativePath, String hash) {
+        try {
+            if (isWithinGracePeriod(original)
+                    || uploadReferenceRepository.isReferenced("/uploads/" + relativePath)
+                    || isWithinGracePeriod(original)) {
+                // 참조 확인 중에 같은 사진이 다시 올라온 경우도 건너뜀
+                return false;
+            }
+            Files.deleteIfExists(original);
+            immutableFiles.remove(relativePath);
+            String shard = relativePath.substring(0, relativePath.indexOf('/') + 1);
+            for (ImageVariantGenerator.Variant variant : ImageVariantGenerator.Variant.values()) {
+                String variantName = ImageVariantGenerator.fileName(hash, variant);
+                Files.deleteIfExists(original.resolveSibling(variantName));
+                immutableFiles.remove(shard + variantName);
+            }
+            log.info("참조가 없는 업로드 파일 삭제: {}", relativePath);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("업로드 파일 삭제 실패: {}", relativePath, e);
+            return false;
+        }
+    }
+
+    private void deleteStaleTempFiles(Path tempDirectory) {
+        if (!Files.isDirectory(tempDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> temps = Files.newDirectoryStream(tempDirectory)) {
+            for (Path temp : temps) {
+                if (!isWithinGracePeriod(temp)) {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 정리 실패: {}", tempDirectory, e);
+        }
+    }
+
+    private boolean isWithinGracePeriod(Path file) throws IOException {
+        Instant graceStart = Instant.now().minus(Duration.ofHours(orphanGraceHours));
+        return Files.getLastModifiedTime(file).toInstant().isAfter(graceStart);
+    }
+
+    private Optional<UploadFileDTO.Metadata> findOriginal(Path directory, String hash) {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (DirectoryStream<Path> originals = Files.newDirectoryStream(directory, hash + ".*")) {
+            for (Path original : originals) {
+                Optional<BasicFileAttributes> attributes = readAttributes(original);
+                if (attributes.isPresent()) {
+                    return Optional.of(new UploadFileDTO.Metadata(original, attributes.get().size(),
+                            contentType(original), "\"" + hash + "\"", false));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("원본 이미지 조회 실패: {}/{}", directory, hash, e);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<BasicFileAttributes> readAttributes(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.isRegularFile() ? Optional.of(attributes) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String contentType(Path file) {
+        return MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+}
@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -98,6 +99,7 @@ public class UserDTO {
         private String role;
         private String status;
         private Long totalBudget;
+        private LocalDate weddingDate;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
@@ -111,6 +113,7 @@ public class UserDTO {
                     .role(user.getRole().name())
                     .status(user.getStatus().name())
                     .totalBudget(user.getTotalBudget())
+                    .weddingDate(user.getWeddingDate())
                     .createdAt(user.getCreatedAt())
                     .updatedAt(user.getUpdatedAt())
                     .build();
@@ -149,6 +152,7 @@ public class UserDTO {
         private String role;
         private String status;
         private Long totalBudget;
+        private LocalDate weddingDate;
         private LocalDateTime lastLoginAt;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
@@ -15,6 +15,12 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByUsername(String username);
+
+    /**
+     * 사용자명으로 ID만 조회 (엔티티 로딩 없이)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
     
     Optional<User> findByEmail(String email);
     
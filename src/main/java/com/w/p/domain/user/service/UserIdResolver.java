@@ -0,0 +1,58 @@
+package com.w.p.domain.user.service;
+
+import com.w.p.config.security.CustomUserDetails;
+import com.w.p.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 사용자명 → 사용자 ID 변환
+ * 토큰 인증으로 이미 로드된 사용자면 조회 없이 ID를 사용하고, 그 외에는 ID만 조회해 요청 속성에 보관하므로 한 요청에서 한 번만 조회합니다.
+ * 요청 컨텍스트가 없는 스레드(비동기 작업 등)에서는 매번 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdResolver {
+
+    private static final String ATTRIBUTE_PREFIX = UserIdResolver.class.getName() + ".";
+
+    private final UserRepository userRepository;
+
+    public Long resolve(String username) {
+        Long authenticatedId = authenticatedUserId(username);
+        if (authenticatedId != null) {
+            return authenticatedId;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String key = ATTRIBUTE_PREFIX + username;
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof Long) {
+                return (Long) cached;
+            }
+        }
+
+        Long userId = userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+        if (attributes != null) {
+            attributes.setAttribute(key, userId, RequestAttributes.SCOPE_REQUEST);
+        }
+        return userId;
+    }
+
+    private Long authenticatedUserId(String username) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails) {
+            CustomUserDetails details = (CustomUserDetails) authentication.getPrincipal();
+            if (details.getUsername().equals(username)) {
+                return details.getUserId();
+            }
+        }
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.w.p.domain.user.service.impl;
 
+import com.w.p.domain.budget.event.BudgetChangedEvent;
 import com.w.p.domain.user.dto.UserDTO;
 import com.w.p.entity.User;
 import com.w.p.domain.user.repository.UserRepository;
@@ -7,6 +8,7 @@ import com.w.p.domain.user.service.UserService;
 import com.w.p.component.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,6 +30,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDTO.SignupResponse signup(UserDTO.Signup request) {
@@ -221,6 +224,7 @@ public class UserServiceImpl implements UserService {
         
         user.setTotalBudget(request.getTotalBudget());
         userRepository.save(user);
+        eventPublisher.publishEvent(new BudgetChangedEvent(userId, null, BudgetChangedEvent.ChangeType.TOTAL_BUDGET_CHANGED));
     }
 
     @Override
@@ -246,6 +250,7 @@ public class UserServiceImpl implements UserService {
                 .role(user.getRole().name())
                 .status(user.getStatus().name())
                 .totalBudget(user.getTotalBudget())
+                .weddingDate(user.getWeddingDate())
                 .lastLoginAt(user.getLastLoginAt())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
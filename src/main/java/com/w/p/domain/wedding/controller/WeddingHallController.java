@@ -1,13 +1,22 @@
 package com.w.p.domain.wedding.controller;
 
 import com.w.p.common.ApiResponse;
+import com.w.p.common.ImportResult;
+import com.w.p.common.util.SpreadsheetReader;
 import com.w.p.domain.wedding.dto.WeddingHallDTO;
+import com.w.p.domain.wedding.service.WeddingHallAlertService;
+import com.w.p.domain.wedding.service.WeddingHallRecommendationService;
+import com.w.p.domain.wedding.service.WeddingHallSearchService;
 import com.w.p.domain.wedding.service.WeddingHallService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -17,6 +26,9 @@ import java.util.List;
 public class WeddingHallController {
     
     private final WeddingHallService weddingHallService;
+    private final WeddingHallAlertService weddingHallAlertService;
+    private final WeddingHallSearchService weddingHallSearchService;
+    private final WeddingHallRecommendationService weddingHallRecommendationService;
     
     /**
      * 웨딩홀 목록 조회
@@ -102,6 +114,33 @@ public class WeddingHallController {
         return ResponseEntity.ok(ApiResponse.success(weddingHalls));
     }
     
+    /**
+     * 웨딩홀 전체 검색 (이름/주소/설명, 관련도 순)
+     */
+    @GetMapping("/search/global")
+    public ResponseEntity<ApiResponse<WeddingHallDTO.SearchResult>> searchAllWeddingHalls(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        WeddingHallDTO.SearchResult result = weddingHallSearchService.search(keyword, page, size);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+    
+    /**
+     * 예산/하객 수 기반 웨딩홀 추천 (상위 K개)
+     */
+    @GetMapping("/recommendations")
+    public ResponseEntity<ApiResponse<WeddingHallDTO.RecommendationResult>> getRecommendations(
+            @RequestParam Long userId,
+            @RequestParam(required = false) Integer guestCount,
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) String location) {
+        
+        WeddingHallDTO.RecommendationResult result = weddingHallRecommendationService.recommend(userId, guestCount, k, location);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+    
     /**
      * 웨딩홀 통계 조회
      */
@@ -112,4 +151,58 @@ public class WeddingHallController {
         WeddingHallDTO.ListResponse statistics = weddingHallService.getWeddingHallStatistics(userId);
         return ResponseEntity.ok(ApiResponse.success(statistics));
     }
+    
+    /**
+     * 가격 알림 목록 조회
+     */
+    @GetMapping("/alerts")
+    public ResponseEntity<ApiResponse<List<WeddingHallDTO.AlertResponse>>> getWeddingHallAlerts(
+            @RequestParam Long userId) {
+        
+        List<WeddingHallDTO.AlertResponse> alerts = weddingHallAlertService.getAlerts(userId);
+        return ResponseEntity.ok(ApiResponse.success(alerts));
+    }
+    
+    /**
+     * 가격 알림 설정
+     */
+    @PostMapping("/{weddingHallId}/alerts")
+    public ResponseEntity<ApiResponse<WeddingHallDTO.AlertResponse>> setWeddingHallAlert(
+            @PathVariable Long weddingHallId,
+            @RequestParam Long userId,
+            @RequestBody WeddingHallDTO.AlertRequest alertRequest) {
+        
+        WeddingHallDTO.AlertResponse alert = weddingHallAlertService.setAlert(userId, weddingHallId, alertRequest.getPriceThreshold());
+        return ResponseEntity.ok(ApiResponse.success(alert));
+    }
+    
+    /**
+     * 가격 알림 해제
+     */
+    @DeleteMapping("/{weddingHallId}/alerts")
+    public ResponseEntity<ApiResponse<Void>> deleteWeddingHallAlert(
+            @PathVariable Long weddingHallId,
+            @RequestParam Long userId) {
+        
+        weddingHallAlertService.deleteAlert(userId, weddingHallId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+    
+    /**
+     * 웨딩홀 대량 가져오기 (CSV/XLSX)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportResult>> importWeddingHalls(
+            @RequestParam Long userId,
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        
+        String resolvedFormat = SpreadsheetReader.resolveFormat(format, file.getOriginalFilename());
+        try (InputStream inputStream = file.getInputStream()) {
+            ImportResult result = weddingHallService.importWeddingHalls(userId, inputStream, resolvedFormat);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일을 읽을 수 없습니다.", e);
+        }
+    }
 }
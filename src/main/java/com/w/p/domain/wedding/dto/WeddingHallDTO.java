@@ -1,6 +1,8 @@
 package com.w.p.domain.wedding.dto;
 
+import com.w.p.common.util.ImageVariantGenerator;
 import com.w.p.entity.WeddingHall;
+import com.w.p.entity.WeddingHallAlert;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -48,6 +50,7 @@ public class WeddingHallDTO {
         private String parkingInfo;
         private String website;
         private String imageUrl;
+        private String thumbnailUrl; // 목록용 축소본 URL (업로드 이미지가 아니면 null)
         private Boolean isBookmarked;
         private String memo;
         private LocalDateTime createdAt;
@@ -67,6 +70,7 @@ public class WeddingHallDTO {
                     .parkingInfo(weddingHall.getParkingInfo())
                     .website(weddingHall.getWebsite())
                     .imageUrl(weddingHall.getImageUrl())
+                    .thumbnailUrl(ImageVariantGenerator.variantUrl(weddingHall.getImageUrl(), ImageVariantGenerator.Variant.THUMBNAIL))
                     .isBookmarked(weddingHall.getIsBookmarked())
                     .memo(weddingHall.getMemo())
                     .createdAt(weddingHall.getCreatedAt())
@@ -120,6 +124,40 @@ public class WeddingHallDTO {
         private BigDecimal averagePrice;
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SearchResult {
+        private java.util.List<Response> weddingHalls;
+        private long totalCount;
+        private int page;
+        private int size;
+        private boolean hasNext;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Recommendation {
+        private Response weddingHall;
+        private double score;
+        private BigDecimal estimatedCost;
+        private boolean withinBudget;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RecommendationResult {
+        private java.util.List<Recommendation> recommendations;
+        private BigDecimal venueBudget;
+        private int guestCount;
+        private long candidateCount;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -133,4 +171,38 @@ public class WeddingHallDTO {
         private String contactEmail;
         private String message;
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AlertRequest {
+        private BigDecimal priceThreshold;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AlertResponse {
+        private Long id;
+        private Long weddingHallId;
+        private BigDecimal priceThreshold;
+        private Boolean triggered;
+        private BigDecimal lastTriggeredPrice;
+        private LocalDateTime lastTriggeredAt;
+        private LocalDateTime createdAt;
+
+        public static AlertResponse from(WeddingHallAlert alert) {
+            return AlertResponse.builder()
+                    .id(alert.getId())
+                    .weddingHallId(alert.getWeddingHallId())
+                    .priceThreshold(alert.getPriceThreshold())
+                    .triggered(alert.getTriggered())
+                    .lastTriggeredPrice(alert.getLastTriggeredPrice())
+                    .lastTriggeredAt(alert.getLastTriggeredAt())
+                    .createdAt(alert.getCreatedAt())
+                    .build();
+        }
+    }
 }
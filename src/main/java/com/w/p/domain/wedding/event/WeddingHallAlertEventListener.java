@@ -0,0 +1,78 @@
+package com.w.p.domain.wedding.event;
+
+import com.w.p.domain.notification.service.NotificationService;
+import com.w.p.domain.wedding.repository.WeddingHallRepository;
+import com.w.p.domain.wedding.service.WeddingHallAlertService;
+import com.w.p.entity.Notification;
+import com.w.p.entity.WeddingHall;
+import com.w.p.entity.WeddingHallAlert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.DecimalFormat;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 웨딩홀 가격 알림 이벤트 리스너
+ * 가격 변경이 커밋된 후 별도 스레드에서 알림을 평가하고 발송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeddingHallAlertEventListener {
+
+    private final WeddingHallAlertService weddingHallAlertService;
+    private final WeddingHallRepository weddingHallRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * 웨딩홀 삭제 시 같은 트랜잭션에서 알림 정리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onWeddingHallDeleted(WeddingHallChangedEvent event) {
+        if (event.getChangeType() == WeddingHallChangedEvent.ChangeType.DELETED) {
+            weddingHallAlertService.removeAlertsForWeddingHall(event.getWeddingHallId());
+        }
+    }
+
+    /**
+     * 가격 변경 시 알림 평가 및 발송
+     */
+    @Async("alertExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWeddingHallPriceChanged(WeddingHallChangedEvent event) {
+        if (event.getChangeType() != WeddingHallChangedEvent.ChangeType.UPDATED || !event.isPriceChanged()) {
+            return;
+        }
+
+        try {
+            List<WeddingHallAlert> triggered = weddingHallAlertService.evaluatePriceChange(
+                    event.getWeddingHallId(), event.getOldPrice(), event.getNewPrice());
+            if (triggered.isEmpty()) {
+                return;
+            }
+
+            String hallName = weddingHallRepository.findById(event.getWeddingHallId())
+                    .map(WeddingHall::getName)
+                    .orElse("웨딩홀");
+            DecimalFormat priceFormat = new DecimalFormat("#,###");
+
+            for (WeddingHallAlert alert : triggered) {
+                String message = String.format("%s의 테이블당 가격이 %s원으로 내려가 설정하신 %s원 이하가 되었습니다.",
+                        hallName, priceFormat.format(event.getNewPrice()), priceFormat.format(alert.getPriceThreshold()));
+                // 알림 ID + 발송 시각 기준으로 재시도 시 중복 발송 방지
+                String dedupeKey = String.format("WEDDING_HALL_PRICE:%d:%d", alert.getId(),
+                        alert.getLastTriggeredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                notificationService.notify(alert.getUserId(), Notification.NotificationType.WEDDING_HALL_PRICE,
+                        "웨딩홀 가격 알림", message, dedupeKey);
+            }
+        } catch (Exception e) {
+            log.error("웨딩홀 가격 알림 처리 중 오류 발생. 웨딩홀: {}", event.getWeddingHallId(), e);
+        }
+    }
+}
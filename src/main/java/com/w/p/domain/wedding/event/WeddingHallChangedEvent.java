@@ -0,0 +1,35 @@
+package com.w.p.domain.wedding.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 웨딩홀 변경 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class WeddingHallChangedEvent {
+
+    private final Long weddingHallId;
+    private final Long ownerId;
+    private final ChangeType changeType;
+    private final BigDecimal oldPrice;
+    private final BigDecimal newPrice;
+
+    public boolean isPriceChanged() {
+        if (oldPrice == null || newPrice == null) {
+            return oldPrice != newPrice;
+        }
+        return oldPrice.compareTo(newPrice) != 0;
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        BOOKMARK_TOGGLED, // 북마크만 변경 (검색 색인/추천 후보와 무관)
+        IMPORTED          // 대량 등록 (웨딩홀 ID 없음, 검색 색인은 가져오기에서 직접 갱신)
+    }
+}
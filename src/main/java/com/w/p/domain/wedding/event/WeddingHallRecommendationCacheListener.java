@@ -0,0 +1,38 @@
+package com.w.p.domain.wedding.event;
+
+import com.w.p.domain.budget.event.BudgetChangedEvent;
+import com.w.p.domain.wedding.service.WeddingHallRecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 웨딩홀 추천 캐시 무효화 리스너
+ * 커밋 이후에 무효화하여 커밋 전 데이터로 캐시가 다시 채워지지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WeddingHallRecommendationCacheListener {
+
+    private final WeddingHallRecommendationService weddingHallRecommendationService;
+
+    /**
+     * 웨딩홀 변경 시 모든 사용자의 추천 무효화 (후보 목록 자체가 바뀜, 북마크 변경은 추천과 무관하므로 제외)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWeddingHallChanged(WeddingHallChangedEvent event) {
+        if (event.getChangeType() == WeddingHallChangedEvent.ChangeType.BOOKMARK_TOGGLED) {
+            return;
+        }
+        weddingHallRecommendationService.evictAll();
+    }
+
+    /**
+     * 예산 변경 시 해당 사용자의 추천만 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBudgetChanged(BudgetChangedEvent event) {
+        weddingHallRecommendationService.evictUser(event.getUserId());
+    }
+}
@@ -0,0 +1,31 @@
+package com.w.p.domain.wedding.event;
+
+import com.w.p.domain.wedding.service.WeddingHallSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 웨딩홀 검색 색인 동기화 리스너
+ * 웨딩홀 변경과 같은 트랜잭션 안에서 n-gram 색인을 갱신하여 색인과 원본이 어긋나지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WeddingHallSearchIndexListener {
+
+    private final WeddingHallSearchService weddingHallSearchService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onWeddingHallChanged(WeddingHallChangedEvent event) {
+        if (event.getChangeType() == WeddingHallChangedEvent.ChangeType.BOOKMARK_TOGGLED
+                || event.getChangeType() == WeddingHallChangedEvent.ChangeType.IMPORTED) {
+            return;
+        }
+        if (event.getChangeType() == WeddingHallChangedEvent.ChangeType.DELETED) {
+            weddingHallSearchService.remove(event.getWeddingHallId());
+        } else {
+            weddingHallSearchService.reindex(event.getWeddingHallId());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.w.p.domain.wedding.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 결혼식장 목록 조회용 프로젝션 (소유자 정보 포함)
+ */
+public interface WeddingHallAdminView {
+
+    Long getId();
+
+    String getName();
+
+    String getAddress();
+
+    String getPhone();
+
+    Integer getCapacity();
+
+    BigDecimal getPrice();
+
+    String getHallType();
+
+    BigDecimal getRating();
+
+    String getImageUrl();
+
+    String getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getUserId();
+
+    String getUserName();
+}
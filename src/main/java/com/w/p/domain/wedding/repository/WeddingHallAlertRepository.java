@@ -0,0 +1,74 @@
+package com.w.p.domain.wedding.repository;
+
+import com.w.p.entity.WeddingHallAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 웨딩홀 가격 알림 Repository
+ */
+@Repository
+public interface WeddingHallAlertRepository extends JpaRepository<WeddingHallAlert, Long> {
+
+    /**
+     * 사용자별 웨딩홀 알림 조회
+     */
+    Optional<WeddingHallAlert> findByUserIdAndWeddingHallId(Long userId, Long weddingHallId);
+
+    /**
+     * 사용자별 알림 목록 조회
+     */
+    List<WeddingHallAlert> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * 웨딩홀별 알림 ID 목록 조회
+     */
+    @Query("SELECT a.id FROM WeddingHallAlert a WHERE a.weddingHallId = :weddingHallId")
+    List<Long> findIdsByWeddingHallId(@Param("weddingHallId") Long weddingHallId);
+
+    /**
+     * 임계값이 [fromPrice, toPrice) 구간인 알림 ID
+     * 하락 시 [변경 후, 변경 전)은 새로 도달한 알림, 상승 시 [변경 전, 변경 후)는 다시 벗어난 알림입니다.
+     */
+    @Query("SELECT a.id FROM WeddingHallAlert a WHERE a.weddingHallId = :weddingHallId " +
+           "AND a.priceThreshold >= :fromPrice AND a.priceThreshold < :toPrice")
+    List<Long> findIdsInPriceRange(@Param("weddingHallId") Long weddingHallId,
+                                   @Param("fromPrice") BigDecimal fromPrice, @Param("toPrice") BigDecimal toPrice);
+
+    /**
+     * 임계값이 price 이상인 알림 ID (이전 가격이 없을 때 도달한 알림)
+     */
+    @Query("SELECT a.id FROM WeddingHallAlert a WHERE a.weddingHallId = :weddingHallId AND a.priceThreshold >= :price")
+    List<Long> findIdsAtOrAbovePrice(@Param("weddingHallId") Long weddingHallId, @Param("price") BigDecimal price);
+
+    /**
+     * 미발송 상태인 알림만 발송 처리 (동시 실행/재시도 시에도 한 번만 성공)
+     */
+    @Modifying
+    @Query("UPDATE WeddingHallAlert a SET a.triggered = true, a.lastTriggeredPrice = :price, a.lastTriggeredAt = :now " +
+           "WHERE a.id = :id AND a.triggered = false AND a.priceThreshold >= :price")
+    int markTriggered(@Param("id") Long id, @Param("price") BigDecimal price, @Param("now") LocalDateTime now);
+
+    /**
+     * 가격이 임계값을 다시 넘은 알림 재무장
+     */
+    @Modifying
+    @Query("UPDATE WeddingHallAlert a SET a.triggered = false WHERE a.id IN :ids AND a.priceThreshold < :price")
+    int rearm(@Param("ids") Collection<Long> ids, @Param("price") BigDecimal price);
+
+    /**
+     * 웨딩홀 삭제 시 알림 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM WeddingHallAlert a WHERE a.weddingHallId = :weddingHallId")
+    int deleteByWeddingHallId(@Param("weddingHallId") Long weddingHallId);
+}
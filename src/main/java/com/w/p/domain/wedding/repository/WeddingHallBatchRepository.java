@@ -0,0 +1,97 @@
+package com.w.p.domain.wedding.repository;
+
+import com.w.p.entity.WeddingHall;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 웨딩홀 JDBC 배치 Repository
+ * IDENTITY 전략 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 대량 등록은 JDBC 배치로 직접 처리합니다.
+ * (MySQL은 rewriteBatchedStatements=true 설정 시 다건 INSERT로 재작성됩니다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class WeddingHallBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO wp_wedding_halls (name, address, phone, website, price_per_table, capacity, hall_type, " +
+            "description, parking_info, facilities, memo, rating, is_bookmarked, status, user_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 웨딩홀 일괄 등록 (등록된 웨딩홀에 생성된 ID를 채움)
+     * @param userId 소유 사용자 ID
+     * @param weddingHalls 저장되지 않은 웨딩홀 목록
+     * @return 등록 건수
+     */
+    public int batchInsert(Long userId, List<WeddingHall> weddingHalls) {
+        if (weddingHalls.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        WeddingHall hall = weddingHalls.get(i);
+                        ps.setString(1, hall.getName());
+                        ps.setString(2, hall.getAddress());
+                        ps.setString(3, hall.getPhone());
+                        ps.setString(4, hall.getWebsite());
+                        ps.setBigDecimal(5, hall.getPricePerTable());
+                        if (hall.getCapacity() != null) {
+                            ps.setInt(6, hall.getCapacity());
+                        } else {
+                            ps.setNull(6, Types.INTEGER);
+                        }
+                        ps.setString(7, hall.getHallType());
+                        ps.setString(8, hall.getDescription());
+                        ps.setString(9, hall.getParkingInfo());
+                        ps.setString(10, hall.getFacilities());
+                        ps.setString(11, hall.getMemo());
+                        ps.setBigDecimal(12, hall.getRating());
+                        ps.setBoolean(13, Boolean.TRUE.equals(hall.getIsBookmarked()));
+                        ps.setString(14, hall.getStatus() != null ? hall.getStatus() : "active");
+                        ps.setLong(15, userId);
+                        ps.setTimestamp(16, now);
+                        ps.setTimestamp(17, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return weddingHalls.size();
+                    }
+                }, keyHolder);
+        assignGeneratedIds(weddingHalls, keyHolder);
+        return weddingHalls.size();
+    }
+
+    /**
+     * 생성된 키를 등록 순서대로 엔티티 ID에 반영 (드라이버마다 키 열 이름이 달라 첫 번째 값을 사용)
+     */
+    private void assignGeneratedIds(List<WeddingHall> weddingHalls, KeyHolder keyHolder) {
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != weddingHalls.size()) {
+            throw new IllegalStateException(String.format("생성된 키 수가 등록 건수와 다릅니다. 등록: %d, 키: %d", weddingHalls.size(), keys.size()));
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            weddingHalls.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
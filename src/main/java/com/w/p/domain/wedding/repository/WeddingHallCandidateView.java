@@ -0,0 +1,19 @@
+package com.w.p.domain.wedding.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 웨딩홀 추천 후보 프로젝션 (점수 계산에 필요한 컬럼만)
+ */
+public interface WeddingHallCandidateView {
+
+    Long getId();
+
+    BigDecimal getPrice();
+
+    Integer getCapacity();
+
+    BigDecimal getRating();
+
+    String getAddress();
+}
@@ -0,0 +1,128 @@
+package com.w.p.domain.wedding.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 웨딩홀 n-gram 역색인 JDBC Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class WeddingHallNgramRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO wp_wedding_hall_ngrams (ngram, wedding_hall_id, weight) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 웨딩홀 색인 교체 (기존 n-gram 삭제 후 일괄 등록)
+     * @param gramsByHall 웨딩홀 ID → (n-gram → 가중치)
+     */
+    public void replace(Map<Long, Map<String, Integer>> gramsByHall) {
+        if (gramsByHall.isEmpty()) {
+            return;
+        }
+        deleteByWeddingHallIds(gramsByHall.keySet());
+
+        List<Object[]> rows = new ArrayList<>();
+        gramsByHall.forEach((hallId, grams) ->
+                grams.forEach((gram, weight) -> rows.add(new Object[]{gram, hallId, weight})));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    /**
+     * 웨딩홀 색인 삭제
+     */
+    public void deleteByWeddingHallIds(Collection<Long> weddingHallIds) {
+        if (weddingHallIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(weddingHallIds.size(), "?"));
+        jdbcTemplate.update("DELETE FROM wp_wedding_hall_ngrams WHERE wedding_hall_id IN (" + placeholders + ")",
+                weddingHallIds.toArray());
+    }
+
+    /**
+     * 전체 색인 삭제
+     */
+    public void deleteAll() {
+        jdbcTemplate.update("DELETE FROM wp_wedding_hall_ngrams");
+    }
+
+    /**
+     * 관련도 순 검색
+     * 모든 검색 n-gram을 포함한 활성 웨딩홀만 대상으로 가중치 합이 높은 순서로 반환합니다.
+     */
+    public List<ScoredHall> search(Collection<String> grams, int offset, int limit) {
+        List<Object> params = new ArrayList<>(grams);
+        params.add(grams.size());
+        params.add(limit);
+        params.add(offset);
+        return jdbcTemplate.query(
+                "SELECT g.wedding_hall_id, SUM(g.weight) AS score " +
+                "FROM wp_wedding_hall_ngrams g JOIN wp_wedding_halls w ON w.id = g.wedding_hall_id " +
+                "WHERE g.ngram IN (" + placeholders(grams.size()) + ") AND w.status = 'active' " +
+                "GROUP BY g.wedding_hall_id HAVING COUNT(*) = ? " +
+                "ORDER BY score DESC, g.wedding_hall_id DESC LIMIT ? OFFSET ?",
+                (rs, rowNum) -> new ScoredHall(rs.getLong(1), rs.getLong(2)),
+                params.toArray());
+    }
+
+    /**
+     * 검색 결과 건수
+     */
+    public long count(Collection<String> grams) {
+        List<Object> params = new ArrayList<>(grams);
+        params.add(grams.size());
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (" +
+                "SELECT g.wedding_hall_id FROM wp_wedding_hall_ngrams g JOIN wp_wedding_halls w ON w.id = g.wedding_hall_id " +
+                "WHERE g.ngram IN (" + placeholders(grams.size()) + ") AND w.status = 'active' " +
+                "GROUP BY g.wedding_hall_id HAVING COUNT(*) = ?) matched",
+                Long.class,
+                params.toArray());
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 색인 재구축용 웨딩홀 텍스트 조회 (ID 키셋)
+     */
+    public List<HallText> findHallTextsAfter(long lastId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, name, address, description FROM wp_wedding_halls WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new HallText(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                lastId, limit);
+    }
+
+    private String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ScoredHall {
+        private final Long weddingHallId;
+        private final long score;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class HallText {
+        private final Long id;
+        private final String name;
+        private final String address;
+        private final String description;
+    }
+}
@@ -1,12 +1,18 @@
 package com.w.p.domain.wedding.repository;
 
 import com.w.p.entity.WeddingHall;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 결혼식장 Repository
@@ -47,10 +53,53 @@ public interface WeddingHallRepository extends JpaRepository<WeddingHall, Long>
 
     /**
      * 활성 상태의 복합 검색 (이름 또는 주소)
+     * @deprecated 앞뒤 와일드카드 LIKE는 인덱스를 사용할 수 없으므로 WeddingHallSearchService(n-gram 색인)를 사용
      */
+    @Deprecated
     @Query("SELECT w FROM WeddingHall w WHERE w.status = 'active' AND (LOWER(w.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(w.address) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     List<WeddingHall> findActiveByNameOrAddressContainingIgnoreCase(@Param("keyword") String keyword);
 
+    /**
+     * 활성 상태 이름 접두어 검색 (한 글자 검색어용)
+     */
+    Page<WeddingHall> findByStatusAndNameStartingWithOrderByCreatedAtDesc(String status, String namePrefix, Pageable pageable);
+
+    /**
+     * 관리자 목록 키셋 페이지 조회 (createdAt, id 내림차순)
+     * 커서가 없으면 첫 페이지, 필터는 null이면 적용하지 않음
+     */
+    @Query("SELECT w.id AS id, w.name AS name, w.address AS address, w.phone AS phone, w.capacity AS capacity, " +
+           "w.pricePerTable AS price, w.hallType AS hallType, w.rating AS rating, w.imageUrl AS imageUrl, w.status AS status, " +
+           "w.createdAt AS createdAt, w.updatedAt AS updatedAt, u.id AS userId, u.name AS userName " +
+           "FROM WeddingHall w LEFT JOIN w.user u " +
+           "WHERE (:status IS NULL OR w.status = :status) " +
+           "AND (:namePrefix IS NULL OR w.name LIKE CONCAT(:namePrefix, '%')) " +
+           "AND (:ownerId IS NULL OR u.id = :ownerId) " +
+           "AND (:ownerUsername IS NULL OR u.username = :ownerUsername) " +
+           "AND (:cursorCreatedAt IS NULL OR w.createdAt < :cursorCreatedAt " +
+           "     OR (w.createdAt = :cursorCreatedAt AND w.id < :cursorId)) " +
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    List<WeddingHallAdminView> findAdminPage(@Param("status") String status,
+                                             @Param("namePrefix") String namePrefix,
+                                             @Param("ownerId") Long ownerId,
+                                             @Param("ownerUsername") String ownerUsername,
+                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                             @Param("cursorId") Long cursorId,
+                                             Pageable pageable);
+
+    /**
+     * 추천 후보 스트리밍 조회 (활성 웨딩홀의 점수 계산용 컬럼만)
+     * 호출 측에서 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     * MySQL은 DataSourceConfig의 커서 조회 설정으로 fetchSize 단위로 나누어 읽습니다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT w.id AS id, w.pricePerTable AS price, w.capacity AS capacity, w.rating AS rating, w.address AS address " +
+           "FROM WeddingHall w WHERE w.status = 'active'")
+    Stream<WeddingHallCandidateView> streamRecommendationCandidates();
+
     /**
      * 총 결혼식장 수 조회
      */
@@ -74,4 +123,13 @@ public interface WeddingHallRepository extends JpaRepository<WeddingHall, Long>
      */
     @Query("SELECT COUNT(w) FROM WeddingHall w WHERE w.status = 'deleted'")
     long countDeletedWeddingHalls();
+
+    /**
+     * 사용자 웨딩홀 통계 (건수/북마크 수/평균·최저 테이블당 가격)
+     */
+    @Query("SELECT COUNT(w) AS totalCount, " +
+           "COALESCE(SUM(CASE WHEN w.isBookmarked = true THEN 1 ELSE 0 END), 0) AS bookmarkedCount, " +
+           "AVG(w.pricePerTable) AS averagePrice, MIN(w.pricePerTable) AS minPrice " +
+           "FROM WeddingHall w WHERE w.user.id = :userId")
+    WeddingHallStatisticsView getStatisticsByUserId(@Param("userId") Long userId);
 }
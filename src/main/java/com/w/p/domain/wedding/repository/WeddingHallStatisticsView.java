@@ -0,0 +1,17 @@
+package com.w.p.domain.wedding.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 사용자 웨딩홀 통계 프로젝션 (목록을 읽지 않고 집계 한 번으로 조회)
+ */
+public interface WeddingHallStatisticsView {
+
+    long getTotalCount();
+
+    long getBookmarkedCount();
+
+    Double getAveragePrice();
+
+    BigDecimal getMinPrice();
+}
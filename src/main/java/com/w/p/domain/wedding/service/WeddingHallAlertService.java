@@ -0,0 +1,39 @@
+package com.w.p.domain.wedding.service;
+
+import com.w.p.domain.wedding.dto.WeddingHallDTO;
+import com.w.p.entity.WeddingHallAlert;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 웨딩홀 가격 알림 서비스 인터페이스
+ */
+public interface WeddingHallAlertService {
+
+    /**
+     * 가격 알림 설정 (사용자/웨딩홀당 하나, 기존 알림은 임계값 갱신)
+     */
+    WeddingHallDTO.AlertResponse setAlert(Long userId, Long weddingHallId, BigDecimal priceThreshold);
+
+    /**
+     * 가격 알림 해제
+     */
+    void deleteAlert(Long userId, Long weddingHallId);
+
+    /**
+     * 사용자별 가격 알림 목록 조회
+     */
+    List<WeddingHallDTO.AlertResponse> getAlerts(Long userId);
+
+    /**
+     * 가격 변경에 따른 알림 평가
+     * @return 이번 변경으로 새로 발송 대상이 된 알림 목록
+     */
+    List<WeddingHallAlert> evaluatePriceChange(Long weddingHallId, BigDecimal oldPrice, BigDecimal newPrice);
+
+    /**
+     * 웨딩홀 삭제 시 알림 정리
+     */
+    void removeAlertsForWeddingHall(Long weddingHallId);
+}
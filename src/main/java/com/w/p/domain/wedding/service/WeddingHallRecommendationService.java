@@ -0,0 +1,26 @@
+package com.w.p.domain.wedding.service;
+
+import com.w.p.domain.wedding.dto.WeddingHallDTO;
+
+/**
+ * 웨딩홀 추천 서비스 인터페이스
+ */
+public interface WeddingHallRecommendationService {
+
+    /**
+     * 예산/하객 수 기준 상위 K개 웨딩홀 추천
+     * @param guestCount 하객 수 (null이면 기본값)
+     * @param location 선호 지역 (주소 포함 여부, null 허용)
+     */
+    WeddingHallDTO.RecommendationResult recommend(Long userId, Integer guestCount, int k, String location);
+
+    /**
+     * 사용자 추천 캐시 무효화
+     */
+    void evictUser(Long userId);
+
+    /**
+     * 전체 추천 캐시 무효화 (웨딩홀 목록 변경 시)
+     */
+    void evictAll();
+}
@@ -0,0 +1,38 @@
+package com.w.p.domain.wedding.service;
+
+import com.w.p.domain.wedding.dto.WeddingHallDTO;
+import com.w.p.entity.WeddingHall;
+
+import java.util.List;
+
+/**
+ * 웨딩홀 전체 검색 서비스 인터페이스 (n-gram 역색인)
+ */
+public interface WeddingHallSearchService {
+
+    /**
+     * 관련도 순 전체 검색
+     */
+    WeddingHallDTO.SearchResult search(String keyword, int page, int size);
+
+    /**
+     * 웨딩홀 색인 갱신
+     */
+    void reindex(Long weddingHallId);
+
+    /**
+     * 대량 가져오기로 등록된 웨딩홀 색인 (배치 등록 직후 호출)
+     */
+    int indexImported(List<WeddingHall> weddingHalls);
+
+    /**
+     * 웨딩홀 색인 삭제
+     */
+    void remove(Long weddingHallId);
+
+    /**
+     * 전체 색인 재구축
+     * @return 색인된 웨딩홀 수
+     */
+    int rebuildIndex();
+}
@@ -1,8 +1,10 @@
 package com.w.p.domain.wedding.service;
 
+import com.w.p.common.ImportResult;
 import com.w.p.domain.wedding.dto.WeddingHallDTO;
 import com.w.p.entity.WeddingHall;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -106,6 +108,11 @@ public interface WeddingHallService {
      */
     List<WeddingHallDTO.Response> importWeddingHallFromExcel(Long userId, String excelData, String format);
     
+    /**
+     * 웨딩홀 대량 가져오기 (CSV/XLSX 스트리밍)
+     */
+    ImportResult importWeddingHalls(Long userId, InputStream inputStream, String format);
+    
     /**
      * 웨딩홀 예약 상태 확인
      */
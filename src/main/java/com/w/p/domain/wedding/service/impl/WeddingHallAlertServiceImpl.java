@@ -0,0 +1,118 @@
+package com.w.p.domain.wedding.service.impl;
+
+import com.w.p.domain.wedding.dto.WeddingHallDTO;
+import com.w.p.domain.wedding.repository.WeddingHallAlertRepository;
+import com.w.p.domain.wedding.repository.WeddingHallRepository;
+import com.w.p.domain.wedding.service.WeddingHallAlertService;
+import com.w.p.entity.WeddingHall;
+import com.w.p.entity.WeddingHallAlert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WeddingHallAlertServiceImpl implements WeddingHallAlertService {
+
+    private final WeddingHallAlertRepository weddingHallAlertRepository;
+    private final WeddingHallRepository weddingHallRepository;
+
+    @Override
+    @Transactional
+    public WeddingHallDTO.AlertResponse setAlert(Long userId, Long weddingHallId, BigDecimal priceThreshold) {
+        if (priceThreshold == null || priceThreshold.signum() <= 0) {
+            throw new RuntimeException("알림 가격은 0보다 커야 합니다.");
+        }
+
+        WeddingHall weddingHall = weddingHallRepository.findById(weddingHallId)
+                .orElseThrow(() -> new RuntimeException("웨딩홀을 찾을 수 없습니다."));
+
+        if (!weddingHall.getUser().getId().equals(userId)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
+
+        WeddingHallAlert alert = weddingHallAlertRepository.findByUserIdAndWeddingHallId(userId, weddingHallId)
+                .orElseGet(() -> WeddingHallAlert.builder()
+                        .userId(userId)
+                        .weddingHallId(weddingHallId)
+                        .build());
+
+        // 현재 가격이 이미 임계값 이하라면 다음 하락부터 알림
+        BigDecimal currentPrice = weddingHall.getPricePerTable();
+        alert.setPriceThreshold(priceThreshold);
+        alert.setTriggered(currentPrice != null && currentPrice.compareTo(priceThreshold) <= 0);
+
+        WeddingHallAlert savedAlert = weddingHallAlertRepository.save(alert);
+
+        log.info("웨딩홀 가격 알림 설정: 웨딩홀: {}, 사용자: {}, 임계값: {}", weddingHallId, userId, priceThreshold);
+        return WeddingHallDTO.AlertResponse.from(savedAlert);
+    }
+
+    @Override
+    @Transactional
+    public void deleteAlert(Long userId, Long weddingHallId) {
+        WeddingHallAlert alert = weddingHallAlertRepository.findByUserIdAndWeddingHallId(userId, weddingHallId)
+                .orElseThrow(() -> new RuntimeException("가격 알림을 찾을 수 없습니다."));
+
+        weddingHallAlertRepository.delete(alert);
+        log.info("웨딩홀 가격 알림 해제: 웨딩홀: {}, 사용자: {}", weddingHallId, userId);
+    }
+
+    @Override
+    public List<WeddingHallDTO.AlertResponse> getAlerts(Long userId) {
+        return weddingHallAlertRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(WeddingHallDTO.AlertResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public List<WeddingHallAlert> evaluatePriceChange(Long weddingHallId, BigDecimal oldPrice, BigDecimal newPrice) {
+        if (newPrice == null) {
+            return List.of();
+        }
+
+        // 노드마다 다른 메모리 상태에 의존하지 않도록 매번 (웨딩홀, 임계값) 인덱스로 DB에서 조회
+        if (oldPrice != null && oldPrice.compareTo(newPrice) < 0) {
+            List<Long> released = weddingHallAlertRepository.findIdsInPriceRange(weddingHallId, oldPrice, newPrice);
+            if (!released.isEmpty()) {
+                weddingHallAlertRepository.rearm(released, newPrice);
+            }
+            return List.of();
+        }
+
+        List<Long> reached = oldPrice == null
+                ? weddingHallAlertRepository.findIdsAtOrAbovePrice(weddingHallId, newPrice)
+                : weddingHallAlertRepository.findIdsInPriceRange(weddingHallId, newPrice, oldPrice);
+        if (reached.isEmpty()) {
+            return List.of();
+        }
+
+        // 조건부 UPDATE가 성공한 알림만 발송 대상 (중복 이벤트/동시 평가 시에도 한 번만 발송)
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> triggeredIds = new ArrayList<>();
+        for (Long alertId : reached) {
+            if (weddingHallAlertRepository.markTriggered(alertId, newPrice, now) == 1) {
+                triggeredIds.add(alertId);
+            }
+        }
+
+        log.info("웨딩홀 가격 알림 평가: 웨딩홀: {}, 후보: {}, 발송: {}", weddingHallId, reached.size(), triggeredIds.size());
+        return triggeredIds.isEmpty() ? List.of() : weddingHallAlertRepository.findAllById(triggeredIds);
+    }
+
+    @Override
+    @Transactional
+    public void removeAlertsForWeddingHall(Long weddingHallId) {
+        weddingHallAlertRepository.deleteByWeddingHallId(weddingHallId);
+    }
+}
@@ -0,0 +1,276 @@
+package com.w.p.domain.wedding.service.impl;
+
+import com.w.p.config.CacheConfig;
+import com.w.p.domain.budget.repository.BudgetRepository;
+import com.w.p.domain.user.repository.UserRepository;
+import com.w.p.domain.wedding.dto.WeddingHallDTO;
+import com.w.p.domain.wedding.repository.WeddingHallCandidateView;
+import com.w.p.domain.wedding.repository.WeddingHallRepository;
+import com.w.p.domain.wedding.service.WeddingHallRecommendationService;
+import com.w.p.entity.Budget;
+import com.w.p.entity.User;
+import com.w.p.entity.WeddingHall;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 웨딩홀 추천 서비스 구현체
+ * 활성 웨딩홀을 스트리밍으로 읽으면서 크기 K의 최소 힙으로 상위 K개만 유지합니다. (O(n log K), 메모리 O(K))
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WeddingHallRecommendationServiceImpl implements WeddingHallRecommendationService {
+
+    private static final int MAX_K = 50;
+    private static final int MAX_GUEST_COUNT = 2000;
+    private static final int MAX_LOCATION_LENGTH = 50;
+    /**
+     * 사용자별 캐시 조합 수 상한 (자유 입력 조합으로 캐시가 무한히 커지지 않도록 오래 쓰지 않은 조합부터 제거)
+     */
+    private static final int MAX_CACHED_VARIANTS = 20;
+    private static final int GUESTS_PER_TABLE = 10;
+    private static final Set<String> VENUE_CATEGORIES = Set.of("웨딩홀", "예식장", "식장", "결혼식장", "venue", "weddinghall");
+
+    private static final double PRICE_WEIGHT = 0.5;
+    private static final double CAPACITY_WEIGHT = 0.3;
+    private static final double RATING_WEIGHT = 0.15;
+    private static final double LOCATION_WEIGHT = 0.05;
+
+    /**
+     * 힙 정렬 기준 (점수 오름차순, 동점이면 ID가 큰 쪽이 더 낮은 순위)
+     */
+    private static final Comparator<ScoredHall> WORST_FIRST = Comparator
+            .comparingDouble(ScoredHall::getScore)
+            .thenComparing(ScoredHall::getId, Comparator.reverseOrder());
+
+    private final WeddingHallRepository weddingHallRepository;
+    private final BudgetRepository budgetRepository;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    @Value("${recommendation.default-guest-count:200}")
+    private int defaultGuestCount;
+
+    @Value("${recommendation.venue-budget-share:0.4}")
+    private double venueBudgetShare;
+
+    @Override
+    public WeddingHallDTO.RecommendationResult recommend(Long userId, Integer guestCount, int k, String location) {
+        int topK = Math.max(1, Math.min(k, MAX_K));
+        int guests = guestCount != null && guestCount > 0 ? Math.min(guestCount, MAX_GUEST_COUNT) : defaultGuestCount;
+        String normalizedLocation = normalizeLocation(location);
+
+        // 사용자별 맵을 캐시에 두어 예산 변경 시 사용자 단위로 한 번에 무효화
+        Map<String, WeddingHallDTO.RecommendationResult> userCache = userCache(userId);
+        String variant = guests + "|" + topK + "|" + (normalizedLocation != null ? normalizedLocation : "");
+        WeddingHallDTO.RecommendationResult cached = userCache.get(variant);
+        if (cached != null) {
+            return cached;
+        }
+
+        WeddingHallDTO.RecommendationResult result = computeRecommendations(userId, guests, topK, normalizedLocation);
+        userCache.put(variant, result);
+        return result;
+    }
+
+    @Override
+    public void evictUser(Long userId) {
+        Cache cache = cacheManager.getCache(CacheConfig.WEDDING_HALL_RECOMMENDATIONS);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        Cache cache = cacheManager.getCache(CacheConfig.WEDDING_HALL_RECOMMENDATIONS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private Map<String, WeddingHallDTO.RecommendationResult> userCache(Long userId) {
+        Cache cache = cacheManager.getCache(CacheConfig.WEDDING_HALL_RECOMMENDATIONS);
+        if (cache == null) {
+            return new HashMap<>();
+        }
+        return cache.get(userId, WeddingHallRecommendationServiceImpl::newVariantCache);
+    }
+
+    /**
+     * 접근 순서 기준 LRU 맵 (상한을 넘으면 가장 오래 쓰지 않은 조합 제거)
+     */
+    private static Map<String, WeddingHallDTO.RecommendationResult> newVariantCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<String, WeddingHallDTO.RecommendationResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, WeddingHallDTO.RecommendationResult> eldest) {
+                return size() > MAX_CACHED_VARIANTS;
+            }
+        });
+    }
+
+    /**
+     * 지역 조건 정규화 (공백 정리, 소문자, 길이 제한)
+     */
+    private static String normalizeLocation(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        String normalized = location.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_LOCATION_LENGTH ? normalized.substring(0, MAX_LOCATION_LENGTH) : normalized;
+    }
+
+    private WeddingHallDTO.RecommendationResult computeRecommendations(Long userId, int guests, int topK, String location) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        BigDecimal venueBudget = resolveVenueBudget(user);
+        int tables = (guests + GUESTS_PER_TABLE - 1) / GUESTS_PER_TABLE;
+
+        PriorityQueue<ScoredHall> heap = new PriorityQueue<>(topK + 1, WORST_FIRST);
+        long candidateCount = 0;
+        try (Stream<WeddingHallCandidateView> candidates = weddingHallRepository.streamRecommendationCandidates()) {
+            for (WeddingHallCandidateView candidate : (Iterable<WeddingHallCandidateView>) candidates::iterator) {
+                candidateCount++;
+                ScoredHall scored = score(candidate, venueBudget, guests, tables, location);
+                if (heap.size() < topK) {
+                    heap.offer(scored);
+                } else if (WORST_FIRST.compare(scored, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.offer(scored);
+                }
+            }
+        }
+
+        List<ScoredHall> ranked = new ArrayList<>(heap);
+        ranked.sort(WORST_FIRST.reversed());
+
+        Map<Long, WeddingHall> hallsById = weddingHallRepository.findAllById(
+                        ranked.stream().map(ScoredHall::getId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(WeddingHall::getId, Function.identity()));
+
+        List<WeddingHallDTO.Recommendation> recommendations = new ArrayList<>();
+        for (ScoredHall scored : ranked) {
+            WeddingHall hall = hallsById.get(scored.getId());
+            if (hall == null) {
+                continue;
+            }
+            WeddingHallDTO.Response response = WeddingHallDTO.Response.from(hall);
+            // 다른 사용자의 개인 메모/북마크는 노출하지 않음
+            response.setMemo(null);
+            response.setIsBookmarked(null);
+            recommendations.add(WeddingHallDTO.Recommendation.builder()
+                    .weddingHall(response)
+                    .score(BigDecimal.valueOf(scored.getScore()).setScale(4, RoundingMode.HALF_UP).doubleValue())
+                    .estimatedCost(scored.getEstimatedCost())
+                    .withinBudget(scored.isWithinBudget())
+                    .build());
+        }
+
+        log.info("웨딩홀 추천 계산 완료. 사용자: {}, 후보: {}, 추천: {}", userId, candidateCount, recommendations.size());
+        return WeddingHallDTO.RecommendationResult.builder()
+                .recommendations(recommendations)
+                .venueBudget(venueBudget)
+                .guestCount(guests)
+                .candidateCount(candidateCount)
+                .build();
+    }
+
+    /**
+     * 식장 예산 산정 (식장 카테고리 예산 합계, 없으면 총예산 × 식장 비중)
+     */
+    private BigDecimal resolveVenueBudget(User user) {
+        BigDecimal venueBudget = budgetRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
+                .filter(budget -> budget.getCategory() != null
+                        && VENUE_CATEGORIES.contains(budget.getCategory().replaceAll("\\s+", "").toLowerCase(Locale.ROOT)))
+                .map(Budget::getPlannedAmount)
+                .filter(amount -> amount != null)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (venueBudget.signum() > 0) {
+            return venueBudget;
+        }
+        if (user.getTotalBudget() != null && user.getTotalBudget() > 0) {
+            return BigDecimal.valueOf(user.getTotalBudget())
+                    .multiply(BigDecimal.valueOf(venueBudgetShare))
+                    .setScale(0, RoundingMode.HALF_UP);
+        }
+        return null;
+    }
+
+    private ScoredHall score(WeddingHallCandidateView candidate, BigDecimal venueBudget, int guests, int tables, String location) {
+        BigDecimal estimatedCost = candidate.getPrice() != null
+                ? candidate.getPrice().multiply(BigDecimal.valueOf(tables))
+                : null;
+
+        // 가격 적합도: 예산 이내면 1, 초과 비율에 따라 지수적으로 감소
+        double priceFit;
+        boolean withinBudget = false;
+        if (estimatedCost == null) {
+            priceFit = 0.3;
+        } else if (venueBudget == null) {
+            priceFit = 0.5;
+        } else {
+            double ratio = estimatedCost.doubleValue() / venueBudget.doubleValue();
+            withinBudget = ratio <= 1.0;
+            priceFit = withinBudget ? 1.0 : Math.exp(-4.0 * (ratio - 1.0));
+        }
+
+        // 수용 인원 적합도: 부족하면 크게 감점, 지나치게 넓어도 소폭 감점
+        double capacityFit;
+        Integer capacity = candidate.getCapacity();
+        if (capacity == null || capacity <= 0) {
+            capacityFit = 0.5;
+        } else if (capacity < guests) {
+            double ratio = (double) capacity / guests;
+            capacityFit = ratio * ratio;
+        } else {
+            capacityFit = Math.sqrt((double) guests / capacity);
+        }
+
+        double ratingFit = candidate.getRating() != null
+                ? Math.min(candidate.getRating().doubleValue() / 5.0, 1.0)
+                : 0.5;
+
+        double locationFit = location != null && candidate.getAddress() != null
+                && candidate.getAddress().toLowerCase(Locale.ROOT).contains(location) ? 1.0 : 0.0;
+
+        double score = PRICE_WEIGHT * priceFit
+                + CAPACITY_WEIGHT * capacityFit
+                + RATING_WEIGHT * ratingFit
+                + LOCATION_WEIGHT * locationFit;
+        return new ScoredHall(candidate.getId(), score, estimatedCost, withinBudget);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ScoredHall {
+        private final Long id;
+        private final double score;
+        private final BigDecimal estimatedCost;
+        private final boolean withinBudget;
+    }
+}
@@ -0,0 +1,163 @@
+package com.w.p.domain.wedding.service.impl;
+
+import com.w.p.common.util.NgramTokenizer;
+import com.w.p.domain.wedding.dto.WeddingHallDTO;
+import com.w.p.domain.wedding.repository.WeddingHallNgramRepository;
+import com.w.p.domain.wedding.repository.WeddingHallRepository;
+import com.w.p.domain.wedding.service.WeddingHallSearchService;
+import com.w.p.entity.WeddingHall;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WeddingHallSearchServiceImpl implements WeddingHallSearchService {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int ADDRESS_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MAX_QUERY_GRAMS = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final WeddingHallRepository weddingHallRepository;
+    private final WeddingHallNgramRepository weddingHallNgramRepository;
+
+    @Override
+    public WeddingHallDTO.SearchResult search(String keyword, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(page, 0);
+
+        Set<String> grams = NgramTokenizer.bigrams(keyword);
+        if (grams.isEmpty()) {
+            return toResult(List.of(), 0, pageNumber, pageSize);
+        }
+
+        // 한 글자 검색어는 바이그램 색인으로 찾을 수 없으므로 이름 접두어 인덱스로 조회
+        if (grams.stream().allMatch(gram -> gram.codePointCount(0, gram.length()) < NgramTokenizer.BIGRAM)) {
+            Page<WeddingHall> result = weddingHallRepository.findByStatusAndNameStartingWithOrderByCreatedAtDesc(
+                    "active", keyword.trim(), PageRequest.of(pageNumber, pageSize));
+            return toResult(result.getContent(), result.getTotalElements(), pageNumber, pageSize);
+        }
+
+        // 한 글자 단어 토큰은 바이그램과 함께 쓰면 일치 조건만 좁히므로 제외
+        List<String> queryGrams = grams.stream()
+                .filter(gram -> gram.codePointCount(0, gram.length()) >= NgramTokenizer.BIGRAM)
+                .limit(MAX_QUERY_GRAMS)
+                .collect(Collectors.toList());
+        List<WeddingHallNgramRepository.ScoredHall> scored =
+                weddingHallNgramRepository.search(queryGrams, pageNumber * pageSize, pageSize);
+        long totalCount = weddingHallNgramRepository.count(queryGrams);
+
+        // 점수 순서 유지
+        List<Long> ids = scored.stream().map(WeddingHallNgramRepository.ScoredHall::getWeddingHallId).collect(Collectors.toList());
+        Map<Long, WeddingHall> hallsById = weddingHallRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(WeddingHall::getId, Function.identity()));
+        List<WeddingHall> ordered = ids.stream()
+                .map(hallsById::get)
+                .filter(hall -> hall != null)
+                .collect(Collectors.toList());
+
+        return toResult(ordered, totalCount, pageNumber, pageSize);
+    }
+
+    @Override
+    @Transactional
+    public void reindex(Long weddingHallId) {
+        weddingHallRepository.findById(weddingHallId).ifPresentOrElse(
+                hall -> weddingHallNgramRepository.replace(Map.of(hall.getId(),
+                        buildGrams(hall.getName(), hall.getAddress(), hall.getDescription()))),
+                () -> remove(weddingHallId));
+    }
+
+    @Override
+    @Transactional
+    public int indexImported(List<WeddingHall> weddingHalls) {
+        Map<Long, Map<String, Integer>> gramsByHall = new LinkedHashMap<>();
+        for (WeddingHall hall : weddingHalls) {
+            gramsByHall.put(hall.getId(), buildGrams(hall.getName(), hall.getAddress(), hall.getDescription()));
+        }
+        weddingHallNgramRepository.replace(gramsByHall);
+        return gramsByHall.size();
+    }
+
+    @Override
+    @Transactional
+    public void remove(Long weddingHallId) {
+        weddingHallNgramRepository.deleteByWeddingHallIds(List.of(weddingHallId));
+    }
+
+    @Override
+    @Transactional
+    public int rebuildIndex() {
+        weddingHallNgramRepository.deleteAll();
+
+        int indexed = 0;
+        long lastId = 0L;
+        List<WeddingHallNgramRepository.HallText> batch;
+        do {
+            batch = weddingHallNgramRepository.findHallTextsAfter(lastId, REBUILD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            index(batch);
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        log.info("웨딩홀 검색 색인 재구축 완료. 웨딩홀 수: {}", indexed);
+        return indexed;
+    }
+
+    private void index(List<WeddingHallNgramRepository.HallText> texts) {
+        Map<Long, Map<String, Integer>> gramsByHall = new LinkedHashMap<>();
+        for (WeddingHallNgramRepository.HallText text : texts) {
+            gramsByHall.put(text.getId(), buildGrams(text.getName(), text.getAddress(), text.getDescription()));
+        }
+        weddingHallNgramRepository.replace(gramsByHall);
+    }
+
+    /**
+     * 필드별 가중치를 합산한 n-gram 맵 생성
+     */
+    private Map<String, Integer> buildGrams(String name, String address, String description) {
+        Map<String, Integer> grams = new HashMap<>();
+        NgramTokenizer.bigrams(name).forEach(gram -> grams.merge(gram, NAME_WEIGHT, Integer::sum));
+        NgramTokenizer.bigrams(address).forEach(gram -> grams.merge(gram, ADDRESS_WEIGHT, Integer::sum));
+        NgramTokenizer.bigrams(description).forEach(gram -> grams.merge(gram, DESCRIPTION_WEIGHT, Integer::sum));
+        return grams;
+    }
+
+    private WeddingHallDTO.SearchResult toResult(List<WeddingHall> halls, long totalCount, int page, int size) {
+        List<WeddingHallDTO.Response> responses = new ArrayList<>();
+        for (WeddingHall hall : halls) {
+            WeddingHallDTO.Response response = WeddingHallDTO.Response.from(hall);
+            // 다른 사용자의 개인 메모/북마크는 노출하지 않음
+            response.setMemo(null);
+            response.setIsBookmarked(null);
+            responses.add(response);
+        }
+        return WeddingHallDTO.SearchResult.builder()
+                .weddingHalls(responses)
+                .totalCount(totalCount)
+                .page(page)
+                .size(size)
+                .hasNext((long) (page + 1) * size < totalCount)
+                .build();
+    }
+}
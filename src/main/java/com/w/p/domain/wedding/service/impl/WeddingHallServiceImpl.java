@@ -1,19 +1,35 @@
 package com.w.p.domain.wedding.service.impl;
 
+import com.w.p.common.ImportResult;
+import com.w.p.common.util.SpreadsheetReader;
 import com.w.p.domain.wedding.dto.WeddingHallDTO;
+import com.w.p.domain.wedding.event.WeddingHallChangedEvent;
+import com.w.p.domain.wedding.service.WeddingHallAlertService;
+import com.w.p.domain.wedding.service.WeddingHallSearchService;
 import com.w.p.domain.wedding.service.WeddingHallService;
+import com.w.p.domain.wedding.repository.WeddingHallBatchRepository;
 import com.w.p.domain.wedding.repository.WeddingHallRepository;
 import com.w.p.entity.WeddingHall;
 import com.w.p.entity.User;
 import com.w.p.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +43,31 @@ public class WeddingHallServiceImpl implements WeddingHallService {
     
     private final WeddingHallRepository weddingHallRepository;
     private final UserRepository userRepository;
+    private final WeddingHallBatchRepository weddingHallBatchRepository;
+    private final WeddingHallAlertService weddingHallAlertService;
+    private final WeddingHallSearchService weddingHallSearchService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * 가져오기 헤더 별칭 (정규화된 헤더명 → 필드)
+     */
+    private static final Map<String, String> IMPORT_HEADER_ALIASES = Map.ofEntries(
+            Map.entry("name", "name"), Map.entry("식장명", "name"), Map.entry("이름", "name"),
+            Map.entry("address", "address"), Map.entry("주소", "address"),
+            Map.entry("phone", "phone"), Map.entry("전화번호", "phone"), Map.entry("연락처", "phone"),
+            Map.entry("website", "website"), Map.entry("웹사이트", "website"),
+            Map.entry("price", "price"), Map.entry("pricepertable", "price"), Map.entry("가격", "price"), Map.entry("테이블당가격", "price"),
+            Map.entry("capacity", "capacity"), Map.entry("수용인원", "capacity"),
+            Map.entry("halltype", "hallType"), Map.entry("홀타입", "hallType"),
+            Map.entry("description", "description"), Map.entry("설명", "description"),
+            Map.entry("parkinginfo", "parkingInfo"), Map.entry("주차정보", "parkingInfo"),
+            Map.entry("facilities", "facilities"), Map.entry("부대시설", "facilities"),
+            Map.entry("memo", "memo"), Map.entry("메모", "memo"),
+            Map.entry("rating", "rating"), Map.entry("평점", "rating")
+    );
+    
+    @Value("${import.batch-size:500}")
+    private int importBatchSize;
     
     @Override
     public List<WeddingHallDTO.Response> getWeddingHallsByUserId(Long userId) {
@@ -71,6 +112,8 @@ public class WeddingHallServiceImpl implements WeddingHallService {
                 .build();
         
         WeddingHall savedWeddingHall = weddingHallRepository.save(weddingHall);
+        eventPublisher.publishEvent(new WeddingHallChangedEvent(savedWeddingHall.getId(), userId,
+                WeddingHallChangedEvent.ChangeType.CREATED, null, savedWeddingHall.getPricePerTable()));
         
         log.info("웨딩홀이 생성되었습니다. ID: {}, 사용자: {}", savedWeddingHall.getId(), userId);
         return WeddingHallDTO.Response.from(savedWeddingHall);
@@ -86,6 +129,8 @@ public class WeddingHallServiceImpl implements WeddingHallService {
             throw new RuntimeException("접근 권한이 없습니다.");
         }
         
+        BigDecimal oldPrice = weddingHall.getPricePerTable();
+        
         // 업데이트 적용
         if (updateRequest.getName() != null) weddingHall.setName(updateRequest.getName());
         if (updateRequest.getAddress() != null) weddingHall.setAddress(updateRequest.getAddress());
@@ -101,6 +146,8 @@ public class WeddingHallServiceImpl implements WeddingHallService {
         if (updateRequest.getMemo() != null) weddingHall.setMemo(updateRequest.getMemo());
         
         WeddingHall savedWeddingHall = weddingHallRepository.save(weddingHall);
+        eventPublisher.publishEvent(new WeddingHallChangedEvent(savedWeddingHall.getId(), userId,
+                WeddingHallChangedEvent.ChangeType.UPDATED, oldPrice, savedWeddingHall.getPricePerTable()));
         
         log.info("웨딩홀이 수정되었습니다. ID: {}, 사용자: {}", savedWeddingHall.getId(), userId);
         return WeddingHallDTO.Response.from(savedWeddingHall);
@@ -117,6 +164,8 @@ public class WeddingHallServiceImpl implements WeddingHallService {
         }
         
         weddingHallRepository.delete(weddingHall);
+        eventPublisher.publishEvent(new WeddingHallChangedEvent(weddingHallId, userId,
+                WeddingHallChangedEvent.ChangeType.DELETED, weddingHall.getPricePerTable(), null));
         log.info("웨딩홀이 삭제되었습니다. ID: {}, 사용자: {}", weddingHallId, userId);
     }
     
@@ -188,6 +237,8 @@ public class WeddingHallServiceImpl implements WeddingHallService {
         // 북마크 상태 토글
         weddingHall.setIsBookmarked(!weddingHall.getIsBookmarked());
         WeddingHall savedWeddingHall = weddingHallRepository.save(weddingHall);
+        eventPublisher.publishEvent(new WeddingHallChangedEvent(savedWeddingHall.getId(), userId,
+                WeddingHallChangedEvent.ChangeType.BOOKMARK_TOGGLED, savedWeddingHall.getPricePerTable(), savedWeddingHall.getPricePerTable()));
         
         log.info("웨딩홀 북마크 상태가 변경되었습니다. ID: {}, 북마크: {}, 사용자: {}", 
                 savedWeddingHall.getId(), savedWeddingHall.getIsBookmarked(), userId);
@@ -281,18 +332,10 @@ public class WeddingHallServiceImpl implements WeddingHallService {
     }
     
     @Override
+    @Transactional
     public WeddingHallDTO.Response setWeddingHallAlert(Long userId, Long weddingHallId, BigDecimal priceThreshold) {
-        WeddingHall weddingHall = weddingHallRepository.findById(weddingHallId)
-                .orElseThrow(() -> new RuntimeException("웨딩홀을 찾을 수 없습니다."));
-        
-        if (!weddingHall.getUser().getId().equals(userId)) {
-            throw new RuntimeException("접근 권한이 없습니다.");
-        }
-        
-        // 알림 임계값 설정 로직 (실제 구현에서는 별도 테이블이나 필드에 저장)
-        log.info("웨딩홀 알림 설정: ID: {}, 임계값: {}", weddingHallId, priceThreshold);
-        
-        return WeddingHallDTO.Response.from(weddingHall);
+        weddingHallAlertService.setAlert(userId, weddingHallId, priceThreshold);
+        return getWeddingHallById(userId, weddingHallId);
     }
     
     @Override
@@ -335,12 +378,140 @@ public class WeddingHallServiceImpl implements WeddingHallService {
     }
     
     @Override
+    @Transactional
     public List<WeddingHallDTO.Response> importWeddingHallFromExcel(Long userId, String excelData, String format) {
-        // Excel 가져오기 로직 (실제 구현에서는 Excel 파일을 파싱하여 웨딩홀 생성)
         log.info("웨딩홀 Excel 가져오기: 사용자: {}, 형식: {}", userId, format);
         
-        // 빈 리스트 반환 (실제 구현에서는 파싱된 웨딩홀 데이터 반환)
-        return List.of();
+        // CSV는 본문 텍스트, XLSX는 Base64 인코딩된 파일 내용으로 전달됨
+        String resolvedFormat = SpreadsheetReader.resolveFormat(format, null);
+        byte[] data = SpreadsheetReader.FORMAT_XLSX.equals(resolvedFormat)
+                ? Base64.getMimeDecoder().decode(excelData)
+                : excelData.getBytes(StandardCharsets.UTF_8);
+        
+        // 같은 시각에 다른 경로로 등록된 웨딩홀이 섞이지 않도록 이번 가져오기로 등록된 ID만 조회
+        List<Long> importedIds = new ArrayList<>();
+        ImportResult result = importWeddingHalls(userId, new ByteArrayInputStream(data), resolvedFormat, importedIds);
+        if (result.getFailureCount() > 0) {
+            log.warn("웨딩홀 가져오기 중 {}건의 행이 실패했습니다. 사용자: {}", result.getFailureCount(), userId);
+        }
+        
+        return weddingHallRepository.findAllById(importedIds).stream()
+                .sorted(Comparator.comparing(WeddingHall::getId).reversed())
+                .map(WeddingHallDTO.Response::from)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional
+    public ImportResult importWeddingHalls(Long userId, InputStream inputStream, String format) {
+        return importWeddingHalls(userId, inputStream, format, null);
+    }
+    
+    /**
+     * 웨딩홀 대량 가져오기
+     * @param importedIds 등록된 웨딩홀 ID를 담을 목록 (null이면 수집하지 않음)
+     */
+    private ImportResult importWeddingHalls(Long userId, InputStream inputStream, String format, List<Long> importedIds) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        
+        ImportResult result = new ImportResult();
+        List<WeddingHall> batch = new ArrayList<>(importBatchSize);
+        SpreadsheetReader.HeaderIndex[] header = new SpreadsheetReader.HeaderIndex[1];
+        
+        try {
+            SpreadsheetReader.read(inputStream, format, (rowNumber, cells) -> {
+                if (header[0] == null) {
+                    header[0] = new SpreadsheetReader.HeaderIndex(cells, IMPORT_HEADER_ALIASES);
+                    if (!header[0].has("name") || !header[0].has("address")) {
+                        throw new IllegalArgumentException("헤더에 식장명(name)과 주소(address) 열이 필요합니다.");
+                    }
+                    return;
+                }
+                try {
+                    batch.add(parseImportRow(header[0], cells));
+                } catch (IllegalArgumentException e) {
+                    result.addError(rowNumber, e.getMessage());
+                    return;
+                }
+                if (batch.size() >= importBatchSize) {
+                    result.addSuccess(insertImportBatch(userId, batch, importedIds));
+                    batch.clear();
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        }
+        result.addSuccess(insertImportBatch(userId, batch, importedIds));
+        if (result.getSuccessCount() > 0) {
+            // 커밋 후 대시보드/추천 캐시 무효화
+            eventPublisher.publishEvent(new WeddingHallChangedEvent(null, userId,
+                    WeddingHallChangedEvent.ChangeType.IMPORTED, null, null));
+        }
+        
+        log.info("웨딩홀 가져오기 완료. 사용자: {}, 성공: {}, 실패: {}", userId, result.getSuccessCount(), result.getFailureCount());
+        return result;
+    }
+    
+    /**
+     * 가져오기 배치 등록 및 검색 색인 반영
+     * JDBC 배치로 등록된 행은 이벤트가 발생하지 않으므로 등록된 웨딩홀만 직접 색인합니다.
+     */
+    private int insertImportBatch(Long userId, List<WeddingHall> batch, List<Long> importedIds) {
+        int inserted = weddingHallBatchRepository.batchInsert(userId, batch);
+        weddingHallSearchService.indexImported(batch);
+        if (importedIds != null) {
+            batch.forEach(hall -> importedIds.add(hall.getId()));
+        }
+        return inserted;
+    }
+    
+    /**
+     * 가져오기 행 검증 및 변환
+     */
+    private WeddingHall parseImportRow(SpreadsheetReader.HeaderIndex header, List<String> cells) {
+        String name = header.get(cells, "name");
+        String address = header.get(cells, "address");
+        if (name == null) {
+            throw new IllegalArgumentException("식장명은 필수입니다.");
+        }
+        if (address == null) {
+            throw new IllegalArgumentException("주소는 필수입니다.");
+        }
+        
+        BigDecimal price = parseDecimalCell(header.get(cells, "price"), "가격");
+        BigDecimal capacity = parseDecimalCell(header.get(cells, "capacity"), "수용인원");
+        BigDecimal rating = parseDecimalCell(header.get(cells, "rating"), "평점");
+        if (price != null && price.signum() < 0) {
+            throw new IllegalArgumentException("가격은 0 이상이어야 합니다.");
+        }
+        if (rating != null && (rating.signum() < 0 || rating.compareTo(BigDecimal.valueOf(5)) > 0)) {
+            throw new IllegalArgumentException("평점은 0~5 사이여야 합니다.");
+        }
+        
+        return WeddingHall.builder()
+                .name(name)
+                .address(address)
+                .phone(header.get(cells, "phone"))
+                .website(header.get(cells, "website"))
+                .pricePerTable(price)
+                .capacity(capacity != null ? capacity.intValue() : null)
+                .hallType(header.get(cells, "hallType"))
+                .description(header.get(cells, "description"))
+                .parkingInfo(header.get(cells, "parkingInfo"))
+                .facilities(header.get(cells, "facilities"))
+                .memo(header.get(cells, "memo"))
+                .rating(rating)
+                .build();
+    }
+    
+    private BigDecimal parseDecimalCell(String value, String label) {
+        try {
+            return SpreadsheetReader.parseDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("%s 값이 숫자가 아닙니다: %s", label, value));
+        }
     }
     
     @Override
@@ -13,7 +13,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "WP_BUDGETS")
+@Table(name = "WP_BUDGETS", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_budgets_user_template_item", columnNames = {"user_id", "template_item_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -56,6 +58,9 @@ public class Budget {
     
     private LocalDateTime dueDate;
     
+    // 템플릿으로 생성된 예산의 템플릿 항목 ID (재적용 시 중복 생성 방지)
+    private Long templateItemId;
+    
     @CreationTimestamp
     private LocalDateTime createdAt;
     
@@ -0,0 +1,79 @@
+package com.w.p.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 예산 초과 알림
+ * 항목(ITEM)은 예산 항목의 실제 금액, 카테고리(CATEGORY)는 카테고리 실제 금액 합계가 임계값 이상이 되면 한 번 알림을 보내고,
+ * 다시 임계값 아래로 내려가면 재무장됩니다.
+ * 카테고리 합계는 trackedAmount에 증감으로 유지하므로 평가할 때 예산 항목을 다시 합산하지 않습니다.
+ */
+@Entity
+@Table(name = "WP_BUDGET_ALERTS",
+       uniqueConstraints = {
+               @UniqueConstraint(name = "uk_budget_alerts_user_budget", columnNames = {"user_id", "budget_id"}),
+               @UniqueConstraint(name = "uk_budget_alerts_user_category", columnNames = {"user_id", "category"})
+       },
+       indexes = {
+               @Index(name = "idx_budget_alerts_budget_threshold", columnList = "budget_id, amount_threshold"),
+               @Index(name = "idx_budget_alerts_category_threshold", columnList = "user_id, category, amount_threshold")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Scope scope;
+
+    private Long budgetId; // ITEM 알림만
+
+    @Column(length = 100)
+    private String category; // CATEGORY 알림만
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal amountThreshold; // 알림 임계 지출 금액
+
+    @Column(precision = 17, scale = 2)
+    private BigDecimal trackedAmount; // 카테고리 실제 지출 합계 (CATEGORY 알림만)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean triggered = false; // 임계값 도달 후 알림 발송 여부
+
+    @Column(precision = 17, scale = 2)
+    private BigDecimal lastTriggeredAmount;
+
+    private LocalDateTime lastTriggeredAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public enum Scope {
+        ITEM,     // 예산 항목
+        CATEGORY  // 카테고리 합계
+    }
+}
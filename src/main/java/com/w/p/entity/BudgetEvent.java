@@ -0,0 +1,76 @@
+package com.w.p.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 예산 변경 이벤트
+ * 변경된 필드만 값을 가지며(변경 없으면 null) 추가만 하고 수정하지 않습니다.
+ * 예산 항목별 version은 1부터 연속으로 증가하고, (budget_id, version) 유일 제약으로 동시 기록을 막습니다.
+ */
+@Entity
+@Table(name = "WP_BUDGET_EVENTS",
+       uniqueConstraints = @UniqueConstraint(name = "uk_budget_events_budget_version", columnNames = {"budget_id", "version"}),
+       indexes = @Index(name = "idx_budget_events_budget_time", columnList = "budget_id, occurred_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long budgetId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventType eventType;
+
+    @Column(length = 100)
+    private String category;
+
+    @Column(length = 200)
+    private String itemName;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal plannedAmount;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal actualAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Budget.BudgetStatus status;
+
+    @Column(length = 500)
+    private String reason;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    public enum EventType {
+        BASELINE,        // 이력 기록 이전부터 있던 항목의 기준 상태
+        CREATED,         // 생성
+        IMPORTED,        // 대량 등록 (가져오기, 템플릿)
+        UPDATED,         // 수정
+        STATUS_CHANGED,  // 상태 변경
+        APPROVED,        // 승인
+        REJECTED,        // 반려
+        DELETED          // 삭제
+    }
+}
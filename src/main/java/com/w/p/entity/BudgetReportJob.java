@@ -0,0 +1,72 @@
+package com.w.p.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예산 리포트 생성 작업
+ * (사용자, 리포트 유형, 데이터 버전)마다 하나만 생성되며, 데이터가 바뀌지 않았으면 완료된 파일을 그대로 재사용합니다.
+ */
+@Entity
+@Table(name = "WP_BUDGET_REPORT_JOBS",
+       uniqueConstraints = @UniqueConstraint(name = "uk_budget_report_jobs_version", columnNames = {"user_id", "report_type", "data_version"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetReportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ReportType reportType;
+
+    // 예산 건수-최대 ID-최종 수정 시각
+    @Column(nullable = false, length = 100)
+    private String dataVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    // 리포트 저장 경로 기준 상대 경로
+    @Column(length = 255)
+    private String filePath;
+
+    private Long fileSize;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    public enum ReportType {
+        CSV,  // 카테고리 요약 + 항목 목록 (UTF-8 CSV)
+        PDF   // 카테고리 요약 + 항목 목록 (A4 PDF)
+    }
+
+    public enum JobStatus {
+        QUEUED,     // 대기
+        RUNNING,    // 생성 중
+        COMPLETED,  // 완료
+        FAILED      // 실패
+    }
+}
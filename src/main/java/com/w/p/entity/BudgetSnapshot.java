@@ -0,0 +1,60 @@
+package com.w.p.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 예산 상태 스냅샷
+ * version까지의 이벤트를 모두 반영한 상태로, 이력 복원 시 스냅샷 이후 이벤트만 읽으면 됩니다.
+ */
+@Entity
+@Table(name = "WP_BUDGET_SNAPSHOTS",
+       uniqueConstraints = @UniqueConstraint(name = "uk_budget_snapshots_budget_version", columnNames = {"budget_id", "version"}),
+       indexes = @Index(name = "idx_budget_snapshots_budget_time", columnList = "budget_id, occurred_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long budgetId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @Column(length = 100)
+    private String category;
+
+    @Column(length = 200)
+    private String itemName;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal plannedAmount;
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal actualAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Budget.BudgetStatus status;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,62 @@
+package com.w.p.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 알림
+ * dedupeKey 유니크 제약으로 동일 알림이 중복 발송되지 않도록 합니다.
+ */
+@Entity
+@Table(name = "WP_NOTIFICATIONS",
+       indexes = @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+       uniqueConstraints = @UniqueConstraint(name = "uk_notifications_dedupe_key", columnNames = "dedupe_key"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 1000)
+    private String message;
+
+    @Column(nullable = false, length = 200)
+    private String dedupeKey; // 중복 발송 방지 키
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean isRead = false;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    public enum NotificationType {
+        WEDDING_HALL_PRICE,  // 웨딩홀 가격 알림
+        SCHEDULE_REMINDER,   // 일정 알림
+        SCHEDULE_DUE_SOON,   // 일정 마감 임박
+        SCHEDULE_OVERDUE,    // 일정 기한 초과
+        BUDGET_OVERSPEND     // 예산 초과 알림
+    }
+}
@@ -0,0 +1,77 @@
+package com.w.p.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * 계획 템플릿 항목
+ * 일정 항목은 결혼식 D-day 기준 일수로 마감일을 계산하고, 예산 항목은 총예산 대비 비율(없으면 기본 금액)로 계획 금액을 계산합니다.
+ */
+@Entity
+@Table(name = "WP_PLAN_TEMPLATE_ITEMS",
+       indexes = @Index(name = "idx_plan_template_items_template", columnList = "template_id, item_type, sort_order"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanTemplateItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long templateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ItemType itemType;
+
+    @Column(nullable = false, length = 200)
+    private String title; // 일정 제목 또는 예산 항목명
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(length = 100)
+    private String category; // 예산 카테고리
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private Schedule.ScheduleType scheduleType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Priority priority;
+
+    // D-Day 기준 (결혼식 날짜로부터 며칠 전)
+    private Integer daysBeforeWedding;
+
+    @Column(precision = 5, scale = 2)
+    private BigDecimal budgetShare; // 총예산 대비 비율 (%)
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal defaultAmount; // 총예산이 없을 때 계획 금액
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer sortOrder = 0;
+
+    public enum ItemType {
+        SCHEDULE, // 일정
+        BUDGET    // 예산
+    }
+
+    public enum Priority {
+        HIGH,    // 높음
+        MEDIUM,  // 보통
+        LOW      // 낮음
+    }
+}
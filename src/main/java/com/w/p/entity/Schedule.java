@@ -12,7 +12,14 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "WP_SCHEDULES")
+@Table(name = "WP_SCHEDULES", indexes = {
+        @Index(name = "idx_schedules_user_due", columnList = "user_id, due_date"),
+        @Index(name = "idx_schedules_user_status_due", columnList = "user_id, status, due_date"),
+        @Index(name = "idx_schedules_status_due_user", columnList = "status, due_date, user_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_schedules_user_external_uid", columnNames = {"user_id", "external_uid"}),
+        @UniqueConstraint(name = "uk_schedules_user_template_item", columnNames = {"user_id", "template_item_id"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,6 +27,9 @@ import java.time.LocalDateTime;
 @Builder
 public class Schedule {
     
+    // 소요 시간 최대값 (분, 7일)
+    public static final int MAX_DURATION_MINUTES = 7 * 24 * 60;
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -48,6 +58,9 @@ public class Schedule {
     @Column(nullable = false)
     private LocalDateTime dueDate;
     
+    // 소요 시간 (분, null 또는 0이면 소요 시간 없이 시각만 있는 일정)
+    private Integer durationMinutes;
+    
     private LocalDateTime completedAt;
     
     @Column(length = 200)
@@ -62,6 +75,13 @@ public class Schedule {
     // D-Day 기준 (결혼식 날짜로부터 며칠 전)
     private Integer daysBeforeWedding;
     
+    // 외부 캘린더에서 가져온 일정의 UID (중복 가져오기 방지)
+    @Column(length = 255)
+    private String externalUid;
+    
+    // 템플릿으로 생성된 일정의 템플릿 항목 ID (재적용 시 중복 생성 방지)
+    private Long templateItemId;
+    
     @CreationTimestamp
     private LocalDateTime createdAt;
     
@@ -103,6 +123,16 @@ public class Schedule {
         return LocalDateTime.now().isAfter(dueDate) && status != ScheduleStatus.COMPLETED;
     }
     
+    // 종료 일시 (마감 일시 + 소요 시간)
+    public LocalDateTime getEndDate() {
+        return dueDate.plusMinutes(durationOf(durationMinutes));
+    }
+    
+    // 소요 시간 (분, 없으면 마감 시점만 있는 일정으로 보고 0 - 템플릿/가져오기 일정은 소요 시간 없이 저장됨)
+    public static int durationOf(Integer durationMinutes) {
+        return durationMinutes != null ? durationMinutes : 0;
+    }
+    
     // 마감일까지 남은 일수
     public long getDaysUntilDue() {
         return java.time.temporal.ChronoUnit.DAYS.between(LocalDateTime.now(), dueDate);
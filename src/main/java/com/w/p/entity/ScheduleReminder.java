@@ -0,0 +1,56 @@
+package com.w.p.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 알림 예약
+ * PENDING → SENT 전환은 조건부 UPDATE로 처리하여 여러 인스턴스가 동시에 발송해도 한 번만 성공합니다.
+ */
+@Entity
+@Table(name = "WP_SCHEDULE_REMINDERS",
+       uniqueConstraints = @UniqueConstraint(name = "uk_schedule_reminders_schedule_time", columnNames = {"schedule_id", "remind_at"}),
+       indexes = @Index(name = "idx_schedule_reminders_status_time", columnList = "status, remind_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long scheduleId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime remindAt; // 알림 시각
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private ReminderStatus status = ReminderStatus.PENDING;
+
+    private LocalDateTime sentAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    public enum ReminderStatus {
+        PENDING,    // 발송 대기
+        SENT,       // 발송 완료
+        CANCELLED   // 취소
+    }
+}
@@ -14,7 +14,12 @@ import java.time.LocalDateTime;
  * 결혼식장 정보 엔티티
  */
 @Entity
-@Table(name = "WP_WEDDING_HALLS")
+@Table(name = "WP_WEDDING_HALLS", indexes = {
+        @Index(name = "idx_wedding_halls_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_wedding_halls_status_created_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_wedding_halls_user_created_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_wedding_halls_name", columnList = "name")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,57 @@
+package com.w.p.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 웨딩홀 가격 알림
+ * 테이블당 가격이 임계값 이하로 내려가면 한 번 알림을 보내고, 다시 임계값을 넘으면 재무장됩니다.
+ */
+@Entity
+@Table(name = "WP_WEDDING_HALL_ALERTS",
+       uniqueConstraints = @UniqueConstraint(name = "uk_wedding_hall_alerts_user_hall", columnNames = {"user_id", "wedding_hall_id"}),
+       indexes = @Index(name = "idx_wedding_hall_alerts_hall_threshold", columnList = "wedding_hall_id, price_threshold"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeddingHallAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long weddingHallId;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal priceThreshold; // 알림 임계 가격
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean triggered = false; // 임계값 도달 후 알림 발송 여부
+
+    @Column(precision = 15, scale = 2)
+    private BigDecimal lastTriggeredPrice;
+
+    private LocalDateTime lastTriggeredAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,47 @@
+package com.w.p.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * 웨딩홀 검색용 n-gram 역색인
+ * (ngram, wedding_hall_id) 기본키로 n-gram 조회 시 해당 웨딩홀 목록을 인덱스 범위로 읽습니다.
+ * 쓰기는 WeddingHallNgramRepository(JDBC 배치)로만 수행합니다.
+ */
+@Entity
+@Table(name = "WP_WEDDING_HALL_NGRAMS",
+       indexes = @Index(name = "idx_wedding_hall_ngrams_hall", columnList = "wedding_hall_id"))
+@IdClass(WeddingHallNgram.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeddingHallNgram {
+
+    @Id
+    @Column(length = 16)
+    private String ngram;
+
+    @Id
+    private Long weddingHallId;
+
+    @Column(nullable = false)
+    private Integer weight; // 필드 가중치 합 (이름 3, 주소 2, 설명 1)
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String ngram;
+        private Long weddingHallId;
+    }
+}
@@ -0,0 +1,7 @@
+-- 외부 캘린더(iCalendar) 가져오기 UID 컬럼 추가
+ALTER TABLE wp_schedules
+    ADD COLUMN external_uid VARCHAR(255) NULL COMMENT '외부 캘린더 UID';
+
+-- 사용자별 UID 중복 방지 (NULL은 중복 허용)
+ALTER TABLE wp_schedules
+    ADD UNIQUE KEY uk_schedules_user_external_uid (user_id, external_uid);
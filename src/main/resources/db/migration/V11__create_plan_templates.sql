@@ -0,0 +1,87 @@
+-- 사용자 결혼식 날짜 컬럼 추가
+ALTER TABLE wp_users
+    ADD COLUMN wedding_date DATE NULL COMMENT '결혼식 날짜';
+
+-- 계획 템플릿 테이블 생성
+CREATE TABLE wp_plan_templates (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    code VARCHAR(50) NOT NULL COMMENT '템플릿 코드',
+    name VARCHAR(100) NOT NULL COMMENT '템플릿 이름',
+    description VARCHAR(500) COMMENT '설명',
+    active BOOLEAN NOT NULL DEFAULT TRUE COMMENT '사용 여부',
+    created_at DATETIME(6) COMMENT '생성일시',
+    updated_at DATETIME(6) COMMENT '수정일시',
+
+    UNIQUE KEY uk_plan_templates_code (code)
+) COMMENT '결혼 준비 계획 템플릿';
+
+-- 계획 템플릿 항목 테이블 생성
+CREATE TABLE wp_plan_template_items (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    template_id BIGINT NOT NULL COMMENT '템플릿 ID',
+    item_type VARCHAR(20) NOT NULL COMMENT '항목 유형 (SCHEDULE, BUDGET)',
+    title VARCHAR(200) NOT NULL COMMENT '일정 제목 또는 예산 항목명',
+    description VARCHAR(500) COMMENT '설명',
+    category VARCHAR(100) COMMENT '예산 카테고리',
+    schedule_type VARCHAR(50) COMMENT '일정 타입',
+    priority VARCHAR(20) NOT NULL COMMENT '우선순위',
+    days_before_wedding INT COMMENT '결혼식 D-day 기준 일수',
+    budget_share DECIMAL(5, 2) COMMENT '총예산 대비 비율 (%)',
+    default_amount DECIMAL(15, 2) COMMENT '기본 계획 금액',
+    sort_order INT NOT NULL DEFAULT 0 COMMENT '정렬 순서',
+
+    INDEX idx_plan_template_items_template (template_id, item_type, sort_order),
+    FOREIGN KEY (template_id) REFERENCES wp_plan_templates(id) ON DELETE CASCADE
+) COMMENT '결혼 준비 계획 템플릿 항목';
+
+-- 템플릿으로 생성된 일정/예산 표시 (사용자별 템플릿 항목당 한 건)
+ALTER TABLE wp_schedules
+    ADD COLUMN template_item_id BIGINT NULL COMMENT '템플릿 항목 ID',
+    ADD UNIQUE KEY uk_schedules_user_template_item (user_id, template_item_id);
+
+ALTER TABLE wp_budgets
+    ADD COLUMN template_item_id BIGINT NULL COMMENT '템플릿 항목 ID',
+    ADD UNIQUE KEY uk_budgets_user_template_item (user_id, template_item_id);
+
+-- 표준 12개월 결혼 준비 템플릿
+INSERT INTO wp_plan_templates (code, name, description, active, created_at, updated_at) VALUES
+('STANDARD_12M', '표준 12개월 결혼 준비', '결혼식 1년 전부터 시작하는 표준 체크리스트와 예산 배분', TRUE, NOW(6), NOW(6));
+
+SET @template_id = LAST_INSERT_ID();
+
+INSERT INTO wp_plan_template_items (template_id, item_type, title, description, schedule_type, priority, days_before_wedding, sort_order) VALUES
+(@template_id, 'SCHEDULE', '예식 날짜 및 전체 예산 확정', '양가 상의 후 예식 시기와 총예산 결정', 'OTHER', 'HIGH', 365, 10),
+(@template_id, 'SCHEDULE', '웨딩홀 투어 및 계약', '희망 날짜 기준 3~5곳 방문 후 계약', 'VENUE_BOOKING', 'HIGH', 330, 20),
+(@template_id, 'SCHEDULE', '스튜디오·드레스·메이크업 업체 계약', NULL, 'PHOTOGRAPHY', 'HIGH', 300, 30),
+(@template_id, 'SCHEDULE', '신혼여행지 결정 및 항공권 예약', NULL, 'HONEYMOON_BOOKING', 'MEDIUM', 270, 40),
+(@template_id, 'SCHEDULE', '예식 메뉴 시식 및 식대 확정', NULL, 'CATERING', 'MEDIUM', 240, 50),
+(@template_id, 'SCHEDULE', '웨딩 촬영', NULL, 'PHOTOGRAPHY', 'MEDIUM', 180, 60),
+(@template_id, 'SCHEDULE', '드레스 1차 피팅', NULL, 'DRESS_FITTING', 'MEDIUM', 150, 70),
+(@template_id, 'SCHEDULE', '청첩장 디자인 확정', NULL, 'INVITATION', 'MEDIUM', 120, 80),
+(@template_id, 'SCHEDULE', '본식 스냅·영상 업체 예약', NULL, 'PHOTOGRAPHY', 'LOW', 120, 90),
+(@template_id, 'SCHEDULE', '예물·예단 준비', NULL, 'GIFT_PREPARATION', 'MEDIUM', 90, 100),
+(@template_id, 'SCHEDULE', '혼주 한복·예복 준비', NULL, 'DRESS_FITTING', 'LOW', 90, 110),
+(@template_id, 'SCHEDULE', '부케·꽃장식 주문', NULL, 'FLOWER_ORDER', 'LOW', 75, 120),
+(@template_id, 'SCHEDULE', '청첩장 인쇄 및 발송', NULL, 'INVITATION', 'HIGH', 60, 130),
+(@template_id, 'SCHEDULE', '사회자·축가 섭외', NULL, 'MUSIC_SETUP', 'MEDIUM', 60, 140),
+(@template_id, 'SCHEDULE', '메이크업 리허설', NULL, 'MAKEUP_TRIAL', 'MEDIUM', 45, 150),
+(@template_id, 'SCHEDULE', '드레스 최종 피팅', NULL, 'DRESS_FITTING', 'HIGH', 30, 160),
+(@template_id, 'SCHEDULE', '답례품 주문', NULL, 'GIFT_PREPARATION', 'MEDIUM', 30, 170),
+(@template_id, 'SCHEDULE', '하객 인원 확정 및 식수 전달', NULL, 'CATERING', 'HIGH', 21, 180),
+(@template_id, 'SCHEDULE', '본식 음향·입장곡 확정', NULL, 'MUSIC_SETUP', 'MEDIUM', 14, 190),
+(@template_id, 'SCHEDULE', '혼인신고 서류 준비', NULL, 'DOCUMENT_PREP', 'LOW', 14, 200),
+(@template_id, 'SCHEDULE', '본식 진행 리허설', NULL, 'REHEARSAL', 'HIGH', 7, 210),
+(@template_id, 'SCHEDULE', '신혼여행 짐 및 여권 최종 점검', NULL, 'HONEYMOON_BOOKING', 'MEDIUM', 3, 220),
+(@template_id, 'SCHEDULE', '예식 전날 최종 확인', '업체 연락처, 식권, 축의금 관리 담당 확인', 'OTHER', 'HIGH', 1, 230);
+
+INSERT INTO wp_plan_template_items (template_id, item_type, title, category, priority, days_before_wedding, budget_share, default_amount, sort_order) VALUES
+(@template_id, 'BUDGET', '대관료 및 식대', '웨딩홀', 'HIGH', 330, 40.00, 12000000, 10),
+(@template_id, 'BUDGET', '스튜디오·드레스·메이크업', '스드메', 'HIGH', 300, 10.00, 3000000, 20),
+(@template_id, 'BUDGET', '항공 및 숙박', '신혼여행', 'MEDIUM', 270, 15.00, 4500000, 30),
+(@template_id, 'BUDGET', '본식 스냅·영상', '촬영', 'LOW', 120, 4.00, 1200000, 40),
+(@template_id, 'BUDGET', '예물·예단', '예물', 'MEDIUM', 90, 15.00, 4500000, 50),
+(@template_id, 'BUDGET', '한복·예복', '의상', 'LOW', 90, 5.00, 1500000, 60),
+(@template_id, 'BUDGET', '부케·꽃장식', '꽃', 'LOW', 75, 2.00, 600000, 70),
+(@template_id, 'BUDGET', '청첩장 제작', '청첩장', 'LOW', 60, 1.00, 300000, 80),
+(@template_id, 'BUDGET', '답례품', '답례품', 'MEDIUM', 30, 3.00, 900000, 90),
+(@template_id, 'BUDGET', '예비비', '기타', 'LOW', NULL, 5.00, 1500000, 100);
@@ -0,0 +1,11 @@
+-- 사용자별 일정/예산 요약 카운터 (변경 시 증감으로 유지, 야간 재계산으로 보정)
+CREATE TABLE wp_user_plan_counters (
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    counter_key VARCHAR(60) NOT NULL COMMENT '카운터 키 (예: schedule.status.PENDING)',
+    count_value BIGINT NOT NULL DEFAULT 0 COMMENT '건수',
+    amount_value DECIMAL(17, 2) NOT NULL DEFAULT 0 COMMENT '금액 합계',
+    updated_at DATETIME(6) COMMENT '수정일시',
+
+    PRIMARY KEY (user_id, counter_key),
+    INDEX idx_user_plan_counters_key_user (counter_key, user_id)
+) COMMENT '사용자 일정/예산 요약 카운터';
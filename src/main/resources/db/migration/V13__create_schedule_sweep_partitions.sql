@@ -0,0 +1,11 @@
+-- 전체 사용자 대상 기한 조회용 인덱스 (상태 + 마감일 범위, 사용자 파티션 조건은 인덱스에서 바로 필터링)
+CREATE INDEX idx_schedules_status_due_user ON wp_schedules (status, due_date, user_id);
+
+-- 기한 점검 파티션 임대 테이블 (노드별로 파티션을 나눠 중복 처리 방지)
+CREATE TABLE wp_schedule_sweep_partitions (
+    partition_no INT PRIMARY KEY COMMENT '파티션 번호 (user_id MOD 파티션 수)',
+    owner VARCHAR(100) COMMENT '임대 중인 노드',
+    lease_until DATETIME(6) COMMENT '임대 만료 시각',
+    due_soon_until DATETIME(6) COMMENT '마감 임박 알림을 보낸 마감 시각 상한',
+    updated_at DATETIME(6) COMMENT '수정일시'
+) COMMENT '일정 기한 점검 파티션';
@@ -0,0 +1,3 @@
+-- 일정 소요 시간 컬럼 추가 (NULL이면 소요 시간이 없는 시점 일정)
+ALTER TABLE wp_schedules
+    ADD COLUMN duration_minutes INT NULL COMMENT '소요 시간 (분)' AFTER due_date;
@@ -0,0 +1,36 @@
+-- 예산 변경 이벤트 테이블 (추가만 하며 수정/삭제하지 않음)
+CREATE TABLE wp_budget_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    budget_id BIGINT NOT NULL COMMENT '예산 항목 ID (삭제 후에도 유지)',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    version INT NOT NULL COMMENT '예산 항목별 이벤트 순번 (1부터)',
+    event_type VARCHAR(20) NOT NULL COMMENT '이벤트 유형',
+    category VARCHAR(100) COMMENT '변경된 카테고리 (변경 없으면 NULL)',
+    item_name VARCHAR(200) COMMENT '변경된 항목명 (변경 없으면 NULL)',
+    planned_amount DECIMAL(15, 2) COMMENT '변경된 계획 금액 (변경 없으면 NULL)',
+    actual_amount DECIMAL(15, 2) COMMENT '변경된 실제 금액 (변경 없으면 NULL)',
+    status VARCHAR(20) COMMENT '변경된 상태 (변경 없으면 NULL)',
+    reason VARCHAR(500) COMMENT '승인/반려 사유',
+    occurred_at DATETIME(6) NOT NULL COMMENT '발생 일시',
+
+    UNIQUE KEY uk_budget_events_budget_version (budget_id, version),
+    INDEX idx_budget_events_budget_time (budget_id, occurred_at)
+) COMMENT '예산 변경 이벤트';
+
+-- 예산 상태 스냅샷 테이블 (이벤트 N건마다 해당 시점의 전체 상태)
+CREATE TABLE wp_budget_snapshots (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    budget_id BIGINT NOT NULL COMMENT '예산 항목 ID',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    version INT NOT NULL COMMENT '스냅샷에 반영된 마지막 이벤트 순번',
+    category VARCHAR(100) COMMENT '카테고리',
+    item_name VARCHAR(200) COMMENT '항목명',
+    planned_amount DECIMAL(15, 2) COMMENT '계획 금액',
+    actual_amount DECIMAL(15, 2) COMMENT '실제 금액',
+    status VARCHAR(20) COMMENT '상태',
+    deleted BOOLEAN NOT NULL DEFAULT FALSE COMMENT '삭제 여부',
+    occurred_at DATETIME(6) NOT NULL COMMENT '마지막 이벤트 발생 일시',
+
+    UNIQUE KEY uk_budget_snapshots_budget_version (budget_id, version),
+    INDEX idx_budget_snapshots_budget_time (budget_id, occurred_at)
+) COMMENT '예산 상태 스냅샷';
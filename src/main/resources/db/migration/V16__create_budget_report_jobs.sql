@@ -0,0 +1,19 @@
+-- 예산 리포트 생성 작업 테이블 ((사용자, 유형, 데이터 버전)별 하나의 결과 파일)
+CREATE TABLE wp_budget_report_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    report_type VARCHAR(10) NOT NULL COMMENT '리포트 유형 (CSV, PDF)',
+    data_version VARCHAR(100) NOT NULL COMMENT '생성 기준 데이터 버전',
+    status VARCHAR(20) NOT NULL COMMENT '작업 상태',
+    file_path VARCHAR(255) COMMENT '결과 파일 상대 경로',
+    file_size BIGINT COMMENT '결과 파일 크기 (bytes)',
+    error_message VARCHAR(500) COMMENT '실패 사유',
+    requested_at DATETIME(6) NOT NULL COMMENT '요청 일시',
+    started_at DATETIME(6) COMMENT '생성 시작 일시',
+    completed_at DATETIME(6) COMMENT '완료 일시',
+
+    UNIQUE KEY uk_budget_report_jobs_version (user_id, report_type, data_version)
+) COMMENT '예산 리포트 생성 작업';
+
+-- 리포트 데이터 버전 계산 (사용자별 건수/최대 ID/최종 수정 시각)
+CREATE INDEX idx_budgets_user_updated ON wp_budgets (user_id, updated_at);
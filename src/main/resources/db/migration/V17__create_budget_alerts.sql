@@ -0,0 +1,19 @@
+-- 예산 초과 알림 테이블 생성 (항목별 또는 카테고리별 실제 지출 임계값)
+CREATE TABLE wp_budget_alerts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    scope VARCHAR(10) NOT NULL COMMENT '알림 범위 (ITEM, CATEGORY)',
+    budget_id BIGINT COMMENT '예산 항목 ID (ITEM)',
+    category VARCHAR(100) COMMENT '카테고리 (CATEGORY)',
+    amount_threshold DECIMAL(15, 2) NOT NULL COMMENT '알림 임계 지출 금액',
+    tracked_amount DECIMAL(17, 2) COMMENT '카테고리 실제 지출 합계 (CATEGORY, 변경 시 증감으로 유지)',
+    triggered BOOLEAN NOT NULL DEFAULT FALSE COMMENT '알림 발송 여부',
+    last_triggered_amount DECIMAL(17, 2) COMMENT '마지막 발송 시 지출 금액',
+    last_triggered_at DATETIME(6) COMMENT '마지막 발송 일시',
+    created_at DATETIME(6) COMMENT '생성일시',
+    updated_at DATETIME(6) COMMENT '수정일시',
+
+    UNIQUE KEY uk_budget_alerts_user_budget (user_id, budget_id),
+    UNIQUE KEY uk_budget_alerts_user_category (user_id, category),
+    INDEX idx_budget_alerts_budget (budget_id)
+) COMMENT '예산 초과 알림';
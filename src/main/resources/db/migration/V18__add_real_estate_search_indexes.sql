@@ -0,0 +1,6 @@
+-- 부동산 검색용 인덱스
+-- 사용자 조건과 매물/거래 타입 필터를 인덱스 범위 스캔으로 처리하고, 기본 정렬(created_at, id)을 인덱스 순서대로 읽음
+-- 제목/주소 키워드(LIKE '%키워드%')는 사용자 범위 안의 행에만 적용
+CREATE INDEX idx_real_estates_user_created_id ON wp_real_estates (user_id, created_at, id);
+CREATE INDEX idx_real_estates_user_property_created ON wp_real_estates (user_id, property_type, created_at);
+CREATE INDEX idx_real_estates_user_transaction_created ON wp_real_estates (user_id, transaction_type, created_at);
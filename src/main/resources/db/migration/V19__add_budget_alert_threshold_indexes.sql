@@ -0,0 +1,5 @@
+-- 예산 초과 알림 임계값 구간 조회용 인덱스
+-- 지출 변경 시 대상(예산 항목 또는 사용자+카테고리)의 임계값 구간을 인덱스 범위 스캔으로 찾음
+CREATE INDEX idx_budget_alerts_budget_threshold ON wp_budget_alerts (budget_id, amount_threshold);
+CREATE INDEX idx_budget_alerts_category_threshold ON wp_budget_alerts (user_id, category, amount_threshold);
+DROP INDEX idx_budget_alerts_budget ON wp_budget_alerts;
@@ -0,0 +1,4 @@
+-- 웨딩홀 가격 알림 임계값 구간 조회용 인덱스
+-- 가격 변경 시 웨딩홀의 임계값 구간을 인덱스 범위 스캔으로 찾음
+CREATE INDEX idx_wedding_hall_alerts_hall_threshold ON wp_wedding_hall_alerts (wedding_hall_id, price_threshold);
+DROP INDEX idx_wedding_hall_alerts_hall ON wp_wedding_hall_alerts;
@@ -0,0 +1,30 @@
+-- 사용자 알림 테이블 생성
+CREATE TABLE wp_notifications (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    type VARCHAR(50) NOT NULL COMMENT '알림 유형',
+    title VARCHAR(200) NOT NULL COMMENT '제목',
+    message VARCHAR(1000) COMMENT '내용',
+    dedupe_key VARCHAR(200) NOT NULL COMMENT '중복 발송 방지 키',
+    is_read BOOLEAN NOT NULL DEFAULT FALSE COMMENT '읽음 여부',
+    created_at DATETIME(6) COMMENT '생성일시',
+
+    INDEX idx_notifications_user_created (user_id, created_at),
+    UNIQUE KEY uk_notifications_dedupe_key (dedupe_key)
+) COMMENT '사용자 알림';
+
+-- 웨딩홀 가격 알림 테이블 생성
+CREATE TABLE wp_wedding_hall_alerts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    wedding_hall_id BIGINT NOT NULL COMMENT '웨딩홀 ID',
+    price_threshold DECIMAL(15, 2) NOT NULL COMMENT '알림 임계 가격',
+    triggered BOOLEAN NOT NULL DEFAULT FALSE COMMENT '알림 발송 여부',
+    last_triggered_price DECIMAL(15, 2) COMMENT '마지막 발송 가격',
+    last_triggered_at DATETIME(6) COMMENT '마지막 발송 일시',
+    created_at DATETIME(6) COMMENT '생성일시',
+    updated_at DATETIME(6) COMMENT '수정일시',
+
+    INDEX idx_wedding_hall_alerts_hall (wedding_hall_id),
+    UNIQUE KEY uk_wedding_hall_alerts_user_hall (user_id, wedding_hall_id)
+) COMMENT '웨딩홀 가격 알림';
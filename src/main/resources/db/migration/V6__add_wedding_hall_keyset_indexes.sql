@@ -0,0 +1,6 @@
+-- 관리자 결혼식장 목록 키셋 페이지네이션용 인덱스
+-- ORDER BY created_at DESC, id DESC 를 필터 조건별로 인덱스 순서대로 읽을 수 있도록 구성
+CREATE INDEX idx_wedding_halls_created_id ON wp_wedding_halls (created_at, id);
+CREATE INDEX idx_wedding_halls_status_created_id ON wp_wedding_halls (status, created_at, id);
+CREATE INDEX idx_wedding_halls_user_created_id ON wp_wedding_halls (user_id, created_at, id);
+CREATE INDEX idx_wedding_halls_name ON wp_wedding_halls (name);
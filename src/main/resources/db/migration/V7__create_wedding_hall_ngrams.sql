@@ -0,0 +1,11 @@
+-- 웨딩홀 이름/주소/설명 n-gram 역색인 테이블 생성
+CREATE TABLE wp_wedding_hall_ngrams (
+    ngram VARCHAR(16) NOT NULL COMMENT 'n-gram 토큰',
+    wedding_hall_id BIGINT NOT NULL COMMENT '웨딩홀 ID',
+    weight INT NOT NULL COMMENT '필드 가중치 합 (이름 3, 주소 2, 설명 1)',
+
+    PRIMARY KEY (ngram, wedding_hall_id),
+    INDEX idx_wedding_hall_ngrams_hall (wedding_hall_id)
+) COMMENT '웨딩홀 검색 n-gram 색인';
+
+-- 기존 데이터 색인은 POST /api/v1/admin/wedding-halls/search-index/rebuild 로 생성
@@ -0,0 +1,4 @@
+-- 일정 목록 조회용 인덱스
+-- 사용자별 마감일 범위/정렬 조회와 상태별 조회를 인덱스 범위 스캔으로 처리
+CREATE INDEX idx_schedules_user_due ON wp_schedules (user_id, due_date);
+CREATE INDEX idx_schedules_user_status_due ON wp_schedules (user_id, status, due_date);
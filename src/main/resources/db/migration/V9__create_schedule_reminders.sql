@@ -0,0 +1,13 @@
+-- 일정 알림 예약 테이블 생성
+CREATE TABLE wp_schedule_reminders (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    schedule_id BIGINT NOT NULL COMMENT '일정 ID',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    remind_at DATETIME(6) NOT NULL COMMENT '알림 시각',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '상태 (PENDING, SENT, CANCELLED)',
+    sent_at DATETIME(6) COMMENT '발송 일시',
+    created_at DATETIME(6) COMMENT '생성일시',
+
+    INDEX idx_schedule_reminders_status_time (status, remind_at, id),
+    UNIQUE KEY uk_schedule_reminders_schedule_time (schedule_id, remind_at)
+) COMMENT '일정 알림 예약';
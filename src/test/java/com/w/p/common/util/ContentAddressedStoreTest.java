@@ -0,0 +1,58 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * ContentAddressedStore 클래스 테스트
+ */
+class ContentAddressedStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testStoresUnderContentHash() throws Exception {
+        ContentAddressedStore store = new ContentAddressedStore(root);
+        ContentAddressedStore.StoredFile stored = store.store(input("abc"), ".jpg");
+
+        // SHA-256("abc")
+        String hash = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+        assertEquals(hash, stored.getHash());
+        assertEquals("ba/" + hash + ".jpg", stored.getRelativePath());
+        assertEquals(3, stored.getSize());
+        assertTrue(stored.isCreated());
+        assertEquals("abc", Files.readString(store.resolve(stored.getRelativePath())));
+    }
+
+    @Test
+    void testDuplicateReusesExistingFile() throws Exception {
+        ContentAddressedStore store = new ContentAddressedStore(root);
+        ContentAddressedStore.StoredFile first = store.store(input("same photo"), ".png");
+        ContentAddressedStore.StoredFile second = store.store(input("same photo"), ".png");
+
+        assertEquals(first.getRelativePath(), second.getRelativePath());
+        assertFalse(second.isCreated());
+        try (Stream<Path> temp = Files.list(root.resolve(".tmp"))) {
+            assertEquals(0, temp.count());
+        }
+    }
+
+    @Test
+    void testDifferentContentGetsDifferentPath() throws Exception {
+        ContentAddressedStore store = new ContentAddressedStore(root);
+        assertNotEquals(store.store(input("a"), ".gif").getRelativePath(),
+                store.store(input("b"), ".gif").getRelativePath());
+    }
+
+    private static ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,28 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+
+/**
+ * CsvWriter 클래스 테스트
+ */
+class CsvWriterTest {
+
+    @Test
+    void testQuotesSpecialCharacters() throws Exception {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).row("웨딩홀", "a,b", "say \"hi\"", null, new BigDecimal("-1500.00"));
+
+        assertEquals("웨딩홀,\"a,b\",\"say \"\"hi\"\"\",,-1500.00\r\n", out.toString());
+    }
+
+    @Test
+    void testFormulaPrefixed() {
+        assertEquals("'=SUM(A1)", CsvWriter.escape("=SUM(A1)"));
+        assertEquals("'-10", CsvWriter.escape("-10"));
+        assertEquals("\"'@a,b\"", CsvWriter.escape("@a,b"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * HashedTimingWheel 클래스 테스트
+ */
+class HashedTimingWheelTest {
+
+    @Test
+    void testExpiresInDeadlineOrder() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0);
+        wheel.schedule("b", 350);
+        wheel.schedule("a", 120);
+        wheel.schedule("late", 5_000);
+
+        assertEquals(List.of(), wheel.advance(199));
+        assertEquals(List.of("a"), wheel.advance(200));
+        assertEquals(List.of(), wheel.advance(399));
+        assertEquals(List.of("b"), wheel.advance(400));
+        assertEquals(List.of(), wheel.advance(5_099));
+        assertEquals(List.of("late"), wheel.advance(5_100));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testPastDeadlineExpiresAtEndOfCurrentTick() {
+        HashedTimingWheel<Integer> wheel = new HashedTimingWheel<>(1_000, 60, 0);
+        wheel.advance(10_000);
+        wheel.schedule(1, 2_000);
+
+        assertEquals(List.of(), wheel.advance(10_500));
+        assertEquals(List.of(1), wheel.advance(11_000));
+    }
+
+    @Test
+    void testCancel() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 16, 0);
+        HashedTimingWheel.Entry<String> entry = wheel.schedule("x", 50);
+        wheel.schedule("y", 50);
+
+        assertTrue(entry.cancel());
+        assertEquals(List.of("y"), wheel.advance(60));
+        assertFalse(wheel.schedule("z", 0).isCancelled());
+    }
+
+    @Test
+    void testWheelSizeRoundedToPowerOfTwo() {
+        assertEquals(1_000 * 64, new HashedTimingWheel<>(1_000, 60, 0).getWheelSpanMillis());
+        assertEquals(10, new HashedTimingWheel<>(10, 1, 0).getWheelSpanMillis());
+    }
+}
@@ -0,0 +1,104 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ICalendarReader 클래스 테스트
+ */
+class ICalendarReaderTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void testReadEventsWithFoldingAndNestedComponents() throws Exception {
+        String ics = "BEGIN:VCALENDAR\r\n"
+                + "VERSION:2.0\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "UID:a@example.com\r\n"
+                + "SUMMARY:드레스 \r\n"
+                + " 피팅\\, 2차\r\n"
+                + "DTSTART;TZID=Asia/Seoul:20250510T143000\r\n"
+                + "BEGIN:VALARM\r\n"
+                + "DESCRIPTION:알람\r\n"
+                + "END:VALARM\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "UID:b@example.com\r\n"
+                + "SUMMARY:스튜디오\r\n"
+                + "DTSTART:20250601T010000Z\r\n"
+                + "END:VEVENT\r\n"
+                + "END:VCALENDAR\r\n";
+        List<ICalendarReader.Component> events = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        ICalendarReader.read(new StringReader(ics), "VEVENT", (lineNumber, component) -> {
+            events.add(component);
+            lineNumbers.add(lineNumber);
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(List.of(3, 12), lineNumbers);
+        assertEquals("드레스 피팅, 2차", events.get(0).getText("SUMMARY"));
+        assertNull(events.get(0).get("DESCRIPTION"));
+        assertEquals(LocalDateTime.of(2025, 5, 10, 14, 30),
+                ICalendarReader.parseDateTime(events.get(0).get("DTSTART"), SEOUL));
+        assertEquals(LocalDateTime.of(2025, 6, 1, 10, 0),
+                ICalendarReader.parseDateTime(events.get(1).get("DTSTART"), SEOUL));
+    }
+
+    @Test
+    void testParseLineWithQuotedParameter() {
+        ICalendarReader.Property property = ICalendarReader.parseLine("ATTENDEE;CN=\"Kim; Lee\";ROLE=CHAIR:mailto:a@b.c");
+
+        assertEquals("ATTENDEE", property.getName());
+        assertEquals("Kim; Lee", property.getParameter("cn"));
+        assertEquals("CHAIR", property.getParameter("ROLE"));
+        assertEquals("mailto:a@b.c", property.getValue());
+    }
+
+    @Test
+    void testMalformedLineMarksOnlyThatEvent() throws Exception {
+        String ics = "BEGIN:VEVENT\nSUMMARY:ok\nEND:VEVENT\nBEGIN:VEVENT\ngarbage\nEND:VEVENT\n";
+        List<ICalendarReader.Component> events = new ArrayList<>();
+        ICalendarReader.read(new StringReader(ics), "VEVENT", (lineNumber, component) -> events.add(component));
+
+        assertNull(events.get(0).getError());
+        assertNotNull(events.get(1).getError());
+    }
+
+    @Test
+    void testDateValue() {
+        ICalendarReader.Property property = ICalendarReader.parseLine("DTSTART;VALUE=DATE:20251018");
+        assertEquals(LocalDateTime.of(2025, 10, 18, 0, 0), ICalendarReader.parseDateTime(property, SEOUL));
+        assertThrows(IllegalArgumentException.class,
+                () -> ICalendarReader.parseDateTime(ICalendarReader.parseLine("DTSTART:tomorrow"), SEOUL));
+    }
+
+    @Test
+    void testRoundTripWithWriter() throws Exception {
+        StringWriter out = new StringWriter();
+        ICalendarWriter writer = new ICalendarWriter(out, SEOUL);
+        String description = "첫 줄; 두 번째, 세 번째\n" + "긴 설명 ".repeat(30);
+        writer.beginCalendar("-//test//KO", null);
+        writer.begin("VEVENT");
+        writer.text("DESCRIPTION", description);
+        writer.dateTime("DTSTART", LocalDateTime.of(2025, 12, 24, 18, 0));
+        writer.end("VEVENT");
+        writer.endCalendar();
+
+        List<ICalendarReader.Component> events = new ArrayList<>();
+        ICalendarReader.read(new StringReader(out.toString()), "VEVENT", (lineNumber, component) -> events.add(component));
+
+        assertEquals(1, events.size());
+        assertEquals(description.trim(), events.get(0).getText("DESCRIPTION"));
+        assertEquals(LocalDateTime.of(2025, 12, 24, 18, 0),
+                ICalendarReader.parseDateTime(events.get(0).get("DTSTART"), SEOUL));
+    }
+}
@@ -0,0 +1,49 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * ICalendarWriter 클래스 테스트
+ */
+class ICalendarWriterTest {
+
+    @Test
+    void testEscapeText() {
+        assertEquals("a\\,b\\;c\\\\d\\ne\\nf", ICalendarWriter.escapeText("a,b;c\\d\ne\r\nf"));
+    }
+
+    @Test
+    void testDateTimeConvertedToUtc() throws Exception {
+        StringWriter out = new StringWriter();
+        ICalendarWriter writer = new ICalendarWriter(out, ZoneId.of("Asia/Seoul"));
+        writer.dateTime("DTSTART", LocalDateTime.of(2025, 5, 10, 9, 30));
+
+        assertEquals("DTSTART:20250510T003000Z\r\n", out.toString());
+    }
+
+    @Test
+    void testLongLinesFoldedOnCharacterBoundary() throws Exception {
+        StringWriter out = new StringWriter();
+        ICalendarWriter writer = new ICalendarWriter(out, ZoneId.of("UTC"));
+        String title = "웨딩홀 계약 ".repeat(20);
+        writer.text("SUMMARY", title);
+
+        String[] lines = out.toString().split("\r\n");
+        assertTrue(lines.length > 1);
+        StringBuilder unfolded = new StringBuilder(lines[0]);
+        for (int i = 0; i < lines.length; i++) {
+            assertTrue(lines[i].getBytes(StandardCharsets.UTF_8).length <= 75);
+            if (i > 0) {
+                assertTrue(lines[i].startsWith(" "));
+                unfolded.append(lines[i].substring(1));
+            }
+        }
+        assertEquals("SUMMARY:" + title, unfolded.toString());
+    }
+}
@@ -0,0 +1,62 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * ImageVariantGenerator 클래스 테스트
+ */
+class ImageVariantGeneratorTest {
+
+    private static final String HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testGeneratesScaledVariants() throws Exception {
+        Path source = directory.resolve(HASH + ".png");
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB), "png", source.toFile());
+
+        List<ImageVariantGenerator.Variant> generated = ImageVariantGenerator.generate(source, directory, HASH);
+
+        assertEquals(3, generated.size());
+        assertTrue(ImageVariantGenerator.exists(directory, HASH));
+        // 원본보다 큰 변형은 확대하지 않음
+        assertEquals(1000, width(ImageVariantGenerator.Variant.FULL));
+        assertEquals(480, width(ImageVariantGenerator.Variant.CARD));
+        assertEquals(200, width(ImageVariantGenerator.Variant.THUMBNAIL));
+        assertEquals(100, ImageIO.read(directory.resolve(
+                ImageVariantGenerator.fileName(HASH, ImageVariantGenerator.Variant.THUMBNAIL)).toFile()).getHeight());
+    }
+
+    @Test
+    void testUnreadableFormatGeneratesNothing() throws Exception {
+        Path source = directory.resolve(HASH + ".webp");
+        Files.writeString(source, "not an image");
+
+        assertTrue(ImageVariantGenerator.generate(source, directory, HASH).isEmpty());
+        assertFalse(ImageVariantGenerator.exists(directory, HASH));
+    }
+
+    @Test
+    void testVariantUrl() {
+        assertEquals("/uploads/ba/" + HASH + "_thumb.jpg",
+                ImageVariantGenerator.variantUrl("/uploads/ba/" + HASH + ".png", ImageVariantGenerator.Variant.THUMBNAIL));
+        assertNull(ImageVariantGenerator.variantUrl("/uploads/img_20250101_120000_abcd1234.jpg",
+                ImageVariantGenerator.Variant.THUMBNAIL));
+        assertNull(ImageVariantGenerator.variantUrl("https://example.com/hall.jpg", ImageVariantGenerator.Variant.CARD));
+        assertNull(ImageVariantGenerator.variantUrl(null, ImageVariantGenerator.Variant.FULL));
+    }
+
+    private int width(ImageVariantGenerator.Variant variant) throws Exception {
+        return ImageIO.read(directory.resolve(ImageVariantGenerator.fileName(HASH, variant)).toFile()).getWidth();
+    }
+}
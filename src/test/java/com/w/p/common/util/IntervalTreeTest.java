@@ -0,0 +1,96 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * IntervalTree 클래스 테스트
+ */
+class IntervalTreeTest {
+
+    @Test
+    void testFindOverlappingUsesHalfOpenIntervals() {
+        IntervalTree<String> tree = IntervalTree.build(List.of(
+                new IntervalTree.Interval<>(10, 20, "a"),
+                new IntervalTree.Interval<>(20, 30, "b"),
+                new IntervalTree.Interval<>(5, 50, "c"),
+                new IntervalTree.Interval<>(60, 60, "empty")));
+
+        assertEquals(3, tree.size());
+        assertEquals(List.of("c", "a"), items(tree.findOverlapping(15, 20)));
+        assertEquals(List.of("c", "b"), items(tree.findOverlapping(20, 21)));
+        assertEquals(List.of(), items(tree.findOverlapping(50, 70)));
+        assertEquals(List.of(), items(tree.findOverlapping(25, 25)));
+    }
+
+    @Test
+    void testFindAllOverlapsReturnsEachPairOnce() {
+        IntervalTree<String> tree = IntervalTree.build(List.of(
+                new IntervalTree.Interval<>(0, 10, "a"),
+                new IntervalTree.Interval<>(5, 15, "b"),
+                new IntervalTree.Interval<>(10, 20, "c"),
+                new IntervalTree.Interval<>(30, 40, "d")));
+
+        List<IntervalTree.Overlap<String>> overlaps = tree.findAllOverlaps();
+        assertEquals(2, overlaps.size());
+        assertEquals("a", overlaps.get(0).getFirst().getItem());
+        assertEquals("b", overlaps.get(0).getSecond().getItem());
+        assertEquals(5, overlaps.get(0).getOverlapStart());
+        assertEquals(10, overlaps.get(0).getOverlapEnd());
+        assertEquals("b", overlaps.get(1).getFirst().getItem());
+        assertEquals("c", overlaps.get(1).getSecond().getItem());
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        Random random = new Random(42);
+        List<IntervalTree.Interval<Integer>> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(10_000);
+            intervals.add(new IntervalTree.Interval<>(start, start + 1 + random.nextInt(200), i));
+        }
+        IntervalTree<Integer> tree = IntervalTree.build(intervals);
+
+        for (int q = 0; q < 200; q++) {
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(300);
+            Set<Integer> expected = new TreeSet<>();
+            for (IntervalTree.Interval<Integer> interval : intervals) {
+                if (interval.getStart() < end && start < interval.getEnd()) {
+                    expected.add(interval.getItem());
+                }
+            }
+            assertEquals(expected, new TreeSet<>(items(tree.findOverlapping(start, end))));
+        }
+
+        int expectedPairs = 0;
+        for (int i = 0; i < intervals.size(); i++) {
+            for (int j = i + 1; j < intervals.size(); j++) {
+                if (intervals.get(i).getStart() < intervals.get(j).getEnd()
+                        && intervals.get(j).getStart() < intervals.get(i).getEnd()) {
+                    expectedPairs++;
+                }
+            }
+        }
+        assertEquals(expectedPairs, tree.findAllOverlaps().size());
+    }
+
+    @Test
+    void testEmptyTree() {
+        IntervalTree<String> tree = IntervalTree.build(List.of());
+        assertEquals(0, tree.size());
+        assertTrue(tree.findOverlapping(0, 100).isEmpty());
+        assertTrue(tree.findAllOverlaps().isEmpty());
+    }
+
+    private static <T> List<T> items(List<IntervalTree.Interval<T>> intervals) {
+        return intervals.stream().map(IntervalTree.Interval::getItem).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,37 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * NgramTokenizer 클래스 테스트
+ */
+class NgramTokenizerTest {
+
+    @Test
+    void testBigrams() {
+        assertEquals(Set.of("그랜", "랜드", "웨딩", "딩홀"), NgramTokenizer.bigrams("그랜드 웨딩홀"));
+        assertEquals(Set.of("서울", "강남", "남구"), NgramTokenizer.bigrams("서울, 강남구"));
+        assertEquals(Set.of("홀"), NgramTokenizer.bigrams("홀"));
+        assertTrue(NgramTokenizer.bigrams(null).isEmpty());
+        assertTrue(NgramTokenizer.bigrams("  !! ").isEmpty());
+    }
+
+    @Test
+    void testNormalize() {
+        // 전각 문자와 대소문자 정규화
+        assertEquals(List.of("abc", "홀"), NgramTokenizer.words("ＡＢＣ 홀"));
+        assertEquals(NgramTokenizer.bigrams("Grand"), NgramTokenizer.bigrams("GRAND"));
+    }
+
+    @Test
+    void testQueryMatchesIndexedText() {
+        Set<String> indexed = NgramTokenizer.bigrams("더 그랜드 웨딩홀 강남점");
+        assertTrue(indexed.containsAll(NgramTokenizer.bigrams("웨딩홀")));
+        assertTrue(indexed.containsAll(NgramTokenizer.bigrams("강남")));
+        assertFalse(indexed.containsAll(NgramTokenizer.bigrams("호텔")));
+    }
+}
@@ -0,0 +1,59 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PdfTextWriter 클래스 테스트
+ */
+class PdfTextWriterTest {
+
+    @Test
+    void testXrefOffsetsPointToObjects() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PdfTextWriter writer = new PdfTextWriter(out)) {
+            writer.beginPage();
+            writer.text(40, 800, 12, "예산 리포트 2025");
+            writer.beginPage();
+            writer.textRight(555, 800, 10, "1,000,000");
+        }
+        String pdf = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+
+        assertTrue(pdf.startsWith("%PDF-1.4"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+        assertTrue(pdf.contains("/Count 2"));
+
+        int startxref = Integer.parseInt(pdf.substring(pdf.lastIndexOf("startxref\n") + 10, pdf.lastIndexOf("\n%%EOF")));
+        assertTrue(pdf.startsWith("xref\n", startxref));
+
+        Matcher entry = Pattern.compile("(\\d{10}) 00000 n \n").matcher(pdf.substring(startxref));
+        int objectNumber = 1;
+        while (entry.find()) {
+            int offset = Integer.parseInt(entry.group(1));
+            assertTrue(pdf.startsWith(objectNumber + " 0 obj\n", offset), "object " + objectNumber);
+            objectNumber++;
+        }
+        // 글꼴/카탈로그/페이지 트리 5개 + 페이지마다 내용 스트림과 페이지 객체
+        assertEquals(5 + 2 * 2, objectNumber - 1);
+    }
+
+    @Test
+    void testEmptyDocumentHasOnePage() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new PdfTextWriter(out).close();
+
+        assertTrue(new String(out.toByteArray(), StandardCharsets.ISO_8859_1).contains("/Count 1"));
+    }
+
+    @Test
+    void testFitTruncatesByWidth() {
+        assertEquals("웨딩홀", PdfTextWriter.fit("웨딩홀", 10, 30));
+        assertEquals("웨딩..", PdfTextWriter.fit("웨딩홀 계약금", 10, 30));
+        assertEquals(25f, PdfTextWriter.textWidth("abcde", 10));
+    }
+}
@@ -0,0 +1,127 @@
+package com.w.p.common.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * SpreadsheetReader 클래스 테스트
+ */
+class SpreadsheetReaderTest {
+
+    @Test
+    void testReadCsv() throws Exception {
+        String csv = "\uFEFF이름,주소,메모\r\n"
+                + "\"A홀\",\"서울, 강남구\",\"따옴표 \"\"포함\"\"\"\r\n"
+                + "\r\n"
+                + "B홀,부산,\"여러\n줄\"\n";
+        List<List<String>> rows = new ArrayList<>();
+        SpreadsheetReader.readCsv(new StringReader(csv), (rowNumber, cells) -> rows.add(cells));
+
+        assertEquals(3, rows.size());
+        assertEquals(List.of("이름", "주소", "메모"), rows.get(0));
+        assertEquals(List.of("A홀", "서울, 강남구", "따옴표 \"포함\""), rows.get(1));
+        assertEquals(List.of("B홀", "부산", "여러\n줄"), rows.get(2));
+    }
+
+    @Test
+    void testColumnIndexOf() {
+        assertEquals(0, SpreadsheetReader.columnIndexOf("A1"));
+        assertEquals(25, SpreadsheetReader.columnIndexOf("Z10"));
+        assertEquals(27, SpreadsheetReader.columnIndexOf("AB3"));
+    }
+
+    @Test
+    void testResolveFormat() {
+        assertEquals("csv", SpreadsheetReader.resolveFormat(null, "halls.CSV"));
+        assertEquals("xlsx", SpreadsheetReader.resolveFormat("XLSX", "halls.csv"));
+        assertThrows(IllegalArgumentException.class, () -> SpreadsheetReader.resolveFormat(null, "halls.xls"));
+    }
+
+    @Test
+    void testParseValues() {
+        assertEquals(new BigDecimal("1500000"), SpreadsheetReader.parseDecimal("1,500,000원"));
+        assertNull(SpreadsheetReader.parseDecimal(null));
+        assertThrows(NumberFormatException.class, () -> SpreadsheetReader.parseDecimal("abc"));
+
+        assertEquals(LocalDateTime.of(2025, 5, 10, 0, 0), SpreadsheetReader.parseDateTime("2025-05-10"));
+        assertEquals(LocalDateTime.of(2025, 5, 10, 0, 0), SpreadsheetReader.parseDateTime("2025.05.10"));
+        assertEquals(LocalDateTime.of(2025, 5, 10, 14, 30), SpreadsheetReader.parseDateTime("2025-05-10 14:30:00"));
+        assertEquals(LocalDateTime.of(2024, 1, 1, 12, 0), SpreadsheetReader.parseDateTime("45292.5"));
+        assertThrows(IllegalArgumentException.class, () -> SpreadsheetReader.parseDateTime("내일"));
+    }
+
+    @Test
+    void testParseDateTimeVariants() {
+        // 8자리 숫자는 일련번호가 아닌 yyyyMMdd
+        assertEquals(LocalDateTime.of(2025, 1, 15, 0, 0), SpreadsheetReader.parseDateTime("20250115"));
+        assertThrows(IllegalArgumentException.class, () -> SpreadsheetReader.parseDateTime("20251315"));
+        // 9999-12-31을 넘는 일련번호는 거부
+        assertThrows(IllegalArgumentException.class, () -> SpreadsheetReader.parseDateTime("3000000"));
+        assertThrows(IllegalArgumentException.class, () -> SpreadsheetReader.parseDateTime("0"));
+
+        // 시간 부분의 소수점 초는 유지
+        assertEquals(LocalDateTime.of(2025, 1, 15, 10, 0, 0, 500_000_000),
+                SpreadsheetReader.parseDateTime("2025-01-15T10:00:00.5"));
+        assertEquals(LocalDateTime.of(2025, 1, 15, 10, 0), SpreadsheetReader.parseDateTime("2025.01.15 10:00"));
+        assertEquals(LocalDateTime.of(2025, 1, 15, 10, 0), SpreadsheetReader.parseDateTime("2025/01/15T10:00"));
+    }
+
+    @Test
+    void testReadXlsxUsesFirstSheetTab() throws Exception {
+        // 첫 번째 탭이 sheet1.xml이 아닌 통합 문서 (시트 순서를 바꾼 경우)
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("xl/workbook.xml", "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" "
+                + "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\"><sheets>"
+                + "<sheet name=\"목록\" sheetId=\"2\" r:id=\"rId2\"/><sheet name=\"이전\" sheetId=\"1\" r:id=\"rId1\"/>"
+                + "</sheets></workbook>");
+        entries.put("xl/_rels/workbook.xml.rels", "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                + "<Relationship Id=\"rId1\" Type=\"worksheet\" Target=\"worksheets/sheet1.xml\"/>"
+                + "<Relationship Id=\"rId2\" Type=\"worksheet\" Target=\"/xl/worksheets/sheet2.xml\"/>"
+                + "</Relationships>");
+        entries.put("xl/worksheets/sheet1.xml", sheet("이전 시트"));
+        entries.put("xl/worksheets/sheet2.xml", sheet("목록 시트"));
+
+        List<List<String>> rows = new ArrayList<>();
+        SpreadsheetReader.readXlsx(new ByteArrayInputStream(zip(entries)), (rowNumber, cells) -> rows.add(cells));
+
+        assertEquals(List.of(List.of("목록 시트")), rows);
+    }
+
+    @Test
+    void testResolvePartName() {
+        assertEquals("xl/worksheets/sheet2.xml", SpreadsheetReader.resolvePartName("worksheets/sheet2.xml"));
+        assertEquals("xl/worksheets/sheet2.xml", SpreadsheetReader.resolvePartName("/xl/worksheets/sheet2.xml"));
+        assertEquals("sheets/data.xml", SpreadsheetReader.resolvePartName("../sheets/data.xml"));
+    }
+
+    private static String sheet(String text) {
+        return "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>"
+                + "<row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><t>" + text + "</t></is></c></row>"
+                + "</sheetData></worksheet>";
+    }
+
+    private static byte[] zip(Map<String, String> entries) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
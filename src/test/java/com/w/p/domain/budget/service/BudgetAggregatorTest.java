@@ -0,0 +1,61 @@
+package com.w.p.domain.budget.service;
+
+import com.w.p.entity.Budget;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BudgetAggregator 클래스 테스트
+ */
+class BudgetAggregatorTest {
+
+    @Test
+    void testCategoryTotalsMatchBigDecimalSums() {
+        List<Budget> budgets = List.of(
+                budget("웨딩홀", "15000000.50", "16000000.25", Budget.BudgetStatus.COMPLETED),
+                budget("스드메", "3000000", null, Budget.BudgetStatus.PLANNED),
+                budget("웨딩홀", "500000.10", "400000.05", Budget.BudgetStatus.IN_PROGRESS),
+                budget("스드메", null, "100000", Budget.BudgetStatus.COMPLETED));
+
+        List<BudgetAggregator.CategoryTotals> totals = BudgetAggregator.byCategory(budgets);
+
+        assertEquals(2, totals.size());
+        BudgetAggregator.CategoryTotals hall = totals.get(0);
+        assertEquals("웨딩홀", hall.getCategory());
+        assertSame(budgets.get(0), hall.getRepresentative());
+        assertEquals(2, hall.getItemCount());
+        assertEquals(new BigDecimal("15500000.60"), hall.getPlannedAmount());
+        assertEquals(new BigDecimal("16400000.30"), hall.getActualAmount());
+        assertEquals(new BigDecimal("-899999.70"), hall.getRemainingAmount());
+        assertEquals(1, hall.getCompletedCount());
+        assertEquals(1, hall.getOverBudgetCount());
+
+        BudgetAggregator.CategoryTotals studio = totals.get(1);
+        assertEquals(new BigDecimal("3000000.00"), studio.getPlannedAmount());
+        assertEquals(new BigDecimal("100000.00"), studio.getActualAmount());
+        assertEquals(1, studio.getCompletedCount());
+        // 금액이 하나라도 없으면 초과로 보지 않음 (Budget.isOverBudget과 같은 기준)
+        assertEquals(0, studio.getOverBudgetCount());
+    }
+
+    @Test
+    void testMinorUnitConversion() {
+        assertEquals(0L, BudgetAggregator.toMinorUnits(null));
+        assertEquals(123457L, BudgetAggregator.toMinorUnits(new BigDecimal("1234.565")));
+        assertEquals(new BigDecimal("1234.57"), BudgetAggregator.toAmount(123457L));
+    }
+
+    private static Budget budget(String category, String planned, String actual, Budget.BudgetStatus status) {
+        return Budget.builder()
+                .category(category)
+                .itemName(category)
+                .plannedAmount(planned != null ? new BigDecimal(planned) : null)
+                .actualAmount(actual != null ? new BigDecimal(actual) : null)
+                .status(status)
+                .build();
+    }
+}
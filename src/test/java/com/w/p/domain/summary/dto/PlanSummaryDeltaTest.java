@@ -0,0 +1,63 @@
+package com.w.p.domain.summary.dto;
+
+import com.w.p.entity.Budget;
+import com.w.p.entity.Schedule;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PlanSummaryDelta 클래스 테스트
+ */
+class PlanSummaryDeltaTest {
+
+    @Test
+    void testStatusChangeLeavesOnlyNetDelta() {
+        Schedule schedule = Schedule.builder()
+                .type(Schedule.ScheduleType.CATERING)
+                .status(Schedule.ScheduleStatus.PENDING)
+                .build();
+
+        PlanSummaryDelta delta = new PlanSummaryDelta().remove(schedule);
+        schedule.setStatus(Schedule.ScheduleStatus.COMPLETED);
+        delta.add(schedule);
+
+        Map<String, Long> counts = delta.getCounts();
+        assertEquals(2, counts.size());
+        assertEquals(-1L, counts.get(PlanSummaryDelta.scheduleStatus(Schedule.ScheduleStatus.PENDING)));
+        assertEquals(1L, counts.get(PlanSummaryDelta.scheduleStatus(Schedule.ScheduleStatus.COMPLETED)));
+        assertTrue(delta.getAmounts().isEmpty());
+    }
+
+    @Test
+    void testBudgetAmountsAndOverBudget() {
+        Budget budget = Budget.builder()
+                .status(Budget.BudgetStatus.PLANNED)
+                .plannedAmount(new BigDecimal("1000000"))
+                .actualAmount(new BigDecimal("800000"))
+                .build();
+
+        PlanSummaryDelta delta = new PlanSummaryDelta().remove(budget);
+        budget.setActualAmount(new BigDecimal("1200000.00"));
+        delta.add(budget);
+
+        assertEquals(1L, delta.getCounts().get(PlanSummaryDelta.BUDGET_OVER_BUDGET));
+        assertNull(delta.getCounts().get(PlanSummaryDelta.BUDGET_TOTAL));
+        assertEquals(0, new BigDecimal("400000").compareTo(delta.getAmounts().get(PlanSummaryDelta.BUDGET_ACTUAL)));
+        assertNull(delta.getAmounts().get(PlanSummaryDelta.BUDGET_PLANNED));
+    }
+
+    @Test
+    void testDeleteThenEmpty() {
+        Schedule schedule = Schedule.builder()
+                .type(Schedule.ScheduleType.OTHER)
+                .status(Schedule.ScheduleStatus.PENDING)
+                .build();
+
+        assertTrue(new PlanSummaryDelta().add(schedule).remove(schedule).isEmpty());
+        assertEquals(-1L, new PlanSummaryDelta().remove(schedule).getCounts().get(PlanSummaryDelta.SCHEDULE_TOTAL));
+    }
+}